@@ -0,0 +1,43 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.path.AbsolutePath;
+import seedu.address.model.path.RelativePath;
+import seedu.address.model.path.exceptions.InvalidPathException;
+
+/**
+ * Measures construction and resolution of {@code AbsolutePath}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AbsolutePathBenchmark {
+    private AbsolutePath groupPath;
+    private RelativePath siblingStudentPath;
+
+    @Setup
+    public void setUp() throws InvalidPathException {
+        SyntheticProfBook.silenceLogging();
+        groupPath = new AbsolutePath("~/grp-001");
+        siblingStudentPath = new RelativePath("../grp-002/0002Y");
+    }
+
+    @Benchmark
+    public AbsolutePath construct() throws InvalidPathException {
+        return new AbsolutePath("~/grp-001/0001Y");
+    }
+
+    @Benchmark
+    public AbsolutePath resolve() throws InvalidPathException {
+        return groupPath.resolve(siblingStudentPath);
+    }
+}
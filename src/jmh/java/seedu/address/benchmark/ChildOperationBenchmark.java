@@ -0,0 +1,69 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.ChildOperation;
+import seedu.address.model.profbook.Group;
+import seedu.address.model.profbook.Root;
+import seedu.address.model.task.ToDo;
+
+/**
+ * Measures {@code ChildOperation#addTaskToAllChildren} from the root, for all groups (level 1) and all
+ * students (level 2), with the task lists of different groups built one after another or in parallel.
+ * The operation modifies the ProfBook, so every invocation works on a fresh copy and is timed on its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 20)
+public class ChildOperationBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int numOfStudents;
+
+    @Param({"1", "2"})
+    public int level;
+
+    @Param({"false", "true"})
+    public boolean isParallel;
+
+    private final ToDo task = new ToDo("Submit project report", false);
+    private Root generatedRoot;
+    private ChildOperation<Group> operation;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        SyntheticProfBook.silenceLogging();
+        generatedRoot = SyntheticProfBook.generate(numOfStudents);
+        ChildOperation.setParallelThreshold(isParallel ? 1 : Integer.MAX_VALUE);
+    }
+
+    @TearDown(Level.Trial)
+    public void resetParallelThreshold() {
+        ChildOperation.setParallelThreshold(ChildOperation.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        operation = new ChildOperation<>(new Root(generatedRoot));
+    }
+
+    @Benchmark
+    public ChildOperation<Group> addTaskToAllChildren() {
+        operation.addTaskToAllChildren(task, level);
+        return operation;
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.id.StudentId;
+import seedu.address.model.path.AbsolutePath;
+
+/**
+ * Measures ProfBook-wide student lookups through {@code ModelManager}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ModelManagerBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int numOfStudents;
+
+    private ModelManager model;
+    private StudentId presentId;
+    private StudentId absentId;
+
+    @Setup
+    public void setUp() {
+        SyntheticProfBook.silenceLogging();
+        model = new ModelManager(AbsolutePath.ROOT_PATH, SyntheticProfBook.generate(numOfStudents), new UserPrefs());
+        presentId = SyntheticProfBook.studentIdAt(numOfStudents / 2);
+        absentId = new StudentId("9999Z");
+    }
+
+    @Benchmark
+    public boolean hasStudentWithId_present() {
+        return model.hasStudentWithId(presentId);
+    }
+
+    @Benchmark
+    public boolean hasStudentWithId_absent() {
+        return model.hasStudentWithId(absentId);
+    }
+}
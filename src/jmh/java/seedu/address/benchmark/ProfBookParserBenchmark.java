@@ -0,0 +1,71 @@
+package seedu.address.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.ProfBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.path.AbsolutePath;
+
+/**
+ * Measures {@code ProfBookParser#parseCommand} for every command word, and for {@code mv} with several sources.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProfBookParserBenchmark {
+    private static final Map<String, String> INPUTS = new HashMap<>();
+
+    static {
+        INPUTS.put("cd", "cd grp-003");
+        INPUTS.put("mkdir", "mkdir grp-001 -n Group One");
+        INPUTS.put("touch", "touch grp-001/0001Y -n Mary -e mary@gmail.com -p 87652345 -a 4 Loyang Walk");
+        INPUTS.put("todo", "todo grp-001/0001Y -d Homework");
+        INPUTS.put("deadline", "deadline grp-001/0001Y -d Homework -dt 2023-11-11 11:59");
+        INPUTS.put("mv", "mv grp-001/0001Y grp-002");
+        INPUTS.put("mv-multiple", "mv grp-001/0001Y grp-001/0002Y grp-003/0003Y grp-003/0004Y grp-002");
+        INPUTS.put("ls", "ls grp-001");
+        INPUTS.put("cat", "cat grp-001/0001Y");
+        INPUTS.put("rm", "rm grp-001/0001Y");
+        INPUTS.put("edit", "edit grp-001 -n Perfect Group");
+        INPUTS.put("rmt", "rmt 1");
+        INPUTS.put("mark", "mark 1");
+        INPUTS.put("unmark", "unmark 1");
+        INPUTS.put("help", "help");
+        INPUTS.put("exit", "exit");
+        INPUTS.put("clear", "clear");
+        INPUTS.put("undo", "undo");
+        INPUTS.put("redo", "redo");
+        INPUTS.put("search", "search lab 3 report");
+        INPUTS.put("due", "due grp-001 -dy 3");
+    }
+
+    @Param({"cd", "mkdir", "touch", "todo", "deadline", "mv", "mv-multiple", "ls", "cat", "rm", "edit", "rmt", "mark",
+        "unmark", "help", "exit", "clear", "undo", "redo", "search", "due"})
+    public String commandWord;
+
+    private final ProfBookParser parser = new ProfBookParser();
+    private String input;
+
+    @Setup
+    public void setUp() {
+        SyntheticProfBook.silenceLogging();
+        input = INPUTS.get(commandWord);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(input, AbsolutePath.ROOT_PATH);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.profbook.Root;
+import seedu.address.storage.BinaryProfBookStorage;
+import seedu.address.storage.JsonProfBookStorage;
+import seedu.address.storage.ProfBookStorage;
+
+/**
+ * Measures saving and loading ProfBook with each data file format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProfBookStorageBenchmark {
+    @Param({"10", "1000", "50000", "100000"})
+    public int numOfStudents;
+
+    @Param({"json", "binary", "binary-lazy"})
+    public String format;
+
+    private Path folder;
+    private Path savedFilePath;
+    private Root root;
+    private ProfBookStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        SyntheticProfBook.silenceLogging();
+        root = SyntheticProfBook.generate(numOfStudents);
+        folder = Files.createTempDirectory("profbook-benchmark");
+        switch (format) {
+        case "json":
+            storage = new JsonProfBookStorage(folder.resolve("profbook.json"));
+            break;
+        case "binary":
+            storage = new BinaryProfBookStorage(folder.resolve("profbook.bin"));
+            break;
+        case "binary-lazy":
+            storage = new BinaryProfBookStorage(folder.resolve("profbook.bin"), true);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown format: " + format);
+        }
+        savedFilePath = folder.resolve("saved");
+        storage.saveProfBook(root, savedFilePath);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(folder)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public Root save() throws IOException {
+        // JsonProfBookStorage skips saving a ProfBook it has already saved, so a fresh storage is used
+        ProfBookStorage freshStorage = format.equals("json")
+                ? new JsonProfBookStorage(storage.getProfBookFilePath())
+                : storage;
+        freshStorage.saveProfBook(root);
+        return root;
+    }
+
+    @Benchmark
+    public Optional<Root> load() throws DataLoadingException {
+        return storage.readProfBook(savedFilePath);
+    }
+}
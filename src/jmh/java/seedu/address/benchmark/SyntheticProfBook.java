@@ -0,0 +1,91 @@
+package seedu.address.benchmark;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.util.logging.Level;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.id.GroupId;
+import seedu.address.model.id.StudentId;
+import seedu.address.model.profbook.Address;
+import seedu.address.model.profbook.Email;
+import seedu.address.model.profbook.Group;
+import seedu.address.model.profbook.Name;
+import seedu.address.model.profbook.Phone;
+import seedu.address.model.profbook.Root;
+import seedu.address.model.profbook.Student;
+import seedu.address.model.task.Deadline;
+import seedu.address.model.task.ToDo;
+
+/**
+ * Generates ProfBooks of a given number of students for benchmarks.
+ * Students are split into groups of {@value #STUDENTS_PER_GROUP}, and every group and student has tasks.
+ */
+public class SyntheticProfBook {
+    public static final int STUDENTS_PER_GROUP = 100;
+    public static final int MAX_NUM_OF_STUDENTS = 100_000;
+
+    public static final String MESSAGE_TOO_MANY_STUDENTS = "At most " + MAX_NUM_OF_STUDENTS + " students supported.";
+
+    private static final LocalDateTime DUE_BY = LocalDateTime.of(2023, 11, 11, 23, 59);
+
+    private SyntheticProfBook() {} // prevents instantiation
+
+    /**
+     * Returns a ProfBook with {@code numOfStudents} students.
+     */
+    public static Root generate(int numOfStudents) {
+        checkArgument(numOfStudents >= 0 && numOfStudents <= MAX_NUM_OF_STUDENTS, MESSAGE_TOO_MANY_STUDENTS);
+
+        Root root = new Root();
+        int numOfGroups = (numOfStudents + STUDENTS_PER_GROUP - 1) / STUDENTS_PER_GROUP;
+        for (int groupIndex = 0; groupIndex < numOfGroups; groupIndex++) {
+            Group group = new Group(new Name("Group " + groupIndex), groupIdAt(groupIndex));
+            group.addTask(new ToDo("Prepare slides", false));
+            root.addChild(group.getId(), group);
+
+            int end = Math.min(numOfStudents, (groupIndex + 1) * STUDENTS_PER_GROUP);
+            for (int studentIndex = groupIndex * STUDENTS_PER_GROUP; studentIndex < end; studentIndex++) {
+                Student student = createStudent(studentIndex);
+                group.addChild(student.getId(), student);
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Returns the id of the group with the given index in generated ProfBooks.
+     */
+    public static GroupId groupIdAt(int groupIndex) {
+        return new GroupId(String.format("grp-%03d", groupIndex));
+    }
+
+    /**
+     * Returns the id of the student with the given index in generated ProfBooks.
+     */
+    public static StudentId studentIdAt(int studentIndex) {
+        return new StudentId(String.format("%04d%c", studentIndex % 10000, 'A' + studentIndex / 10000));
+    }
+
+    /**
+     * Stops benchmarked code from logging anything below warnings, which would otherwise dominate the results.
+     */
+    public static void silenceLogging() {
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+    }
+
+    private static Student createStudent(int studentIndex) {
+        Student student = new Student(new Name("Student " + studentIndex),
+                new Email("student" + studentIndex + "@example.com"),
+                new Phone(String.format("9%07d", studentIndex)),
+                new Address("Blk " + studentIndex + " Clementi Ave 3"),
+                studentIdAt(studentIndex));
+        student.addTask(new ToDo("Read lecture notes", studentIndex % 2 == 0));
+        student.addTask(new Deadline("Assignment 1", DUE_BY, studentIndex % 3 == 0));
+        return student;
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.id.StudentId;
+import seedu.address.model.profbook.Address;
+import seedu.address.model.profbook.Email;
+import seedu.address.model.profbook.Name;
+import seedu.address.model.profbook.Phone;
+import seedu.address.model.profbook.Student;
+import seedu.address.storage.JsonAdaptedStudent;
+
+/**
+ * Measures validating the fields of the students of a data file, with {@code String#matches} on the validation
+ * regular expressions as ProfBook used to, and with the validators of the fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ValidationBenchmark {
+    @Param({"1000", "50000"})
+    public int numOfStudents;
+
+    private List<JsonAdaptedStudent> students;
+    private List<String[]> fields;
+
+    @Setup
+    public void setUp() {
+        SyntheticProfBook.silenceLogging();
+        students = new ArrayList<>();
+        fields = new ArrayList<>();
+        for (int i = 0; i < numOfStudents; i++) {
+            String name = "Student " + i;
+            String email = "student" + i + "@example.com";
+            String phone = String.format("9%07d", i);
+            String address = i + " Kent Ridge Road";
+            String id = SyntheticProfBook.studentIdAt(i).toString();
+            students.add(new JsonAdaptedStudent(name, phone, email, address, id, List.of()));
+            fields.add(new String[] {name, email, phone, address, id});
+        }
+    }
+
+    @Benchmark
+    public int validateWithStringMatches() {
+        int numOfValid = 0;
+        for (String[] field : fields) {
+            if (field[0].matches(Name.VALIDATION_REGEX) && field[1].matches(Email.VALIDATION_REGEX)
+                    && field[2].matches(Phone.VALIDATION_REGEX) && field[3].matches(Address.VALIDATION_REGEX)
+                    && field[4].matches(StudentId.VALIDATION_REGEX)) {
+                numOfValid++;
+            }
+        }
+        return numOfValid;
+    }
+
+    @Benchmark
+    public int validateWithValidators() {
+        int numOfValid = 0;
+        for (String[] field : fields) {
+            if (Name.isValidName(field[0]) && Email.isValidEmail(field[1]) && Phone.isValidPhone(field[2])
+                    && Address.isValidAddress(field[3]) && StudentId.isValidStudentId(field[4])) {
+                numOfValid++;
+            }
+        }
+        return numOfValid;
+    }
+
+    @Benchmark
+    public Student convertOneByOne() throws IllegalValueException {
+        Student last = null;
+        for (JsonAdaptedStudent student : students) {
+            last = student.toModelType();
+        }
+        return last;
+    }
+
+    @Benchmark
+    public List<Student> convertInBulk() throws IllegalValueException {
+        return JsonAdaptedStudent.toModelTypes(students);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -15,6 +16,7 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.model.ChildOperation;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -23,9 +25,13 @@ import seedu.address.model.path.AbsolutePath;
 import seedu.address.model.path.exceptions.InvalidPathException;
 import seedu.address.model.profbook.Root;
 import seedu.address.model.util.SampleProfBook;
+import seedu.address.storage.AsyncProfBookSaver;
+import seedu.address.storage.BinaryProfBookStorage;
+import seedu.address.storage.JournaledProfBookStorage;
 import seedu.address.storage.JsonProfBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.ProfBookStorage;
+import seedu.address.storage.ProfBookStorageConverter;
 import seedu.address.storage.ProfBookStorageManager;
 import seedu.address.storage.Storage;
 import seedu.address.storage.UserPrefsStorage;
@@ -44,6 +50,7 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected AsyncProfBookSaver saver;
     protected Model model;
     protected Config config;
 
@@ -55,17 +62,45 @@ public class MainApp extends Application {
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        initParallelThreshold(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        ProfBookStorage profBookStorage = new JsonProfBookStorage(userPrefs.getProfBookFilePath());
+        ProfBookStorage profBookStorage = initProfBookStorage(userPrefs);
         storage = new ProfBookStorageManager(profBookStorage, userPrefsStorage);
 
         model = initModelManager(userPrefs);
-        logic = new LogicManager(model, storage);
+        saver = new AsyncProfBookSaver(storage);
+        logic = new LogicManager(model, saver);
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage of the data file, in the format chosen in {@code config}.
+     * When the binary format is chosen and there is no binary data file yet, the JSON data file is imported.
+     * Groups in the binary data file can be loaded lazily, so that startup does not wait for every student.
+     */
+    private ProfBookStorage initProfBookStorage(ReadOnlyUserPrefs userPrefs) {
+        JsonProfBookStorage jsonStorage =
+                new JsonProfBookStorage(userPrefs.getProfBookFilePath(), !config.isCompactDataFile());
+        if (!config.isBinaryDataFile()) {
+            return new JournaledProfBookStorage(jsonStorage);
+        }
+
+        Path binaryFilePath = ProfBookStorageConverter.getBinaryFilePath(userPrefs.getProfBookFilePath());
+        BinaryProfBookStorage binaryStorage =
+                new BinaryProfBookStorage(binaryFilePath, config.isLazyLoadingDataFile());
+        if (!Files.exists(binaryFilePath)) {
+            try {
+                ProfBookStorageConverter.importFromJson(jsonStorage.getProfBookFilePath(), binaryFilePath);
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Failed to import " + jsonStorage.getProfBookFilePath() + " into "
+                        + binaryFilePath + ": " + StringUtil.getDetails(e));
+            }
+        }
+        return new JournaledProfBookStorage(binaryStorage);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -76,6 +111,7 @@ public class MainApp extends Application {
         Optional<Root> profBookOptional;
         Root initialData;
         try {
+            // Changes saved to the journal after the last checkpoint are replayed by the storage
             profBookOptional = storage.readProfBook();
             if (profBookOptional.isPresent()) {
                 // Set initialData to the value in profBookOptional
@@ -92,13 +128,23 @@ public class MainApp extends Application {
         }
         AbsolutePath currentPath = new AbsolutePath("~/");
 
-        return new ModelManager(currentPath, initialData, userPrefs);
+        // The data was just read or created, so the model takes it over instead of copying it
+        return ModelManager.withOwnedRoot(currentPath, initialData, userPrefs);
     }
 
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
+    private void initParallelThreshold(Config config) {
+        if (config.getParallelTaskThreshold() <= 0) {
+            logger.warning("Ignoring parallel task threshold " + config.getParallelTaskThreshold()
+                    + " as it is not positive. Using " + ChildOperation.getParallelThreshold() + " instead.");
+            return;
+        }
+        ChildOperation.setParallelThreshold(config.getParallelTaskThreshold());
+    }
+
     /**
      * Returns a {@code Config} using the file at {@code configFilePath}. <br>
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
@@ -178,6 +224,8 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        // Wait for background saves so that they cannot overwrite the final save below
+        saver.shutdown();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
             storage.saveProfBook(model.getRoot());
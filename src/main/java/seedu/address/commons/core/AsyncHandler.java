@@ -0,0 +1,174 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A handler that passes log records on to another handler from a background thread, so that the thread logging a
+ * record does not wait for the other handler, such as a {@code FileHandler} writing to disk.
+ * <p>
+ * Records wait in a bounded queue. If the queue is full, records are dropped instead of blocking the logging thread,
+ * and a warning with the number of dropped records is passed on once the queue has room again.
+ */
+public class AsyncHandler extends Handler {
+    public static final String MESSAGE_DROPPED_RECORDS = "%d log records were dropped as logging fell behind.";
+
+    private final Handler target;
+    private final BlockingQueue<LogRecord> queue;
+    private final AtomicLong numOfDroppedRecords = new AtomicLong();
+    private volatile boolean isClosed = false;
+
+    /**
+     * Constructs an {@code AsyncHandler} passing records on to {@code target}, with room for {@code capacity} records
+     * waiting to be passed on.
+     */
+    public AsyncHandler(Handler target, int capacity) {
+        requireNonNull(target);
+        checkArgument(capacity > 0, "Capacity must be positive.");
+        this.target = target;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        Thread writer = new Thread(this::passOnRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // The source of a record is inferred from the stack of the thread asking for it, so it is found here
+        record.getSourceClassName();
+        if (!queue.offer(record)) {
+            numOfDroppedRecords.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until the records published before are passed on, then flushes the target handler.
+     */
+    @Override
+    public void flush() {
+        if (isClosed) {
+            return;
+        }
+        Marker marker = new Marker(false);
+        if (enqueue(marker)) {
+            marker.await();
+        }
+    }
+
+    /**
+     * Passes on the records published before, then closes the target handler.
+     * Records published afterwards are ignored.
+     */
+    @Override
+    public synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        Marker marker = new Marker(true);
+        if (enqueue(marker)) {
+            marker.await();
+        }
+    }
+
+    /**
+     * Returns the number of records dropped since the last warning about them.
+     */
+    long getNumOfDroppedRecords() {
+        return numOfDroppedRecords.get();
+    }
+
+    private boolean enqueue(Marker marker) {
+        try {
+            queue.put(marker);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void passOnRecords() {
+        boolean isClosing = false;
+        while (!isClosing) {
+            LogRecord record;
+            try {
+                record = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                isClosing = passOn(record);
+            } catch (RuntimeException e) {
+                reportError("Log record could not be passed on.", e, ErrorManager.WRITE_FAILURE);
+            } finally {
+                if (record instanceof Marker) {
+                    ((Marker) record).done.countDown();
+                }
+            }
+        }
+    }
+
+    /**
+     * Passes {@code record} on to the target handler, or flushes or closes it if the record is a marker.
+     * Dropped records are reported once the records queued before them are passed on.
+     * Returns true if the target handler is closed.
+     */
+    private boolean passOn(LogRecord record) {
+        if (record instanceof Marker) {
+            reportDroppedRecords();
+            if (((Marker) record).isClosing) {
+                target.close();
+                return true;
+            }
+            target.flush();
+            return false;
+        }
+        target.publish(record);
+        if (queue.isEmpty()) {
+            reportDroppedRecords();
+            target.flush();
+        }
+        return false;
+    }
+
+    private void reportDroppedRecords() {
+        long dropped = numOfDroppedRecords.getAndSet(0);
+        if (dropped > 0) {
+            target.publish(new LogRecord(Level.WARNING, String.format(MESSAGE_DROPPED_RECORDS, dropped)));
+        }
+    }
+
+    /**
+     * A record in the queue asking the background thread to flush or close the target handler.
+     */
+    private static final class Marker extends LogRecord {
+        private final boolean isClosing;
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        Marker(boolean isClosing) {
+            super(Level.OFF, "");
+            this.isClosing = isClosing;
+        }
+
+        void await() {
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
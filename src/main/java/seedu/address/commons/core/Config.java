@@ -6,6 +6,7 @@ import java.util.Objects;
 import java.util.logging.Level;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ChildOperation;
 
 /**
  * Config values used by the app
@@ -17,6 +18,10 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean compactDataFile = false;
+    private boolean binaryDataFile = false;
+    private boolean lazyLoadingDataFile = false;
+    private int parallelTaskThreshold = ChildOperation.DEFAULT_PARALLEL_THRESHOLD;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +39,52 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the data file should be saved as compact JSON instead of pretty printed JSON.
+     */
+    public boolean isCompactDataFile() {
+        return compactDataFile;
+    }
+
+    public void setCompactDataFile(boolean compactDataFile) {
+        this.compactDataFile = compactDataFile;
+    }
+
+    /**
+     * Returns true if the data is stored in a binary file next to the JSON data file.
+     */
+    public boolean isBinaryDataFile() {
+        return binaryDataFile;
+    }
+
+    public void setBinaryDataFile(boolean binaryDataFile) {
+        this.binaryDataFile = binaryDataFile;
+    }
+
+    /**
+     * Returns true if the students and tasks of a group in the binary data file are only loaded when the group
+     * is first accessed.
+     */
+    public boolean isLazyLoadingDataFile() {
+        return lazyLoadingDataFile;
+    }
+
+    public void setLazyLoadingDataFile(boolean lazyLoadingDataFile) {
+        this.lazyLoadingDataFile = lazyLoadingDataFile;
+    }
+
+    /**
+     * Returns the number of task lists from which a task added to all students is added to the students of
+     * different groups in parallel.
+     */
+    public int getParallelTaskThreshold() {
+        return parallelTaskThreshold;
+    }
+
+    public void setParallelTaskThreshold(int parallelTaskThreshold) {
+        this.parallelTaskThreshold = parallelTaskThreshold;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +98,17 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && compactDataFile == otherConfig.compactDataFile
+                && binaryDataFile == otherConfig.binaryDataFile
+                && lazyLoadingDataFile == otherConfig.lazyLoadingDataFile
+                && parallelTaskThreshold == otherConfig.parallelTaskThreshold;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, compactDataFile, binaryDataFile, lazyLoadingDataFile,
+                parallelTaskThreshold);
     }
 
     @Override
@@ -60,6 +116,10 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("compactDataFile", compactDataFile)
+                .add("binaryDataFile", binaryDataFile)
+                .add("lazyLoadingDataFile", lazyLoadingDataFile)
+                .add("parallelTaskThreshold", parallelTaskThreshold)
                 .toString();
     }
 
@@ -15,12 +15,17 @@ import java.util.logging.SimpleFormatter;
  * Named {@link Logger}s can be obtained from this class<br>
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
- *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ *   file reaches 5MB big, up to a maximum of 5 files. The file is written from a background thread, so that
+ *   logging does not wait for the disk.<br>
+ * Messages that are costly to build, or that are logged for every operation below the {@code INFO} level, should
+ *   be passed as a {@code Supplier} to the {@link Logger} methods taking one, such as {@code logger.fine(() -> ...)},
+ *   so that they are only built if their level is logged.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "addressbook.log";
+    private static final int MAX_QUEUED_RECORD_COUNT = 10000;
     private static final Logger logger; // logger for this class
     private static Logger baseLogger; // to be used as the parent of all other loggers created by this class.
     private static Level currentLogLevel = Level.INFO;
@@ -75,7 +80,8 @@ public class LogsCenter {
     }
 
     /**
-     * Creates a logger named 'ab3', containing a {@code ConsoleHandler} and a {@code FileHandler}.
+     * Creates a logger named 'ab3', containing a {@code ConsoleHandler} and a {@code FileHandler} behind an
+     * {@code AsyncHandler}.
      * Sets it as the {@code baseLogger}, to be used as the parent logger of all other loggers.
      */
     private static void setBaseLogger() {
@@ -96,7 +102,9 @@ public class LogsCenter {
             FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
             fileHandler.setFormatter(new SimpleFormatter());
             fileHandler.setLevel(Level.ALL);
-            baseLogger.addHandler(fileHandler);
+            AsyncHandler asyncFileHandler = new AsyncHandler(fileHandler, MAX_QUEUED_RECORD_COUNT);
+            asyncFileHandler.setLevel(Level.ALL);
+            baseLogger.addHandler(asyncFileHandler);
         } catch (IOException e) {
             logger.warning("Error adding file handler for logger.");
         }
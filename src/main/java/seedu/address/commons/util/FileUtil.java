@@ -1,15 +1,23 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
 
     private static final String CHARSET = "UTF-8";
 
@@ -72,6 +80,47 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Replaces {@code target} with {@code source} in a single step where the file system supports it,
+     * so that {@code target} is never left half written.
+     * The contents of {@code source} are forced to disk before the move, and the move itself afterwards where the
+     * platform allows it, so that a power loss cannot leave {@code target} empty once it has been replaced.
+     */
+    public static void replaceAtomically(Path source, Path target) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            logger.warning("Atomic move not supported, replacing " + target + " non-atomically");
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(target.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Forces the entries of {@code directory} to disk, so that files moved into it stay there after a power loss.
+     * Does nothing on platforms such as Windows, where a directory cannot be opened.
+     */
+    public static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be forced on this platform, and the move is still done
+        }
+    }
+
+    /**
+     * Returns the path of the temporary file that {@code file} is written to before it is replaced.
+     */
+    public static Path getTempFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + ".tmp");
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
@@ -0,0 +1,224 @@
+package seedu.address.commons.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list whose updated versions share structure with the versions they were created from.
+ * {@link #plus(Object)} and {@link #with(int, Object)} return a new list and copy only the O(log n) trie nodes
+ * on the path to the changed element, so keeping earlier versions of a list around is cheap.
+ * {@link #minus(int)} is as cheap for the last element, but rebuilds the list for any other element.
+ * <p>
+ * The list is a trie of 32-element arrays, with the last elements kept in a separate tail array.
+ * Null elements are not permitted.
+ *
+ * @param <E> the type of elements
+ */
+public final class PersistentList<E> extends AbstractList<E> implements RandomAccess {
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int NODE_SIZE = 1 << BITS_PER_LEVEL;
+    private static final int LEVEL_MASK = NODE_SIZE - 1;
+
+    private static final Object[] EMPTY_NODE = new Object[NODE_SIZE];
+    private static final PersistentList<?> EMPTY =
+            new PersistentList<>(0, BITS_PER_LEVEL, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentList(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list with the elements of {@code elements}, in iteration order.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+        if (elements instanceof PersistentList) {
+            return (PersistentList<E>) elements;
+        }
+        PersistentList<E> result = empty();
+        for (E element : elements) {
+            result = result.plus(element);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a list with the elements of this list followed by {@code element}.
+     */
+    public PersistentList<E> plus(E element) {
+        Objects.requireNonNull(element);
+        if (size - tailOffset() < NODE_SIZE) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentList<>(size + 1, shift, root, newTail);
+        }
+
+        // The tail is full, so it moves into the trie
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS_PER_LEVEL) > (1 << shift)) {
+            newRoot = new Object[NODE_SIZE];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS_PER_LEVEL;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentList<>(size + 1, newShift, newRoot, new Object[] {element});
+    }
+
+    /**
+     * Returns a list with the elements of this list, except that the element at {@code index} is {@code element}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        Objects.checkIndex(index, size);
+        Objects.requireNonNull(element);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & LEVEL_MASK] = element;
+            return new PersistentList<>(size, shift, root, newTail);
+        }
+        return new PersistentList<>(size, shift, assoc(shift, root, index, element), tail);
+    }
+
+    /**
+     * Returns a list with the elements of this list except the element at {@code index}.
+     */
+    @SuppressWarnings("unchecked")
+    public PersistentList<E> minus(int index) {
+        Objects.checkIndex(index, size);
+        if (index == size - 1) {
+            return withoutLast();
+        }
+        PersistentList<E> result = empty();
+        for (int i = 0; i < size; i++) {
+            if (i != index) {
+                result = result.plus((E) arrayFor(i)[i & LEVEL_MASK]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) arrayFor(index)[index & LEVEL_MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private int tailOffset() {
+        return size < NODE_SIZE ? 0 : ((size - 1) >>> BITS_PER_LEVEL) << BITS_PER_LEVEL;
+    }
+
+    private Object[] arrayFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS_PER_LEVEL) {
+            node = (Object[]) node[(index >>> level) & LEVEL_MASK];
+        }
+        return node;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int subIndex = ((size - 1) >>> level) & LEVEL_MASK;
+        Object[] result = parent.clone();
+        Object[] nodeToInsert;
+        if (level == BITS_PER_LEVEL) {
+            nodeToInsert = tailNode;
+        } else {
+            Object[] child = (Object[]) parent[subIndex];
+            nodeToInsert = child != null
+                    ? pushTail(level - BITS_PER_LEVEL, child, tailNode)
+                    : newPath(level - BITS_PER_LEVEL, tailNode);
+        }
+        result[subIndex] = nodeToInsert;
+        return result;
+    }
+
+    private static Object[] newPath(int level, Object[] node) {
+        if (level == 0) {
+            return node;
+        }
+        Object[] result = new Object[NODE_SIZE];
+        result[0] = newPath(level - BITS_PER_LEVEL, node);
+        return result;
+    }
+
+    private static Object[] assoc(int level, Object[] node, int index, Object element) {
+        Object[] result = node.clone();
+        if (level == 0) {
+            result[index & LEVEL_MASK] = element;
+        } else {
+            int subIndex = (index >>> level) & LEVEL_MASK;
+            result[subIndex] = assoc(level - BITS_PER_LEVEL, (Object[]) node[subIndex], index, element);
+        }
+        return result;
+    }
+
+    private PersistentList<E> withoutLast() {
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset() > 1) {
+            return new PersistentList<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+
+        // The tail becomes empty, so the last array of the trie becomes the tail
+        Object[] newTail = arrayFor(size - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS_PER_LEVEL && newRoot[1] == null) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS_PER_LEVEL;
+        }
+        return new PersistentList<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    private Object[] popTail(int level, Object[] node) {
+        int subIndex = ((size - 2) >>> level) & LEVEL_MASK;
+        if (level > BITS_PER_LEVEL) {
+            Object[] newChild = popTail(level - BITS_PER_LEVEL, (Object[]) node[subIndex]);
+            if (newChild == null && subIndex == 0) {
+                return null;
+            }
+            Object[] result = node.clone();
+            result[subIndex] = newChild;
+            return result;
+        }
+        if (subIndex == 0) {
+            return null;
+        }
+        Object[] result = node.clone();
+        result[subIndex] = null;
+        return result;
+    }
+}
@@ -0,0 +1,445 @@
+package seedu.address.commons.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable hash map whose updated versions share structure with the versions they were created from.
+ * {@link #plus(Object, Object)} and {@link #minus(Object)} return a new map and copy only the O(log n) trie nodes
+ * on the path to the changed entry, so keeping earlier versions of a map around is cheap.
+ * <p>
+ * The map is a hash array mapped trie that consumes 5 bits of the key's hash at each level.
+ * Null keys and values are not permitted.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public final class PersistentMap<K, V> extends AbstractMap<K, V> {
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(null, 0);
+
+    /**
+     * Root of the trie, null if the map is empty
+     */
+    private final Node root;
+    private final int size;
+
+    private Set<Map.Entry<K, V>> entrySet = null;
+
+    private PersistentMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns a map with the entries of {@code map}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        if (map instanceof PersistentMap) {
+            return (PersistentMap<K, V>) map;
+        }
+        PersistentMap<K, V> result = empty();
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            result = result.plus(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a map with the entries of this map and {@code key} mapped to {@code value}.
+     * Returns this map if {@code key} is already mapped to {@code value}.
+     */
+    public PersistentMap<K, V> plus(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        int hash = hash(key);
+        Leaf newLeaf = new Leaf(hash, key, value);
+        if (root == null) {
+            return new PersistentMap<>(new BitmapNode(bitFor(hash, 0), new Object[] {newLeaf}), 1);
+        }
+
+        boolean[] isAdded = new boolean[1];
+        Node newRoot = root.plus(newLeaf, 0, isAdded);
+        return newRoot == root ? this : new PersistentMap<>(newRoot, isAdded[0] ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map with the entries of this map except the entry of {@code key}.
+     * Returns this map if there is no entry for {@code key}.
+     */
+    public PersistentMap<K, V> minus(Object key) {
+        if (root == null || key == null) {
+            return this;
+        }
+        Object newRoot = root.minus(hash(key), key, 0);
+        if (newRoot == root) {
+            return this;
+        }
+        if (newRoot == null) {
+            return empty();
+        }
+        // The root must stay a node even when only one entry is left
+        Node rootNode = newRoot instanceof Leaf
+                ? new BitmapNode(bitFor(((Leaf) newRoot).hash, 0), new Object[] {newRoot})
+                : (Node) newRoot;
+        return new PersistentMap<>(rootNode, size - 1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (root == null || key == null) {
+            return null;
+        }
+        Leaf leaf = root.find(hash(key), key, 0);
+        return leaf == null ? null : (V) leaf.getValue();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<K, V>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bitFor(int hash, int shift) {
+        return 1 << ((hash >>> shift) & LEVEL_MASK);
+    }
+
+    /**
+     * Returns a node at {@code shift} that holds both {@code a} and {@code b}, each a leaf or a collision node.
+     */
+    private static Node merge(Object a, int hashA, Object b, int hashB, int shift) {
+        if (hashA == hashB) {
+            Leaf[] leaves = a instanceof Leaf
+                    ? new Leaf[] {(Leaf) a, (Leaf) b}
+                    : append(((CollisionNode) a).leaves, (Leaf) b);
+            return new CollisionNode(hashA, leaves);
+        }
+
+        int bitA = bitFor(hashA, shift);
+        int bitB = bitFor(hashB, shift);
+        if (bitA == bitB) {
+            return new BitmapNode(bitA, new Object[] {merge(a, hashA, b, hashB, shift + BITS_PER_LEVEL)});
+        }
+        Object[] slots = Integer.compareUnsigned(bitA, bitB) < 0 ? new Object[] {a, b} : new Object[] {b, a};
+        return new BitmapNode(bitA | bitB, slots);
+    }
+
+    private static Leaf[] append(Leaf[] leaves, Leaf leaf) {
+        Leaf[] result = Arrays.copyOf(leaves, leaves.length + 1);
+        result[leaves.length] = leaf;
+        return result;
+    }
+
+    /**
+     * An entry of the map, which is also a slot of a trie node.
+     */
+    private static final class Leaf extends AbstractMap.SimpleImmutableEntry<Object, Object> {
+        private final int hash;
+
+        Leaf(int hash, Object key, Object value) {
+            super(key, value);
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * A node of the trie.
+     */
+    private abstract static class Node {
+        /**
+         * Returns the leaf of {@code key}, or null if there is none.
+         */
+        abstract Leaf find(int hash, Object key, int shift);
+
+        /**
+         * Returns this node with {@code newLeaf} added or replacing the leaf of the same key.
+         * Returns this node if the same key is already mapped to the same value.
+         */
+        abstract Node plus(Leaf newLeaf, int shift, boolean[] isAdded);
+
+        /**
+         * Returns this node without the leaf of {@code key}, which may be a single leaf or null if nothing is left.
+         * Returns this node if there is no leaf for {@code key}.
+         */
+        abstract Object minus(int hash, Object key, int shift);
+    }
+
+    /**
+     * A node with a slot for each bit set in the bitmap, holding a leaf, a collision node or a child node.
+     */
+    private static final class BitmapNode extends Node {
+        private final int bitmap;
+        private final Object[] slots;
+
+        BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        private int indexOf(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        Leaf find(int hash, Object key, int shift) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = slots[indexOf(bit)];
+            if (slot instanceof Leaf) {
+                Leaf leaf = (Leaf) slot;
+                return leaf.hash == hash && leaf.getKey().equals(key) ? leaf : null;
+            }
+            return ((Node) slot).find(hash, key, shift + BITS_PER_LEVEL);
+        }
+
+        @Override
+        Node plus(Leaf newLeaf, int shift, boolean[] isAdded) {
+            int bit = bitFor(newLeaf.hash, shift);
+            int index = indexOf(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] newSlots = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, newSlots, 0, index);
+                newSlots[index] = newLeaf;
+                System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+                isAdded[0] = true;
+                return new BitmapNode(bitmap | bit, newSlots);
+            }
+
+            Object slot = slots[index];
+            Object newSlot;
+            if (slot instanceof Leaf) {
+                Leaf leaf = (Leaf) slot;
+                if (leaf.hash == newLeaf.hash && leaf.getKey().equals(newLeaf.getKey())) {
+                    if (leaf.getValue() == newLeaf.getValue()) {
+                        return this;
+                    }
+                    newSlot = newLeaf;
+                } else {
+                    newSlot = merge(leaf, leaf.hash, newLeaf, newLeaf.hash, shift + BITS_PER_LEVEL);
+                    isAdded[0] = true;
+                }
+            } else if (slot instanceof CollisionNode && ((CollisionNode) slot).hash != newLeaf.hash) {
+                newSlot = merge(slot, ((CollisionNode) slot).hash, newLeaf, newLeaf.hash, shift + BITS_PER_LEVEL);
+                isAdded[0] = true;
+            } else {
+                newSlot = ((Node) slot).plus(newLeaf, shift + BITS_PER_LEVEL, isAdded);
+                if (newSlot == slot) {
+                    return this;
+                }
+            }
+            Object[] newSlots = slots.clone();
+            newSlots[index] = newSlot;
+            return new BitmapNode(bitmap, newSlots);
+        }
+
+        @Override
+        Object minus(int hash, Object key, int shift) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = indexOf(bit);
+            Object slot = slots[index];
+            Object newSlot;
+            if (slot instanceof Leaf) {
+                Leaf leaf = (Leaf) slot;
+                if (leaf.hash != hash || !leaf.getKey().equals(key)) {
+                    return this;
+                }
+                newSlot = null;
+            } else {
+                newSlot = ((Node) slot).minus(hash, key, shift + BITS_PER_LEVEL);
+                if (newSlot == slot) {
+                    return this;
+                }
+            }
+
+            if (newSlot != null) {
+                // A single leaf left in a child node moves up to this node
+                if (newSlot instanceof Leaf && slots.length == 1) {
+                    return newSlot;
+                }
+                Object[] newSlots = slots.clone();
+                newSlots[index] = newSlot;
+                return new BitmapNode(bitmap, newSlots);
+            }
+            if (slots.length == 1) {
+                return null;
+            }
+            if (slots.length == 2 && slots[1 - index] instanceof Leaf) {
+                return slots[1 - index];
+            }
+            Object[] newSlots = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, newSlots, 0, index);
+            System.arraycopy(slots, index + 1, newSlots, index, slots.length - index - 1);
+            return new BitmapNode(bitmap & ~bit, newSlots);
+        }
+    }
+
+    /**
+     * A node holding the leaves of distinct keys with the same hash.
+     */
+    private static final class CollisionNode extends Node {
+        private final int hash;
+        private final Leaf[] leaves;
+
+        CollisionNode(int hash, Leaf[] leaves) {
+            this.hash = hash;
+            this.leaves = leaves;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < leaves.length; i++) {
+                if (leaves[i].getKey().equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Leaf find(int hash, Object key, int shift) {
+            int index = indexOf(key);
+            return index == -1 ? null : leaves[index];
+        }
+
+        @Override
+        Node plus(Leaf newLeaf, int shift, boolean[] isAdded) {
+            int index = indexOf(newLeaf.getKey());
+            if (index == -1) {
+                isAdded[0] = true;
+                return new CollisionNode(hash, append(leaves, newLeaf));
+            }
+            if (leaves[index].getValue() == newLeaf.getValue()) {
+                return this;
+            }
+            Leaf[] newLeaves = leaves.clone();
+            newLeaves[index] = newLeaf;
+            return new CollisionNode(hash, newLeaves);
+        }
+
+        @Override
+        Object minus(int hash, Object key, int shift) {
+            int index = indexOf(key);
+            if (index == -1) {
+                return this;
+            }
+            if (leaves.length == 2) {
+                return leaves[1 - index];
+            }
+            Leaf[] newLeaves = new Leaf[leaves.length - 1];
+            System.arraycopy(leaves, 0, newLeaves, 0, index);
+            System.arraycopy(leaves, index + 1, newLeaves, index, leaves.length - index - 1);
+            return new CollisionNode(hash, newLeaves);
+        }
+    }
+
+    /**
+     * Iterates over the leaves of the trie depth first.
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        private final Deque<Object[]> slotStack = new ArrayDeque<>();
+        private final Deque<Integer> indexStack = new ArrayDeque<>();
+        private Leaf next;
+
+        EntryIterator() {
+            if (root != null) {
+                push(root);
+            }
+            next = advance();
+        }
+
+        private void push(Node node) {
+            slotStack.push(node instanceof BitmapNode ? ((BitmapNode) node).slots : ((CollisionNode) node).leaves);
+            indexStack.push(0);
+        }
+
+        private Leaf advance() {
+            while (!slotStack.isEmpty()) {
+                Object[] slots = slotStack.peek();
+                int index = indexStack.pop();
+                if (index == slots.length) {
+                    slotStack.pop();
+                    continue;
+                }
+                indexStack.push(index + 1);
+                Object slot = slots[index];
+                if (slot instanceof Leaf) {
+                    return (Leaf) slot;
+                }
+                push((Node) slot);
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Leaf current = next;
+            next = advance();
+            return (Map.Entry<K, V>) (Map.Entry<?, ?>) current;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.commons.util;
+
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Helper functions for validating fields, shared by the fields of the model and the parsers of user input.
+ * Fixed-shape formats are checked by scanning their characters, and the other formats with patterns that are
+ * compiled once instead of by {@code String#matches} on every call.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, like {@code \d} in a regular expression.
+     */
+    public static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter.
+     */
+    public static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, like {@code \p{Alnum}} in a regular expression.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return isDigit(c) || isLetter(c);
+    }
+
+    /**
+     * Returns {@code c} in lower case if it is an ASCII upper case letter, or {@code c} itself otherwise.
+     */
+    public static char toLowerCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    /**
+     * Returns true if the characters of {@code test} between {@code start} (inclusive) and {@code end} (exclusive)
+     * are all ASCII digits.
+     */
+    public static boolean isDigits(CharSequence test, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a test of whether whole strings match {@code pattern}, which reuses one matcher for all the strings.
+     * Used to validate many values at once, such as all the emails in a data file.
+     * The test must only be used by one thread.
+     */
+    public static Predicate<String> newBulkMatcher(Pattern pattern) {
+        Matcher matcher = pattern.matcher("");
+        return test -> matcher.reset(test).matches();
+    }
+}
@@ -0,0 +1,210 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the result of executing a batch of commands, with the errors of the lines that failed and the time
+ * taken by each step of the batch.
+ */
+public class BatchResult {
+    public static final String MESSAGE_EXECUTED = "Executed %1$d of %2$d commands in %3$d ms.";
+    public static final String MESSAGE_ROLLED_BACK = "No changes were made as line %1$d failed.";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+
+    private final int numOfCommands;
+    private final int numOfExecutedCommands;
+    private final List<LineError> errors;
+    private final boolean isRolledBack;
+
+    private final Duration parseTime;
+    private final Duration executeTime;
+    private final Duration listUpdateTime;
+    private final Duration saveTime;
+    private final Duration totalTime;
+
+    /**
+     * Constructs a {@code BatchResult} with the specified fields.
+     *
+     * @param numOfCommands Number of command lines in the batch, excluding blank lines and comments.
+     * @param numOfExecutedCommands Number of commands that were executed successfully.
+     * @param errors Errors of the lines that failed, in order.
+     * @param isRolledBack Whether the changes of the batch were undone as a line failed.
+     */
+    public BatchResult(int numOfCommands, int numOfExecutedCommands, List<LineError> errors, boolean isRolledBack,
+                       Duration parseTime, Duration executeTime, Duration listUpdateTime, Duration saveTime,
+                       Duration totalTime) {
+        requireAllNonNull(errors, parseTime, executeTime, listUpdateTime, saveTime, totalTime);
+        this.numOfCommands = numOfCommands;
+        this.numOfExecutedCommands = numOfExecutedCommands;
+        this.errors = List.copyOf(errors);
+        this.isRolledBack = isRolledBack;
+        this.parseTime = parseTime;
+        this.executeTime = executeTime;
+        this.listUpdateTime = listUpdateTime;
+        this.saveTime = saveTime;
+        this.totalTime = totalTime;
+    }
+
+    public int getNumOfCommands() {
+        return numOfCommands;
+    }
+
+    public int getNumOfExecutedCommands() {
+        return numOfExecutedCommands;
+    }
+
+    public List<LineError> getErrors() {
+        return errors;
+    }
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    public boolean isRolledBack() {
+        return isRolledBack;
+    }
+
+    public Duration getParseTime() {
+        return parseTime;
+    }
+
+    public Duration getExecuteTime() {
+        return executeTime;
+    }
+
+    public Duration getListUpdateTime() {
+        return listUpdateTime;
+    }
+
+    public Duration getSaveTime() {
+        return saveTime;
+    }
+
+    public Duration getTotalTime() {
+        return totalTime;
+    }
+
+    /**
+     * Returns the message to be displayed to the user, with one line for each failed line of the batch.
+     */
+    public String getFeedbackToUser() {
+        StringBuilder feedback = new StringBuilder(
+                String.format(MESSAGE_EXECUTED, numOfExecutedCommands, numOfCommands, totalTime.toMillis()));
+        if (isRolledBack) {
+            feedback.append('\n').append(String.format(MESSAGE_ROLLED_BACK, errors.get(0).getLineNumber()));
+        }
+        for (LineError error : errors) {
+            feedback.append('\n').append(error);
+        }
+        return feedback.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchResult)) {
+            return false;
+        }
+
+        BatchResult otherBatchResult = (BatchResult) other;
+        return numOfCommands == otherBatchResult.numOfCommands
+                && numOfExecutedCommands == otherBatchResult.numOfExecutedCommands
+                && errors.equals(otherBatchResult.errors)
+                && isRolledBack == otherBatchResult.isRolledBack
+                && parseTime.equals(otherBatchResult.parseTime)
+                && executeTime.equals(otherBatchResult.executeTime)
+                && listUpdateTime.equals(otherBatchResult.listUpdateTime)
+                && saveTime.equals(otherBatchResult.saveTime)
+                && totalTime.equals(otherBatchResult.totalTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(numOfCommands, numOfExecutedCommands, errors, isRolledBack, totalTime);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("numOfCommands", numOfCommands)
+                .add("numOfExecutedCommands", numOfExecutedCommands)
+                .add("errors", errors)
+                .add("isRolledBack", isRolledBack)
+                .add("parseTime", parseTime)
+                .add("executeTime", executeTime)
+                .add("listUpdateTime", listUpdateTime)
+                .add("saveTime", saveTime)
+                .add("totalTime", totalTime)
+                .toString();
+    }
+
+    /**
+     * Represents a line of a batch that could not be parsed or executed.
+     */
+    public static class LineError {
+        private final int lineNumber;
+        private final String commandText;
+        private final String message;
+
+        /**
+         * Constructs a {@code LineError} for the command at the one-based {@code lineNumber}.
+         */
+        public LineError(int lineNumber, String commandText, String message) {
+            requireNonNull(commandText);
+            this.lineNumber = lineNumber;
+            this.commandText = commandText;
+            this.message = Objects.toString(message, "");
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof LineError)) {
+                return false;
+            }
+
+            LineError otherLineError = (LineError) other;
+            return lineNumber == otherLineError.lineNumber
+                    && commandText.equals(otherLineError.commandText)
+                    && message.equals(otherLineError.message);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lineNumber, commandText, message);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(MESSAGE_LINE_ERROR, lineNumber, commandText) + "\n" + message;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javafx.collections.ObservableList;
@@ -23,6 +24,26 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes each line of {@code commandLines} as a command, then updates the display list and saves once.
+     * Blank lines and lines starting with {@code #} are skipped.
+     *
+     * @param commandLines The commands, one per line.
+     * @param isAllOrNothing Whether to stop at the first failed line and undo the changes of the batch.
+     * @return the result of the batch, with the errors of the lines that failed.
+     * @throws CommandException If an error occurs while saving.
+     */
+    BatchResult executeBatch(String commandLines, boolean isAllOrNothing) throws CommandException;
+
+    /**
+     * Executes each line of the script file at {@code scriptFilePath} as a command.
+     *
+     * @throws IOException If the script file cannot be read.
+     * @throws CommandException If an error occurs while saving.
+     * @see #executeBatch(String, boolean)
+     */
+    BatchResult executeScript(Path scriptFilePath, boolean isAllOrNothing) throws IOException, CommandException;
+
     /** Returns an unmodifiable view of the display list.*/
     ObservableList<Displayable> getDisplayList();
 
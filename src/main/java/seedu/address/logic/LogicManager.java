@@ -1,9 +1,17 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -14,6 +22,8 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ProfBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.profbook.Root;
+import seedu.address.storage.AsyncProfBookSaver;
 import seedu.address.storage.ProfBookStorage;
 import seedu.address.ui.Displayable;
 
@@ -24,40 +34,203 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
+    public static final String COMMENT_PREFIX = "#";
 
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
     private final Model model;
-    private final ProfBookStorage storage;
+    private final AsyncProfBookSaver saver;
     private final ProfBookParser profBookParser;
 
+    /**
+     * Generation of the last ProfBook handed to the saver
+     */
+    private long savedGeneration;
+
+    /**
+     * Last copy of the ProfBook handed to the saver, which shares unchanged groups with the next copy
+     */
+    private Root lastSnapshot = null;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, ProfBookStorage storage) {
-        this.storage = storage;
+        this(model, new AsyncProfBookSaver(storage));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} that saves through {@code saver}.
+     */
+    public LogicManager(Model model, AsyncProfBookSaver saver) {
+        this.saver = saver;
         this.model = model;
         profBookParser = new ProfBookParser();
+        savedGeneration = model.getRoot().getGeneration();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = profBookParser.parseCommand(commandText, model.getCurrPath());
-        commandResult = command.execute(model);
+        CommandResult commandResult = executeInTransaction(command);
 
-        try {
-            storage.saveProfBook(model.getRoot());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        if (!command.isReadOnly()) {
+            requestSaveIfModified();
         }
+        throwSaveErrorIfAny();
 
         return commandResult;
     }
 
+    @Override
+    public BatchResult executeBatch(String commandLines, boolean isAllOrNothing) throws CommandException {
+        requireNonNull(commandLines);
+        return executeBatch(commandLines.lines().collect(Collectors.toList()), isAllOrNothing);
+    }
+
+    @Override
+    public BatchResult executeScript(Path scriptFilePath, boolean isAllOrNothing)
+            throws IOException, CommandException {
+        requireNonNull(scriptFilePath);
+        logger.info("Executing script " + scriptFilePath);
+        return executeBatch(Files.readAllLines(scriptFilePath), isAllOrNothing);
+    }
+
+    private BatchResult executeBatch(List<String> lines, boolean isAllOrNothing) throws CommandException {
+        logger.info("----------------[BATCH][" + lines.size() + " lines]");
+        long batchStart = System.nanoTime();
+
+        int numOfCommands = 0;
+        int numOfExecutedCommands = 0;
+        List<BatchResult.LineError> errors = new ArrayList<>();
+        long parseNanos = 0;
+        long executeNanos = 0;
+        long listUpdateNanos;
+        boolean isCompleted = false;
+        boolean isRolledBack = false;
+
+        model.setListUpdateDeferred(true);
+        // The whole batch is a single change to undo, with each line nested in it
+        model.beginTransaction();
+        try {
+            for (int i = 0; i < lines.size(); i++) {
+                String commandText = lines.get(i).trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                numOfCommands++;
+                logger.fine(() -> "----------------[BATCH COMMAND][" + commandText + "]");
+
+                long stepStart = System.nanoTime();
+                Command command = null;
+                try {
+                    command = profBookParser.parseCommand(commandText, model.getCurrPath());
+                    long parseEnd = System.nanoTime();
+                    parseNanos += parseEnd - stepStart;
+                    stepStart = parseEnd;
+                    executeInTransaction(command);
+                    numOfExecutedCommands++;
+                } catch (ParseException | CommandException e) {
+                    errors.add(new BatchResult.LineError(i + 1, commandText, e.getMessage()));
+                } finally {
+                    long stepNanos = System.nanoTime() - stepStart;
+                    if (command == null) {
+                        parseNanos += stepNanos;
+                    } else {
+                        executeNanos += stepNanos;
+                    }
+                }
+
+                if (isAllOrNothing && !errors.isEmpty()) {
+                    break;
+                }
+            }
+            isCompleted = true;
+        } finally {
+            if (isAllOrNothing && (!isCompleted || !errors.isEmpty())) {
+                logger.info("Rolling back batch");
+                model.rollbackTransaction();
+                isRolledBack = true;
+            } else {
+                model.commitTransaction();
+            }
+
+            long listUpdateStart = System.nanoTime();
+            model.setListUpdateDeferred(false);
+            listUpdateNanos = System.nanoTime() - listUpdateStart;
+        }
+
+        long saveStart = System.nanoTime();
+        requestSaveIfModified();
+        long saveNanos = System.nanoTime() - saveStart;
+
+        BatchResult batchResult = new BatchResult(numOfCommands, numOfExecutedCommands, errors, isRolledBack,
+                Duration.ofNanos(parseNanos), Duration.ofNanos(executeNanos), Duration.ofNanos(listUpdateNanos),
+                Duration.ofNanos(saveNanos), Duration.ofNanos(System.nanoTime() - batchStart));
+        logger.info("Batch completed: " + batchResult);
+
+        throwSaveErrorIfAny();
+        return batchResult;
+    }
+
+    /**
+     * Executes {@code command} in a model transaction if it can be undone, so that the changes it made before
+     * failing are rolled back.
+     */
+    private CommandResult executeInTransaction(Command command) throws CommandException {
+        if (!command.isUndoable()) {
+            return command.execute(model);
+        }
+
+        model.beginTransaction();
+        boolean isCommitted = false;
+        try {
+            CommandResult commandResult = command.execute(model);
+            model.commitTransaction();
+            isCommitted = true;
+            return commandResult;
+        } finally {
+            if (!isCommitted) {
+                model.rollbackTransaction();
+            }
+        }
+    }
+
+    /**
+     * Hands a copy of the ProfBook to the saver if it changed since it was last handed to the saver.
+     */
+    private void requestSaveIfModified() {
+        if (model.getRoot().getGeneration() == savedGeneration) {
+            return;
+        }
+
+        // Saved from a copy as the background save may run while the next command modifies the model.
+        // Snapshots are never modified, so groups unchanged since the last one are shared instead of copied.
+        Root snapshot = new Root(model.getRoot(), lastSnapshot);
+        lastSnapshot = snapshot;
+        savedGeneration = snapshot.getGeneration();
+        saver.requestSave(snapshot);
+    }
+
+    /**
+     * Throws the error of the last failed save, if any.
+     */
+    private void throwSaveErrorIfAny() throws CommandException {
+        // Errors from saves of earlier commands are only known now
+        Optional<IOException> saveError = saver.pollError();
+        if (saveError.isPresent()) {
+            throwSaveError(saveError.get());
+        }
+    }
+
+    private void throwSaveError(IOException ioe) throws CommandException {
+        if (ioe instanceof AccessDeniedException) {
+            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    }
+
     @Override
     public ObservableList<Displayable> getDisplayList() {
         return model.getDisplayList();
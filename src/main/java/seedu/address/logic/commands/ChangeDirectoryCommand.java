@@ -74,7 +74,7 @@ public class ChangeDirectoryCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        logger.fine("Executing change directory command with destination path: " + dest);
+        logger.fine(() -> "Executing change directory command with destination path: " + dest);
 
         // Check if destination path exists
         if (!model.hasPath(dest)) {
@@ -91,7 +91,7 @@ public class ChangeDirectoryCommand extends Command {
             throw new CommandException(MESSAGE_INVALID_DEST);
         }
 
-        logger.fine("Changing directory to destination path: " + dest);
+        logger.fine(() -> "Changing directory to destination path: " + dest);
 
         model.changeDirectory(dest);
 
@@ -118,4 +118,9 @@ public class ChangeDirectoryCommand extends Command {
                 .add("Destination", dest)
                 .toString();
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -15,4 +15,20 @@ public abstract class Command {
      * @throws CommandException If an error occurs during command execution.
      */
     public abstract CommandResult execute(Model model) throws CommandException;
+
+    /**
+     * Returns true if executing this command never changes the data in ProfBook,
+     * so that there is no need to save ProfBook afterwards.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * Returns true if the changes made by executing this command can be undone,
+     * which is the case for all commands that may change the data in ProfBook.
+     */
+    public boolean isUndoable() {
+        return !isReadOnly();
+    }
 }
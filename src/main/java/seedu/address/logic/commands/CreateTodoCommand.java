@@ -10,6 +10,7 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddTaskToChildrenResult;
 import seedu.address.model.ChildOperation;
 import seedu.address.model.Model;
 import seedu.address.model.TaskOperation;
@@ -194,16 +195,16 @@ public class CreateTodoCommand extends Command {
     private CommandResult addTaskToAllStuInGrp(Model model) throws CommandException {
         ChildOperation<Student> groupOper = model.groupChildOperation(path);
 
-        // Check whether all children already have the task
-        if (groupOper.doAllChildrenHaveTasks(todo, 1)) {
+        logger.finer("Created a todo task for all students under a group");
+        AddTaskToChildrenResult result = groupOper.addTaskToAllChildren(todo, 1);
+
+        // Nothing was added if all children already have the task
+        if (!result.isAddedToAny()) {
             throw new CommandException(String.format(MESSAGE_ALL_CHILDREN_HAVE_TASK, "student"));
         }
 
-        // Check whether at least one of the children has the task
-        boolean warning = groupOper.doAnyChildrenHaveTasks(todo, 1);
-
-        logger.finer("Created a todo task for all students under a group");
-        groupOper.addTaskToAllChildren(todo, 1);
+        // Warn if at least one of the children already had the task
+        boolean warning = result.hasChildrenWithTask();
         model.updateList();
         return new CommandResult(
                 warning ? MESSAGE_SUCCESS_ALL_STUDENTS_WITH_WARNING
@@ -219,16 +220,16 @@ public class CreateTodoCommand extends Command {
     private CommandResult addTaskToAllStuInRoot(Model model) throws CommandException {
         ChildOperation<Group> operation = model.rootChildOperation();
 
-        // Check whether all children already have the task
-        if (operation.doAllChildrenHaveTasks(todo, 2)) {
+        logger.finer("Created a todo task for all students under ProfBook");
+        AddTaskToChildrenResult result = operation.addTaskToAllChildren(todo, 2);
+
+        // Nothing was added if all children already have the task
+        if (!result.isAddedToAny()) {
             throw new CommandException(String.format(MESSAGE_ALL_CHILDREN_HAVE_TASK, "student"));
         }
 
-        // Check whether at least one of the children has the task
-        boolean warning = operation.doAnyChildrenHaveTasks(todo, 2);
-
-        logger.finer("Created a todo task for all students under ProfBook");
-        operation.addTaskToAllChildren(todo, 2);
+        // Warn if at least one of the children already had the task
+        boolean warning = result.hasChildrenWithTask();
         model.updateList();
         return new CommandResult(
                 warning ? MESSAGE_SUCCESS_ALL_STUDENTS_WITH_WARNING
@@ -258,16 +259,16 @@ public class CreateTodoCommand extends Command {
     private CommandResult addTaskToAllGrpInRoot(Model model) throws CommandException {
         ChildOperation<Group> rootOper = model.rootChildOperation();
 
-        // Check whether all children already have the task
-        if (rootOper.doAllChildrenHaveTasks(todo, 1)) {
+        logger.finer("Created a todo task for all groups under ProfBook");
+        AddTaskToChildrenResult result = rootOper.addTaskToAllChildren(todo, 1);
+
+        // Nothing was added if all children already have the task
+        if (!result.isAddedToAny()) {
             throw new CommandException(String.format(MESSAGE_ALL_CHILDREN_HAVE_TASK, "group"));
         }
 
-        // Check whether at least one of the children has the task
-        boolean warning = rootOper.doAnyChildrenHaveTasks(todo, 1);
-
-        logger.finer("Created a todo task for all groups under ProfBook");
-        rootOper.addTaskToAllChildren(todo, 1);
+        // Warn if at least one of the children already had the task
+        boolean warning = result.hasChildrenWithTask();
         model.updateList();
         return new CommandResult(warning ? MESSAGE_SUCCESS_ALL_GROUPS_WITH_WARNING : MESSAGE_SUCCESS_ALL_GROUPS);
     }
@@ -15,4 +15,9 @@ public class ExitCommand extends Command {
     public CommandResult execute(Model model) {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
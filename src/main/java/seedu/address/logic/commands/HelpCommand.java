@@ -15,11 +15,11 @@ public class HelpCommand extends Command {
 
     public static final String SHOWING_HELP_MESSAGE =
             "Use any command with --help for more information.\n"
-            + "Note: clear, exit, and help commands do not have a --help option\n"
+            + "Note: undo, redo, clear, exit, and help commands do not have a --help option\n"
             + "cd        Change directory\n"
             + "mkdir     Create group\n"
             + "ls        Display children list\n"
-            + "mv        Move student from one group to another group\n"
+            + "mv        Move students from their groups to another group\n"
             + "touch     Create student\n"
             + "rm        Delete group or student\n"
             + "edit      Edit field\n"
@@ -29,6 +29,10 @@ public class HelpCommand extends Command {
             + "rmt       Delete task\n"
             + "mark      Mark task\n"
             + "unmark    Unmark task\n"
+            + "search    Search tasks\n"
+            + "due       Display upcoming or overdue deadlines\n"
+            + "undo      Undo the latest change\n"
+            + "redo      Redo the latest undone change\n"
             + "clear     Erase the application's data\n"
             + "exit      Exit the program\n"
             + "help      Show this menu";
@@ -44,4 +48,9 @@ public class HelpCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         return new CommandResult(SHOWING_HELP_MESSAGE, true, false);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -97,12 +97,12 @@ public class MarkCommand extends Command {
                     String.format(MESSAGE_INVALID_INDEX, taskOperation.getTaskListSize(), index.getOneBased()));
         }
 
-        logger.finer("Executing mark task command on task with index " + this.index.getOneBased());
+        logger.finer(() -> "Executing mark task command on task with index " + this.index.getOneBased());
 
         Task markedTask = taskOperation.markTask(this.index.getOneBased());
         model.updateList();
 
-        logger.finer("Task marked successfully. Marked task: " + markedTask.toString());
+        logger.finer(() -> "Task marked successfully. Marked task: " + markedTask.toString());
         return new CommandResult(String.format(MESSAGE_MARK_TASK_SUCCESS, markedTask));
     }
 
@@ -1,8 +1,16 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -10,12 +18,13 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.ChildOperation;
 import seedu.address.model.Model;
+import seedu.address.model.id.GroupId;
 import seedu.address.model.id.StudentId;
 import seedu.address.model.path.AbsolutePath;
 import seedu.address.model.profbook.Student;
 
 /**
- * Represents a command for moving a student from one group to another in ProfBook.
+ * Represents a command for moving students from their groups to another group in ProfBook.
  * This command is typically used to change the group affiliation of a student.
  */
 public class MoveStudentToGroupCommand extends Command {
@@ -29,25 +38,33 @@ public class MoveStudentToGroupCommand extends Command {
     public static final String MESSAGE_MOVE_STUDENT_SUCCESS =
             "Student %1$s has been successfully moved to the group: %2$s";
 
+    public static final String MESSAGE_MOVE_STUDENTS_SUCCESS =
+            "%1$d students have been successfully moved to the group: %2$s";
+
+    public static final String MESSAGE_NO_SOURCES = "There must be at least one student to move.";
+
+    public static final String MESSAGE_STUDENT_ALREADY_IN_GROUP = "Student %1$s is already in the group: %2$s";
+
     public static final String MESSAGE_INVALID_MOVE_COMMAND =
             "Invalid source or destination.\n\n"
-            + "source:       existing student\n"
+            + "source:       existing students\n"
             + "destination:  existing group";
 
     public static final String MESSAGE_USAGE =
-            "Usage: " + COMMAND_WORD + " <source>" + " <destination> \n"
+            "Usage: " + COMMAND_WORD + " <source>..." + " <destination> \n"
             + "\n"
-            + "Move a student from source group to destination group.\n"
+            + "Move students from their source groups to destination group.\n"
             + "\n"
             + "Argument: \n"
-            + "    source               Valid path to source student\n"
+            + "    source               Valid paths to source students\n"
             + "    destination          Valid path to destination group\n"
             + "\n"
             + "Option: \n"
             + "    -h, --help           Show this help menu\n"
             + "\n"
             + "Examples: \n"
-            + "mv grp-001/0001Y grp-002";
+            + "mv grp-001/0001Y grp-002\n"
+            + "mv grp-001/0001Y grp-001/0002Y grp-003/0003Y grp-002";
 
     public static final MoveStudentToGroupCommand HELP_MESSAGE = new MoveStudentToGroupCommand() {
         @Override
@@ -58,32 +75,48 @@ public class MoveStudentToGroupCommand extends Command {
 
     private static final Logger logger = LogsCenter.getLogger(MoveStudentToGroupCommand.class);
 
-    private final AbsolutePath source;
+    private final List<AbsolutePath> sources;
 
     private final AbsolutePath dest;
 
     /**
      * Constructs a {@code MoveStudentToGroupCommand} with the specified source and destination paths.
      *
-     * @param source The absolute path to the source group from which the student will be moved.
+     * @param source The absolute path to the student that will be moved.
      * @param dest   The absolute path to the destination group to which the student will be moved.
      */
     public MoveStudentToGroupCommand(AbsolutePath source, AbsolutePath dest) {
-        requireAllNonNull(source, dest);
-        this.source = source;
+        this(source == null ? null : List.of(source), dest);
+    }
+
+    private MoveStudentToGroupCommand(List<AbsolutePath> sources, AbsolutePath dest) {
+        requireAllNonNull(sources, dest);
+        checkArgument(!sources.isEmpty(), MESSAGE_NO_SOURCES);
+        this.sources = List.copyOf(sources);
         this.dest = dest;
     }
 
+    /**
+     * Returns a {@code MoveStudentToGroupCommand} that moves several students to the same group.
+     *
+     * @param sources The absolute paths to the students that will be moved.
+     * @param dest    The absolute path to the destination group to which the students will be moved.
+     */
+    public static MoveStudentToGroupCommand of(List<AbsolutePath> sources, AbsolutePath dest) {
+        return new MoveStudentToGroupCommand(sources, dest);
+    }
+
     /**
      * Private constructor for creating the HELP_MESSAGE instance.
      */
     private MoveStudentToGroupCommand() {
-        this.source = null;
+        this.sources = null;
         this.dest = null;
     }
 
     /**
-     * Executes the MoveStudentToGroupCommand, moving a student from the source group to the destination group.
+     * Executes the MoveStudentToGroupCommand, moving the students from their source groups to the destination group.
+     * The students are moved together with their task lists, without being copied.
      *
      * @param model The model on which the command should be executed.
      * @return A CommandResult containing a message indicating the success of the moving operation.
@@ -94,29 +127,53 @@ public class MoveStudentToGroupCommand extends Command {
         requireNonNull(model);
         logger.finer("Executing move student to group command...");
 
-        if (source.isStudentDirectory() && dest.isGroupDirectory()) {
+        if (!dest.isGroupDirectory() || !sources.stream().allMatch(AbsolutePath::isStudentDirectory)) {
+            logger.warning("Invalid command. Aborting move student to group command.");
+            throw new CommandException(MESSAGE_INVALID_MOVE_COMMAND);
+        }
+        for (AbsolutePath source : sources) {
             if (!model.hasStudent(source)) {
                 logger.warning("Student to be moved does not exist. Aborting move student to group command.");
                 throw new CommandException(MESSAGE_STUDENT_NOT_FOUND);
             }
-            if (!model.hasGroup(dest)) {
-                logger.warning("Destination group does not exist. Aborting move student to group command.");
-                throw new CommandException(MESSAGE_GROUP_NOT_FOUND);
-            }
+        }
+        if (!model.hasGroup(dest)) {
+            logger.warning("Destination group does not exist. Aborting move student to group command.");
+            throw new CommandException(MESSAGE_GROUP_NOT_FOUND);
+        }
+
+        // Students of the same source group are moved together, and each student only once
+        GroupId destId = dest.getGroupId().get();
+        Map<GroupId, List<StudentId>> idsBySourceGroup = new LinkedHashMap<>();
+        Map<GroupId, AbsolutePath> sourceGroupPaths = new HashMap<>();
+        Set<StudentId> toBeMovedIds = new HashSet<>();
+        for (AbsolutePath source : sources) {
+            GroupId sourceId = source.getGroupId().get();
             StudentId toBeMovedId = source.getStudentId().get();
-            logger.finer("Moving student " + toBeMovedId + "...");
-            ChildOperation<Student> sourceGroup = model.groupChildOperation(source);
-            Student studentToBeMoved = sourceGroup.getChild(toBeMovedId);
-            ChildOperation<Student> destGroup = model.groupChildOperation(dest);
-            destGroup.addChild(toBeMovedId, studentToBeMoved);
-            sourceGroup.deleteChild(toBeMovedId);
-            model.updateList();
-            logger.finer("Student " + toBeMovedId + " has been successfully moved to destination group.");
-            return new CommandResult(String.format(MESSAGE_MOVE_STUDENT_SUCCESS, toBeMovedId, dest.getGroupId().get()));
+            if (sourceId.equals(destId)) {
+                logger.warning("Student is already in destination group. Aborting move student to group command.");
+                throw new CommandException(String.format(MESSAGE_STUDENT_ALREADY_IN_GROUP, toBeMovedId, destId));
+            }
+            if (toBeMovedIds.add(toBeMovedId)) {
+                idsBySourceGroup.computeIfAbsent(sourceId, id -> new ArrayList<>()).add(toBeMovedId);
+                sourceGroupPaths.putIfAbsent(sourceId, source);
+            }
+        }
+
+        ChildOperation<Student> destGroup = model.groupChildOperation(dest);
+        for (Map.Entry<GroupId, List<StudentId>> entry : idsBySourceGroup.entrySet()) {
+            logger.finer(() -> "Moving students " + entry.getValue() + " from group " + entry.getKey() + "...");
+            ChildOperation<Student> sourceGroup = model.groupChildOperation(sourceGroupPaths.get(entry.getKey()));
+            sourceGroup.moveChildrenTo(entry.getValue(), destGroup);
         }
+        model.updateList();
+        logger.finer(() -> toBeMovedIds.size() + " students have been successfully moved to destination group.");
 
-        logger.warning("Invalid command. Aborting move student to group command.");
-        throw new CommandException(MESSAGE_INVALID_MOVE_COMMAND);
+        if (toBeMovedIds.size() == 1) {
+            StudentId toBeMovedId = toBeMovedIds.iterator().next();
+            return new CommandResult(String.format(MESSAGE_MOVE_STUDENT_SUCCESS, toBeMovedId, destId));
+        }
+        return new CommandResult(String.format(MESSAGE_MOVE_STUDENTS_SUCCESS, toBeMovedIds.size(), destId));
     }
 
     /**
@@ -136,7 +193,7 @@ public class MoveStudentToGroupCommand extends Command {
         }
 
         MoveStudentToGroupCommand otherMoveStudentToGroupCommand = (MoveStudentToGroupCommand) other;
-        return this.source.equals(otherMoveStudentToGroupCommand.source)
+        return this.sources.equals(otherMoveStudentToGroupCommand.sources)
                 && this.dest.equals(otherMoveStudentToGroupCommand.dest);
     }
 
@@ -147,9 +204,12 @@ public class MoveStudentToGroupCommand extends Command {
      */
     @Override
     public String toString() {
-        return new ToStringBuilder(this)
-                .add("Source Path", source)
-                .add("Destination Path", dest)
-                .toString();
+        ToStringBuilder builder = new ToStringBuilder(this);
+        if (sources.size() == 1) {
+            builder.add("Source Path", sources.get(0));
+        } else {
+            builder.add("Source Paths", sources);
+        }
+        return builder.add("Destination Path", dest).toString();
     }
 }
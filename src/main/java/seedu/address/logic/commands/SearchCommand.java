@@ -0,0 +1,124 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.Messages.MESSAGE_PATH_NOT_FOUND;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.path.AbsolutePath;
+import seedu.address.model.profbook.TaskIndex;
+
+/**
+ * Searches the task lists under a path for tasks with the given words.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final String MESSAGE_USAGE =
+            "Usage: " + COMMAND_WORD + " <keywords>\n"
+            + "\n"
+            + "Search the tasks of the current directory and every directory under it.\n"
+            + "Finds tasks with a word starting with each keyword, ignoring case.\n"
+            + "\n"
+            + "Argument: \n"
+            + "    keywords             Words to search for\n"
+            + "\n"
+            + "Option: \n"
+            + "    -h, --help           Show this help menu\n"
+            + "\n"
+            + "Examples: \n"
+            + "search lab 3 \n"
+            + "search assign";
+
+    public static final String MESSAGE_SUCCESS = "%1$d task(s) found for \"%2$s\"";
+
+    public static final SearchCommand HELP_MESSAGE = new SearchCommand() {
+        @Override
+        public CommandResult execute(Model model) throws CommandException {
+            return new CommandResult(MESSAGE_USAGE);
+        }
+    };
+
+    private static final Logger logger = LogsCenter.getLogger(SearchCommand.class);
+
+    private final AbsolutePath target;
+    private final String query;
+
+    /**
+     * Constructs a {@code SearchCommand} that searches the task lists under {@code target} for {@code query}.
+     */
+    public SearchCommand(AbsolutePath target, String query) {
+        requireAllNonNull(target, query);
+        this.target = target;
+        this.query = query;
+    }
+
+    private SearchCommand() {
+        this.target = null;
+        this.query = null;
+    }
+
+    /**
+     * Executes the {@code SearchCommand}, listing every matching task with the path of its task list.
+     *
+     * @return A CommandResult with the matching tasks.
+     * @throws CommandException If the target path does not exist.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        logger.info("Executing search command for: " + query);
+
+        if (!model.hasPath(target)) {
+            throw new CommandException(String.format(MESSAGE_PATH_NOT_FOUND, target));
+        }
+
+        List<TaskIndex.Match> matches = target.isRootDirectory()
+                ? model.getRoot().searchTasks(query)
+                : model.taskOperation(target).searchTasks(query);
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, matches.size(), query));
+        for (TaskIndex.Match match : matches) {
+            feedback.append('\n').append(match);
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherSearchCommand = (SearchCommand) other;
+        return Objects.equals(target, otherSearchCommand.target)
+                && Objects.equals(query, otherSearchCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("target", target)
+                .add("query", query)
+                .toString();
+    }
+}
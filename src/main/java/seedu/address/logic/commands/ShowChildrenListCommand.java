@@ -86,12 +86,12 @@ public class ShowChildrenListCommand extends Command {
     private CommandResult handleCurrPath(Model model) throws CommandException {
         AbsolutePath currPath = model.getCurrPath();
 
-        logger.fine("Executing show children list command with target path: " + currPath);
+        logger.fine(() -> "Executing show children list command with target path: " + currPath);
 
         // Current path must be a children manager
         assert model.hasChildrenListInCurrentPath() : "Current path must be children manager.";
 
-        logger.fine("Showing children list of path: " + currPath);
+        logger.fine(() -> "Showing children list of path: " + currPath);
 
         model.setDisplayPath(model.getCurrPath());
         model.showChildrenList();
@@ -103,7 +103,7 @@ public class ShowChildrenListCommand extends Command {
      * Shows children list of target path.
      */
     private CommandResult handleTargetPath(Model model) throws CommandException {
-        logger.fine("Executing show children list command with target path: " + target);
+        logger.fine(() -> "Executing show children list command with target path: " + target);
 
         // Check if path exists in ProfBook
         if (!model.hasPath(target)) {
@@ -115,7 +115,7 @@ public class ShowChildrenListCommand extends Command {
             throw new CommandException(String.format(MESSAGE_NOT_CHILDREN_MANAGER, target));
         }
 
-        logger.fine("Showing children list of path: " + target);
+        logger.fine(() -> "Showing children list of path: " + target);
 
         model.setDisplayPath(target);
         model.showChildrenList();
@@ -144,4 +144,9 @@ public class ShowChildrenListCommand extends Command {
                 .add("targetPath", target)
                 .toString();
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
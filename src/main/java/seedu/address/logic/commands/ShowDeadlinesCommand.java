@@ -0,0 +1,141 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.Messages.MESSAGE_PATH_NOT_FOUND;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.path.AbsolutePath;
+import seedu.address.model.profbook.TaskIndex;
+
+/**
+ * Lists the deadlines under a path that are due soon or overdue.
+ */
+public class ShowDeadlinesCommand extends Command {
+
+    public static final String COMMAND_WORD = "due";
+
+    public static final int DEFAULT_DAYS = 7;
+
+    public static final String MESSAGE_USAGE =
+            "Usage: " + COMMAND_WORD + " [path] [-dy <days>] [-o]\n"
+            + "\n"
+            + "List the deadlines that are not done of the target path (the current directory by default) and\n"
+            + "every directory under it, that are due in the coming days or are overdue.\n"
+            + "\n"
+            + "Option: \n"
+            + "    path                 Valid path to group or student\n"
+            + "    -dy, --days          Number of days to list deadlines due in, " + DEFAULT_DAYS + " by default\n"
+            + "    -o, --overdue        List overdue deadlines instead\n"
+            + "    -h, --help           Show this help menu\n"
+            + "\n"
+            + "Examples: \n"
+            + "due \n"
+            + "due grp-001 -dy 3 \n"
+            + "due -o";
+
+    public static final String MESSAGE_UPCOMING = "%1$d deadline(s) due in the next %2$d day(s)";
+    public static final String MESSAGE_OVERDUE = "%1$d overdue deadline(s)";
+
+    public static final ShowDeadlinesCommand HELP_MESSAGE = new ShowDeadlinesCommand() {
+        @Override
+        public CommandResult execute(Model model) throws CommandException {
+            return new CommandResult(MESSAGE_USAGE);
+        }
+    };
+
+    private static final Logger logger = LogsCenter.getLogger(ShowDeadlinesCommand.class);
+
+    private final AbsolutePath target;
+    private final int days;
+    private final boolean isOverdue;
+
+    /**
+     * Constructs a {@code ShowDeadlinesCommand} that lists the deadlines under {@code target} due in the next
+     * {@code days} days, or the overdue deadlines if {@code isOverdue} is true.
+     */
+    public ShowDeadlinesCommand(AbsolutePath target, int days, boolean isOverdue) {
+        requireNonNull(target);
+        checkArgument(days > 0, "Number of days must be positive.");
+        this.target = target;
+        this.days = days;
+        this.isOverdue = isOverdue;
+    }
+
+    private ShowDeadlinesCommand() {
+        this.target = null;
+        this.days = DEFAULT_DAYS;
+        this.isOverdue = false;
+    }
+
+    /**
+     * Executes the {@code ShowDeadlinesCommand}, listing every matching deadline with the path of its task list.
+     *
+     * @return A CommandResult with the matching deadlines, ordered by due time.
+     * @throws CommandException If the target path does not exist.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        logger.info("Executing show deadlines command under: " + target);
+
+        if (!model.hasPath(target)) {
+            throw new CommandException(String.format(MESSAGE_PATH_NOT_FOUND, target));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = isOverdue ? LocalDateTime.MIN : now;
+        LocalDateTime to = isOverdue ? now : now.plusDays(days);
+        List<TaskIndex.Match> matches = target.isRootDirectory()
+                ? model.getRoot().findDeadlines(from, to)
+                : model.taskOperation(target).findDeadlines(from, to);
+
+        StringBuilder feedback = new StringBuilder(isOverdue
+                ? String.format(MESSAGE_OVERDUE, matches.size())
+                : String.format(MESSAGE_UPCOMING, matches.size(), days));
+        for (TaskIndex.Match match : matches) {
+            feedback.append('\n').append(match);
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ShowDeadlinesCommand)) {
+            return false;
+        }
+
+        ShowDeadlinesCommand otherShowDeadlinesCommand = (ShowDeadlinesCommand) other;
+        return Objects.equals(target, otherShowDeadlinesCommand.target)
+                && days == otherShowDeadlinesCommand.days
+                && isOverdue == otherShowDeadlinesCommand.isOverdue;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("target", target)
+                .add("days", days)
+                .add("isOverdue", isOverdue)
+                .toString();
+    }
+}
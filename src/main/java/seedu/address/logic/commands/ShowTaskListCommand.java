@@ -86,14 +86,14 @@ public class ShowTaskListCommand extends Command {
     private CommandResult handleCurrPath(Model model) throws CommandException {
         AbsolutePath currPath = model.getCurrPath();
 
-        logger.fine("Executing show task list command with target path: " + currPath);
+        logger.fine(() -> "Executing show task list command with target path: " + currPath);
 
         // Checks if current path is task list manager
         if (!model.hasTaskListInCurrentPath()) {
             throw new CommandException(String.format(MESSAGE_NOT_TASK_MANAGER, currPath.toString()));
         }
 
-        logger.fine("Showing task list of path: " + currPath);
+        logger.fine(() -> "Showing task list of path: " + currPath);
 
         model.setDisplayPath(currPath);
         model.showTaskList();
@@ -105,7 +105,7 @@ public class ShowTaskListCommand extends Command {
      * Shows task list of target path.
      */
     private CommandResult handleTargetPath(Model model) throws CommandException {
-        logger.fine("Executing show task list command with target path: " + target);
+        logger.fine(() -> "Executing show task list command with target path: " + target);
 
         // Checks if path exists in ProfBook
         if (!model.hasPath(target)) {
@@ -117,7 +117,7 @@ public class ShowTaskListCommand extends Command {
             throw new CommandException(String.format(MESSAGE_NOT_TASK_MANAGER, target));
         }
 
-        logger.fine("Showing task list of path: " + target);
+        logger.fine(() -> "Showing task list of path: " + target);
 
         model.setDisplayPath(target);
         model.showTaskList();
@@ -146,4 +146,9 @@ public class ShowTaskListCommand extends Command {
                 .add("targetPath", target)
                 .toString();
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
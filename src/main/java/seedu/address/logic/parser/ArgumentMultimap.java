@@ -30,9 +30,7 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified option key
      */
     public void put(Option option, String argValue) {
-        List<String> argValues = getAllValues(option);
-        argValues.add(argValue);
-        argMultimap.put(option, argValues);
+        argMultimap.computeIfAbsent(option, unused -> new ArrayList<>()).add(argValue);
     }
 
     /**
@@ -3,7 +3,6 @@ package seedu.address.logic.parser;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <option> value <option> value ...}<br>
@@ -12,15 +11,33 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code -t}
  *    in the above example.<br>
+ * A tokenizer compiles the names of its options into a trie once, so that parsers which tokenize many commands
+ * with the same options can keep one tokenizer and scan each arguments string in a single pass.
  */
 public class ArgumentTokenizer {
+    private static final Option PREAMBLE_OPTION = new Option("");
+
+    private final OptionTrieNode optionTrie = new OptionTrieNode();
+
+    /**
+     * Constructs a tokenizer that recognizes the long and short names of {@code options}.
+     * If two options share a name, the name is recognized as the option given first.
+     */
+    public ArgumentTokenizer(Option... options) {
+        for (Option option : options) {
+            optionTrie.addOptionName(option.getLongName(), option);
+            if (option.hasShortName()) {
+                optionTrie.addOptionName(option.getShortName(), option);
+            }
+        }
+    }
 
     /**
      * Extracts preamble from the argString.
      */
     public static String extractPreamble(String argsString) {
-        String[] s = argsString.split(" -", 2);
-        return unescape(s[0].trim());
+        int preambleEnd = argsString.indexOf(" -");
+        return extractArgumentValue(argsString, 0, preambleEnd == -1 ? argsString.length() : preambleEnd);
     }
 
     /**
@@ -40,164 +57,144 @@ public class ArgumentTokenizer {
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps options to their
      * respective argument values. Only the given options will be recognized in the arguments string.
+     * Parsers that tokenize with the same options repeatedly should keep an {@code ArgumentTokenizer} instead.
      *
      * @param argsString Arguments string of the form: {@code preamble <option> value <option> value ...}
      * @param options   Options to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps options to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Option... options) {
-        // Add a space at the end to avoid skipping last option without value, e.g. "-t smart -t"
-        List<OptionPosition> positions = findAllOptionPositions(argsString + " ", options);
-        return extractArguments(argsString + " ", positions);
+        return new ArgumentTokenizer(options).tokenizeArgs(argsString);
     }
 
     /**
-     * Finds all zero-based option positions in the given arguments string.
+     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps the options of this
+     * tokenizer to their respective argument values.
+     * An option is recognized only if it is preceded by a space and followed by a space or the end of the string.
      *
      * @param argsString Arguments string of the form: {@code preamble <option> value <option> value ...}
-     * @param options   Options to find in the arguments string
-     * @return          List of zero-based option positions in the given arguments string
+     * @return           ArgumentMultimap object that maps options to their arguments
      */
-    private static List<OptionPosition> findAllOptionPositions(String argsString, Option... options) {
-        return Arrays.stream(options)
-                .flatMap(option -> findOptionPositions(argsString, option).stream())
-                .collect(Collectors.toList());
-    }
+    public ArgumentMultimap tokenizeArgs(String argsString) {
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        int length = argsString.length();
+        Option currentOption = PREAMBLE_OPTION;
+        int valueStart = 0;
+
+        int i = 0;
+        while (i < length) {
+            if (argsString.charAt(i) != ' ') {
+                i++;
+                continue;
+            }
 
-    /**
-     * {@see findAllOptionPositions}
-     */
-    private static List<OptionPosition> findOptionPositions(String argsString, Option option) {
-        List<OptionPosition> positions = new ArrayList<>();
-
-        // find long name
-        String longName = option.getLongName();
-        int longNamePosition = findOptionPosition(argsString, longName, 0);
-        while (longNamePosition != -1) {
-            OptionPosition extendedOption = new OptionPosition(option, longNamePosition, false);
-            positions.add(extendedOption);
-            longNamePosition = findOptionPosition(argsString, longName, longNamePosition);
-        }
+            // Walk the trie along the word after the space, stopping early once no option name can match
+            int optionStart = i + 1;
+            int optionEnd = optionStart;
+            OptionTrieNode node = optionTrie;
+            while (node != null && optionEnd < length && argsString.charAt(optionEnd) != ' ') {
+                node = node.getChild(argsString.charAt(optionEnd));
+                optionEnd++;
+            }
 
-        // find short name (if applicable)
-        if (option.hasShortName()) {
-            String shortName = option.getShortName();
-            int shortNamePosition = findOptionPosition(argsString, shortName, 0);
-            while (shortNamePosition != -1) {
-                OptionPosition extendedOption = new OptionPosition(option, shortNamePosition, true);
-                positions.add(extendedOption);
-                shortNamePosition = findOptionPosition(argsString, shortName, shortNamePosition);
+            // A node is only left non-null at the end of the word
+            if (node != null && node.option != null) {
+                argMultimap.put(currentOption, extractArgumentValue(argsString, valueStart, optionStart));
+                currentOption = node.option;
+                valueStart = optionEnd;
             }
+            i = optionEnd;
         }
 
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code option} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code option}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "-e hi-p 900", {@code option} = "-p" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "-p" with whitespace before it. However, if
-     * {@code argsString} = "-e hi -p 900", {@code option} = "-p" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findOptionPosition(String argsString, String option, int fromIndex) {
-        int optionIndex = argsString.indexOf(" " + option + " ", fromIndex);
-        return optionIndex == -1 ? -1
-                : optionIndex + 1; // +1 as offset for whitespace
+        argMultimap.put(currentOption, extractArgumentValue(argsString, valueStart, length));
+        return argMultimap;
     }
 
     /**
-     * Extracts options and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted options to their respective arguments. Options are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <option> value <option> value ...}
-     * @param optionPositions Zero-based positions of all options in {@code argsString}
-     * @return                ArgumentMultimap object that maps options to their arguments
+     * Returns the trimmed and unescaped value of the argument found between {@code start} and {@code end} of
+     * the arguments string.
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<OptionPosition> optionPositions) {
-
-        // Sort by start position
-        optionPositions.sort((option1, option2) -> option1.getStartPosition() - option2.getStartPosition());
-
-        // Insert a OptionPosition to represent the preamble
-        OptionPosition preambleMarker = new OptionPosition(new Option(""), 0, false);
-        optionPositions.add(0, preambleMarker);
-
-        // Add a dummy OptionPosition to represent the end of the string
-        OptionPosition endPositionMarker = new OptionPosition(new Option(""), argsString.length(), false);
-        optionPositions.add(endPositionMarker);
-
-        // Map options to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < optionPositions.size() - 1; i++) {
-            // Extract and store options and their arguments
-            Option argOption = optionPositions.get(i).getOption();
-            String argValue = extractArgumentValue(argsString, optionPositions.get(i), optionPositions.get(i + 1));
-            argMultimap.put(argOption, argValue);
+    private static String extractArgumentValue(String argsString, int start, int end) {
+        // Trim the same characters as String#trim
+        while (start < end && argsString.charAt(start) <= ' ') {
+            start++;
         }
-
-        return argMultimap;
+        while (end > start && argsString.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return unescape(argsString, start, end);
     }
 
     /**
-     * Returns the trimmed and unescaped value of the argument
-     * in the arguments string specified by {@code currentOptionPosition}.
-     * The end position of the value is determined by {@code nextOptionPosition}.
+     * Unescape special characters e.g. '\' and '-', by dropping a backslash and keeping the character after it.
+     * A backslash at the end of the value or before a line terminator is kept.
      */
-    private static String extractArgumentValue(String argsString,
-                                        OptionPosition currentOptionPosition,
-                                        OptionPosition nextOptionPosition) {
-        Option option = currentOptionPosition.getOption();
-
-        int optionLength = currentOptionPosition.isShortHand()
-                ? option.getShortNameLength()
-                : option.getLongNameLength();
-
-        int valueStartPos = currentOptionPosition.getStartPosition() + optionLength;
-        String value = argsString.substring(valueStartPos, nextOptionPosition.getStartPosition());
+    private static String unescape(String input, int start, int end) {
+        int firstBackslash = start;
+        while (firstBackslash < end && input.charAt(firstBackslash) != '\\') {
+            firstBackslash++;
+        }
+        if (firstBackslash == end) {
+            return input.substring(start, end);
+        }
 
-        return unescape(value.trim());
+        StringBuilder unescapedInput = new StringBuilder(end - start);
+        unescapedInput.append(input, start, firstBackslash);
+        for (int i = firstBackslash; i < end; i++) {
+            char c = input.charAt(i);
+            if (c == '\\' && i + 1 < end && !isLineTerminator(input.charAt(i + 1))) {
+                c = input.charAt(++i);
+            }
+            unescapedInput.append(c);
+        }
+        return unescapedInput.toString();
     }
 
-    /**
-     * Unescape special characters e.g. '\' and '-'.
-     */
-    private static String unescape(String input) {
-        // Use regular expression to unescape backslash and hyphen
-        String unescapedInput = input.replaceAll("\\\\(.)", "$1");
-        return unescapedInput;
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
     }
 
     /**
-     * Represents a option's position in an arguments string.
+     * Represents a node of the trie of option names, which holds the option whose name ends at this node, if any.
      */
-    private static class OptionPosition {
-        private final int startPosition;
-        private final Option option;
-        private final boolean isShortHand;
-
-        OptionPosition(Option option, int startPosition, boolean isShortHand) {
-            this.option = option;
-            this.startPosition = startPosition;
-            this.isShortHand = isShortHand;
-        }
-
-        int getStartPosition() {
-            return startPosition;
+    private static class OptionTrieNode {
+        private char[] keys = new char[0];
+        private OptionTrieNode[] children = new OptionTrieNode[0];
+        private Option option;
+
+        void addOptionName(String name, Option option) {
+            if (name.isEmpty()) {
+                return;
+            }
+            OptionTrieNode node = this;
+            for (int i = 0; i < name.length(); i++) {
+                node = node.getOrAddChild(name.charAt(i));
+            }
+            if (node.option == null) {
+                node.option = option;
+            }
         }
 
-        Option getOption() {
-            return option;
+        OptionTrieNode getChild(char key) {
+            // Nodes have few children, so a linear scan beats hashing a boxed character
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
         }
 
-        boolean isShortHand() {
-            return isShortHand;
+        private OptionTrieNode getOrAddChild(char key) {
+            OptionTrieNode child = getChild(key);
+            if (child == null) {
+                child = new OptionTrieNode();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+            }
+            return child;
         }
     }
 
@@ -44,7 +44,7 @@ public class ChangeDirectoryCommandParser implements Parser<ChangeDirectoryComma
 
         AbsolutePath targetPath = ParserUtil.resolvePath(currPath, preamble);
 
-        logger.finer("Created ChangeDirectoryCommand with dest: " + targetPath.toString());
+        logger.finer(() -> "Created ChangeDirectoryCommand with dest: " + targetPath.toString());
 
         return new ChangeDirectoryCommand(targetPath);
     }
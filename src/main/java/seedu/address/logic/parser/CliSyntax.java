@@ -15,5 +15,7 @@ public class CliSyntax {
     public static final Option OPTION_DESC = new Option("--desc", "-d");
     public static final Option OPTION_DATETIME = new Option("--datetime", "-dt");
     public static final Option OPTION_ALL = new Option("--all", "-al");
+    public static final Option OPTION_DAYS = new Option("--days", "-dy");
+    public static final Option OPTION_OVERDUE = new Option("--overdue", "-o");
     public static final Option OPTION_HELP = new Option("--help", "-h");
 }
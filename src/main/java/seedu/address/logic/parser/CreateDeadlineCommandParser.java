@@ -21,6 +21,7 @@ import seedu.address.model.task.Deadline;
  */
 public class CreateDeadlineCommandParser implements Parser<CreateDeadlineCommand> {
     private static final Logger logger = LogsCenter.getLogger(CreateDeadlineCommandParser.class);
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(OPTION_DESC, OPTION_DATETIME, OPTION_ALL);
 
     /**
      * Parses the given {@code String} of arguments in the context of the CreateDeadlineCommand
@@ -39,7 +40,7 @@ public class CreateDeadlineCommandParser implements Parser<CreateDeadlineCommand
 
         ParserUtil.verifyAllOptionsValid(args, OPTION_DESC, OPTION_DATETIME, OPTION_ALL);
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, OPTION_DESC, OPTION_DATETIME, OPTION_ALL);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         // Check if compulsory arguments are given
         if (!ParserUtil.areOptionsPresent(argMultimap, OPTION_DESC, OPTION_DATETIME)) {
@@ -63,7 +64,8 @@ public class CreateDeadlineCommandParser implements Parser<CreateDeadlineCommand
 
         Category category = ParserUtil.parseCategory(argMultimap.getValue(OPTION_ALL).get());
 
-        logger.finer("Created CreateDeadlineCommand with target path: " + fullTargetPath + ", deadline: " + deadline);
+        logger.finer(() -> "Created CreateDeadlineCommand with target path: " + fullTargetPath
+                + ", deadline: " + deadline);
 
         return new CreateDeadlineCommand(fullTargetPath, deadline, category);
     }
@@ -20,6 +20,7 @@ import seedu.address.model.profbook.Name;
  */
 public class CreateGroupCommandParser implements Parser<CreateGroupCommand> {
     private static final Logger logger = LogsCenter.getLogger(CreateGroupCommandParser.class);
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(OPTION_NAME);
     private static final String INVALID_PATH_MESSAGE = "Destination path provided is not a group directory.";
 
     /**
@@ -39,7 +40,7 @@ public class CreateGroupCommandParser implements Parser<CreateGroupCommand> {
 
         ParserUtil.verifyAllOptionsValid(args, OPTION_NAME);
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, OPTION_NAME);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         // Check if compulsory arguments are given
         if (!ParserUtil.areOptionsPresent(argMultimap, OPTION_NAME) || argMultimap.getPreamble().isEmpty()) {
@@ -59,7 +60,7 @@ public class CreateGroupCommandParser implements Parser<CreateGroupCommand> {
         GroupId id = ParserUtil.parseGroupId(targetPath);
         Group group = new Group(name, id);
 
-        logger.finer("Created CreateGroupCommand with target path: " + targetPath + ", group: " + group);
+        logger.finer(() -> "Created CreateGroupCommand with target path: " + targetPath + ", group: " + group);
 
         return new CreateGroupCommand(targetPath, group);
     }
@@ -26,6 +26,8 @@ import seedu.address.model.profbook.Student;
  */
 public class CreateStudentCommandParser implements Parser<CreateStudentCommand> {
     private static final Logger logger = LogsCenter.getLogger(CreateStudentCommandParser.class);
+    private static final ArgumentTokenizer TOKENIZER =
+            new ArgumentTokenizer(OPTION_NAME, OPTION_PHONE, OPTION_EMAIL, OPTION_ADDRESS);
     private static final String INVALID_PATH_MESSAGE = "Destination path provided is not a student directory.";
 
     /**
@@ -45,8 +47,7 @@ public class CreateStudentCommandParser implements Parser<CreateStudentCommand>
 
         ParserUtil.verifyAllOptionsValid(args, OPTION_NAME, OPTION_PHONE, OPTION_EMAIL, OPTION_ADDRESS);
 
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, OPTION_NAME, OPTION_PHONE, OPTION_EMAIL, OPTION_ADDRESS);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         if (!ParserUtil.areOptionsPresent(argMultimap, OPTION_NAME) || argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(MESSAGE_MISSING_ARGUMENT.apply(COMMAND_WORD));
@@ -62,7 +63,7 @@ public class CreateStudentCommandParser implements Parser<CreateStudentCommand>
 
         Student student = parseStudent(argMultimap, targetPath);
 
-        logger.finer("Created CreateStudentCommand with target path: " + targetPath + ", student: " + student);
+        logger.finer(() -> "Created CreateStudentCommand with target path: " + targetPath + ", student: " + student);
 
         return new CreateStudentCommand(targetPath, student);
     }
@@ -20,6 +20,7 @@ import seedu.address.model.task.ToDo;
  */
 public class CreateTodoCommandParser implements Parser<CreateTodoCommand> {
     private static final Logger logger = LogsCenter.getLogger(CreateTodoCommandParser.class);
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(OPTION_DESC, OPTION_ALL);
 
     /**
      * Parses the given {@code String} of arguments in the context of the CreateTodoCommand
@@ -38,7 +39,7 @@ public class CreateTodoCommandParser implements Parser<CreateTodoCommand> {
 
         ParserUtil.verifyAllOptionsValid(args, OPTION_DESC, OPTION_ALL);
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, OPTION_DESC, OPTION_ALL);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         if (!ParserUtil.areOptionsPresent(argMultimap, OPTION_DESC)) {
             throw new ParseException(MESSAGE_MISSING_ARGUMENT.apply(COMMAND_WORD));
@@ -60,7 +61,7 @@ public class CreateTodoCommandParser implements Parser<CreateTodoCommand> {
 
         Category category = ParserUtil.parseCategory(argMultimap.getValue(OPTION_ALL).get());
 
-        logger.finer("Created CreateTodoCommand with target path: " + fullTargetPath + ", todo: " + todo);
+        logger.finer(() -> "Created CreateTodoCommand with target path: " + fullTargetPath + ", todo: " + todo);
 
         return new CreateTodoCommand(fullTargetPath, todo, category);
     }
@@ -44,7 +44,7 @@ public class DeleteForStudentsAndGroupsCommandParser implements Parser<DeleteFor
 
         AbsolutePath targetPath = ParserUtil.resolvePath(currPath, preamble);
 
-        logger.finer("Created DeleteForStudentsAndGroupsCommand with target: " + targetPath);
+        logger.finer(() -> "Created DeleteForStudentsAndGroupsCommand with target: " + targetPath);
 
         return new DeleteForStudentsAndGroupsCommand(targetPath);
     }
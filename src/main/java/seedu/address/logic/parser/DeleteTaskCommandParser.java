@@ -43,7 +43,7 @@ public class DeleteTaskCommandParser implements Parser<DeleteTaskCommand> {
 
         Index index = ParserUtil.parseIndex(args);
 
-        logger.finer("Created DeleteTaskCommnd with index (one-based): " + index.getOneBased());
+        logger.finer(() -> "Created DeleteTaskCommnd with index (one-based): " + index.getOneBased());
 
         return new DeleteTaskCommand(index);
     }
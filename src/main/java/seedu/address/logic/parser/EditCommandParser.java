@@ -21,6 +21,9 @@ import seedu.address.model.path.AbsolutePath;
  */
 public class EditCommandParser implements Parser<EditCommand> {
     private static final Logger logger = LogsCenter.getLogger(EditCommandParser.class);
+    private static final ArgumentTokenizer STUDENT_TOKENIZER =
+            new ArgumentTokenizer(OPTION_NAME, OPTION_PHONE, OPTION_EMAIL, OPTION_ADDRESS, OPTION_ID);
+    private static final ArgumentTokenizer GROUP_TOKENIZER = new ArgumentTokenizer(OPTION_NAME, OPTION_ID);
 
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
@@ -58,9 +61,7 @@ public class EditCommandParser implements Parser<EditCommand> {
         ParserUtil.verifyAllOptionsValid(args,
                 OPTION_NAME, OPTION_PHONE, OPTION_EMAIL, OPTION_ADDRESS, OPTION_ID);
 
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args,
-                        OPTION_NAME, OPTION_PHONE, OPTION_EMAIL, OPTION_ADDRESS, OPTION_ID);
+        ArgumentMultimap argMultimap = STUDENT_TOKENIZER.tokenizeArgs(args);
 
         argMultimap.verifyNoDuplicateOptionsFor(OPTION_NAME, OPTION_PHONE, OPTION_EMAIL, OPTION_ADDRESS, OPTION_ID);
 
@@ -69,7 +70,7 @@ public class EditCommandParser implements Parser<EditCommand> {
             throw new ParseException(EditCommand.MESSAGE_NOT_EDITED);
         }
 
-        logger.finer("Created EditCommand (Student) with target path: " + target
+        logger.finer(() -> "Created EditCommand (Student) with target path: " + target
                 + ", descriptor: " + editStudentDescriptor);
 
         return new EditCommand(target, editStudentDescriptor);
@@ -78,8 +79,7 @@ public class EditCommandParser implements Parser<EditCommand> {
     private EditCommand parseEditGroup(String args, AbsolutePath target) throws ParseException {
         ParserUtil.verifyAllOptionsValid(args, OPTION_NAME, OPTION_ID);
 
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, OPTION_NAME, OPTION_ID);
+        ArgumentMultimap argMultimap = GROUP_TOKENIZER.tokenizeArgs(args);
 
         argMultimap.verifyNoDuplicateOptionsFor(OPTION_NAME, OPTION_ID);
 
@@ -88,7 +88,7 @@ public class EditCommandParser implements Parser<EditCommand> {
             throw new ParseException(EditCommand.MESSAGE_NOT_EDITED);
         }
 
-        logger.finer("Created EditCommand (Group) with target path: " + target
+        logger.finer(() -> "Created EditCommand (Group) with target path: " + target
                 + ", descriptor: " + editGroupDescriptor);
 
         return new EditCommand(target, editGroupDescriptor);
@@ -43,7 +43,7 @@ public class MarkCommandParser implements Parser<MarkCommand> {
 
         Index index = ParserUtil.parseIndex(preamble);
 
-        logger.finer("Created MarkCommand with index (one-based): " + index.getOneBased());
+        logger.finer(() -> "Created MarkCommand with index (one-based): " + index.getOneBased());
 
         return new MarkCommand(index);
     }
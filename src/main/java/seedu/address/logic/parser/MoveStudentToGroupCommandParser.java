@@ -2,9 +2,10 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.Messages.MESSAGE_MISSING_ARGUMENT;
-import static seedu.address.logic.Messages.MESSAGE_TOO_MANY_ARGUMENTS;
 import static seedu.address.logic.commands.MoveStudentToGroupCommand.COMMAND_WORD;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -41,23 +42,23 @@ public class MoveStudentToGroupCommandParser implements Parser<MoveStudentToGrou
             throw new ParseException(MESSAGE_MISSING_ARGUMENT.apply(COMMAND_WORD));
         }
 
-        String[] paths = preamble.split(" ");
+        String[] paths = preamble.trim().split("\\s+");
 
         if (paths.length < 2) {
             throw new ParseException(MESSAGE_MISSING_ARGUMENT.apply(COMMAND_WORD));
         }
 
-        if (paths.length > 2) {
-            throw new ParseException(MESSAGE_TOO_MANY_ARGUMENTS.apply(COMMAND_WORD));
+        // The last path is the destination, and all paths before it are students to move
+        List<AbsolutePath> absoluteSources = new ArrayList<>();
+        for (int i = 0; i < paths.length - 1; i++) {
+            absoluteSources.add(ParserUtil.resolvePath(currPath, paths[i]));
         }
 
-        AbsolutePath absoluteSource = ParserUtil.resolvePath(currPath, paths[0]);
+        AbsolutePath absoluteDest = ParserUtil.resolvePath(currPath, paths[paths.length - 1]);
 
-        AbsolutePath absoluteDest = ParserUtil.resolvePath(currPath, paths[1]);
-
-        logger.finer("Created MoveStudentToGroupCommand with source path: " + absoluteSource
+        logger.finer(() -> "Created MoveStudentToGroupCommand with source paths: " + absoluteSources
                 + ", dest path: " + absoluteDest);
 
-        return new MoveStudentToGroupCommand(absoluteSource, absoluteDest);
+        return MoveStudentToGroupCommand.of(absoluteSources, absoluteDest);
     }
 }
@@ -46,6 +46,9 @@ public class ParserUtil {
     public static final String MESSAGE_STUDENT_ID_NOT_FOUND = "No student id found in the path.";
     public static final String MESSAGE_GROUP_ID_NOT_FOUND = "No group id found in the path.";
     public static final String MESSAGE_INVALID_CATEGORY_FORMAT = "Format is invalid. Should be allStu or allGrp";
+    public static final int MAX_DAYS = 36500;
+    public static final String MESSAGE_INVALID_DAYS =
+            "Number of days provided is not a non-zero unsigned integer of at most " + MAX_DAYS + ".";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -60,6 +63,19 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code days} into a number of days and returns it. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the specified number of days is invalid (not non-zero unsigned integer or too large).
+     */
+    public static int parseDays(String days) throws ParseException {
+        String trimmedDays = days.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedDays) || Integer.parseInt(trimmedDays) > MAX_DAYS) {
+            throw new ParseException(MESSAGE_INVALID_DAYS);
+        }
+        return Integer.parseInt(trimmedDays);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
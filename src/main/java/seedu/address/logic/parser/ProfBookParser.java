@@ -23,8 +23,12 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.MarkCommand;
 import seedu.address.logic.commands.MoveStudentToGroupCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.ShowChildrenListCommand;
+import seedu.address.logic.commands.ShowDeadlinesCommand;
 import seedu.address.logic.commands.ShowTaskListCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UnmarkCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.path.AbsolutePath;
@@ -60,9 +64,13 @@ public class ProfBookParser {
         commandParsers.put(DeleteTaskCommand.COMMAND_WORD, new DeleteTaskCommandParser());
         commandParsers.put(MarkCommand.COMMAND_WORD, new MarkCommandParser());
         commandParsers.put(UnmarkCommand.COMMAND_WORD, new UnmarkCommandParser());
+        commandParsers.put(SearchCommand.COMMAND_WORD, new SearchCommandParser());
+        commandParsers.put(ShowDeadlinesCommand.COMMAND_WORD, new ShowDeadlinesCommandParser());
         commandsWithoutParser.put(HelpCommand.COMMAND_WORD, new HelpCommand());
         commandsWithoutParser.put(ExitCommand.COMMAND_WORD, new ExitCommand());
         commandsWithoutParser.put(ClearCommand.COMMAND_WORD, new ClearCommand());
+        commandsWithoutParser.put(UndoCommand.COMMAND_WORD, new UndoCommand());
+        commandsWithoutParser.put(RedoCommand.COMMAND_WORD, new RedoCommand());
     }
 
     /**
@@ -85,7 +93,7 @@ public class ProfBookParser {
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
         if (commandParsers.containsKey(commandWord)) {
             return commandParsers.get(commandWord).parse(arguments, currPath);
@@ -95,7 +103,7 @@ public class ProfBookParser {
             return commandsWithoutParser.get(commandWord);
         }
 
-        logger.finer("This user input caused a ParseException: " + userInput);
+        logger.finer(() -> "This user input caused a ParseException: " + userInput);
         throw new ParseException(String.format(MESSAGE_UNKNOWN_COMMAND, HelpCommand.MESSAGE_USAGE));
     }
 
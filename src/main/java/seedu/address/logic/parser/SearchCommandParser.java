@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.Messages.MESSAGE_MISSING_ARGUMENT;
+import static seedu.address.logic.commands.SearchCommand.COMMAND_WORD;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.path.AbsolutePath;
+
+/**
+ * Parses input arguments and creates a new SearchCommand object.
+ */
+public class SearchCommandParser implements Parser<SearchCommand> {
+    private static final Logger logger = LogsCenter.getLogger(SearchCommandParser.class);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchCommand
+     * and returns a SearchCommand object that searches under the current path.
+     *
+     * @param args The user input string.
+     * @param currPath The current path of the application.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SearchCommand parse(String args, AbsolutePath currPath) throws ParseException {
+        requireAllNonNull(args, currPath);
+
+        if (ParserUtil.hasHelpOption(args)) {
+            return SearchCommand.HELP_MESSAGE;
+        }
+
+        ParserUtil.verifyNoOption(args, COMMAND_WORD);
+
+        String query = ArgumentTokenizer.extractPreamble(args);
+
+        if (query.isEmpty()) {
+            throw new ParseException(MESSAGE_MISSING_ARGUMENT.apply(COMMAND_WORD));
+        }
+
+        logger.finer(() -> "Created SearchCommand for \"" + query + "\" under: " + currPath);
+
+        return new SearchCommand(currPath, query);
+    }
+}
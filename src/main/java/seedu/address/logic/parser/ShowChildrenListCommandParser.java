@@ -37,13 +37,13 @@ public class ShowChildrenListCommandParser implements Parser<ShowChildrenListCom
         String preamble = ArgumentTokenizer.extractPreamble(args);
 
         if (preamble.isEmpty()) {
-            logger.finer("Created ShowChildrenListCommand with target path: " + currPath);
+            logger.finer(() -> "Created ShowChildrenListCommand with target path: " + currPath);
             return new ShowChildrenListCommand();
         }
 
         AbsolutePath target = ParserUtil.resolvePath(currPath, preamble);
 
-        logger.finer("Created ShowChildrenListCommand with target path: " + target);
+        logger.finer(() -> "Created ShowChildrenListCommand with target path: " + target);
 
         return new ShowChildrenListCommand(target);
     }
@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.OPTION_DAYS;
+import static seedu.address.logic.parser.CliSyntax.OPTION_OVERDUE;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.ShowDeadlinesCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.path.AbsolutePath;
+
+/**
+ * Parses input arguments and creates a new ShowDeadlinesCommand object.
+ */
+public class ShowDeadlinesCommandParser implements Parser<ShowDeadlinesCommand> {
+    public static final String MESSAGE_DAYS_WITH_OVERDUE = "Options --days and --overdue cannot be used together.";
+    private static final Logger logger = LogsCenter.getLogger(ShowDeadlinesCommandParser.class);
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(OPTION_DAYS, OPTION_OVERDUE);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ShowDeadlinesCommand
+     * and returns a ShowDeadlinesCommand object for execution.
+     *
+     * @param args The user input string.
+     * @param currPath The current path of the application.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ShowDeadlinesCommand parse(String args, AbsolutePath currPath) throws ParseException {
+        requireAllNonNull(args, currPath);
+
+        if (ParserUtil.hasHelpOption(args)) {
+            return ShowDeadlinesCommand.HELP_MESSAGE;
+        }
+
+        ParserUtil.verifyAllOptionsValid(args, OPTION_DAYS, OPTION_OVERDUE);
+
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
+
+        argMultimap.verifyNoDuplicateOptionsFor(OPTION_DAYS, OPTION_OVERDUE);
+
+        boolean isOverdue = ParserUtil.isOptionPresent(argMultimap, OPTION_OVERDUE);
+        if (isOverdue && ParserUtil.isOptionPresent(argMultimap, OPTION_DAYS)) {
+            throw new ParseException(MESSAGE_DAYS_WITH_OVERDUE);
+        }
+
+        int days = ParserUtil.isOptionPresent(argMultimap, OPTION_DAYS)
+                ? ParserUtil.parseDays(argMultimap.getValue(OPTION_DAYS).get())
+                : ShowDeadlinesCommand.DEFAULT_DAYS;
+
+        // If no path given, default to current path.
+        AbsolutePath target = argMultimap.getPreamble().isEmpty()
+                ? currPath
+                : ParserUtil.resolvePath(currPath, argMultimap.getPreamble());
+
+        logger.finer(() -> "Created ShowDeadlinesCommand with target path: " + target);
+
+        return new ShowDeadlinesCommand(target, days, isOverdue);
+    }
+}
@@ -37,13 +37,13 @@ public class ShowTaskListCommandParser implements Parser<ShowTaskListCommand> {
         String preamble = ArgumentTokenizer.extractPreamble(args);
 
         if (preamble.isEmpty()) {
-            logger.finer("Created ShowTaskListCommand with target path: " + currPath);
+            logger.finer(() -> "Created ShowTaskListCommand with target path: " + currPath);
             return new ShowTaskListCommand();
         }
 
         AbsolutePath target = ParserUtil.resolvePath(currPath, preamble);
 
-        logger.finer("Created ShowTaskListCommand with target path: " + target);
+        logger.finer(() -> "Created ShowTaskListCommand with target path: " + target);
 
         return new ShowTaskListCommand(target);
     }
@@ -43,7 +43,7 @@ public class UnmarkCommandParser implements Parser<UnmarkCommand> {
 
         Index index = ParserUtil.parseIndex(preamble);
 
-        logger.finer("Created UnmarkCommand with index (one-based): " + index.getOneBased());
+        logger.finer(() -> "Created UnmarkCommand with index (one-based): " + index.getOneBased());
 
         return new UnmarkCommand(index);
     }
@@ -0,0 +1,73 @@
+package seedu.address.model;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the outcome of adding a task to all children at a level, with the number of children visited and the
+ * number of them that already had the task and were left unchanged.
+ */
+public class AddTaskToChildrenResult {
+    private final int numOfChildren;
+    private final int numOfChildrenWithTask;
+
+    /**
+     * Constructs an {@code AddTaskToChildrenResult} for {@code numOfChildren} children, of which
+     * {@code numOfChildrenWithTask} already had the task.
+     */
+    public AddTaskToChildrenResult(int numOfChildren, int numOfChildrenWithTask) {
+        assert numOfChildrenWithTask >= 0 && numOfChildrenWithTask <= numOfChildren;
+        this.numOfChildren = numOfChildren;
+        this.numOfChildrenWithTask = numOfChildrenWithTask;
+    }
+
+    public int getNumOfChildren() {
+        return numOfChildren;
+    }
+
+    public int getNumOfChildrenWithTask() {
+        return numOfChildrenWithTask;
+    }
+
+    /**
+     * Returns true if the task was added to at least one child.
+     */
+    public boolean isAddedToAny() {
+        return numOfChildrenWithTask < numOfChildren;
+    }
+
+    /**
+     * Returns true if at least one child already had the task.
+     */
+    public boolean hasChildrenWithTask() {
+        return numOfChildrenWithTask > 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddTaskToChildrenResult)) {
+            return false;
+        }
+
+        AddTaskToChildrenResult otherResult = (AddTaskToChildrenResult) other;
+        return numOfChildren == otherResult.numOfChildren
+                && numOfChildrenWithTask == otherResult.numOfChildrenWithTask;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * numOfChildren + numOfChildrenWithTask;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("numOfChildren", numOfChildren)
+                .add("numOfChildrenWithTask", numOfChildrenWithTask)
+                .toString();
+    }
+}
@@ -1,10 +1,13 @@
 //@@author mingyuanc
 package seedu.address.model;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.field.EditDescriptor;
@@ -13,10 +16,17 @@ import seedu.address.model.profbook.ChildAndTaskListManager;
 import seedu.address.model.profbook.IChildElement;
 import seedu.address.model.profbook.IChildManager;
 import seedu.address.model.task.ITaskListManager;
+import seedu.address.model.task.IndexedTaskList;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskListManager;
 
 /**
  * Encapsulates the logic to perform a generic child operation for child manager
+ * <p>
+ * Adding a task to many children, such as every student in ProfBook, builds the new task lists of the children
+ * of each group on the common {@code ForkJoinPool} once there are at least {@link #getParallelThreshold()}
+ * children. Building them does not change anything, as task lists are persistent, and the new lists are then
+ * put in place on the calling thread, so that transactions of the calling thread record every change.
  *
  * @param <T> The type of child that is required
  */
@@ -24,6 +34,9 @@ public class ChildOperation<T extends IChildElement<T>> implements IChildOperati
     public static final String MESSAGE_ALL_CHILDREN_MUST_BE_TASK_LIST_MANAGER =
             "All children must be task list manager.";
     public static final String MESSAGE_INVALID_LEVEL = "Invalid level.";
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 10000;
+
+    private static volatile int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
 
     private final IChildManager<T> baseDir;
 
@@ -33,6 +46,21 @@ public class ChildOperation<T extends IChildElement<T>> implements IChildOperati
         this.baseDir = baseDir;
     }
 
+    /**
+     * Returns the number of children from which a task is added to the children of different groups in parallel.
+     */
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Sets the number of children from which a task is added to the children of different groups in parallel.
+     */
+    public static void setParallelThreshold(int threshold) {
+        checkArgument(threshold > 0, "Parallel threshold must be positive.");
+        parallelThreshold = threshold;
+    }
+
     @Override
     public void addChild(Id id, T child) {
         this.baseDir.addChild(id, child);
@@ -45,7 +73,7 @@ public class ChildOperation<T extends IChildElement<T>> implements IChildOperati
 
     @Override
     public T deleteChild(Id id) {
-        this.logger.info("deleting" + id.toString());
+        this.logger.finer(() -> "Deleting " + id);
         return this.baseDir.deleteChild(id);
     }
 
@@ -56,20 +84,42 @@ public class ChildOperation<T extends IChildElement<T>> implements IChildOperati
 
     @Override
     public T getChild(Id id) {
-        this.logger.info("getting" + id.toString());
+        this.logger.finer(() -> "Getting " + id);
         return this.baseDir.getChild(id);
     }
 
     @Override
     public void updateChild(Id id, T child) {
-        this.baseDir.deleteChild(id);
-        this.baseDir.addChild(child.getId(), child);
+        this.baseDir.replaceChild(id, child);
+    }
+
+    @Override
+    public List<T> moveChildrenTo(List<? extends Id> ids, IChildOperation<T> destination) {
+        List<T> children = new ArrayList<>(ids.size());
+        for (Id id : ids) {
+            children.add(this.baseDir.getChild(id));
+        }
+        // Added before being deleted, so that nothing is deleted if any of them cannot be added
+        destination.addChildren(children);
+        this.baseDir.deleteChildren(ids);
+        this.logger.fine(() -> "Moved " + children.size() + " children");
+        return children;
+    }
+
+    @Override
+    public void addChildren(List<T> children) {
+        this.baseDir.addChildren(children);
+    }
+
+    @Override
+    public List<T> deleteChildren(List<? extends Id> ids) {
+        return this.baseDir.deleteChildren(ids);
     }
 
     @Override
     public List<T> getAllChildren() {
-        this.logger.info("getting all child");
-        return new ArrayList<>(this.baseDir.getAllChildren());
+        this.logger.finer("Getting all children");
+        return this.baseDir.getAllChildren();
     }
 
     @Override
@@ -119,24 +169,59 @@ public class ChildOperation<T extends IChildElement<T>> implements IChildOperati
     }
 
     @Override
-    public void addTaskToAllChildren(Task task, int level) {
-        List<IChildElement<?>> children = getAllTaskListManagerChildrenAtLevel(level);
+    public AddTaskToChildrenResult addTaskToAllChildren(Task task, int level) {
+        List<List<TaskListManager>> groupedManagers = new ArrayList<>();
+        for (List<IChildElement<?>> children : getChildrenAtLevelByParent(level)) {
+            groupedManagers.add(toTaskListManagers(children));
+        }
+        int numOfChildren = groupedManagers.stream().mapToInt(List::size).sum();
+
+        // Only the new task lists are built in parallel, as the changes must be recorded on this thread
+        boolean isParallel = groupedManagers.size() > 1 && numOfChildren >= parallelThreshold;
+        List<List<IndexedTaskList>> groupedTaskLists = (isParallel ? groupedManagers.parallelStream()
+                : groupedManagers.stream())
+                .map(managers -> plusCopyIfAbsent(managers, task))
+                .collect(Collectors.toList());
+
+        int numOfChildrenWithTask = 0;
+        for (int i = 0; i < groupedManagers.size(); i++) {
+            List<TaskListManager> managers = groupedManagers.get(i);
+            List<IndexedTaskList> taskLists = groupedTaskLists.get(i);
+            for (int j = 0; j < managers.size(); j++) {
+                if (taskLists.get(j) == null) {
+                    numOfChildrenWithTask++;
+                } else {
+                    managers.get(j).setTaskList(taskLists.get(j));
+                }
+            }
+        }
+        int numOfChildrenAdded = numOfChildren - numOfChildrenWithTask;
+        this.logger.fine(() -> "Added task to " + numOfChildrenAdded + " of " + numOfChildren
+                + (isParallel ? " children in parallel" : " children"));
+        return new AddTaskToChildrenResult(numOfChildren, numOfChildrenWithTask);
+    }
 
-        for (IChildElement<?> child : children) {
-            Task clonedTask = task.clone();
+    private static List<IndexedTaskList> plusCopyIfAbsent(List<TaskListManager> managers, Task task) {
+        List<IndexedTaskList> taskLists = new ArrayList<>(managers.size());
+        for (TaskListManager manager : managers) {
+            taskLists.add(manager.plusCopyIfAbsent(task));
+        }
+        return taskLists;
+    }
 
-            //Defensive programming - check if getAllTaskListManagerChildrenAtLevel works as expected
-            if (!(child instanceof ITaskListManager)) {
+    private static List<TaskListManager> toTaskListManagers(List<IChildElement<?>> children) {
+        List<TaskListManager> managers = new ArrayList<>(children.size());
+        for (IChildElement<?> child : children) {
+            if (child instanceof TaskListManager) { // If child is a student directory
+                managers.add((TaskListManager) child);
+            } else if (child instanceof ChildAndTaskListManager<?, ?>) { // If child is a group directory
+                // Getting the task list manager also loads the group if it is loaded lazily
+                managers.add(((ChildAndTaskListManager<?, ?>) child).getTaskListManager());
+            } else {
                 throw new IllegalArgumentException(MESSAGE_ALL_CHILDREN_MUST_BE_TASK_LIST_MANAGER);
             }
-
-            // Type casting is safe as we checked earlier
-            ITaskListManager taskListManager = (ITaskListManager) child;
-            if (taskListManager.contains(task)) {
-                continue;
-            }
-            taskListManager.addTask(clonedTask);
         }
+        return managers;
     }
 
 
@@ -158,23 +243,34 @@ public class ChildOperation<T extends IChildElement<T>> implements IChildOperati
     }
 
     private List<IChildElement<?>> getAllTaskListManagerChildrenAtLevel(int level) {
-        List<IChildElement<?>> children = new ArrayList<>(getAllChildren());
-        while (--level > 0) {
-            List<IChildElement<?>> list = new ArrayList<>();
-
-            for (IChildElement<?> child : children) {
-
-                if (child instanceof ChildAndTaskListManager<?, ?>) { // If child is a group directory
-                    ChildAndTaskListManager<?, ?> childrenAndTaskListManager =
-                            (ChildAndTaskListManager<?, ?>) child; // type casting is safe as we checked earlier
-                    list.addAll(childrenAndTaskListManager.getAllChildren());
-                } else { // If child is a student directory
-                    throw new IllegalArgumentException(MESSAGE_INVALID_LEVEL); // Student does not have any child
+        List<IChildElement<?>> children = new ArrayList<>();
+        for (List<IChildElement<?>> siblings : getChildrenAtLevelByParent(level)) {
+            children.addAll(siblings);
+        }
+        return children;
+    }
+
+    /**
+     * Returns the children at {@code level}, with the children of each parent in a list of their own.
+     */
+    private List<List<IChildElement<?>>> getChildrenAtLevelByParent(int level) {
+        List<List<IChildElement<?>>> childrenByParent = List.of(new ArrayList<>(getAllChildren()));
+        for (int i = 1; i < level; i++) {
+            List<List<IChildElement<?>>> grandchildrenByParent = new ArrayList<>();
+
+            for (List<IChildElement<?>> children : childrenByParent) {
+                for (IChildElement<?> child : children) {
+                    if (child instanceof ChildAndTaskListManager<?, ?>) { // If child is a group directory
+                        ChildAndTaskListManager<?, ?> childrenAndTaskListManager =
+                                (ChildAndTaskListManager<?, ?>) child; // type casting is safe as we checked earlier
+                        grandchildrenByParent.add(new ArrayList<>(childrenAndTaskListManager.getAllChildren()));
+                    } else { // If child is a student directory
+                        throw new IllegalArgumentException(MESSAGE_INVALID_LEVEL); // Student does not have any child
+                    }
                 }
             }
-            children = new ArrayList<>(list);
-            level--;
+            childrenByParent = grandchildrenByParent;
         }
-        return children;
+        return childrenByParent;
     }
 }
@@ -62,7 +62,8 @@ public interface IChildOperation<T extends IChildElement<T>> {
     T getChild(Id id);
 
     /**
-     * Replaces the target child with a new child.
+     * Replaces the target child with a new child, which is stored under its own id.
+     * Target child must exist.
      *
      * @param id    - Unique identifier of the child
      * @param child - The new child to replace old child
@@ -70,17 +71,46 @@ public interface IChildOperation<T extends IChildElement<T>> {
     void updateChild(Id id, T child);
 
     /**
-     * Returns a list of all current children
+     * Moves the children specified by the ids to {@code destination}, keeping the same child objects with their
+     * task lists. Target children must exist, and must not have the same id as any child of {@code destination}.
+     *
+     * @param ids         - Unique identifiers of the children
+     * @param destination - Operation on the manager the children are moved to
+     * @return The moved children, in the order of {@code ids}
+     */
+    List<T> moveChildrenTo(List<? extends Id> ids, IChildOperation<T> destination);
+
+    /**
+     * Adds all of {@code children}, each under its own id.
+     * Ids must not be duplicate.
+     *
+     * @param children - The children in question
+     */
+    void addChildren(List<T> children);
+
+    /**
+     * Deletes the children specified by the ids.
+     * Target children must exist.
      *
-     * @return list of all current children
+     * @param ids - Unique identifiers of the children
+     * @return The deleted children, in the order of {@code ids}
+     */
+    List<T> deleteChildren(List<? extends Id> ids);
+
+    /**
+     * Returns a read-only list of all current children
+     *
+     * @return read-only sorted list of all current children
      */
     List<T> getAllChildren();
 
     /**
-     * Adds a task to children within the hierarchy up to a specified depth level.
+     * Adds a task to children within the hierarchy up to a specified depth level, except those that already have it.
      * e.g. if target is root and level is 2, task will be added to all student
+     *
+     * @return The number of children at the level and the number of them that already had the task.
      */
-    void addTaskToAllChildren(Task task, int level);
+    AddTaskToChildrenResult addTaskToAllChildren(Task task, int level);
 
     /**
      * Returns {@code true} if all children at {@code level} have the task.
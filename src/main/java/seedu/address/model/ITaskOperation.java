@@ -1,8 +1,10 @@
 //@@author mingyuanc
 package seedu.address.model;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import seedu.address.model.profbook.TaskIndex;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.exceptions.NoSuchTaskException;
 
@@ -71,6 +73,25 @@ public interface ITaskOperation {
      */
     List<Task> findTask(String query) throws NoSuchTaskException;
 
+    /**
+     * Searches the tasks of this task list, and of the students under it if this is a group, for tasks with a word
+     * starting with each word of the query, ignoring case.
+     *
+     * @param query - The words to search for
+     * @return The matching tasks and the paths of their task lists
+     */
+    List<TaskIndex.Match> searchTasks(String query);
+
+    /**
+     * Finds the deadlines of this task list, and of the students under it if this is a group, that are not done
+     * and are due from {@code from} until before {@code to}.
+     *
+     * @param from - The earliest due time to find
+     * @param to   - The due time to find deadlines before
+     * @return The matching deadlines and the paths of their task lists, ordered by due time
+     */
+    List<TaskIndex.Match> findDeadlines(LocalDateTime from, LocalDateTime to);
+
     /**
      * Returns the task at the specified index
      *
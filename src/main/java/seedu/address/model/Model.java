@@ -126,6 +126,12 @@ public interface Model {
      */
     void updateList();
 
+    /**
+     * Holds back updates of the display list while {@code isDeferred} is true, so that a batch of commands
+     * updates the display list once. Setting it back to false applies any update held back.
+     */
+    void setListUpdateDeferred(boolean isDeferred);
+
     /**
      * Set the path to be shown on display panel.
      * {@code path} must exist in ProfBook.
@@ -156,6 +162,45 @@ public interface Model {
      */
     void showTaskList();
 
+    //=========== Transactions =============================================================
+
+    /**
+     * Begins a transaction, nested in the transaction in progress if there is one.
+     * Changes made until the transaction is committed or rolled back can be rolled back together.
+     */
+    void beginTransaction();
+
+    /**
+     * Commits the innermost transaction in progress.
+     * Committing the outermost transaction adds its changes to the ProfBook to the undo history.
+     */
+    void commitTransaction();
+
+    /**
+     * Rolls back the innermost transaction in progress, undoing all changes made in it.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Returns true if there is a committed change to undo and no transaction in progress.
+     */
+    boolean canUndo();
+
+    /**
+     * Undoes the latest committed change that is not undone yet.
+     */
+    void undo();
+
+    /**
+     * Returns true if there is an undone change to redo and no transaction in progress.
+     */
+    boolean canRedo();
+
+    /**
+     * Redoes the latest undone change.
+     */
+    void redo();
+
     //=========== Model Management Operation =============================================================
 
     /**
@@ -7,7 +7,9 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INTERNAL_ERROR;
 
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -22,12 +24,14 @@ import seedu.address.model.path.AbsolutePath;
 import seedu.address.model.profbook.Group;
 import seedu.address.model.profbook.Root;
 import seedu.address.model.profbook.Student;
+import seedu.address.model.util.Restorable;
+import seedu.address.model.util.Transaction;
 import seedu.address.ui.Displayable;
 
 /**
  * Represents the in-memory model of the ProfBook data.
  */
-public class ModelManager implements Model {
+public class ModelManager implements Model, Restorable<ModelManager.State> {
     public static final String MESSAGE_GROUP_INFO_NOT_FOUND = "Path must have group information.";
     public static final String MESSAGE_REQUIRE_CHILDREN_MANAGER_PATH = "Path must be children manager.";
     public static final String MESSAGE_GROUP_ID_NOT_FOUND = "Group Id must exist in ProfBook.";
@@ -39,6 +43,10 @@ public class ModelManager implements Model {
     public static final String MESSAGE_STUDENT_NOT_FOUND = "Student must exist in ProfBook.";
     public static final String MESSAGE_STUDENT_ID_NOT_FOUND = "Student Id must exist in ProfBook.";
     public static final String MESSAGE_GROUP_NOT_FOUND = "Group must exist in ProfBook.";
+    public static final String MESSAGE_NO_TRANSACTION = "There must be a transaction in progress.";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There must be a change to undo.";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There must be a change to redo.";
+    public static final int MAX_UNDO_HISTORY_SIZE = 100;
     private static final Logger logger = LogsCenter.getLogger(Model.class);
     private final ObservableList<Displayable> displayList = FXCollections.observableArrayList();
 
@@ -48,6 +56,32 @@ public class ModelManager implements Model {
     private AbsolutePath currentPath;
     private AbsolutePath displayPath;
 
+    /**
+     * The root, display path and display content that the display list was last fully built from
+     */
+    private Root listedRoot = null;
+    private AbsolutePath listedPath = null;
+    private boolean isListedTaskList = false;
+
+    /**
+     * Whether display list updates are held back, and whether an update was held back
+     */
+    private boolean isListUpdateDeferred = false;
+    private boolean hasDeferredListUpdate = false;
+
+    /**
+     * Transactions in progress with the innermost first, and the root and its generation when the outermost began
+     */
+    private final Deque<Transaction> transactions = new ArrayDeque<>();
+    private Root rootBeforeTransaction = null;
+    private long generationBeforeTransaction = 0;
+
+    /**
+     * Committed transactions that changed the ProfBook with the latest first, and the undone ones to redo
+     */
+    private final Deque<Transaction> undoHistory = new ArrayDeque<>();
+    private final Deque<Transaction> redoHistory = new ArrayDeque<>();
+
     /**
      * Constructs a new model manager with no data.
      */
@@ -63,14 +97,27 @@ public class ModelManager implements Model {
      * Construct a model manager with only current path, root (ProfBook) and userPrefs.
      */
     public ModelManager(AbsolutePath currentPath, Root root, ReadOnlyUserPrefs userPrefs) {
+        this(currentPath, root, userPrefs, true);
+    }
+
+    private ModelManager(AbsolutePath currentPath, Root root, ReadOnlyUserPrefs userPrefs, boolean isRootCopied) {
         requireAllNonNull(currentPath, root, userPrefs);
         this.userPrefs = new UserPrefs(userPrefs);
         this.displayPath = currentPath;
         this.currentPath = currentPath;
-        this.root = new Root(root);
+        this.root = isRootCopied ? new Root(root) : root;
         updateList();
     }
 
+    /**
+     * Constructs a model manager that takes over {@code root} instead of copying it.
+     * {@code root} must not be modified through anything else afterwards, which is the case for a root that was
+     * just read from storage.
+     */
+    public static ModelManager withOwnedRoot(AbsolutePath currentPath, Root root, ReadOnlyUserPrefs userPrefs) {
+        return new ModelManager(currentPath, root, userPrefs, false);
+    }
+
     /**
      * Constructs a model manager with all fields.
      */
@@ -147,6 +194,7 @@ public class ModelManager implements Model {
     public void setRoot(Root root) {
         requireNonNull(root);
         logger.info("Resetting to root directory");
+        Transaction.recordChange(this);
         this.root = root;
         this.currentPath = AbsolutePath.ROOT_PATH;
         this.displayPath = AbsolutePath.ROOT_PATH;
@@ -156,13 +204,8 @@ public class ModelManager implements Model {
 
     @Override
     public boolean hasStudentWithId(StudentId id) {
-        logger.info("finding student with id: " + id);
-        for (Group group : this.root.getAllChildren()) {
-            if (group.hasChild(id)) {
-                return true;
-            }
-        }
-        return false;
+        logger.finer(() -> "Finding student with id: " + id);
+        return this.root.hasStudentWithId(id);
     }
 
     @Override
@@ -206,16 +249,13 @@ public class ModelManager implements Model {
     public Student getStudentWithId(StudentId id) {
         checkArgument(hasStudentWithId(id),
                 String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_STUDENT_ID_NOT_FOUND));
-        logger.info("Finding student with id: " + id);
+        logger.finer(() -> "Getting student with id: " + id);
 
-        for (Group group : this.root.getAllChildren()) { // for each group, check if group has student
-            if (group.hasChild(id)) {
-                return group.getChild(id); // if student is present, return student
-            }
-        }
         // If student is not present, throw error as user should have check if present
-        logger.severe("Unable to find student with id: " + id);
-        throw new IllegalArgumentException(String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_UNEXPECTED_ERROR));
+        return this.root.getStudentWithId(id).orElseThrow(() -> {
+            logger.severe("Unable to find student with id: " + id);
+            return new IllegalArgumentException(String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_UNEXPECTED_ERROR));
+        });
     }
 
 
@@ -224,7 +264,7 @@ public class ModelManager implements Model {
         requireNonNull(path);
         checkArgument(!path.isRootDirectory(),
                 String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_GROUP_INFO_NOT_FOUND));
-        logger.info("Finding group at " + path);
+        logger.finer(() -> "Finding group at " + path);
 
         // defensive programming
         if (path.getGroupId().isEmpty()) {
@@ -241,7 +281,7 @@ public class ModelManager implements Model {
         requireNonNull(path);
         checkArgument(path.isStudentDirectory(),
                 String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_REQUIRE_STUDENT_PATH));
-        logger.info("Finding student at " + path);
+        logger.finer(() -> "Finding student at " + path);
 
         if (!hasGroup(path)) {
             return false;
@@ -261,7 +301,7 @@ public class ModelManager implements Model {
     @Override
     public boolean hasPath(AbsolutePath path) {
         requireNonNull(path);
-        logger.info("Checking if path is present, path: " + path);
+        logger.finer(() -> "Checking if path is present, path: " + path);
 
         if (path.isRootDirectory()) {
             return true;
@@ -281,9 +321,10 @@ public class ModelManager implements Model {
                 String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_PATH_NOT_FOUND));
         checkArgument(!path.isStudentDirectory(),
                 String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_STUDENT_PATH_NOT_NAVIGABLE));
+        Transaction.recordChange(this);
         this.currentPath = path;
         this.displayPath = path;
-        logger.fine("Change directory to " + currentPath);
+        logger.fine(() -> "Change directory to " + currentPath);
         showChildrenList();
     }
 
@@ -295,30 +336,87 @@ public class ModelManager implements Model {
 
     @Override
     public void updateList() {
-        logger.info("Updating display list");
+        if (this.isListUpdateDeferred) {
+            this.hasDeferredListUpdate = true;
+            return;
+        }
+
+        logger.fine("Updating display list");
         List<? extends Displayable> temp = new ArrayList<>();
 
         if (this.showTaskList) { // If showing task list should get all current tasks
             TaskOperation taskOperation = taskOperation(this.displayPath);
-            temp = new ArrayList<>(taskOperation.getAllTasks());
+            temp = taskOperation.getAllTasks();
         } else if (this.displayPath.isRootDirectory()) { // If showing root, get all groups under root
             ChildOperation<Group> childOperation = rootChildOperation();
-            temp = new ArrayList<>(childOperation.getAllChildren());
+            temp = childOperation.getAllChildren();
         } else if (this.displayPath.isGroupDirectory()) { // If showing group, get all student under root
             ChildOperation<Student> childOperation = groupChildOperation(this.displayPath);
-            temp = new ArrayList<>(childOperation.getAllChildren());
+            temp = childOperation.getAllChildren();
         }
-        this.displayList.clear();
+
+        if (this.root == this.listedRoot && this.displayPath.equals(this.listedPath)
+                && this.showTaskList == this.isListedTaskList) {
+            applyChangesToDisplayList(temp);
+            return;
+        }
+
+        logger.fine("Rebuilding display list");
+        this.listedRoot = this.root;
+        this.listedPath = this.displayPath;
+        this.isListedTaskList = this.showTaskList;
         this.displayList.setAll(temp);
     }
 
+    @Override
+    public void setListUpdateDeferred(boolean isDeferred) {
+        this.isListUpdateDeferred = isDeferred;
+        if (!isDeferred && this.hasDeferredListUpdate) {
+            this.hasDeferredListUpdate = false;
+            updateList();
+        }
+    }
+
+    /**
+     * Updates the display list to {@code updated} with targeted add, remove and set calls, so that
+     * only the items that actually changed are redrawn.
+     * Items are compared by identity as edits always replace the edited item with a new instance.
+     */
+    private void applyChangesToDisplayList(List<? extends Displayable> updated) {
+        int oldSize = this.displayList.size();
+        int newSize = updated.size();
+
+        // Skip the unchanged items at the front and back of the list
+        int start = 0;
+        while (start < oldSize && start < newSize && this.displayList.get(start) == updated.get(start)) {
+            start++;
+        }
+        int oldEnd = oldSize;
+        int newEnd = newSize;
+        while (oldEnd > start && newEnd > start && this.displayList.get(oldEnd - 1) == updated.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        int numOfReplaced = Math.min(oldEnd - start, newEnd - start);
+        for (int i = start; i < start + numOfReplaced; i++) {
+            this.displayList.set(i, updated.get(i));
+        }
+        if (oldEnd > start + numOfReplaced) {
+            this.displayList.remove(start + numOfReplaced, oldEnd);
+        } else if (newEnd > start + numOfReplaced) {
+            this.displayList.addAll(start + numOfReplaced, updated.subList(start + numOfReplaced, newEnd));
+        }
+    }
+
     @Override
     public void setDisplayPath(AbsolutePath path) {
         requireNonNull(path);
         checkArgument(hasPath(path),
                 String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_PATH_NOT_FOUND));
 
-        logger.info("Changing display path");
+        logger.fine("Changing display path");
+        Transaction.recordChange(this);
         this.displayPath = path;
     }
 
@@ -331,6 +429,7 @@ public class ModelManager implements Model {
     public void showTaskList() {
         checkArgument(hasTaskListInDisplayPath(),
                 String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_REQUIRE_TASK_LIST_MANAGER_PATH));
+        Transaction.recordChange(this);
         this.showTaskList = true;
         updateList();
     }
@@ -339,6 +438,7 @@ public class ModelManager implements Model {
     public void showChildrenList() {
         checkArgument(hasChildrenListInDisplayPath(),
                 String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_REQUIRE_CHILDREN_MANAGER_PATH));
+        Transaction.recordChange(this);
         this.showTaskList = false;
         updateList();
     }
@@ -352,7 +452,7 @@ public class ModelManager implements Model {
     //=========== Model Management Operation =============================================================
     @Override
     public ChildOperation<Group> rootChildOperation() {
-        logger.info("New GroupChildOperation at root");
+        logger.finer("New GroupChildOperation at root");
         return new ChildOperation<>(this.root);
     }
 
@@ -364,7 +464,7 @@ public class ModelManager implements Model {
         checkArgument(hasGroup(path),
                 String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_GROUP_NOT_FOUND));
 
-        logger.info("New GroupChildOperation at group: " + path);
+        logger.finer(() -> "New GroupChildOperation at group: " + path);
         return new ChildOperation<>(getGroupFromPath(path));
     }
 
@@ -375,13 +475,13 @@ public class ModelManager implements Model {
                 String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_REQUIRE_TASK_LIST_MANAGER_PATH));
         checkArgument(hasPath(path),
                 String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_PATH_NOT_FOUND));
-        logger.info("New TaskOperation");
+        logger.finer("New TaskOperation");
 
         if (path.isGroupDirectory()) {
-            return new TaskOperation(getGroupFromPath(path));
+            return new TaskOperation(getGroupFromPath(path), path, this.root);
         }
 
-        return new TaskOperation(getStudentFromPath(path));
+        return new TaskOperation(getStudentFromPath(path), path, this.root);
     }
 
     //=========== Helper Method =============================================================
@@ -444,6 +544,102 @@ public class ModelManager implements Model {
         return root.getChild(grpId).getChild(stuId);
     }
 
+    //=========== Transactions =============================================================
+
+    @Override
+    public void beginTransaction() {
+        if (this.transactions.isEmpty()) {
+            this.rootBeforeTransaction = this.root;
+            this.generationBeforeTransaction = this.root.getGeneration();
+        }
+        this.transactions.push(Transaction.begin());
+    }
+
+    @Override
+    public void commitTransaction() {
+        checkArgument(!this.transactions.isEmpty(), String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_NO_TRANSACTION));
+        Transaction transaction = this.transactions.pop();
+        transaction.commit();
+        if (!this.transactions.isEmpty() || !hasChangedSinceTransactionBegan()) {
+            return;
+        }
+
+        logger.fine("Adding committed transaction to undo history");
+        this.undoHistory.push(transaction);
+        if (this.undoHistory.size() > MAX_UNDO_HISTORY_SIZE) {
+            this.undoHistory.removeLast();
+        }
+        this.redoHistory.clear();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        checkArgument(!this.transactions.isEmpty(), String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_NO_TRANSACTION));
+        logger.info("Rolling back transaction");
+        this.transactions.pop().rollback();
+        updateList();
+    }
+
+    @Override
+    public boolean canUndo() {
+        return this.transactions.isEmpty() && !this.undoHistory.isEmpty();
+    }
+
+    @Override
+    public void undo() {
+        checkArgument(canUndo(), String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_NOTHING_TO_UNDO));
+        Transaction transaction = this.undoHistory.pop();
+        transaction.undo();
+        this.redoHistory.push(transaction);
+        showExistingPaths();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return this.transactions.isEmpty() && !this.redoHistory.isEmpty();
+    }
+
+    @Override
+    public void redo() {
+        checkArgument(canRedo(), String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_NOTHING_TO_REDO));
+        Transaction transaction = this.redoHistory.pop();
+        transaction.redo();
+        this.undoHistory.push(transaction);
+        showExistingPaths();
+    }
+
+    private boolean hasChangedSinceTransactionBegan() {
+        return this.root != this.rootBeforeTransaction || this.root.getGeneration() != this.generationBeforeTransaction;
+    }
+
+    /**
+     * Moves the current and display paths up to the root if they no longer exist, as an undo or redo may delete
+     * the directories navigated to after the change, then updates the display list.
+     */
+    private void showExistingPaths() {
+        if (!hasPath(this.currentPath)) {
+            this.currentPath = AbsolutePath.ROOT_PATH;
+        }
+        if (!hasPath(this.displayPath)) {
+            this.displayPath = this.currentPath;
+            this.showTaskList = false;
+        }
+        updateList();
+    }
+
+    @Override
+    public State captureState() {
+        return new State(this.root, this.currentPath, this.displayPath, this.showTaskList);
+    }
+
+    @Override
+    public void restoreState(State state) {
+        this.root = state.root;
+        this.currentPath = state.currentPath;
+        this.displayPath = state.displayPath;
+        this.showTaskList = state.showTaskList;
+    }
+
     /**
      * Return the Root of ProfBook.
      */
@@ -482,4 +678,21 @@ public class ModelManager implements Model {
                 .add("userPrefs", userPrefs)
                 .toString();
     }
+
+    /**
+     * Root, paths and display content of a {@code ModelManager} at some point in time.
+     */
+    public static final class State {
+        private final Root root;
+        private final AbsolutePath currentPath;
+        private final AbsolutePath displayPath;
+        private final boolean showTaskList;
+
+        private State(Root root, AbsolutePath currentPath, AbsolutePath displayPath, boolean showTaskList) {
+            this.root = root;
+            this.currentPath = currentPath;
+            this.displayPath = displayPath;
+            this.showTaskList = showTaskList;
+        }
+    }
 }
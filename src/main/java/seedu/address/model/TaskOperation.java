@@ -3,12 +3,20 @@ package seedu.address.model;
 
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.id.GroupId;
+import seedu.address.model.id.StudentId;
+import seedu.address.model.path.AbsolutePath;
+import seedu.address.model.profbook.Root;
+import seedu.address.model.profbook.TaskIndex;
 import seedu.address.model.task.ITaskListManager;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.exceptions.NoSuchTaskException;
@@ -20,20 +28,36 @@ public class TaskOperation implements ITaskOperation {
 
     private static final String MESSAGE_DUPLICATE_TASK = "Task must not exist in task list.";
     private static final String MESSAGE_TASK_NOT_FOUND = "Task not found in task list.";
-    private final Logger logger = LogsCenter.getLogger(JsonUtil.class);
+    private static final String MESSAGE_SEARCH_NOT_SUPPORTED = "Task list must have a path in ProfBook to search.";
+    private final Logger logger = LogsCenter.getLogger(TaskOperation.class);
     private final ITaskListManager baseDir;
+    private final AbsolutePath path;
+    private final Root root;
 
     /**
-     * Constructs a TaskOperation instance
+     * Constructs a TaskOperation instance that cannot search tasks.
      *
      * @param baseDir - The current directory to enact task operations
      */
     public TaskOperation(ITaskListManager baseDir) {
+        this(baseDir, null, null);
+    }
+
+    /**
+     * Constructs a TaskOperation instance that searches tasks with the task index of {@code root}.
+     *
+     * @param baseDir - The current directory to enact task operations
+     * @param path    - The path of the current directory in {@code root}
+     * @param root    - The ProfBook holding the current directory
+     */
+    public TaskOperation(ITaskListManager baseDir, AbsolutePath path, Root root) {
         this.baseDir = baseDir;
+        this.path = path;
+        this.root = root;
     }
 
-    private void stateLogger(String log) {
-        this.logger.info(log);
+    private void stateLogger(Supplier<String> log) {
+        this.logger.finer(log);
     }
 
     /**
@@ -56,7 +80,7 @@ public class TaskOperation implements ITaskOperation {
     public void addTask(Task task) {
         checkArgument(!hasTask(task), MESSAGE_DUPLICATE_TASK);
         this.baseDir.addTask(task);
-        this.stateLogger("Adding" + task.toString());
+        this.stateLogger(() -> "Adding " + task);
     }
 
     /**
@@ -85,7 +109,7 @@ public class TaskOperation implements ITaskOperation {
     @Override
     public Task deleteTask(int index) {
         checkArgument(isValidIndex(index), MESSAGE_TASK_NOT_FOUND);
-        this.stateLogger("deleting " + index);
+        this.stateLogger(() -> "Deleting " + index);
         return this.baseDir.deleteTask(index);
     }
 
@@ -99,7 +123,7 @@ public class TaskOperation implements ITaskOperation {
     @Override
     public Task markTask(int index) {
         checkArgument(isValidIndex(index), MESSAGE_TASK_NOT_FOUND);
-        this.stateLogger("marking " + index);
+        this.stateLogger(() -> "Marking " + index);
         return this.baseDir.markTask(index);
     }
 
@@ -113,7 +137,7 @@ public class TaskOperation implements ITaskOperation {
     @Override
     public Task unmarkTask(int index) {
         checkArgument(isValidIndex(index), MESSAGE_TASK_NOT_FOUND);
-        this.stateLogger("un marking " + index);
+        this.stateLogger(() -> "Unmarking " + index);
         return this.baseDir.unmarkTask(index);
     }
 
@@ -125,10 +149,58 @@ public class TaskOperation implements ITaskOperation {
      */
     @Override
     public List<Task> findTask(String query) {
-        this.stateLogger("finding " + query);
+        this.stateLogger(() -> "Finding " + query);
         return this.baseDir.findTask(query);
     }
 
+    /**
+     * Searches the tasks of the current directory and the directories under it with the task index of ProfBook.
+     *
+     * @param query - The words to search for
+     * @return The matching tasks and the paths of their task lists
+     */
+    @Override
+    public List<TaskIndex.Match> searchTasks(String query) {
+        checkArgument(this.root != null, MESSAGE_SEARCH_NOT_SUPPORTED);
+        this.stateLogger(() -> "Searching " + query);
+        GroupId groupId = this.path.getGroupId().get();
+        return filterByStudent(this.root.searchTasks(groupId, query));
+    }
+
+    /**
+     * Finds the deadlines of the current directory and the directories under it that are not done and are due
+     * from {@code from} until before {@code to}, with the task index of ProfBook.
+     *
+     * @param from - The earliest due time to find
+     * @param to   - The due time to find deadlines before
+     * @return The matching deadlines and the paths of their task lists, ordered by due time
+     */
+    @Override
+    public List<TaskIndex.Match> findDeadlines(LocalDateTime from, LocalDateTime to) {
+        checkArgument(this.root != null, MESSAGE_SEARCH_NOT_SUPPORTED);
+        this.stateLogger(() -> "Finding deadlines from " + from + " to " + to);
+        GroupId groupId = this.path.getGroupId().get();
+        return filterByStudent(this.root.findDeadlines(groupId, from, to));
+    }
+
+    /**
+     * Returns the matches held by the student of the current path, or all of them if the path is a group, as the
+     * matches are already limited to the group of the path.
+     */
+    private List<TaskIndex.Match> filterByStudent(List<TaskIndex.Match> matches) {
+        Optional<StudentId> studentId = this.path.getStudentId();
+        if (studentId.isEmpty()) {
+            return matches;
+        }
+        List<TaskIndex.Match> matchesOfStudent = new ArrayList<>();
+        for (TaskIndex.Match match : matches) {
+            if (studentId.equals(match.getStudentId())) {
+                matchesOfStudent.add(match);
+            }
+        }
+        return matchesOfStudent;
+    }
+
     /**
      * Returns the task at the specified index
      *
@@ -139,7 +211,7 @@ public class TaskOperation implements ITaskOperation {
     @Override
     public Task getTask(int index) {
         checkArgument(isValidIndex(index), MESSAGE_TASK_NOT_FOUND);
-        this.stateLogger("getting " + index);
+        this.stateLogger(() -> "Getting " + index);
         return this.baseDir.getTask(index);
     }
 
@@ -150,7 +222,7 @@ public class TaskOperation implements ITaskOperation {
      */
     @Override
     public List<Task> getAllTasks() {
-        this.stateLogger("getting all ");
+        this.stateLogger(() -> "Getting all tasks");
         return this.baseDir.getAllTasks();
     }
 
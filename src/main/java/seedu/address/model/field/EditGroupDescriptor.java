@@ -1,18 +1,13 @@
 package seedu.address.model.field;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.id.GroupId;
-import seedu.address.model.id.Id;
 import seedu.address.model.profbook.Group;
 import seedu.address.model.profbook.Name;
-import seedu.address.model.profbook.Student;
-import seedu.address.model.task.ReadOnlyTaskList;
-import seedu.address.model.task.TaskListManager;
 
 /**
  * Represents the descriptor for editing the details of a group in ProfBook. The descriptor contains fields for
@@ -97,10 +92,9 @@ public class EditGroupDescriptor implements EditDescriptor<Group> {
 
         Name updatedName = getName().orElse(oldGroup.getName());
         GroupId updatedId = getId().orElse(oldGroup.getId());
-        ReadOnlyTaskList taskList = new TaskListManager(oldGroup.getAllTasks());
-        Map<Id, Student> students = oldGroup.getChildren();
 
-        return new Group(taskList, students, updatedName, updatedId);
+        // The old group is replaced by the edited group, so its students are shared instead of copied
+        return new Group(oldGroup, updatedName, updatedId);
     }
 
     /**
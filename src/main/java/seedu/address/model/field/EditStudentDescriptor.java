@@ -11,8 +11,6 @@ import seedu.address.model.profbook.Email;
 import seedu.address.model.profbook.Name;
 import seedu.address.model.profbook.Phone;
 import seedu.address.model.profbook.Student;
-import seedu.address.model.task.ReadOnlyTaskList;
-import seedu.address.model.task.TaskListManager;
 
 /**
  * Represents the descriptor for editing the details of a student in ProfBook. The descriptor contains fields for
@@ -164,9 +162,8 @@ public class EditStudentDescriptor implements EditDescriptor<Student> {
         Email updatedEmail = getEmail().orElse(oldStudent.getEmail());
         Address updatedAddress = getAddress().orElse(oldStudent.getAddress());
         StudentId updatedId = getId().orElse(oldStudent.getId());
-        ReadOnlyTaskList taskList = new TaskListManager(oldStudent.getAllTasks());
-
-        return new Student(taskList, updatedName, updatedEmail, updatedPhone, updatedAddress, updatedId);
+        // The edited student shares the persistent task list of the old student instead of copying it
+        return new Student(oldStudent, updatedName, updatedEmail, updatedPhone, updatedAddress, updatedId);
     }
 
     /**
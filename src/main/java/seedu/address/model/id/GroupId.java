@@ -2,7 +2,7 @@ package seedu.address.model.id;
 
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.util.Objects;
+import seedu.address.commons.util.ValidationUtil;
 
 /**
  * Represents a group identifier (ID).
@@ -12,21 +12,81 @@ public class GroupId extends Id {
     public static final String MESSAGE_CONSTRAINTS =
             "Group Id should be in the format 'grp-XXX' where XXX is a 3-digit number, and it should not be blank.";
 
+    /**
+     * Number of distinct codes of group ids
+     */
+    public static final int NUM_OF_CODES = 1000;
+
+    private static final String PREFIX = "grp-";
+    private static final int LENGTH = 7;
+
+    private final int code;
+
     /**
      * Constructs a {@code GroupId} object with a valid group id string.
      *
      * @param id The valid group Id.
      */
     public GroupId(String id) {
+        this(id, true);
+    }
+
+    private GroupId(String id, boolean isValidationRequired) {
         super(id);
-        checkArgument(isValidGroupId(id), MESSAGE_CONSTRAINTS);
+        if (isValidationRequired) {
+            checkArgument(isValidGroupId(id), MESSAGE_CONSTRAINTS);
+        }
+        this.code = encode(this.id);
     }
 
     /**
-     * Returns true if given string is a valid group id.
+     * Returns the code of the group id {@code id}, which is its number.
+     */
+    private static int encode(String id) {
+        int number = 0;
+        for (int i = 4; i < 7; i++) {
+            number = number * 10 + (id.charAt(i) - '0');
+        }
+        return number;
+    }
+
+    /**
+     * Returns a {@code GroupId} for an id that is known to be valid, such as one written by ProfBook itself,
+     * without validating it again.
+     */
+    public static GroupId ofTrusted(String id) {
+        return new GroupId(id, false);
+    }
+
+    /**
+     * Returns true if given string is a valid group id, as declared by {@code VALIDATION_REGEX}.
      */
     public static boolean isValidGroupId(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isValidGroupId(test, 0, test.length());
+    }
+
+    /**
+     * Returns true if the characters of {@code test} between {@code start} (inclusive) and {@code end} (exclusive)
+     * are a valid group id.
+     */
+    public static boolean isValidGroupId(CharSequence test, int start, int end) {
+        if (end - start != LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < PREFIX.length(); i++) {
+            if (ValidationUtil.toLowerCase(test.charAt(start + i)) != PREFIX.charAt(i)) {
+                return false;
+            }
+        }
+        return ValidationUtil.isDigits(test, start + PREFIX.length(), end);
+    }
+
+    /**
+     * Returns the code of this group id, from 0 for "grp-000" up to {@code NUM_OF_CODES - 1} for "grp-999".
+     */
+    @Override
+    public int getCode() {
+        return code;
     }
 
     @Override
@@ -40,11 +100,11 @@ public class GroupId extends Id {
         }
 
         GroupId otherStudentId = (GroupId) other;
-        return id.equals(otherStudentId.id);
+        return code == otherStudentId.code;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, "GroupId");
+        return code;
     }
 }
@@ -1,7 +1,12 @@
 package seedu.address.model.id;
 
+import java.util.Locale;
+
 /**
  * Represents an identifier (ID) with a string value.
+ * <p>
+ * Every valid ID of a type also has a distinct small non-negative integer code, which orders IDs of the type in
+ * the same way as their string values and is used to compare, hash and index them.
  */
 public abstract class Id {
     protected final String id;
@@ -12,9 +17,15 @@ public abstract class Id {
      * @param id The ID value to store.
      */
     public Id(String id) {
-        this.id = id.toUpperCase();
+        // Locale.ROOT keeps the letters ASCII, which the codes are computed from, whatever the default locale
+        this.id = id.toUpperCase(Locale.ROOT);
     }
 
+    /**
+     * Returns the integer code of this ID, which is distinct for every ID of the same type.
+     */
+    public abstract int getCode();
+
     @Override
     public String toString() {
         return this.id;
@@ -0,0 +1,381 @@
+package seedu.address.model.id;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable map from IDs of one type to values, whose updated versions share structure with the versions they
+ * were created from, like {@link seedu.address.commons.util.PersistentMap}.
+ * <p>
+ * The map is a trie indexed directly by the integer code of the IDs, 5 bits at each level, so finding an entry
+ * takes at most a few array accesses, without hashing or comparing strings. Keys and values are kept side by side
+ * in the arrays of the last level instead of in an entry object each. As codes order IDs like their string values,
+ * entries are iterated in the order of their IDs.
+ * Null keys and values are not permitted.
+ *
+ * @param <V> the type of values
+ */
+public final class IdMap<V> extends AbstractMap<Id, V> {
+    public static final String MESSAGE_MIXED_ID_TYPES = "Keys of an IdMap must all be IDs of the same type.";
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+    private static final IdMap<?> EMPTY = new IdMap<>(null, 0, 0);
+
+    /**
+     * Root of the trie, null if the map is empty
+     */
+    private final Node root;
+
+    /**
+     * Shift of the code bits used at the root, so that the codes in the trie are below 1 << (shift + 5)
+     */
+    private final int shift;
+    private final int size;
+
+    private Set<Map.Entry<Id, V>> entrySet = null;
+    private Collection<V> values = null;
+
+    private IdMap(Node root, int shift, int size) {
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> IdMap<V> empty() {
+        return (IdMap<V>) EMPTY;
+    }
+
+    /**
+     * Returns a map with the entries of {@code map}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> IdMap<V> copyOf(Map<? extends Id, ? extends V> map) {
+        if (map instanceof IdMap) {
+            return (IdMap<V>) map;
+        }
+        IdMap<V> result = empty();
+        for (Map.Entry<? extends Id, ? extends V> entry : map.entrySet()) {
+            result = result.plus(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a map with the entries of this map and {@code key} mapped to {@code value}.
+     * Returns this map if {@code key} is already mapped to {@code value}.
+     *
+     * @throws IllegalArgumentException if the map has a key of another type with the same code as {@code key}.
+     */
+    public IdMap<V> plus(Id key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        int code = key.getCode();
+        assert code >= 0 : "Codes of IDs are not negative";
+        if (root == null) {
+            int newShift = 0;
+            while (!fits(code, newShift)) {
+                newShift += BITS_PER_LEVEL;
+            }
+            return new IdMap<>(newPath(code, newShift, key, value), newShift, 1);
+        }
+
+        // A larger code needs more levels above the current root, which is the first child of each new level
+        Node grownRoot = root;
+        int newShift = shift;
+        while (!fits(code, newShift)) {
+            newShift += BITS_PER_LEVEL;
+            grownRoot = new Node(1, new Object[] {grownRoot});
+        }
+
+        boolean[] isAdded = new boolean[1];
+        Node newRoot = grownRoot.plus(code, newShift, key, value, isAdded);
+        if (newRoot == root) {
+            return this;
+        }
+        return new IdMap<>(newRoot, newShift, isAdded[0] ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map with the entries of this map except the entry of {@code key}.
+     * Returns this map if there is no entry for {@code key}.
+     */
+    public IdMap<V> minus(Object key) {
+        if (get(key) == null) {
+            return this;
+        }
+        Node newRoot = root.minus(((Id) key).getCode(), shift);
+        return newRoot == null ? empty() : new IdMap<>(newRoot, shift, size - 1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (root == null || !(key instanceof Id)) {
+            return null;
+        }
+        int code = ((Id) key).getCode();
+        if (!fits(code, shift)) {
+            return null;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS_PER_LEVEL) {
+            int bit = bitFor(code, level);
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+            node = (Node) node.slots[node.indexOf(bit)];
+        }
+        int bit = bitFor(code, 0);
+        if ((node.bitmap & bit) == 0) {
+            return null;
+        }
+        int index = 2 * node.indexOf(bit);
+        return node.slots[index].equals(key) ? (V) node.slots[index + 1] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Set<Map.Entry<Id, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<Id, V>> iterator() {
+                    return new SlotIterator<>() {
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        Map.Entry<Id, V> toElement(Object key, Object value) {
+                            return new AbstractMap.SimpleImmutableEntry<>((Id) key, (V) value);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    /**
+     * Returns the values of the map in the order of their IDs, without creating an entry for each of them.
+     */
+    @Override
+    public Collection<V> values() {
+        if (values == null) {
+            values = new AbstractCollection<>() {
+                @Override
+                public Iterator<V> iterator() {
+                    return new SlotIterator<>() {
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        V toElement(Object key, Object value) {
+                            return (V) value;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+        return values;
+    }
+
+    private static boolean fits(int code, int shift) {
+        return (code >>> (shift + BITS_PER_LEVEL)) == 0;
+    }
+
+    private static int bitFor(int code, int shift) {
+        return 1 << ((code >>> shift) & LEVEL_MASK);
+    }
+
+    /**
+     * Returns a node at {@code shift} that holds only {@code key} and {@code value}.
+     */
+    private static Node newPath(int code, int shift, Id key, Object value) {
+        Node node = new Node(bitFor(code, 0), new Object[] {key, value});
+        for (int level = BITS_PER_LEVEL; level <= shift; level += BITS_PER_LEVEL) {
+            node = new Node(bitFor(code, level), new Object[] {node});
+        }
+        return node;
+    }
+
+    private static Object[] insert(Object[] slots, int index, Object... inserted) {
+        Object[] result = new Object[slots.length + inserted.length];
+        System.arraycopy(slots, 0, result, 0, index);
+        System.arraycopy(inserted, 0, result, index, inserted.length);
+        System.arraycopy(slots, index, result, index + inserted.length, slots.length - index);
+        return result;
+    }
+
+    private static Object[] remove(Object[] slots, int index, int count) {
+        Object[] result = new Object[slots.length - count];
+        System.arraycopy(slots, 0, result, 0, index);
+        System.arraycopy(slots, index + count, result, index, slots.length - index - count);
+        return result;
+    }
+
+    /**
+     * A node of the trie, with a slot for each bit set in the bitmap holding a child node, or two slots holding a
+     * key and its value at the last level.
+     */
+    private static final class Node {
+        private final int bitmap;
+        private final Object[] slots;
+
+        Node(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        private int indexOf(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        /**
+         * Returns this node with {@code key} mapped to {@code value}, or this node if it already is.
+         */
+        Node plus(int code, int shift, Id key, Object value, boolean[] isAdded) {
+            int bit = bitFor(code, shift);
+            int index = indexOf(bit);
+            boolean isPresent = (bitmap & bit) != 0;
+            if (shift == 0) {
+                if (!isPresent) {
+                    isAdded[0] = true;
+                    return new Node(bitmap | bit, insert(slots, 2 * index, key, value));
+                }
+                checkArgument(slots[2 * index].equals(key), MESSAGE_MIXED_ID_TYPES);
+                if (slots[2 * index + 1] == value) {
+                    return this;
+                }
+                Object[] newSlots = slots.clone();
+                newSlots[2 * index] = key;
+                newSlots[2 * index + 1] = value;
+                return new Node(bitmap, newSlots);
+            }
+
+            if (!isPresent) {
+                isAdded[0] = true;
+                return new Node(bitmap | bit, insert(slots, index, newPath(code, shift - BITS_PER_LEVEL, key, value)));
+            }
+            Node child = (Node) slots[index];
+            Node newChild = child.plus(code, shift - BITS_PER_LEVEL, key, value, isAdded);
+            if (newChild == child) {
+                return this;
+            }
+            Object[] newSlots = slots.clone();
+            newSlots[index] = newChild;
+            return new Node(bitmap, newSlots);
+        }
+
+        /**
+         * Returns this node without the entry of {@code code}, which must be in it, or null if nothing is left.
+         */
+        Node minus(int code, int shift) {
+            int bit = bitFor(code, shift);
+            int index = indexOf(bit);
+            if (shift == 0) {
+                return bitmap == bit ? null : new Node(bitmap & ~bit, remove(slots, 2 * index, 2));
+            }
+            Node newChild = ((Node) slots[index]).minus(code, shift - BITS_PER_LEVEL);
+            if (newChild != null) {
+                Object[] newSlots = slots.clone();
+                newSlots[index] = newChild;
+                return new Node(bitmap, newSlots);
+            }
+            return bitmap == bit ? null : new Node(bitmap & ~bit, remove(slots, index, 1));
+        }
+    }
+
+    /**
+     * Iterates over the entries of the trie in the order of their codes.
+     */
+    private abstract class SlotIterator<E> implements Iterator<E> {
+        /**
+         * Node and position of the next slot at each level, from the root down to the last level
+         */
+        private final Node[] nodes = new Node[shift / BITS_PER_LEVEL + 1];
+        private final int[] positions = new int[nodes.length];
+        private int numOfVisited = 0;
+
+        SlotIterator() {
+            if (root != null) {
+                descend(0, root);
+            }
+        }
+
+        abstract E toElement(Object key, Object value);
+
+        private void descend(int level, Node node) {
+            for (int i = level; i < nodes.length; i++) {
+                nodes[i] = node;
+                positions[i] = 0;
+                if (i < nodes.length - 1) {
+                    node = (Node) node.slots[0];
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return numOfVisited < size;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int last = nodes.length - 1;
+            Node leaf = nodes[last];
+            int position = positions[last];
+            E element = toElement(leaf.slots[position], leaf.slots[position + 1]);
+            numOfVisited++;
+            positions[last] += 2;
+
+            // Moves on to the first slot of the next node at the last level, if this node is done
+            if (positions[last] == leaf.slots.length && hasNext()) {
+                int level = last - 1;
+                while (positions[level] + 1 == nodes[level].slots.length) {
+                    level--;
+                }
+                positions[level]++;
+                descend(level + 1, (Node) nodes[level].slots[positions[level]]);
+            }
+            return element;
+        }
+    }
+}
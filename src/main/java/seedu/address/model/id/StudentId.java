@@ -2,7 +2,7 @@ package seedu.address.model.id;
 
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.util.Objects;
+import seedu.address.commons.util.ValidationUtil;
 
 /**
  * Represents a student identifier (ID).
@@ -12,21 +12,73 @@ public class StudentId extends Id {
     public static final String MESSAGE_CONSTRAINTS =
         "Student Id should be 4 digits number follow by any letter, and it should not be blank.";
 
+    /**
+     * Number of distinct codes of student ids
+     */
+    public static final int NUM_OF_CODES = 10000 * 26;
+
+    private static final int LENGTH = 5;
+
+    private final int code;
+
     /**
      * Constructs a {@code StudentId} object with the valid ID value.
      *
      * @param id A valid student id.
      */
     public StudentId(String id) {
+        this(id, true);
+    }
+
+    private StudentId(String id, boolean isValidationRequired) {
         super(id);
-        checkArgument(isValidStudentId(id), MESSAGE_CONSTRAINTS);
+        if (isValidationRequired) {
+            checkArgument(isValidStudentId(id), MESSAGE_CONSTRAINTS);
+        }
+        this.code = encode(this.id);
+    }
+
+    /**
+     * Returns the code of the upper case student id {@code id}, which is its number followed by its letter.
+     */
+    private static int encode(String id) {
+        int number = 0;
+        for (int i = 0; i < 4; i++) {
+            number = number * 10 + (id.charAt(i) - '0');
+        }
+        return number * 26 + (ValidationUtil.toLowerCase(id.charAt(4)) - 'a');
     }
 
     /**
-     * Returns true if given string is a valid student id.
+     * Returns a {@code StudentId} for an id that is known to be valid, such as one written by ProfBook itself,
+     * without validating it again.
+     */
+    public static StudentId ofTrusted(String id) {
+        return new StudentId(id, false);
+    }
+
+    /**
+     * Returns true if given string is a valid student id, as declared by {@code VALIDATION_REGEX}.
      */
     public static boolean isValidStudentId(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isValidStudentId(test, 0, test.length());
+    }
+
+    /**
+     * Returns true if the characters of {@code test} between {@code start} (inclusive) and {@code end} (exclusive)
+     * are a valid student id.
+     */
+    public static boolean isValidStudentId(CharSequence test, int start, int end) {
+        return end - start == LENGTH && ValidationUtil.isDigits(test, start, start + 4)
+                && ValidationUtil.isLetter(test.charAt(start + 4));
+    }
+
+    /**
+     * Returns the code of this student id, from 0 for "0000A" up to {@code NUM_OF_CODES - 1} for "9999Z".
+     */
+    @Override
+    public int getCode() {
+        return code;
     }
 
     @Override
@@ -40,11 +92,11 @@ public class StudentId extends Id {
         }
 
         StudentId otherStudentId = (StudentId) other;
-        return id.equals(otherStudentId.id);
+        return code == otherStudentId.code;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, "StudentId");
+        return code;
     }
 }
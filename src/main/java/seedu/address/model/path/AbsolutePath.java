@@ -3,7 +3,10 @@ package seedu.address.model.path;
 import static seedu.address.logic.Messages.MESSAGE_INTERNAL_ERROR;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -17,8 +20,11 @@ import seedu.address.model.path.exceptions.InvalidPathException;
 
 /**
  * Represents absolute path in ProfBook.
+ * <p>
+ * An {@code AbsolutePath} is immutable. Its group and student ids are found once when it is constructed,
+ * and {@link #resolve(RelativePath)} returns a shared instance for paths that were resolved recently.
  */
-public class AbsolutePath extends Path {
+public final class AbsolutePath extends Path {
     public static final String ROOT_ELEMENT = "~";
     public static final String MESSAGE_NO_ROOT_ELEMENT = "Absolute path must start with ~";
     public static final String MESSAGE_STUDENT_ID_NOT_FOUND = "Student Id element not found in path.";
@@ -26,6 +32,22 @@ public class AbsolutePath extends Path {
     public static final AbsolutePath ROOT_PATH;
     private static final Logger logger = LogsCenter.getLogger(AbsolutePath.class);
 
+    /**
+     * Maximum number of resolved paths kept for reuse, enough for every path visited in a session of use
+     */
+    private static final int INTERN_CACHE_CAPACITY = 1024;
+
+    /**
+     * Recently resolved paths, keyed by their path elements, in least recently used order
+     */
+    private static final Map<List<PathElement>, AbsolutePath> internCache =
+            Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<List<PathElement>, AbsolutePath> eldest) {
+                    return size() > INTERN_CACHE_CAPACITY;
+                }
+            });
+
     static {
         try {
             ROOT_PATH = new AbsolutePath(ROOT_ELEMENT);
@@ -34,6 +56,10 @@ public class AbsolutePath extends Path {
         }
     }
 
+    private final Optional<GroupId> groupId;
+    private final Optional<StudentId> studentId;
+    private final int hashCode;
+
     /**
      * Constructs {@code AbsolutePath} from a {@code String} path.
      *
@@ -41,24 +67,63 @@ public class AbsolutePath extends Path {
      * @throws InvalidPathException if the given path string is invalid.
      */
     public AbsolutePath(String path) throws InvalidPathException {
-        super();
+        super(parseAbsolutePath(path));
+        this.groupId = findGroupId(this.pathElements);
+        this.studentId = findStudentId(this.pathElements);
+        this.hashCode = Objects.hash(super.hashCode(), "ABSOLUTEPATH");
+
+        logger.finest(() -> "Created new absolute path object: " + this);
+    }
 
+    /**
+     * Constructs {@code AbsolutePath} with path element list.
+     *
+     * @param fullPathElements The list of elements for the full path, which must not be modified afterwards.
+     */
+    private AbsolutePath(List<PathElement> fullPathElements) {
+        super(Collections.unmodifiableList(fullPathElements));
+        this.groupId = findGroupId(this.pathElements);
+        this.studentId = findStudentId(this.pathElements);
+        this.hashCode = Objects.hash(super.hashCode(), "ABSOLUTEPATH");
+    }
+
+    private static List<PathElement> parseAbsolutePath(String path) throws InvalidPathException {
         if (!path.startsWith(ROOT_ELEMENT)) {
             throw new InvalidPathException(MESSAGE_NO_ROOT_ELEMENT);
         }
+        return Collections.unmodifiableList(parsePathElements(path));
+    }
 
-        commonConstructor(path);
+    private static Optional<GroupId> findGroupId(List<PathElement> pathElements) {
+        for (PathElement element : pathElements) {
+            if (element.getType() == PathElementType.GROUPID) {
+                // The element was validated when it was parsed
+                return Optional.of(GroupId.ofTrusted(element.toString()));
+            }
+        }
+        return Optional.empty();
+    }
 
-        logger.finest("Created new absolute path object: " + this);
+    private static Optional<StudentId> findStudentId(List<PathElement> pathElements) {
+        for (PathElement element : pathElements) {
+            if (element.getType() == PathElementType.STUDENTID) {
+                // The element was validated when it was parsed
+                return Optional.of(StudentId.ofTrusted(element.toString()));
+            }
+        }
+        return Optional.empty();
     }
 
     /**
-     * Constructs {@code AbsolutePath} with path element list.
-     *
-     * @param fullPathElements The list of elements for the full path.
+     * Returns the shared {@code AbsolutePath} with the given path elements, creating it if there is none.
      */
-    private AbsolutePath(List<PathElement> fullPathElements) {
-        super(fullPathElements);
+    private static AbsolutePath intern(List<PathElement> fullPathElements) {
+        AbsolutePath path = internCache.get(fullPathElements);
+        if (path == null) {
+            path = new AbsolutePath(fullPathElements);
+            internCache.put(fullPathElements, path);
+        }
+        return path;
     }
 
     /**
@@ -68,16 +133,19 @@ public class AbsolutePath extends Path {
      * @throws InvalidPathException If the resolution path.
      */
     public AbsolutePath resolve(RelativePath relative) throws InvalidPathException {
-        List<PathElement> fullPathElements = new ArrayList<>(this.pathElements);
         List<PathElement> relativePathElements = relative.pathElements;
 
         // If relativePath start from root, should return the relativePath
         if (relativePathElements.get(0).getType() == PathElementType.ROOT) {
-            return new AbsolutePath(relativePathElements);
+            return intern(new ArrayList<>(relativePathElements));
         }
 
+        List<PathElement> fullPathElements = new ArrayList<>(this.pathElements);
         Path.appendPathElements(fullPathElements, relativePathElements);
-        return new AbsolutePath(fullPathElements);
+        if (fullPathElements.equals(this.pathElements)) {
+            return this;
+        }
+        return intern(fullPathElements);
     }
 
     /**
@@ -114,16 +182,11 @@ public class AbsolutePath extends Path {
         if (this.isGroupDirectory() || this.isRootDirectory()) {
             return Optional.empty();
         }
-
-        for (int i = 0; i < this.pathElements.size(); i++) {
-            PathElement currElement = this.pathElements.get(i);
-            if (currElement.getType() == PathElementType.STUDENTID) {
-                return Optional.of(new StudentId(currElement.toString()));
-            }
+        if (this.studentId.isEmpty()) {
+            throw new IllegalArgumentException(
+                    String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_STUDENT_ID_NOT_FOUND));
         }
-
-        throw new IllegalArgumentException(
-                String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_STUDENT_ID_NOT_FOUND));
+        return this.studentId;
     }
 
     /**
@@ -136,16 +199,11 @@ public class AbsolutePath extends Path {
         if (this.isRootDirectory()) {
             return Optional.empty();
         }
-
-        for (int i = 0; i < this.pathElements.size(); i++) {
-            PathElement currElement = this.pathElements.get(i);
-            if (currElement.getType() == PathElementType.GROUPID) {
-                return Optional.of(new GroupId(currElement.toString()));
-            }
+        if (this.groupId.isEmpty()) {
+            throw new IllegalArgumentException(
+                    String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_GROUP_ID_NOT_FOUND));
         }
-
-        throw new IllegalArgumentException(
-                String.format(MESSAGE_INTERNAL_ERROR, MESSAGE_GROUP_ID_NOT_FOUND));
+        return this.groupId;
     }
 
     @Override
@@ -163,6 +221,6 @@ public class AbsolutePath extends Path {
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), "ABSOLUTEPATH");
+        return this.hashCode;
     }
 }
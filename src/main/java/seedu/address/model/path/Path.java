@@ -7,7 +7,6 @@ import java.util.stream.Collectors;
 
 import seedu.address.model.path.element.PathElement;
 import seedu.address.model.path.element.PathElementType;
-import seedu.address.model.path.element.exceptions.InvalidPathElementException;
 import seedu.address.model.path.exceptions.InvalidPathException;
 
 /**
@@ -45,37 +44,19 @@ public abstract class Path {
      * @throws InvalidPathException If an invalid path element is encountered.
      */
     protected void commonConstructor(String path) throws InvalidPathException {
-        if (path.startsWith(PATH_DELIMETER)) {
-            path = path.substring(1, path.length());
-        }
-
-        if (path.endsWith(PATH_DELIMETER)) {
-            path = path.substring(0, path.length() - 1);
-        }
-
-        if (path.trim().isEmpty()) {
-            throw new InvalidPathException(MESSAGE_EMPTY_PATH_STRING);
-        }
-
-        String[] elementStrs = path.split("/");
-
-        if (elementStrs.length == 0) {
-            throw new InvalidPathException(MESSAGE_EMPTY_PATH_ELEMENT);
-        }
-
-        List<PathElement> elements = new ArrayList<>();
-
-        // Parses all string elements into PathElement object.
-        for (String elementStr : elementStrs) {
-            try {
-                PathElement element = PathElement.parsePathElement(elementStr);
-                elements.add(element);
-            } catch (InvalidPathElementException e) {
-                throw new InvalidPathException(String.format(MESSAGE_INVALID_PATH_ELEMENT, elementStr));
-            }
-        }
+        this.pathElements.addAll(parsePathElements(path));
+    }
 
-        appendPathElements(this.pathElements, elements);
+    /**
+     * Parses the string representation of a path into its normalised path elements.
+     *
+     * @param path The string representation of the path.
+     * @throws InvalidPathException If an invalid path element is encountered.
+     */
+    protected static List<PathElement> parsePathElements(String path) throws InvalidPathException {
+        List<PathElement> normalisedElements = new ArrayList<>();
+        appendPathElements(normalisedElements, PathLexer.tokenize(path));
+        return normalisedElements;
     }
 
     /**
@@ -0,0 +1,78 @@
+package seedu.address.model.path;
+
+import static seedu.address.model.path.Path.MESSAGE_EMPTY_PATH_ELEMENT;
+import static seedu.address.model.path.Path.MESSAGE_EMPTY_PATH_STRING;
+import static seedu.address.model.path.Path.MESSAGE_INVALID_PATH_ELEMENT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.path.element.PathElement;
+import seedu.address.model.path.element.exceptions.InvalidPathElementException;
+import seedu.address.model.path.exceptions.InvalidPathException;
+
+/**
+ * Splits the string representation of a path into path elements in a single pass over its characters.
+ * <p>
+ * One leading and one trailing "/" are ignored, and so are empty elements at the end of the path.
+ * Any other empty element is invalid.
+ */
+class PathLexer {
+    private static final char DELIMITER = '/';
+
+    private PathLexer() {} // prevents instantiation
+
+    /**
+     * Returns the path elements of {@code path} in order, without normalising them.
+     *
+     * @throws InvalidPathException If the path is blank, only has empty elements, or has an invalid element.
+     */
+    static List<PathElement> tokenize(String path) throws InvalidPathException {
+        int start = 0;
+        int end = path.length();
+        if (start < end && path.charAt(start) == DELIMITER) {
+            start++;
+        }
+        if (start < end && path.charAt(end - 1) == DELIMITER) {
+            end--;
+        }
+        if (isBlank(path, start, end)) {
+            throw new InvalidPathException(MESSAGE_EMPTY_PATH_STRING);
+        }
+        while (end > start && path.charAt(end - 1) == DELIMITER) {
+            end--;
+        }
+        if (start == end) {
+            throw new InvalidPathException(MESSAGE_EMPTY_PATH_ELEMENT);
+        }
+
+        List<PathElement> elements = new ArrayList<>();
+        int elementStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i < end && path.charAt(i) != DELIMITER) {
+                continue;
+            }
+            try {
+                elements.add(PathElement.parsePathElement(path, elementStart, i));
+            } catch (InvalidPathElementException e) {
+                throw new InvalidPathException(
+                        String.format(MESSAGE_INVALID_PATH_ELEMENT, path.substring(elementStart, i)));
+            }
+            elementStart = i + 1;
+        }
+        return elements;
+    }
+
+    /**
+     * Returns true if there are only whitespace or control characters between {@code start} and {@code end},
+     * as with {@link String#trim()}.
+     */
+    private static boolean isBlank(String path, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (path.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -31,7 +31,7 @@ public class RelativePath extends Path {
     public RelativePath(String path) throws InvalidPathException {
         super();
         commonConstructor(path);
-        logger.finest("Created new relative path object: " + this);
+        logger.finest(() -> "Created new relative path object: " + this);
     }
 
     @Override
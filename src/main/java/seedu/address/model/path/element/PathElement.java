@@ -2,29 +2,33 @@ package seedu.address.model.path.element;
 
 import java.util.Objects;
 
+import seedu.address.commons.util.ValidationUtil;
 import seedu.address.model.id.GroupId;
 import seedu.address.model.id.StudentId;
 import seedu.address.model.path.element.exceptions.InvalidPathElementException;
 
 /**
  * Represents an element in a path.
+ * Elements are classified by scanning their characters, without regular expressions.
  */
 public class PathElement {
     public static final PathElement ELEMENT_CURRENT = new PathElement(".", PathElementType.CURRENT);
     public static final PathElement ELEMENT_ROOT = new PathElement("~", PathElementType.ROOT);
     public static final PathElement ELEMENT_PARENT = new PathElement("..", PathElementType.PARENT);
 
-    private String elementStr;
-    private PathElementType type;
+    private static final String GROUP_ID_PREFIX = "grp-";
+
+    private final String elementStr;
+    private final PathElementType type;
 
     /**
     * Constructs a {@code PathElement} with the element string and type.
     *
-    * @param elementStr The element string.
+    * @param elementStr The element string, in lower case.
     * @param type The type of the element.
     */
     private PathElement(String elementStr, PathElementType type) {
-        this.elementStr = elementStr.toLowerCase();
+        this.elementStr = elementStr;
         this.type = type;
     }
 
@@ -36,16 +40,28 @@ public class PathElement {
      * @throws InvalidPathElementException If the path element is invalid.
      */
     public static PathElement parsePathElement(String element) throws InvalidPathElementException {
-        if (element.equals("~")) {
+        return parsePathElement(element, 0, element.length());
+    }
+
+    /**
+     * Parses the path element between {@code start} (inclusive) and {@code end} (exclusive) of {@code path}.
+     * A student id is 4 digits and a letter, and a group id is "grp-" and 3 digits, both ignoring case.
+     *
+     * @throws InvalidPathElementException If the path element is invalid.
+     */
+    public static PathElement parsePathElement(String path, int start, int end) throws InvalidPathElementException {
+        int length = end - start;
+        if (length == 1 && path.charAt(start) == '~') {
             return ELEMENT_ROOT;
-        } else if (element.equals("..")) {
+        } else if (length == 2 && path.charAt(start) == '.' && path.charAt(start + 1) == '.') {
             return ELEMENT_PARENT;
-        } else if (element.equals(".")) {
+        } else if (length == 1 && path.charAt(start) == '.') {
             return ELEMENT_CURRENT;
-        } else if (StudentId.isValidStudentId(element)) {
-            return new PathElement(element, PathElementType.STUDENTID);
-        } else if (GroupId.isValidGroupId(element)) {
-            return new PathElement(element, PathElementType.GROUPID);
+        } else if (StudentId.isValidStudentId(path, start, end)) {
+            char letter = ValidationUtil.toLowerCase(path.charAt(start + 4));
+            return new PathElement(path.substring(start, start + 4) + letter, PathElementType.STUDENTID);
+        } else if (GroupId.isValidGroupId(path, start, end)) {
+            return new PathElement(GROUP_ID_PREFIX + path.substring(start + 4, end), PathElementType.GROUPID);
         } else {
             throw new InvalidPathElementException();
         }
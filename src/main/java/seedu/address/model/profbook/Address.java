@@ -2,6 +2,11 @@ package seedu.address.model.profbook;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -16,6 +21,7 @@ public class Address {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -33,7 +39,15 @@ public class Address {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns a test of whether addresses are valid that reuses one matcher, for validating many addresses on one
+     * thread.
+     */
+    public static Predicate<String> newBulkValidator() {
+        return ValidationUtil.newBulkMatcher(VALIDATION_PATTERN);
     }
 
     @Override
@@ -1,10 +1,14 @@
 package seedu.address.model.profbook;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.id.Id;
+import seedu.address.model.id.IdMap;
 import seedu.address.model.profbook.exceptions.DuplicateChildException;
 import seedu.address.model.profbook.exceptions.NoSuchChildException;
 import seedu.address.model.task.ITaskListManager;
@@ -12,23 +16,60 @@ import seedu.address.model.task.ReadOnlyTaskList;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.TaskListManager;
 import seedu.address.model.task.exceptions.NoSuchTaskException;
+import seedu.address.model.util.Generation;
+import seedu.address.model.util.GenerationListener;
 
 /**
  * A child element that is both children and task list Manager.
+ * <p>
+ * The children and task list can be loaded lazily, in which case they are only obtained from a content loader
+ * when they are first accessed. Loading is thread-safe, as a manager shared by save snapshots may be loaded by the
+ * thread saving it while another thread reads it.
+ * <p>
+ * The manager owns its children and task list managers, and reports their changes to its own owner.
  */
 public abstract class ChildAndTaskListManager<R, T extends IChildElement<T>>
-        implements IChildElement<R>, IChildManager<T>, ITaskListManager {
-    private final ChildManager<T> childrenManager;
-    private final TaskListManager taskListManager;
+        implements IChildElement<R>, IChildManager<T>, ITaskListManager, GenerationListener {
+    private static final long NOT_LOADED_LAZILY = -1;
+
+    private ChildManager<T> childrenManager;
+    private TaskListManager taskListManager;
+
+    /**
+     * Supplies the children and task list if they are not loaded yet, null once they are loaded.
+     * It is cleared only after the loaded managers are set, so a thread that sees it cleared also sees them.
+     */
+    private volatile Supplier<? extends ChildAndTaskListManager<R, T>> contentLoader = null;
+
+    /**
+     * Generation reported while lazily loaded content is not loaded or not modified since it was loaded,
+     * so that loading the content is not mistaken for a modification
+     */
+    private long lazyGeneration = NOT_LOADED_LAZILY;
+    private long loadedGeneration = NOT_LOADED_LAZILY;
+
+    /**
+     * Told the generation of every change to the children or task list, null if nothing owns this manager
+     */
+    private GenerationListener owner = null;
 
     /**
      * Constructs a {@code ChildAndTaskListManager} with the data in {@code toBeCopied}.
+     * Content of {@code toBeCopied} that is not loaded yet is not loaded by the copy either.
      *
      * @param toBeCopied - data from storage
      */
     public ChildAndTaskListManager(ChildAndTaskListManager<R, T> toBeCopied) {
+        this.lazyGeneration = toBeCopied.lazyGeneration;
+        Supplier<? extends ChildAndTaskListManager<R, T>> loader = toBeCopied.contentLoader;
+        if (loader != null) {
+            this.contentLoader = loader;
+            return;
+        }
+        this.loadedGeneration = toBeCopied.loadedGeneration;
         this.childrenManager = new ChildManager<>(toBeCopied.childrenManager);
         this.taskListManager = new TaskListManager(toBeCopied.taskListManager);
+        adoptManagers();
     }
 
     /**
@@ -40,6 +81,32 @@ public abstract class ChildAndTaskListManager<R, T extends IChildElement<T>>
     public ChildAndTaskListManager(Map<Id, T> children, ReadOnlyTaskList taskList) {
         childrenManager = new ChildManager<>(children);
         taskListManager = new TaskListManager(taskList.getAllTasks());
+        adoptManagers();
+    }
+
+    /**
+     * Constructs a new {@code ChildAndTaskListManager} that takes over {@code children} instead of copying them.
+     *
+     * @param children - Map of current children this directory have, not modified through anything else afterwards
+     * @param taskList - Arraylist of tasks assigned to this directory
+     */
+    public ChildAndTaskListManager(IdMap<T> children, ReadOnlyTaskList taskList) {
+        childrenManager = new ChildManager<>(children);
+        taskListManager = new TaskListManager(taskList.getAllTasks());
+        adoptManagers();
+    }
+
+    /**
+     * Constructs a new {@code ChildAndTaskListManager} that takes over {@code childrenManager} and
+     * {@code taskListManager}, which must not be owned by anything else.
+     *
+     * @param childrenManager - Manager of the children this directory have
+     * @param taskListManager - Manager of the tasks assigned to this directory
+     */
+    protected ChildAndTaskListManager(ChildManager<T> childrenManager, TaskListManager taskListManager) {
+        this.childrenManager = childrenManager;
+        this.taskListManager = taskListManager;
+        adoptManagers();
     }
 
     /**
@@ -48,114 +115,235 @@ public abstract class ChildAndTaskListManager<R, T extends IChildElement<T>>
     public ChildAndTaskListManager() {
         this.childrenManager = new ChildManager<>();
         this.taskListManager = new TaskListManager();
+        adoptManagers();
+    }
+
+    /**
+     * Constructs a {@code ChildAndTaskListManager} whose children and task list are taken from the manager
+     * supplied by {@code contentLoader} when they are first accessed.
+     *
+     * @param contentLoader - Supplies a manager with the children and task list
+     */
+    protected ChildAndTaskListManager(Supplier<? extends ChildAndTaskListManager<R, T>> contentLoader) {
+        requireNonNull(contentLoader);
+        this.contentLoader = contentLoader;
+        this.lazyGeneration = Generation.next();
+    }
+
+    /**
+     * Adopts the children shared with another manager, if the children are loaded and not adopted yet.
+     */
+    void adoptChildren() {
+        if (isLoaded()) {
+            this.childrenManager.adoptChildren();
+        }
+    }
+
+    private void adoptManagers() {
+        this.childrenManager.setOwner(this);
+        this.taskListManager.setOwner(this);
+    }
+
+    /**
+     * Returns true if the children and task list are loaded.
+     */
+    public boolean isLoaded() {
+        return this.contentLoader == null;
+    }
+
+    /**
+     * Called once lazily loaded children and task list have been loaded.
+     */
+    protected void onContentLoaded() {
     }
 
     /**
      * Returns the current task list Manager
      */
     public TaskListManager getTaskListManager() {
-        return taskListManager;
+        return tasks();
+    }
+
+    private ChildManager<T> children() {
+        loadContentIfNeeded();
+        return this.childrenManager;
+    }
+
+    private TaskListManager tasks() {
+        loadContentIfNeeded();
+        return this.taskListManager;
+    }
+
+    private void loadContentIfNeeded() {
+        if (this.contentLoader == null) {
+            return;
+        }
+        synchronized (this) {
+            Supplier<? extends ChildAndTaskListManager<R, T>> loader = this.contentLoader;
+            if (loader == null) {
+                // Loaded by another thread while waiting
+                return;
+            }
+            ChildAndTaskListManager<R, T> content = loader.get();
+            // The loaded managers keep reporting to the content, which is set directly as loading is never undone
+            content.owner = this;
+            this.childrenManager = content.children();
+            this.taskListManager = content.tasks();
+            this.loadedGeneration =
+                    Math.max(this.childrenManager.getGeneration(), this.taskListManager.getGeneration());
+            this.contentLoader = null;
+            onContentLoaded();
+        }
     }
 
     //=========== Children Manager ==================================================================================
 
     @Override
     public void addChild(Id id, T child) throws DuplicateChildException {
-        this.childrenManager.addChild(id, child);
+        children().addChild(id, child);
     }
 
     @Override
     public T deleteChild(Id id) throws NoSuchChildException {
-        return this.childrenManager.deleteChild(id);
+        return children().deleteChild(id);
+    }
+
+    @Override
+    public T replaceChild(Id id, T child) throws NoSuchChildException, DuplicateChildException {
+        return children().replaceChild(id, child);
+    }
+
+    @Override
+    public void addChildren(List<T> children) throws DuplicateChildException {
+        children().addChildren(children);
+    }
+
+    @Override
+    public List<T> deleteChildren(List<? extends Id> ids) throws NoSuchChildException {
+        return children().deleteChildren(ids);
     }
 
     @Override
     public boolean hasChild(Id id) {
-        return this.childrenManager.hasChild(id);
+        return children().hasChild(id);
     }
 
     @Override
     public T getChild(Id id) throws NoSuchChildException {
-        return this.childrenManager.getChild(id);
+        return children().getChild(id);
     }
 
     @Override
     public int numOfChildren() {
-        return this.childrenManager.numOfChildren();
+        return children().numOfChildren();
     }
 
     @Override
     public List<T> getAllChildren() {
-        return this.childrenManager.getAllChildren();
+        return children().getAllChildren();
     }
 
     @Override
     public Map<Id, T> getChildren() {
-        return this.childrenManager.getChildren();
+        return children().getChildren();
     }
 
     //=========== TaskList Manager ==================================================================================
 
     @Override
     public void addTask(Task t) {
-        this.taskListManager.addTask(t);
+        tasks().addTask(t);
     }
 
     @Override
     public Task deleteTask(int index) throws NoSuchTaskException {
-        return this.taskListManager.deleteTask(index);
+        return tasks().deleteTask(index);
     }
 
     @Override
     public Task markTask(int index) throws NoSuchTaskException {
-        return this.taskListManager.markTask(index);
+        return tasks().markTask(index);
     }
 
     @Override
     public Task unmarkTask(int index) throws NoSuchTaskException {
-        return this.taskListManager.unmarkTask(index);
+        return tasks().unmarkTask(index);
     }
 
     @Override
     public List<Task> findTask(String query) throws NoSuchTaskException {
-        return this.taskListManager.findTask(query);
+        return tasks().findTask(query);
     }
 
     @Override
     public boolean isValidIndex(int index) {
-        return this.taskListManager.isValidIndex(index);
+        return tasks().isValidIndex(index);
     }
 
     @Override
     public int size() {
-        return this.taskListManager.size();
+        return tasks().size();
     }
 
     @Override
     public boolean isEmpty() {
-        return this.taskListManager.isEmpty();
+        return tasks().isEmpty();
     }
 
     @Override
     public Task getTask(int index) throws NoSuchTaskException {
-        return this.taskListManager.getTask(index);
+        return tasks().getTask(index);
     }
 
     @Override
     public boolean contains(Task t) {
-        return this.taskListManager.contains(t);
+        return tasks().contains(t);
     }
 
     @Override
     public List<Task> getAllTasks() {
-        return this.taskListManager.getAllTasks();
+        return tasks().getAllTasks();
+    }
+
+    @Override
+    public long getGeneration() {
+        if (!isLoaded()) {
+            return this.lazyGeneration;
+        }
+        long latest = Math.max(this.childrenManager.getGeneration(), this.taskListManager.getGeneration());
+        return latest == this.loadedGeneration ? this.lazyGeneration : latest;
+    }
+
+    /**
+     * Reports a change of the children or task list to the owner of this manager.
+     */
+    @Override
+    public void onChange(long generation) {
+        if (this.owner != null) {
+            this.owner.onChange(generation);
+        }
+    }
+
+    /**
+     * Returns the owner this manager reports changes to, or null if it has none.
+     */
+    protected GenerationListener getOwner() {
+        return this.owner;
+    }
+
+    /**
+     * Replaces the owner this manager reports changes to, without recording the change in the current transaction,
+     * which is left to the subclass as it holds the restorable state.
+     */
+    protected void replaceOwner(GenerationListener owner) {
+        this.owner = owner;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("Task List", this.taskListManager)
-                .add("Children List", this.childrenManager)
+                .add("Task List", tasks())
+                .add("Children List", children())
                 .toString();
     }
 
@@ -171,7 +359,7 @@ public abstract class ChildAndTaskListManager<R, T extends IChildElement<T>>
         }
 
         ChildAndTaskListManager<?, ?> otherChildrenAndTaskListManager = (ChildAndTaskListManager<?, ?>) other;
-        return this.childrenManager.equals(otherChildrenAndTaskListManager.childrenManager)
-                && this.taskListManager.equals(otherChildrenAndTaskListManager.taskListManager);
+        return children().equals(otherChildrenAndTaskListManager.children())
+                && tasks().equals(otherChildrenAndTaskListManager.tasks());
     }
 }
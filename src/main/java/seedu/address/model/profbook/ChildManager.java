@@ -4,26 +4,57 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import seedu.address.model.id.Id;
+import seedu.address.model.id.IdMap;
 import seedu.address.model.profbook.exceptions.DuplicateChildException;
 import seedu.address.model.profbook.exceptions.NoSuchChildException;
+import seedu.address.model.util.Generation;
+import seedu.address.model.util.GenerationListener;
+import seedu.address.model.util.Restorable;
+import seedu.address.model.util.Transaction;
 
 /**
  * Encapsulates the logic of a ProfBookModel that contains children
  * As of v1.2 it is only root and group class
+ * <p>
+ * The children map is persistent, so states recorded by a {@code Transaction} share it until it changes.
+ * The manager owns its children, which report their changes to it, so that it knows the latest generation under it
+ * without visiting them. It reports those changes and its own to its owner in turn.
  *
  * @param <T> to represent the children type, as of v1.2 only student and group
  */
-public class ChildManager<T extends IChildElement<T>> implements IChildManager<T> {
+public class ChildManager<T extends IChildElement<T>>
+        implements IChildManager<T>, GenerationListener, Restorable<ChildManager.State<T>> {
 
     /**
      * Maps the id to the children
      */
-    private final Map<Id, T> children;
+    private IdMap<T> children;
+
+    /**
+     * Read-only sorted view of the children, rebuilt lazily after the children are modified.
+     * Volatile, as the children of a group shared by save snapshots may be listed by more than one thread, which
+     * then build equal views.
+     */
+    private volatile List<T> sortedChildren = null;
+
+    /**
+     * Generation of the last change to the children map or any of the children
+     */
+    private long generation = Generation.next();
+
+    /**
+     * Told the generation of every change to this manager or its children, null if nothing owns this manager
+     */
+    private GenerationListener owner = null;
+
+    /**
+     * True if the children are still owned by another manager, until {@link #adoptChildren()} is called
+     */
+    private boolean isAdoptionPending = false;
 
     /**
      * Constructs a children manager with given task list and children map.
@@ -32,20 +63,28 @@ public class ChildManager<T extends IChildElement<T>> implements IChildManager<T
      */
     public ChildManager(Map<Id, T> children) {
         requireAllNonNull(children);
-        Map<Id, T> tempMap = new HashMap<>();
-        Id key;
-        for (Id id : children.keySet()) {
-            key = id;
-            tempMap.put(key, children.get(key).deepCopy());
-        }
-        this.children = tempMap;
+        this.children = deepCopyOf(children);
+        adoptAll();
+    }
+
+    /**
+     * Constructs a children manager that takes over {@code children} instead of copying them.
+     * The children must not be modified through anything else afterwards, which is the case for children that
+     * were just created, such as those read from storage.
+     *
+     * @param children - The map of the directory's current child
+     */
+    public ChildManager(IdMap<T> children) {
+        requireAllNonNull(children);
+        this.children = children;
+        adoptAll();
     }
 
     /**
      * Constructs a new children manager.
      */
     public ChildManager() {
-        children = new HashMap<>();
+        children = IdMap.empty();
     }
 
     /**
@@ -54,7 +93,59 @@ public class ChildManager<T extends IChildElement<T>> implements IChildManager<T
      * @param toBeCopied - Data extracted from storage
      */
     public ChildManager(ChildManager<T> toBeCopied) {
-        this(toBeCopied.children);
+        this(toBeCopied, deepCopyOf(toBeCopied.children));
+        adoptAll();
+    }
+
+    /**
+     * Constructs a copy of {@code toBeCopied} with the same generation, that takes over {@code copiedChildren}
+     * instead of copying the children of {@code toBeCopied}.
+     * The children are not adopted, as some of them may be shared, so the subclass adopts those it owns.
+     *
+     * @param toBeCopied     - Manager that is copied
+     * @param copiedChildren - Copies of the children of {@code toBeCopied}, or children that are never modified
+     */
+    protected ChildManager(ChildManager<T> toBeCopied, IdMap<T> copiedChildren) {
+        requireAllNonNull(toBeCopied, copiedChildren);
+        this.children = copiedChildren;
+        this.generation = toBeCopied.generation;
+    }
+
+    private static <T extends IChildElement<T>> IdMap<T> deepCopyOf(Map<Id, T> children) {
+        IdMap<T> tempMap = IdMap.empty();
+        for (Map.Entry<Id, T> entry : children.entrySet()) {
+            tempMap = tempMap.plus(entry.getKey(), entry.getValue().deepCopy());
+        }
+        return tempMap;
+    }
+
+    /**
+     * Returns a children manager that shares {@code children} with the manager that owns them, and only adopts them
+     * once {@link #adoptChildren()} is called, so that they keep reporting to their owner until then.
+     *
+     * @param children - The map of the directory's current child, owned by another manager
+     */
+    static <T extends IChildElement<T>> ChildManager<T> sharing(IdMap<T> children) {
+        ChildManager<T> childManager = new ChildManager<>();
+        childManager.children = children;
+        childManager.isAdoptionPending = true;
+        return childManager;
+    }
+
+    /**
+     * Adopts the children shared with their owner by {@link #sharing(IdMap)}, if they are not adopted yet.
+     */
+    void adoptChildren() {
+        if (this.isAdoptionPending) {
+            this.isAdoptionPending = false;
+            adoptAll();
+        }
+    }
+
+    private void adoptAll() {
+        for (T child : this.children.values()) {
+            child.setOwner(this);
+        }
     }
 
     @Override
@@ -66,16 +157,100 @@ public class ChildManager<T extends IChildElement<T>> implements IChildManager<T
             throw new DuplicateChildException(id.toString());
         }
 
-        this.children.put(id, child);
+        Transaction.recordChange(this);
+        this.children = this.children.plus(id, child);
+        this.sortedChildren = null;
+        child.setOwner(this);
+        onChange(Generation.next());
     }
 
     @Override
     public T deleteChild(Id id) throws NoSuchChildException {
         T child = this.getChild(id);
-        this.children.remove(id);
+        Transaction.recordChange(this);
+        this.children = this.children.minus(id);
+        this.sortedChildren = null;
+        child.clearOwner(this);
+        onChange(Generation.next());
         return child;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the id is unchanged, the sorted view of the children is updated in place instead of being sorted again.
+     */
+    @Override
+    public T replaceChild(Id id, T child) throws NoSuchChildException, DuplicateChildException {
+        T oldChild = this.getChild(id);
+        Id newId = child.getId();
+        boolean isRekeyed = !newId.equals(id);
+        if (isRekeyed && this.children.containsKey(newId)) {
+            throw new DuplicateChildException(newId.toString());
+        }
+
+        Transaction.recordChange(this);
+        this.children = isRekeyed ? this.children.minus(id).plus(newId, child) : this.children.plus(id, child);
+        if (isRekeyed || this.sortedChildren == null) {
+            this.sortedChildren = null;
+        } else {
+            // Children with the same id have the same position, as children are ordered by id first
+            int index = Collections.binarySearch(this.sortedChildren, oldChild);
+            assert index >= 0 : "Replaced child should be in the sorted children";
+            List<T> childrenList = new ArrayList<>(this.sortedChildren);
+            childrenList.set(index, child);
+            this.sortedChildren = Collections.unmodifiableList(childrenList);
+        }
+        if (oldChild != child) {
+            oldChild.clearOwner(this);
+        }
+        child.setOwner(this);
+        onChange(Generation.next());
+        return oldChild;
+    }
+
+    @Override
+    public void addChildren(List<T> children) throws DuplicateChildException {
+        IdMap<T> newChildren = this.children;
+        for (T child : children) {
+            if (newChildren.containsKey(child.getId())) {
+                throw new DuplicateChildException(child.getId().toString());
+            }
+            newChildren = newChildren.plus(child.getId(), child);
+        }
+
+        Transaction.recordChange(this);
+        this.children = newChildren;
+        this.sortedChildren = null;
+        for (T child : children) {
+            child.setOwner(this);
+        }
+        onChange(Generation.next());
+    }
+
+    @Override
+    public List<T> deleteChildren(List<? extends Id> ids) throws NoSuchChildException {
+        IdMap<T> newChildren = this.children;
+        List<T> deletedChildren = new ArrayList<>(ids.size());
+        for (Id id : ids) {
+            T child = newChildren.get(id);
+            if (child == null) {
+                throw new NoSuchChildException(id.toString());
+            }
+            deletedChildren.add(child);
+            newChildren = newChildren.minus(id);
+        }
+
+        Transaction.recordChange(this);
+        this.children = newChildren;
+        this.sortedChildren = null;
+        for (T child : deletedChildren) {
+            child.clearOwner(this);
+        }
+        onChange(Generation.next());
+        return deletedChildren;
+    }
+
     @Override
     public boolean hasChild(Id id) {
         return this.children.containsKey(id);
@@ -96,11 +271,76 @@ public class ChildManager<T extends IChildElement<T>> implements IChildManager<T
         return this.children.size();
     }
 
+    /**
+     * Returns a read-only list of all current children in sorted order.
+     * The list is cached and only re-sorted after a child is added or deleted.
+     */
     @Override
     public List<T> getAllChildren() {
-        List<T> childrenList = new ArrayList<>(this.children.values());
-        Collections.sort(childrenList); // Important to sort as Map stores them randomly
-        return childrenList;
+        List<T> sorted = this.sortedChildren;
+        if (sorted == null) {
+            List<T> childrenList = new ArrayList<>(this.children.values());
+            Collections.sort(childrenList); // Important to sort as Map stores them randomly
+            sorted = Collections.unmodifiableList(childrenList);
+            this.sortedChildren = sorted;
+        }
+        return sorted;
+    }
+
+    /**
+     * Returns the latest generation of this manager and all its children.
+     * The generation increases whenever a child is added or deleted, or a child is modified, in which case the
+     * child reports it, so the children are not visited.
+     */
+    public long getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * Records that this manager or one of its children was changed with {@code generation}, and reports it to the
+     * owner of this manager.
+     */
+    @Override
+    public void onChange(long generation) {
+        Transaction.recordChange(this);
+        this.generation = generation;
+        if (this.owner != null) {
+            this.owner.onChange(generation);
+        }
+    }
+
+    /**
+     * Reports every later change of this manager or its children to {@code owner}, or to nothing if {@code owner}
+     * is null. Only a change from one owner to another is recorded in the current transaction, as nothing depends
+     * on the owner of a manager that had none.
+     */
+    public void setOwner(GenerationListener owner) {
+        if (this.owner != null) {
+            Transaction.recordChange(this);
+        }
+        this.owner = owner;
+    }
+
+    /**
+     * Stops reporting changes to {@code owner}, if this manager is currently reporting to it.
+     */
+    public void clearOwner(GenerationListener owner) {
+        if (this.owner == owner) {
+            setOwner(null);
+        }
+    }
+
+    @Override
+    public State<T> captureState() {
+        return new State<>(this.children, this.generation, this.owner);
+    }
+
+    @Override
+    public void restoreState(State<T> state) {
+        this.children = state.children;
+        this.generation = state.generation;
+        this.owner = state.owner;
+        this.sortedChildren = null;
     }
 
     @Override
@@ -112,8 +352,12 @@ public class ChildManager<T extends IChildElement<T>> implements IChildManager<T
         return ret.toString();
     }
 
+    /**
+     * Returns a read-only map of the children, which is not copied as it never changes.
+     */
+    @Override
     public Map<Id, T> getChildren() {
-        return new HashMap<>(this.children);
+        return this.children;
     }
 
     @Override
@@ -130,4 +374,19 @@ public class ChildManager<T extends IChildElement<T>> implements IChildManager<T
         ChildManager<?> otherChildrenManger = (ChildManager<?>) other;
         return this.children.equals(otherChildrenManger.children);
     }
+
+    /**
+     * Children, generation and owner of a {@code ChildManager} at some point in time.
+     */
+    public static final class State<T> {
+        private final IdMap<T> children;
+        private final long generation;
+        private final GenerationListener owner;
+
+        private State(IdMap<T> children, long generation, GenerationListener owner) {
+            this.children = children;
+            this.generation = generation;
+            this.owner = owner;
+        }
+    }
 }
@@ -2,18 +2,29 @@ package seedu.address.model.profbook;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.id.GroupId;
 import seedu.address.model.id.Id;
+import seedu.address.model.id.IdMap;
+import seedu.address.model.id.StudentId;
+import seedu.address.model.profbook.exceptions.DuplicateChildException;
+import seedu.address.model.profbook.exceptions.NoSuchChildException;
 import seedu.address.model.task.ReadOnlyTaskList;
+import seedu.address.model.task.TaskListManager;
+import seedu.address.model.util.GenerationListener;
+import seedu.address.model.util.Restorable;
+import seedu.address.model.util.Transaction;
 import seedu.address.ui.GroupCard;
+import seedu.address.ui.ItemCard;
 
 /**
  * Encapsulates logic for a group within a tutorial group
  */
-public class Group extends ChildAndTaskListManager<Group, Student> {
+public class Group extends ChildAndTaskListManager<Group, Student> implements Restorable<Group.State> {
 
     /**
      * Name of the group
@@ -25,6 +36,21 @@ public class Group extends ChildAndTaskListManager<Group, Student> {
      */
     private final GroupId id;
 
+    /**
+     * Student index of the root holding this group, null if the group is not in a root
+     */
+    private StudentIndex studentIndex;
+
+    /**
+     * Task index of the root holding this group, null if the group is not in a root
+     */
+    private TaskIndex taskIndex;
+
+    /**
+     * Loads the students and task list of the group if they are not loaded yet
+     */
+    private final GroupContentLoader contentLoader;
+
     /**
      * Constructs a new {@code Group} without task list and student map.
      *
@@ -35,11 +61,28 @@ public class Group extends ChildAndTaskListManager<Group, Student> {
         super();
         this.name = name;
         this.id = id;
+        this.contentLoader = null;
     }
 
+    /**
+     * Constructs a {@code Group} whose students and task list are loaded by {@code contentLoader} when they are
+     * first accessed.
+     *
+     * @param name          - Name of the group
+     * @param id            - Unique id of the group
+     * @param contentLoader - Loads the students and task list of the group
+     */
+    public Group(Name name, GroupId id, GroupContentLoader contentLoader) {
+        super(contentLoader::loadGroup);
+        requireAllNonNull(name, id);
+        this.name = name;
+        this.id = id;
+        this.contentLoader = contentLoader;
+    }
 
     /**
      * Creates a {@code Group} with the data in {@code toBeCopied}.
+     * Students and task list of {@code toBeCopied} that are not loaded yet are not loaded by the copy either.
      *
      * @param toBeCopied - Data extracted from storage
      */
@@ -47,6 +90,7 @@ public class Group extends ChildAndTaskListManager<Group, Student> {
         super(toBeCopied);
         this.name = toBeCopied.name;
         this.id = toBeCopied.id;
+        this.contentLoader = toBeCopied.contentLoader;
     }
 
     /**
@@ -62,6 +106,41 @@ public class Group extends ChildAndTaskListManager<Group, Student> {
         requireAllNonNull(name, id);
         this.name = name;
         this.id = id;
+        this.contentLoader = null;
+    }
+
+    /**
+     * Constructs a Group instance with all fields, that takes over {@code students} instead of copying them.
+     *
+     * @param taskList - The task list associated with this group
+     * @param students - The students in this group, not modified through anything else afterwards
+     * @param name     - The group name
+     * @param id       - Unique identifier of the group
+     */
+    public Group(ReadOnlyTaskList taskList, IdMap<Student> students, Name name, GroupId id) {
+        super(students, taskList);
+        requireAllNonNull(name, id);
+        this.name = name;
+        this.id = id;
+        this.contentLoader = null;
+    }
+
+    /**
+     * Constructs a group to replace {@code toBeReplaced}, with its students and a copy of its task list.
+     * The students are shared instead of copied, and keep reporting their changes to {@code toBeReplaced} until
+     * this group is put in a root, so that nothing changes if the replacement is rejected.
+     *
+     * @param toBeReplaced - The group this group replaces
+     * @param name         - The group name
+     * @param id           - Unique id of the group
+     */
+    public Group(Group toBeReplaced, Name name, GroupId id) {
+        super(ChildManager.sharing(IdMap.copyOf(toBeReplaced.getChildren())),
+                new TaskListManager(toBeReplaced.getAllTasks()));
+        requireAllNonNull(name, id);
+        this.name = name;
+        this.id = id;
+        this.contentLoader = null;
     }
 
     /**
@@ -78,6 +157,142 @@ public class Group extends ChildAndTaskListManager<Group, Student> {
         return name;
     }
 
+    /**
+     * Returns the ids of the students in this group, without loading the students if they are not loaded yet.
+     */
+    public List<StudentId> getStudentIds() {
+        if (!isLoaded()) {
+            return this.contentLoader.loadStudentIds();
+        }
+        List<StudentId> studentIds = new ArrayList<>();
+        for (Student student : getAllChildren()) {
+            studentIds.add(student.getId());
+        }
+        return studentIds;
+    }
+
+    /**
+     * Reports students added to or deleted from this group to {@code studentIndex}, and any change to the group or
+     * its students to {@code taskIndex}.
+     * As the group is now in a root, it also adopts the students it shares with the group it replaced.
+     */
+    void setIndexes(StudentIndex studentIndex, TaskIndex taskIndex) {
+        Transaction.recordChange(this);
+        this.studentIndex = studentIndex;
+        this.taskIndex = taskIndex;
+        adoptChildren();
+    }
+
+    /**
+     * Stops reporting to the indexes of a root, if this group is currently reporting to its {@code studentIndex}.
+     */
+    void clearIndexes(StudentIndex studentIndex) {
+        if (this.studentIndex == studentIndex) {
+            Transaction.recordChange(this);
+            this.studentIndex = null;
+            this.taskIndex = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The change is also reported to the task index, so that the group is reindexed before the next search.
+     */
+    @Override
+    public void onChange(long generation) {
+        super.onChange(generation);
+        if (this.taskIndex != null) {
+            this.taskIndex.markChanged(this.id);
+        }
+    }
+
+    @Override
+    public void setOwner(GenerationListener owner) {
+        if (getOwner() != null) {
+            Transaction.recordChange(this);
+        }
+        replaceOwner(owner);
+    }
+
+    @Override
+    public void clearOwner(GenerationListener owner) {
+        if (getOwner() == owner) {
+            setOwner(null);
+        }
+    }
+
+    /**
+     * Returns the indexes and owner this group reports to, which are the only state of the group that is not held by
+     * its children and task list managers.
+     */
+    @Override
+    public State captureState() {
+        return new State(this.studentIndex, this.taskIndex, getOwner());
+    }
+
+    @Override
+    public void restoreState(State state) {
+        this.studentIndex = state.studentIndex;
+        this.taskIndex = state.taskIndex;
+        replaceOwner(state.owner);
+    }
+
+    @Override
+    protected void onContentLoaded() {
+        if (this.studentIndex != null) {
+            this.studentIndex.putAll(this);
+        }
+    }
+
+    @Override
+    public void addChild(Id id, Student child) throws DuplicateChildException {
+        super.addChild(id, child);
+        if (this.studentIndex != null) {
+            this.studentIndex.put(this.id, child);
+        }
+    }
+
+    @Override
+    public Student deleteChild(Id id) throws NoSuchChildException {
+        Student child = super.deleteChild(id);
+        if (this.studentIndex != null) {
+            this.studentIndex.remove(this.id, child.getId());
+        }
+        return child;
+    }
+
+    @Override
+    public Student replaceChild(Id id, Student child) throws NoSuchChildException, DuplicateChildException {
+        Student oldChild = super.replaceChild(id, child);
+        if (this.studentIndex != null) {
+            this.studentIndex.remove(this.id, oldChild.getId());
+            this.studentIndex.put(this.id, child);
+        }
+        return oldChild;
+    }
+
+    @Override
+    public void addChildren(List<Student> children) throws DuplicateChildException {
+        super.addChildren(children);
+        if (this.studentIndex != null) {
+            for (Student child : children) {
+                this.studentIndex.put(this.id, child);
+            }
+        }
+    }
+
+    @Override
+    public List<Student> deleteChildren(List<? extends Id> ids) throws NoSuchChildException {
+        List<Student> children = super.deleteChildren(ids);
+        if (this.studentIndex != null) {
+            for (Student child : children) {
+                this.studentIndex.remove(this.id, child.getId());
+            }
+        }
+        return children;
+    }
+
     @Override
     public Group deepCopy() {
         return new Group(this);
@@ -88,6 +303,13 @@ public class Group extends ChildAndTaskListManager<Group, Student> {
         return new GroupCard(this, displayedIndex);
     }
 
+    @Override
+    public GroupCard updateDisplayCard(ItemCard card, int displayedIndex) {
+        GroupCard displayCard = (GroupCard) card;
+        displayCard.setGroup(this, displayedIndex);
+        return displayCard;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -123,5 +345,20 @@ public class Group extends ChildAndTaskListManager<Group, Student> {
                 && this.id.equals(otherGroup.id);
     }
 
+    /**
+     * Indexes and owner of a {@code Group} at some point in time.
+     */
+    public static final class State {
+        private final StudentIndex studentIndex;
+        private final TaskIndex taskIndex;
+        private final GenerationListener owner;
+
+        private State(StudentIndex studentIndex, TaskIndex taskIndex, GenerationListener owner) {
+            this.studentIndex = studentIndex;
+            this.taskIndex = taskIndex;
+            this.owner = owner;
+        }
+    }
+
 }
 
@@ -0,0 +1,23 @@
+package seedu.address.model.profbook;
+
+import java.util.List;
+
+import seedu.address.model.id.StudentId;
+
+/**
+ * Loads the students and task list of a {@code Group} that was created with only its name and id,
+ * such as a group read lazily from storage.
+ * Implementations may be called from more than one thread, as copies of a group share its loader.
+ */
+public interface GroupContentLoader {
+
+    /**
+     * Returns the ids of the students in the group, without loading the students.
+     */
+    List<StudentId> loadStudentIds();
+
+    /**
+     * Returns a group with the students and task list of the group.
+     */
+    Group loadGroup();
+}
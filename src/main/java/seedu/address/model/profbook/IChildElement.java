@@ -1,6 +1,7 @@
 package seedu.address.model.profbook;
 
 import seedu.address.model.id.Id;
+import seedu.address.model.util.GenerationListener;
 import seedu.address.ui.Displayable;
 
 /**
@@ -20,4 +21,22 @@ public interface IChildElement<T> extends Displayable, Comparable<T> {
      */
     T deepCopy();
 
+    /**
+     * Returns the latest generation of this element and everything under it.
+     * The generation increases whenever the element or anything under it is modified,
+     * and is kept by {@link #deepCopy()}.
+     */
+    long getGeneration();
+
+    /**
+     * Reports the generation of every later change of this element or anything under it to {@code owner},
+     * or to nothing if {@code owner} is null. A copy made by {@link #deepCopy()} has no owner.
+     */
+    void setOwner(GenerationListener owner);
+
+    /**
+     * Stops reporting changes to {@code owner}, if this element is currently reporting to it.
+     */
+    void clearOwner(GenerationListener owner);
+
 }
@@ -32,6 +32,38 @@ public interface IChildManager<T extends IChildElement<T>> {
      */
     T deleteChild(Id id) throws NoSuchChildException;
 
+    /**
+     * Replaces the child specified by the id with {@code child}, which is then stored under its own id.
+     * The id of {@code child} may differ from {@code id}, in which case the child is rekeyed in one step instead of
+     * being deleted and added again.
+     *
+     * @param id    - Unique identifier of the child to be replaced
+     * @param child - The new child
+     * @return The replaced child
+     * @throws NoSuchChildException    If there is no such Child found
+     * @throws DuplicateChildException If the id of {@code child} is that of another child
+     */
+    T replaceChild(Id id, T child) throws NoSuchChildException, DuplicateChildException;
+
+    /**
+     * Adds all of {@code children}, each under its own id.
+     * Either all children are added or, if an exception is thrown, none of them.
+     *
+     * @param children - The children in question
+     * @throws DuplicateChildException If attempting to add a child with the same ID as another child
+     */
+    void addChildren(List<T> children) throws DuplicateChildException;
+
+    /**
+     * Deletes the children specified by the ids.
+     * Either all children are deleted or, if an exception is thrown, none of them.
+     *
+     * @param ids - Unique identifiers of the children
+     * @return The deleted children, in the order of {@code ids}
+     * @throws NoSuchChildException If any of the children is not found
+     */
+    List<T> deleteChildren(List<? extends Id> ids) throws NoSuchChildException;
+
     /**
      * Checks if the child is present
      *
@@ -55,12 +87,12 @@ public interface IChildManager<T extends IChildElement<T>> {
     int numOfChildren();
 
     /**
-     * Returns a list of all current children
+     * Returns a read-only list of all current children in sorted order
      */
     List<T> getAllChildren();
 
     /**
-     * Returns children map.
+     * Returns a read-only map of the children.
      */
     Map<Id, T> getChildren();
 }
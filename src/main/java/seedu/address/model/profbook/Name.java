@@ -3,6 +3,8 @@ package seedu.address.model.profbook;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -26,16 +28,39 @@ public class Name {
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, true);
+    }
+
+    private Name(String name, boolean isValidationRequired) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        if (isValidationRequired) {
+            checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        }
         fullName = name;
     }
 
     /**
-     * Returns true if a given string is a valid name.
+     * Returns a {@code Name} for a name that is known to be valid, such as one written by ProfBook itself,
+     * without validating it again.
+     */
+    public static Name ofTrusted(String name) {
+        return new Name(name, false);
+    }
+
+    /**
+     * Returns true if a given string is a valid name, as declared by {@code VALIDATION_REGEX}.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || !ValidationUtil.isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !ValidationUtil.isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
 
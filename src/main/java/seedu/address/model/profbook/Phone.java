@@ -2,6 +2,8 @@ package seedu.address.model.profbook;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -12,6 +14,7 @@ public class Phone {
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
     public static final Phone PLACEHOLDER = new Phone("n/a");
     public static final String VALIDATION_REGEX = "\\d{3,}";
+    private static final int MIN_LENGTH = 3;
     public final String value;
 
     /**
@@ -25,10 +28,10 @@ public class Phone {
     }
 
     /**
-     * Returns true if a given string is a valid phone number.
+     * Returns true if a given string is a valid phone number, as declared by {@code VALIDATION_REGEX}.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return test.length() >= MIN_LENGTH && ValidationUtil.isDigits(test, 0, test.length());
     }
 
     @Override
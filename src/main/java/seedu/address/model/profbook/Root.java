@@ -1,14 +1,38 @@
 package seedu.address.model.profbook;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.id.GroupId;
 import seedu.address.model.id.Id;
+import seedu.address.model.id.IdMap;
+import seedu.address.model.id.StudentId;
+import seedu.address.model.profbook.exceptions.DuplicateChildException;
+import seedu.address.model.profbook.exceptions.NoSuchChildException;
 
 /**
  * Encapsulates logic for the whole application data
  */
 public class Root extends ChildManager<Group> {
+    public static final String MESSAGE_INCONSISTENT_STUDENT_INDEX = "Student index does not match the groups in root.";
+
+    /**
+     * If true, every student lookup verifies the student index against all groups, meant for tests.
+     */
+    private static boolean isStudentIndexCheckEnabled = false;
+
+    /**
+     * Maps the id of every student in ProfBook to its group
+     */
+    private final StudentIndex studentIndex = new StudentIndex();
+
+    /**
+     * Maps the words of every task description in ProfBook to the task lists holding the tasks
+     */
+    private final TaskIndex taskIndex = new TaskIndex();
 
     /**
      * Constructs a prof book instance with task list and children.
@@ -17,6 +41,17 @@ public class Root extends ChildManager<Group> {
      */
     public Root(Map<Id, Group> children) {
         super(children);
+        indexAllGroups();
+    }
+
+    /**
+     * Constructs a prof book instance that takes over {@code children} instead of copying them.
+     *
+     * @param children - The Groups under the root, not modified through anything else afterwards
+     */
+    public Root(IdMap<Group> children) {
+        super(children);
+        indexAllGroups();
     }
 
     /**
@@ -33,6 +68,191 @@ public class Root extends ChildManager<Group> {
      */
     public Root(Root toBeCopied) {
         super(toBeCopied);
+        indexAllGroups();
+    }
+
+    /**
+     * Constructs a copy of {@code toBeCopied} that shares with {@code previousCopy} the groups that have not
+     * changed since {@code previousCopy} was made, instead of copying them again.
+     * Neither the copy nor {@code previousCopy} may be modified afterwards, as they share groups.
+     * <p>
+     * A group is unchanged if the group with the same id in {@code previousCopy} has the same generation, as
+     * copies keep the generation of the group they copy. Groups that are not loaded are always copied, as they
+     * are cheap to copy and loading them later would modify them.
+     *
+     * @param toBeCopied   - Root to copy
+     * @param previousCopy - An earlier copy of a root that is no longer modified, or null if there is none
+     */
+    public Root(Root toBeCopied, Root previousCopy) {
+        super(toBeCopied, copyGroups(toBeCopied, previousCopy));
+        for (Group group : getChildren().values()) {
+            // Shared groups keep reporting to the copy they were made for, which never changes
+            if (previousCopy == null || previousCopy.getChildren().get(group.getId()) != group) {
+                group.setIndexes(this.studentIndex, this.taskIndex);
+                group.setOwner(this);
+            }
+            this.studentIndex.putAll(group);
+        }
+    }
+
+    /**
+     * Enables or disables verification of the student index on every student lookup.
+     */
+    public static void setStudentIndexCheckEnabled(boolean isEnabled) {
+        isStudentIndexCheckEnabled = isEnabled;
+    }
+
+    @Override
+    public void addChild(Id id, Group child) throws DuplicateChildException {
+        super.addChild(id, child);
+        child.setIndexes(this.studentIndex, this.taskIndex);
+        this.studentIndex.putAll(child);
+        this.taskIndex.markChanged(child.getId());
+    }
+
+    @Override
+    public Group deleteChild(Id id) throws NoSuchChildException {
+        Group child = super.deleteChild(id);
+        child.clearIndexes(this.studentIndex);
+        this.studentIndex.removeAll(child);
+        this.taskIndex.markChanged(child.getId());
+        return child;
+    }
+
+    @Override
+    public Group replaceChild(Id id, Group child) throws NoSuchChildException, DuplicateChildException {
+        Group oldChild = super.replaceChild(id, child);
+        oldChild.clearIndexes(this.studentIndex);
+        this.studentIndex.removeAll(oldChild);
+        child.setIndexes(this.studentIndex, this.taskIndex);
+        this.studentIndex.putAll(child);
+        this.taskIndex.markChanged(oldChild.getId());
+        this.taskIndex.markChanged(child.getId());
+        return oldChild;
+    }
+
+    @Override
+    public void addChildren(List<Group> children) throws DuplicateChildException {
+        super.addChildren(children);
+        for (Group child : children) {
+            child.setIndexes(this.studentIndex, this.taskIndex);
+            this.studentIndex.putAll(child);
+            this.taskIndex.markChanged(child.getId());
+        }
+    }
+
+    @Override
+    public List<Group> deleteChildren(List<? extends Id> ids) throws NoSuchChildException {
+        List<Group> children = super.deleteChildren(ids);
+        for (Group child : children) {
+            child.clearIndexes(this.studentIndex);
+            this.studentIndex.removeAll(child);
+            this.taskIndex.markChanged(child.getId());
+        }
+        return children;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Changes that are undone or rolled back are not reported to the task index, so it checks every group again.
+     */
+    @Override
+    public void restoreState(State<Group> state) {
+        super.restoreState(state);
+        this.taskIndex.markAllChanged();
+    }
+
+    /**
+     * Returns true if there is a student with the given id in any group.
+     */
+    public boolean hasStudentWithId(StudentId id) {
+        verifyStudentIndexIfEnabled();
+        return this.studentIndex.contains(id);
+    }
+
+    /**
+     * Returns the student with the given id, if present in any group.
+     */
+    public Optional<Student> getStudentWithId(StudentId id) {
+        verifyStudentIndexIfEnabled();
+        return this.studentIndex.getStudent(id);
+    }
+
+    /**
+     * Returns the id of the group holding the student with the given id, if any.
+     */
+    public Optional<GroupId> getGroupIdOfStudent(StudentId id) {
+        verifyStudentIndexIfEnabled();
+        return this.studentIndex.getGroupId(id);
+    }
+
+    /**
+     * Returns the tasks in any group or student with a word starting with each word of {@code query}, ignoring case.
+     *
+     * @see TaskIndex#search(Root, String)
+     */
+    public List<TaskIndex.Match> searchTasks(String query) {
+        return this.taskIndex.search(this, query);
+    }
+
+    /**
+     * Returns the tasks in the group with {@code groupId} and its students with a word starting with each word of
+     * {@code query}, ignoring case.
+     *
+     * @see TaskIndex#search(Root, GroupId, String)
+     */
+    public List<TaskIndex.Match> searchTasks(GroupId groupId, String query) {
+        return this.taskIndex.search(this, groupId, query);
+    }
+
+    /**
+     * Returns the deadlines in any group or student that are not done and are due from {@code from} until before
+     * {@code to}, ordered by due time.
+     *
+     * @see TaskIndex#findDeadlines(Root, LocalDateTime, LocalDateTime)
+     */
+    public List<TaskIndex.Match> findDeadlines(LocalDateTime from, LocalDateTime to) {
+        return this.taskIndex.findDeadlines(this, from, to);
+    }
+
+    /**
+     * Returns the deadlines in the group with {@code groupId} and its students that are not done and are due from
+     * {@code from} until before {@code to}, ordered by due time.
+     */
+    public List<TaskIndex.Match> findDeadlines(GroupId groupId, LocalDateTime from, LocalDateTime to) {
+        return this.taskIndex.findDeadlines(this, groupId, from, to);
+    }
+
+    /**
+     * Returns true if the student index matches the students found by visiting every group.
+     */
+    public boolean isStudentIndexConsistent() {
+        return this.studentIndex.isConsistentWith(this);
+    }
+
+    private void verifyStudentIndexIfEnabled() {
+        if (isStudentIndexCheckEnabled && !isStudentIndexConsistent()) {
+            throw new IllegalStateException(MESSAGE_INCONSISTENT_STUDENT_INDEX);
+        }
+    }
+
+    private static IdMap<Group> copyGroups(Root toBeCopied, Root previousCopy) {
+        IdMap<Group> groups = IdMap.empty();
+        for (Group group : toBeCopied.getChildren().values()) {
+            Group previousGroup = previousCopy == null ? null : previousCopy.getChildren().get(group.getId());
+            boolean isUnchanged = previousGroup != null && previousGroup.isLoaded()
+                    && previousGroup.getGeneration() == group.getGeneration();
+            groups = groups.plus(group.getId(), isUnchanged ? previousGroup : group.deepCopy());
+        }
+        return groups;
+    }
+
+    private void indexAllGroups() {
+        for (Group group : getChildren().values()) {
+            group.setIndexes(this.studentIndex, this.taskIndex);
+            this.studentIndex.putAll(group);
+        }
     }
 
     @Override
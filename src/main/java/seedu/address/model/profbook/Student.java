@@ -6,6 +6,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.id.StudentId;
 import seedu.address.model.task.ReadOnlyTaskList;
 import seedu.address.model.task.TaskListManager;
+import seedu.address.ui.ItemCard;
 import seedu.address.ui.StudentCard;
 
 /**
@@ -122,6 +123,13 @@ public class Student extends TaskListManager implements IChildElement<Student> {
         return new StudentCard(this, displayedIndex);
     }
 
+    @Override
+    public StudentCard updateDisplayCard(ItemCard card, int displayedIndex) {
+        StudentCard displayCard = (StudentCard) card;
+        displayCard.setStudent(this, displayedIndex);
+        return displayCard;
+    }
+
     @Override
     public Student deepCopy() {
         return new Student(this);
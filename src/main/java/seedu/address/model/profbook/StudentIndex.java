@@ -0,0 +1,204 @@
+package seedu.address.model.profbook;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.id.GroupId;
+import seedu.address.model.id.IdMap;
+import seedu.address.model.id.StudentId;
+import seedu.address.model.util.Restorable;
+import seedu.address.model.util.Transaction;
+
+/**
+ * Maps every {@code StudentId} in a {@code Root} to the {@code Group} that holds the student and the
+ * {@code Student} itself, so that ProfBook-wide student lookups do not need to visit every group.
+ * The index is kept up to date by {@code Root} and {@code Group} whenever a child is added or deleted.
+ * <p>
+ * Groups whose students are not loaded yet are only indexed by their student ids when the index is first
+ * queried, and the students themselves are only loaded when they are looked up.
+ */
+public class StudentIndex implements Restorable<StudentIndex.State> {
+
+    /**
+     * Maps the student id to the location of the student
+     */
+    private IdMap<Entry> entries = IdMap.empty();
+
+    /**
+     * Groups with students that are not loaded yet and not indexed yet
+     */
+    private IdMap<Group> pendingGroups = IdMap.empty();
+
+    /**
+     * Records that {@code student} is stored in the group with {@code groupId}.
+     * Any previous entry with the same student id is replaced.
+     */
+    public void put(GroupId groupId, Student student) {
+        requireAllNonNull(groupId, student);
+        Transaction.recordChange(this);
+        this.entries = this.entries.plus(student.getId(), new Entry(groupId, student, null));
+    }
+
+    /**
+     * Removes the entry of {@code studentId} if it is currently recorded under {@code groupId}.
+     * An entry recorded under another group is left untouched, as the student has been moved there.
+     */
+    public void remove(GroupId groupId, StudentId studentId) {
+        requireAllNonNull(groupId, studentId);
+        Entry entry = this.entries.get(studentId);
+        if (entry != null && entry.groupId.equals(groupId)) {
+            Transaction.recordChange(this);
+            this.entries = this.entries.minus(studentId);
+        }
+    }
+
+    /**
+     * Records all students of {@code group}.
+     * If the students of {@code group} are not loaded, they are recorded when the index is next queried.
+     */
+    public void putAll(Group group) {
+        Transaction.recordChange(this);
+        if (!group.isLoaded()) {
+            this.pendingGroups = this.pendingGroups.plus(group.getId(), group);
+            return;
+        }
+        this.pendingGroups = this.pendingGroups.minus(group.getId());
+        for (Student student : group.getChildren().values()) {
+            put(group.getId(), student);
+        }
+    }
+
+    /**
+     * Removes all students of {@code group}.
+     */
+    public void removeAll(Group group) {
+        if (this.pendingGroups.get(group.getId()) == group) {
+            Transaction.recordChange(this);
+            this.pendingGroups = this.pendingGroups.minus(group.getId());
+            return;
+        }
+        for (StudentId studentId : group.getStudentIds()) {
+            remove(group.getId(), studentId);
+        }
+    }
+
+    /**
+     * Returns true if there is a student with the given id.
+     */
+    public boolean contains(StudentId id) {
+        indexPendingGroups();
+        return this.entries.containsKey(id);
+    }
+
+    /**
+     * Returns the student with the given id, if any.
+     */
+    public Optional<Student> getStudent(StudentId id) {
+        indexPendingGroups();
+        Entry entry = this.entries.get(id);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        // Loading the group of a student that is not loaded yet records its students in this index
+        return Optional.of(entry.student != null ? entry.student : entry.unloadedGroup.getChild(id));
+    }
+
+    /**
+     * Returns the id of the group holding the student with the given id, if any.
+     */
+    public Optional<GroupId> getGroupId(StudentId id) {
+        indexPendingGroups();
+        Entry entry = this.entries.get(id);
+        return entry == null ? Optional.empty() : Optional.of(entry.groupId);
+    }
+
+    /**
+     * Returns number of indexed students.
+     */
+    public int size() {
+        indexPendingGroups();
+        return this.entries.size();
+    }
+
+    /**
+     * Returns true if this index describes exactly the students found by visiting every group in {@code root}.
+     * All groups in {@code root} are loaded to do so.
+     */
+    public boolean isConsistentWith(Root root) {
+        indexPendingGroups();
+        int numOfStudents = 0;
+        for (Group group : root.getChildren().values()) {
+            for (Student student : group.getChildren().values()) {
+                Entry entry = this.entries.get(student.getId());
+                if (entry == null || !entry.groupId.equals(group.getId()) || entry.student != student) {
+                    return false;
+                }
+                numOfStudents++;
+            }
+        }
+        return numOfStudents == this.entries.size();
+    }
+
+    private void indexPendingGroups() {
+        if (this.pendingGroups.isEmpty()) {
+            return;
+        }
+        Transaction.recordChange(this);
+        for (Group group : this.pendingGroups.values()) {
+            for (StudentId studentId : group.getStudentIds()) {
+                this.entries = this.entries.plus(studentId, new Entry(group.getId(), null, group));
+            }
+        }
+        this.pendingGroups = IdMap.empty();
+    }
+
+    @Override
+    public State captureState() {
+        return new State(this.entries, this.pendingGroups);
+    }
+
+    @Override
+    public void restoreState(State state) {
+        this.entries = state.entries;
+        this.pendingGroups = state.pendingGroups;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("Indexed students", this.entries.size())
+                .add("Groups not indexed yet", this.pendingGroups.size())
+                .toString();
+    }
+
+    /**
+     * Entries and pending groups of a {@code StudentIndex} at some point in time.
+     */
+    public static final class State {
+        private final IdMap<Entry> entries;
+        private final IdMap<Group> pendingGroups;
+
+        private State(IdMap<Entry> entries, IdMap<Group> pendingGroups) {
+            this.entries = entries;
+            this.pendingGroups = pendingGroups;
+        }
+    }
+
+    /**
+     * Location of a student in ProfBook.
+     * Exactly one of {@code student} and {@code unloadedGroup} is set, depending on whether the student is loaded.
+     */
+    private static class Entry {
+        private final GroupId groupId;
+        private final Student student;
+        private final Group unloadedGroup;
+
+        Entry(GroupId groupId, Student student, Group unloadedGroup) {
+            this.groupId = groupId;
+            this.student = student;
+            this.unloadedGroup = unloadedGroup;
+        }
+    }
+}
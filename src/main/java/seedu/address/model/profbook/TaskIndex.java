@@ -0,0 +1,471 @@
+package seedu.address.model.profbook;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.id.GroupId;
+import seedu.address.model.id.Id;
+import seedu.address.model.id.StudentId;
+import seedu.address.model.path.AbsolutePath;
+import seedu.address.model.path.RelativePath;
+import seedu.address.model.path.exceptions.InvalidPathException;
+import seedu.address.model.task.Deadline;
+import seedu.address.model.task.Task;
+
+/**
+ * Maps every word in the task descriptions of a {@code Root} to the group and student task lists holding the tasks,
+ * for the whole root and for each group, so that searching for tasks does not need to visit every task.
+ * Deadlines that are not done are also ordered by due time, for the whole root and for each group, so that the
+ * deadlines due in a period are found without visiting the deadlines outside it.
+ * <p>
+ * The groups of the root report every change to them or their students, and the root reports groups it adds or
+ * deletes, so that only the groups that changed are reindexed before the next search. Within such a group, only the
+ * task lists that were replaced since it was last indexed, by adding, deleting or editing a task, are compared with
+ * the tasks indexed for them. Changes undone or rolled back are not reported, so the root marks every group as
+ * changed when it is restored, and each group is then reindexed only if its generation differs from when it was last
+ * indexed. Groups that are not loaded yet are loaded when first searched.
+ */
+public class TaskIndex {
+    private static final Comparator<Match> MATCH_ORDER = Comparator
+            .comparing((Match match) -> match.groupId.toString())
+            .thenComparing(match -> match.studentId == null ? "" : match.studentId.toString())
+            .thenComparing(match -> match.task.getDesc());
+    private static final Comparator<Match> DEADLINE_ORDER = Comparator
+            .comparing((Match match) -> ((Deadline) match.task).getDueBy())
+            .thenComparing(MATCH_ORDER);
+
+    /**
+     * Groups as they were when they were last indexed
+     */
+    private final Map<GroupId, IndexedGroup> indexedGroups = new HashMap<>();
+
+    /**
+     * Maps each word to the tasks with the word in their description, with the number of times each task is indexed,
+     * for the whole root and by group
+     */
+    private final NavigableMap<String, Map<Entry, Integer>> entriesByWord = new TreeMap<>();
+    private final Map<GroupId, NavigableMap<String, Map<Entry, Integer>>> groupEntriesByWord = new HashMap<>();
+
+    /**
+     * Maps each due time to the deadlines that are not done with that due time, for the whole root and by group
+     */
+    private final NavigableMap<LocalDateTime, Map<Entry, Integer>> deadlinesByDueTime = new TreeMap<>();
+    private final Map<GroupId, NavigableMap<LocalDateTime, Map<Entry, Integer>>> groupDeadlinesByDueTime =
+            new HashMap<>();
+
+    /**
+     * Ids of the groups that changed since they were last indexed
+     */
+    private final Set<GroupId> changedGroupIds = new HashSet<>();
+
+    /**
+     * True if every group may have changed, as when the index is new or the root was restored
+     */
+    private boolean isAllChanged = true;
+
+    /**
+     * Marks the group with {@code groupId} as changed, so that it is reindexed before the next search.
+     */
+    void markChanged(GroupId groupId) {
+        if (!this.isAllChanged) {
+            this.changedGroupIds.add(groupId);
+        }
+    }
+
+    /**
+     * Marks every group as changed, so that each of them is checked against the index before the next search.
+     */
+    void markAllChanged() {
+        this.isAllChanged = true;
+        this.changedGroupIds.clear();
+    }
+
+    /**
+     * Returns the tasks in {@code root} with a word starting with each word of {@code query}, ignoring case,
+     * ordered by the path of their task list and then by description.
+     * Returns no tasks if {@code query} has no words.
+     */
+    public List<Match> search(Root root, String query) {
+        requireNonNull(query);
+        update(root);
+        return search(this.entriesByWord, query);
+    }
+
+    /**
+     * Returns the tasks in the group with {@code groupId} and its students with a word starting with each word of
+     * {@code query}, ignoring case, ordered by the path of their task list and then by description.
+     * Only the words of the group are searched. Returns no tasks if {@code query} has no words.
+     */
+    public List<Match> search(Root root, GroupId groupId, String query) {
+        requireAllNonNull(groupId, query);
+        update(root);
+        NavigableMap<String, Map<Entry, Integer>> groupEntries = this.groupEntriesByWord.get(groupId);
+        return groupEntries == null ? List.of() : search(groupEntries, query);
+    }
+
+    private static List<Match> search(NavigableMap<String, Map<Entry, Integer>> entriesByWord, String query) {
+        List<Set<Entry>> entriesByTerm = new ArrayList<>();
+        for (String term : tokenize(query)) {
+            entriesByTerm.add(findEntries(entriesByWord, term));
+        }
+        if (entriesByTerm.isEmpty()) {
+            return List.of();
+        }
+
+        // Intersecting from the rarest term keeps the intermediate sets small
+        entriesByTerm.sort(Comparator.comparingInt(Set::size));
+        Set<Entry> result = new HashSet<>(entriesByTerm.get(0));
+        for (int i = 1; i < entriesByTerm.size() && !result.isEmpty(); i++) {
+            result.retainAll(entriesByTerm.get(i));
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (Entry entry : result) {
+            matches.add(new Match(entry.groupId, entry.studentId, entry.task));
+        }
+        matches.sort(MATCH_ORDER);
+        return matches;
+    }
+
+    /**
+     * Returns the deadlines in {@code root} that are not done and are due from {@code from} until before
+     * {@code to}, ordered by due time and then by the path of their task list.
+     */
+    public List<Match> findDeadlines(Root root, LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        update(root);
+        return toDeadlineMatches(this.deadlinesByDueTime, from, to);
+    }
+
+    /**
+     * Returns the deadlines in the group with {@code groupId} and its students that are not done and are due from
+     * {@code from} until before {@code to}, ordered by due time and then by the path of their task list.
+     */
+    public List<Match> findDeadlines(Root root, GroupId groupId, LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(groupId, from, to);
+        update(root);
+        NavigableMap<LocalDateTime, Map<Entry, Integer>> groupDeadlines = this.groupDeadlinesByDueTime.get(groupId);
+        return groupDeadlines == null ? List.of() : toDeadlineMatches(groupDeadlines, from, to);
+    }
+
+    private static List<Match> toDeadlineMatches(NavigableMap<LocalDateTime, Map<Entry, Integer>> deadlines,
+                                                 LocalDateTime from, LocalDateTime to) {
+        List<Match> matches = new ArrayList<>();
+        if (!from.isBefore(to)) {
+            return matches;
+        }
+        for (Map<Entry, Integer> entries : deadlines.subMap(from, true, to, false).values()) {
+            int start = matches.size();
+            for (Entry entry : entries.keySet()) {
+                matches.add(new Match(entry.groupId, entry.studentId, entry.task));
+            }
+            // Only deadlines with the same due time need sorting by path
+            matches.subList(start, matches.size()).sort(MATCH_ORDER);
+        }
+        return matches;
+    }
+
+    /**
+     * Splits {@code text} into lower case words of letters and digits.
+     */
+    static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordCharacter && start < 0) {
+                start = i;
+            } else if (!isWordCharacter && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    private static Set<Entry> findEntries(NavigableMap<String, Map<Entry, Integer>> entriesByWord, String prefix) {
+        Set<Entry> entries = new HashSet<>();
+        for (Map<Entry, Integer> entriesOfWord
+                : entriesByWord.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            entries.addAll(entriesOfWord.keySet());
+        }
+        return entries;
+    }
+
+    private void update(Root root) {
+        Map<Id, Group> groups = root.getChildren();
+        if (this.isAllChanged) {
+            this.changedGroupIds.addAll(this.indexedGroups.keySet());
+            for (Group group : groups.values()) {
+                this.changedGroupIds.add(group.getId());
+            }
+            this.isAllChanged = false;
+        }
+
+        Iterator<GroupId> iterator = this.changedGroupIds.iterator();
+        while (iterator.hasNext()) {
+            updateGroup(iterator.next(), groups);
+            iterator.remove();
+        }
+    }
+
+    private void updateGroup(GroupId groupId, Map<Id, Group> groups) {
+        Group group = groups.get(groupId);
+        IndexedGroup indexedGroup = this.indexedGroups.get(groupId);
+        if (group == null) {
+            if (indexedGroup != null) {
+                this.indexedGroups.remove(groupId);
+                unindex(indexedGroup);
+            }
+        } else if (indexedGroup == null || indexedGroup.group != group
+                || indexedGroup.generation != group.getGeneration()) {
+            this.indexedGroups.put(groupId, reindex(group, indexedGroup));
+        }
+    }
+
+    private IndexedGroup reindex(Group group, IndexedGroup previous) {
+        GroupId groupId = group.getId();
+        List<Task> groupTasks = group.getAllTasks();
+        Map<StudentId, List<Task>> previousStudentTasks = previous == null ? Map.of() : previous.studentTasks;
+        replaceTasks(groupId, null, previous == null ? List.of() : previous.groupTasks, groupTasks);
+
+        Map<StudentId, List<Task>> studentTasks = new HashMap<>();
+        for (Student student : group.getAllChildren()) {
+            List<Task> tasks = student.getAllTasks();
+            List<Task> previousTasks = previousStudentTasks.getOrDefault(student.getId(), List.of());
+            replaceTasks(groupId, student.getId(), previousTasks, tasks);
+            studentTasks.put(student.getId(), tasks);
+        }
+        for (Map.Entry<StudentId, List<Task>> previousTasks : previousStudentTasks.entrySet()) {
+            if (!studentTasks.containsKey(previousTasks.getKey())) {
+                replaceTasks(groupId, previousTasks.getKey(), previousTasks.getValue(), List.of());
+            }
+        }
+        return new IndexedGroup(group, group.getGeneration(), groupTasks, studentTasks);
+    }
+
+    private void unindex(IndexedGroup indexedGroup) {
+        GroupId groupId = indexedGroup.group.getId();
+        replaceTasks(groupId, null, indexedGroup.groupTasks, List.of());
+        for (Map.Entry<StudentId, List<Task>> tasks : indexedGroup.studentTasks.entrySet()) {
+            replaceTasks(groupId, tasks.getKey(), tasks.getValue(), List.of());
+        }
+    }
+
+    /**
+     * Replaces the tasks indexed for a task list, from {@code oldTasks} to {@code newTasks}.
+     * Task lists are persistent, so a list that is the same instance as before has not changed.
+     */
+    private void replaceTasks(GroupId groupId, StudentId studentId, List<Task> oldTasks, List<Task> newTasks) {
+        if (oldTasks == newTasks) {
+            return;
+        }
+
+        // Counts the tasks added to the list, less the ones removed, by identity as edited tasks are replaced
+        Map<Task, Integer> changes = new IdentityHashMap<>();
+        for (Task task : newTasks) {
+            changes.merge(task, 1, Integer::sum);
+        }
+        for (Task task : oldTasks) {
+            changes.merge(task, -1, Integer::sum);
+        }
+
+        for (Map.Entry<Task, Integer> change : changes.entrySet()) {
+            if (change.getValue() != 0) {
+                Entry entry = new Entry(groupId, studentId, change.getKey());
+                for (String word : new HashSet<>(tokenize(entry.task.getDesc()))) {
+                    addWord(word, entry, change.getValue());
+                }
+                if (entry.task instanceof Deadline && !entry.task.getStatus()) {
+                    addDeadline(entry, change.getValue());
+                }
+            }
+        }
+    }
+
+    private void addWord(String word, Entry entry, int count) {
+        addEntry(this.entriesByWord, word, entry, count);
+        NavigableMap<String, Map<Entry, Integer>> groupEntries =
+                this.groupEntriesByWord.computeIfAbsent(entry.groupId, unused -> new TreeMap<>());
+        addEntry(groupEntries, word, entry, count);
+        if (groupEntries.isEmpty()) {
+            this.groupEntriesByWord.remove(entry.groupId);
+        }
+    }
+
+    private void addDeadline(Entry entry, int count) {
+        LocalDateTime dueBy = ((Deadline) entry.task).getDueBy();
+        addEntry(this.deadlinesByDueTime, dueBy, entry, count);
+        NavigableMap<LocalDateTime, Map<Entry, Integer>> groupDeadlines =
+                this.groupDeadlinesByDueTime.computeIfAbsent(entry.groupId, unused -> new TreeMap<>());
+        addEntry(groupDeadlines, dueBy, entry, count);
+        if (groupDeadlines.isEmpty()) {
+            this.groupDeadlinesByDueTime.remove(entry.groupId);
+        }
+    }
+
+    /**
+     * Adds {@code count} to the number of times {@code entry} is indexed under {@code key}, which may be negative.
+     */
+    private static <K> void addEntry(Map<K, Map<Entry, Integer>> entriesByKey, K key, Entry entry, int count) {
+        Map<Entry, Integer> entries = entriesByKey.computeIfAbsent(key, unused -> new HashMap<>());
+        entries.merge(entry, count, (oldCount, addedCount) -> {
+            int newCount = oldCount + addedCount;
+            return newCount == 0 ? null : newCount;
+        });
+        if (entries.isEmpty()) {
+            entriesByKey.remove(key);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("Indexed groups", this.indexedGroups.size())
+                .add("Indexed words", this.entriesByWord.size())
+                .add("Indexed due times", this.deadlinesByDueTime.size())
+                .toString();
+    }
+
+    /**
+     * A task found by a search, with the group and student holding it.
+     */
+    public static final class Match {
+        private final GroupId groupId;
+        private final StudentId studentId;
+        private final Task task;
+
+        private Match(GroupId groupId, StudentId studentId, Task task) {
+            this.groupId = groupId;
+            this.studentId = studentId;
+            this.task = task;
+        }
+
+        public GroupId getGroupId() {
+            return groupId;
+        }
+
+        /**
+         * Returns the id of the student holding the task, or an empty {@code Optional} if the group holds it.
+         */
+        public Optional<StudentId> getStudentId() {
+            return Optional.ofNullable(studentId);
+        }
+
+        public Task getTask() {
+            return task;
+        }
+
+        /**
+         * Returns the path of the group or student holding the task.
+         */
+        public AbsolutePath getPath() {
+            String relativePath = studentId == null ? groupId.toString() : groupId + "/" + studentId;
+            try {
+                return AbsolutePath.ROOT_PATH.resolve(new RelativePath(relativePath));
+            } catch (InvalidPathException e) {
+                throw new IllegalStateException("Internal Error: " + e.getMessage());
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Match)) {
+                return false;
+            }
+
+            Match otherMatch = (Match) other;
+            return groupId.equals(otherMatch.groupId)
+                    && Objects.equals(studentId, otherMatch.studentId)
+                    && task.equals(otherMatch.task);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(groupId, studentId, task);
+        }
+
+        @Override
+        public String toString() {
+            return getPath() + ": " + task;
+        }
+    }
+
+    /**
+     * A task indexed for the task list of a group, or of a student if {@code studentId} is set.
+     * Tasks are compared by identity, as tasks that are equal may differ in status.
+     */
+    private static final class Entry {
+        private final GroupId groupId;
+        private final StudentId studentId;
+        private final Task task;
+
+        Entry(GroupId groupId, StudentId studentId, Task task) {
+            this.groupId = groupId;
+            this.studentId = studentId;
+            this.task = task;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Entry)) {
+                return false;
+            }
+
+            Entry otherEntry = (Entry) other;
+            return task == otherEntry.task
+                    && groupId.equals(otherEntry.groupId)
+                    && Objects.equals(studentId, otherEntry.studentId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(groupId, studentId, System.identityHashCode(task));
+        }
+    }
+
+    /**
+     * A group and the task lists of it and its students, as they were when the group was indexed.
+     */
+    private static final class IndexedGroup {
+        private final Group group;
+        private final long generation;
+        private final List<Task> groupTasks;
+        private final Map<StudentId, List<Task>> studentTasks;
+
+        IndexedGroup(Group group, long generation, List<Task> groupTasks, Map<StudentId, List<Task>> studentTasks) {
+            this.group = group;
+            this.generation = generation;
+            this.groupTasks = groupTasks;
+            this.studentTasks = Collections.unmodifiableMap(studentTasks);
+        }
+    }
+}
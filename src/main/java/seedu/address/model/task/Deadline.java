@@ -2,10 +2,12 @@ package seedu.address.model.task;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.ui.DeadlineCard;
+import seedu.address.ui.ItemCard;
 
 /**
  * The Deadline class represents a deadline task for the ProfBook.
@@ -27,7 +29,7 @@ public class Deadline extends Task {
     public Deadline(String description, LocalDateTime deadline) {
         super(description);
         this.dueBy = deadline;
-        logger.info("Created Deadline: " + description + " (by: " + formatDueBy() + ")");
+        logger.finer(() -> "Created Deadline: " + description + " (by: " + formatDueBy() + ")");
     }
 
     /**
@@ -39,6 +41,10 @@ public class Deadline extends Task {
         this.dueBy = deadline;
     }
 
+    public LocalDateTime getDueBy() {
+        return this.dueBy;
+    }
+
     public String getDeadline() {
         return this.dueBy.format(OUTPUT_DATETIME_FORMATTER);
     }
@@ -63,6 +69,13 @@ public class Deadline extends Task {
         return new DeadlineCard(this, displayedIndex);
     }
 
+    @Override
+    public DeadlineCard updateDisplayCard(ItemCard card, int displayedIndex) {
+        DeadlineCard displayCard = (DeadlineCard) card;
+        displayCard.setDeadline(this, displayedIndex);
+        return displayCard;
+    }
+
     /**
      * Returns a string representation of the task
      * @return a string representing the task
@@ -99,5 +112,10 @@ public class Deadline extends Task {
         Deadline otherDeadline = (Deadline) other;
         return super.equals(otherDeadline) && dueBy.equals(otherDeadline.dueBy);
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Deadline.class, description, dueBy);
+    }
 }
 
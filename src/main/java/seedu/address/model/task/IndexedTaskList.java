@@ -0,0 +1,122 @@
+package seedu.address.model.task;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.PersistentMap;
+
+/**
+ * An immutable list of tasks that also indexes the tasks by description, so that checking whether the list
+ * contains a task only compares it with the tasks of the same description instead of every task.
+ * <p>
+ * Like the persistent collections it is built on, updated versions of the list share structure with the versions
+ * they were created from.
+ */
+public final class IndexedTaskList extends AbstractList<Task> implements RandomAccess {
+    private static final IndexedTaskList EMPTY = new IndexedTaskList(PersistentList.empty(), PersistentMap.empty());
+
+    private final PersistentList<Task> tasks;
+
+    /**
+     * Maps each description to the tasks in the list with that description, in list order
+     */
+    private final PersistentMap<String, PersistentList<Task>> tasksByDescription;
+
+    private IndexedTaskList(PersistentList<Task> tasks,
+                            PersistentMap<String, PersistentList<Task>> tasksByDescription) {
+        this.tasks = tasks;
+        this.tasksByDescription = tasksByDescription;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    public static IndexedTaskList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a list with the tasks of {@code tasks}, in iteration order.
+     */
+    public static IndexedTaskList copyOf(Collection<? extends Task> tasks) {
+        if (tasks instanceof IndexedTaskList) {
+            return (IndexedTaskList) tasks;
+        }
+        IndexedTaskList result = empty();
+        for (Task task : tasks) {
+            result = result.plus(task);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a list with the tasks of this list followed by {@code task}.
+     */
+    public IndexedTaskList plus(Task task) {
+        Objects.requireNonNull(task);
+        return new IndexedTaskList(tasks.plus(task), indexed(tasksByDescription, task));
+    }
+
+    /**
+     * Returns a list with the tasks of this list, except that the task at {@code index} is {@code task}.
+     */
+    public IndexedTaskList with(int index, Task task) {
+        Objects.requireNonNull(task);
+        Task oldTask = tasks.get(index);
+        return new IndexedTaskList(tasks.with(index, task), indexed(unindexed(tasksByDescription, oldTask), task));
+    }
+
+    /**
+     * Returns a list with the tasks of this list except the task at {@code index}.
+     */
+    public IndexedTaskList minus(int index) {
+        Task oldTask = tasks.get(index);
+        return new IndexedTaskList(tasks.minus(index), unindexed(tasksByDescription, oldTask));
+    }
+
+    /**
+     * Returns true if the list has a task equal to {@code o}, comparing it only with tasks of the same description.
+     */
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Task)) {
+            return false;
+        }
+        PersistentList<Task> sameDescription = tasksByDescription.get(((Task) o).getDesc());
+        return sameDescription != null && sameDescription.contains(o);
+    }
+
+    @Override
+    public Task get(int index) {
+        return tasks.get(index);
+    }
+
+    @Override
+    public int size() {
+        return tasks.size();
+    }
+
+    private static PersistentMap<String, PersistentList<Task>> indexed(
+            PersistentMap<String, PersistentList<Task>> index, Task task) {
+        PersistentList<Task> sameDescription = index.get(task.getDesc());
+        return index.plus(task.getDesc(),
+                sameDescription == null ? PersistentList.<Task>empty().plus(task) : sameDescription.plus(task));
+    }
+
+    private static PersistentMap<String, PersistentList<Task>> unindexed(
+            PersistentMap<String, PersistentList<Task>> index, Task task) {
+        PersistentList<Task> sameDescription = index.get(task.getDesc());
+        if (sameDescription.size() == 1) {
+            return index.minus(task.getDesc());
+        }
+        // The task instance itself is removed, as there may be other tasks equal to it
+        int position = 0;
+        while (sameDescription.get(position) != task) {
+            position++;
+        }
+        return index.plus(task.getDesc(), sameDescription.minus(position));
+    }
+}
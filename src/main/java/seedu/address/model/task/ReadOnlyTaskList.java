@@ -44,7 +44,7 @@ public interface ReadOnlyTaskList {
     /**
      * Retrieves all tasks from the task list.
      *
-     * @return A list of all tasks.
+     * @return A read-only list of all tasks.
      */
     List<Task> getAllTasks();
 }
@@ -81,4 +81,9 @@ public abstract class Task implements Displayable {
         return description.equals(otherTask.description);
     }
 
+    @Override
+    public int hashCode() {
+        return description.hashCode();
+    }
+
 }
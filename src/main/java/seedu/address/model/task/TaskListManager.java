@@ -1,25 +1,45 @@
 //@@author mingyuanc
 package seedu.address.model.task;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.task.exceptions.NoSuchTaskException;
+import seedu.address.model.util.Generation;
+import seedu.address.model.util.GenerationListener;
+import seedu.address.model.util.Restorable;
+import seedu.address.model.util.Transaction;
 
 
 /**
  * Encapsulate the logic of a prof book model, mainly the need for a task list
  * at every level
+ * <p>
+ * The task list is persistent, so copies and states recorded by a {@code Transaction} share it until it changes.
+ * It also indexes the tasks by description, so that checking for a duplicate task does not visit every task.
+ * Every change is reported to the owner of the manager, if it has one.
  */
-public class TaskListManager implements ITaskListManager {
-    protected final List<Task> taskList;
+public class TaskListManager implements ITaskListManager, Restorable<TaskListManager.State> {
+    private IndexedTaskList taskList;
+
+    /**
+     * Generation of the last change to the task list
+     */
+    private long generation = Generation.next();
+
+    /**
+     * Told the generation of every change to the task list, null if nothing owns the manager
+     */
+    private GenerationListener owner = null;
 
     /**
      * Constructs a new task list manager
      */
     public TaskListManager() {
-        taskList = new ArrayList<>();
+        taskList = IndexedTaskList.empty();
     }
 
     /**
@@ -27,30 +47,69 @@ public class TaskListManager implements ITaskListManager {
      * @param taskList
      */
     public TaskListManager(List<Task> taskList) {
-        this.taskList = new ArrayList<>(taskList);
+        this.taskList = IndexedTaskList.copyOf(taskList);
     }
 
     /**
      * Constructs a new {@code TaskListManager} with the data in {@code toBeCopied}.
+     * The task list is shared with {@code toBeCopied} if it is a {@code TaskListManager}.
      * @param toBeCopied
      */
     public TaskListManager(ReadOnlyTaskList toBeCopied) {
-        this.taskList = new ArrayList<>(toBeCopied.getAllTasks());
+        this.taskList = IndexedTaskList.copyOf(toBeCopied.getAllTasks());
+    }
+
+    /**
+     * Constructs a copy of {@code toBeCopied} with the same generation.
+     * @param toBeCopied
+     */
+    public TaskListManager(TaskListManager toBeCopied) {
+        this.taskList = toBeCopied.taskList;
+        this.generation = toBeCopied.generation;
     }
 
     @Override
     public void addTask(Task t) {
         int initialSize = this.taskList.size();
-        taskList.add(t);
+        Transaction.recordChange(this);
+        this.taskList = this.taskList.plus(t);
+        this.generation = Generation.next();
+        notifyOwner();
         assert this.taskList.size() == initialSize + 1 : "Task Deadline should be added to the list";
     }
 
+    /**
+     * Returns the task list of this manager with a copy of {@code t} added, or null if the manager already contains
+     * a task equal to {@code t}. The manager itself is not changed, so several threads can call this on managers
+     * that nothing else changes meanwhile.
+     */
+    public IndexedTaskList plusCopyIfAbsent(Task t) {
+        if (this.taskList.contains(t)) {
+            return null;
+        }
+        return this.taskList.plus(t.clone());
+    }
+
+    /**
+     * Replaces the task list with {@code taskList}, such as a list returned by {@link #plusCopyIfAbsent(Task)}.
+     */
+    public void setTaskList(IndexedTaskList taskList) {
+        requireNonNull(taskList);
+        Transaction.recordChange(this);
+        this.taskList = taskList;
+        this.generation = Generation.next();
+        notifyOwner();
+    }
+
     @Override
     public Task deleteTask(int index) throws NoSuchTaskException {
         verifyIsValidIndex(index);
         int initialSize = this.taskList.size();
         Task task = this.taskList.get(index - 1);
-        this.taskList.remove(index - 1);
+        Transaction.recordChange(this);
+        this.taskList = this.taskList.minus(index - 1);
+        this.generation = Generation.next();
+        notifyOwner();
         assert this.taskList.size() == initialSize - 1 : "Task should be removed from the list";
         return task;
     }
@@ -60,7 +119,10 @@ public class TaskListManager implements ITaskListManager {
         verifyIsValidIndex(index);
         Task task = this.taskList.get(index - 1);
         Task markedTask = task.mark();
-        this.taskList.set(index - 1, markedTask);
+        Transaction.recordChange(this);
+        this.taskList = this.taskList.with(index - 1, markedTask);
+        this.generation = Generation.next();
+        notifyOwner();
         return markedTask;
     }
 
@@ -69,7 +131,10 @@ public class TaskListManager implements ITaskListManager {
         verifyIsValidIndex(index);
         Task task = this.taskList.get(index - 1);
         Task unmarkedTask = task.unmark();
-        this.taskList.set(index - 1, unmarkedTask);
+        Transaction.recordChange(this);
+        this.taskList = this.taskList.with(index - 1, unmarkedTask);
+        this.generation = Generation.next();
+        notifyOwner();
         return unmarkedTask;
     }
 
@@ -111,17 +176,61 @@ public class TaskListManager implements ITaskListManager {
 
     @Override
     public boolean contains(Task t) {
-        for (Task check : this.taskList) {
-            if (check.equals(t)) {
-                return true;
-            }
-        }
-        return false;
+        return this.taskList.contains(t);
     }
 
+    /**
+     * Returns a read-only list of all tasks, which is not copied as it never changes.
+     */
     @Override
     public List<Task> getAllTasks() {
-        return new ArrayList<>(this.taskList);
+        return this.taskList;
+    }
+
+    /**
+     * Returns the generation of the last change to the task list.
+     */
+    public long getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * Reports every later change of the task list to {@code owner}, or to nothing if {@code owner} is null.
+     * Only a change from one owner to another is recorded in the current transaction, as nothing depends on the
+     * owner of a manager that had none.
+     */
+    public void setOwner(GenerationListener owner) {
+        if (this.owner != null) {
+            Transaction.recordChange(this);
+        }
+        this.owner = owner;
+    }
+
+    /**
+     * Stops reporting changes to {@code owner}, if the manager is currently reporting to it.
+     */
+    public void clearOwner(GenerationListener owner) {
+        if (this.owner == owner) {
+            setOwner(null);
+        }
+    }
+
+    private void notifyOwner() {
+        if (this.owner != null) {
+            this.owner.onChange(this.generation);
+        }
+    }
+
+    @Override
+    public State captureState() {
+        return new State(this.taskList, this.generation, this.owner);
+    }
+
+    @Override
+    public void restoreState(State state) {
+        this.taskList = state.taskList;
+        this.generation = state.generation;
+        this.owner = state.owner;
     }
 
     /**
@@ -156,4 +265,19 @@ public class TaskListManager implements ITaskListManager {
         TaskListManager otherTaskListManager = (TaskListManager) other;
         return this.taskList.equals(otherTaskListManager.taskList);
     }
+
+    /**
+     * Task list, generation and owner of a {@code TaskListManager} at some point in time.
+     */
+    public static final class State {
+        private final IndexedTaskList taskList;
+        private final long generation;
+        private final GenerationListener owner;
+
+        private State(IndexedTaskList taskList, long generation, GenerationListener owner) {
+            this.taskList = taskList;
+            this.generation = generation;
+            this.owner = owner;
+        }
+    }
 }
@@ -1,8 +1,10 @@
 package seedu.address.model.task;
 
+import java.util.Objects;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.ui.ItemCard;
 import seedu.address.ui.TodoCard;
 
 /**
@@ -17,7 +19,7 @@ public class ToDo extends Task {
      */
     public ToDo(String description) {
         super(description);
-        logger.info("Created ToDo: " + description);
+        logger.finer(() -> "Created ToDo: " + description);
     }
 
     /**
@@ -47,6 +49,13 @@ public class ToDo extends Task {
         return new TodoCard(this, displayedIndex);
     }
 
+    @Override
+    public TodoCard updateDisplayCard(ItemCard card, int displayedIndex) {
+        TodoCard displayCard = (TodoCard) card;
+        displayCard.setTodo(this, displayedIndex);
+        return displayCard;
+    }
+
     /**
      * Returns a string representation of the task when it is added to a list.
      * @return a string representing the task when it is added
@@ -73,4 +82,9 @@ public class ToDo extends Task {
         ToDo task = (ToDo) o;
         return super.equals(task);
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ToDo.class, description);
+    }
 }
@@ -0,0 +1,21 @@
+package seedu.address.model.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out generations for the ProfBook model. Every modification of a model object stamps it with a new
+ * generation that is larger than all generations handed out before, so the largest generation in a tree of
+ * model objects increases whenever any object in the tree is modified.
+ */
+public final class Generation {
+    private static final AtomicLong latest = new AtomicLong();
+
+    private Generation() {} // prevents instantiation
+
+    /**
+     * Returns a generation larger than all generations returned before.
+     */
+    public static long next() {
+        return latest.incrementAndGet();
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.address.model.util;
+
+/**
+ * Is told the generation of every change made to the model objects it owns, such as a group being told about changes
+ * to its students, so that it knows the latest generation under it without visiting everything it owns.
+ */
+@FunctionalInterface
+public interface GenerationListener {
+    /**
+     * Called after an owned object is changed, with the generation the change was stamped with.
+     */
+    void onChange(long generation);
+}
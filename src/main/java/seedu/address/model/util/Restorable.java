@@ -0,0 +1,20 @@
+package seedu.address.model.util;
+
+/**
+ * A model object whose state can be captured and later restored by a {@code Transaction}.
+ * Captured states must be immutable, so that capturing a state is cheap and restoring it is always possible.
+ *
+ * @param <S> the type of the captured state
+ */
+public interface Restorable<S> {
+    /**
+     * Returns the current state of this object.
+     */
+    S captureState();
+
+    /**
+     * Puts this object back to {@code state}, which was returned by {@link #captureState()} of this object.
+     * Restoring a state must not record a change in the current transaction.
+     */
+    void restoreState(S state);
+}
@@ -0,0 +1,180 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the state of model objects before they are first changed in a transaction, so that the changes can be
+ * rolled back, or undone and redone after the transaction is committed.
+ * <p>
+ * Model objects call {@link #recordChange(Restorable)} before each change. As their state is held in persistent
+ * collections, recording a state only keeps a reference to the current collections, so beginning a transaction,
+ * recording a change and committing cost O(1), while rolling back costs O(number of changed objects).
+ * <p>
+ * Transactions are per thread and can be nested. A nested transaction that is committed becomes part of the
+ * transaction it was begun in.
+ */
+public class Transaction {
+    public static final String MESSAGE_NOT_CURRENT = "Only the current transaction can be committed or rolled back.";
+    public static final String MESSAGE_NOT_COMMITTED = "Only a committed transaction can be undone or redone.";
+
+    private static final ThreadLocal<Transaction> current = new ThreadLocal<>();
+
+    private final Transaction parent;
+
+    /**
+     * Changes in the order in which the objects were first changed, and the same changes by object
+     */
+    private final List<Change<?>> changes = new ArrayList<>();
+    private final Map<Restorable<?>, Change<?>> changesByTarget = new IdentityHashMap<>();
+
+    private boolean isCommitted = false;
+
+    private Transaction(Transaction parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Begins a transaction on the current thread, nested in the current transaction if there is one.
+     */
+    public static Transaction begin() {
+        Transaction transaction = new Transaction(current.get());
+        current.set(transaction);
+        return transaction;
+    }
+
+    /**
+     * Returns true if a transaction is in progress on the current thread.
+     */
+    public static boolean isInProgress() {
+        return current.get() != null;
+    }
+
+    /**
+     * Records the state of {@code target} in the current transaction, if {@code target} is not changed in it yet.
+     * Does nothing if there is no transaction in progress.
+     */
+    public static void recordChange(Restorable<?> target) {
+        Transaction transaction = current.get();
+        if (transaction != null) {
+            transaction.record(target);
+        }
+    }
+
+    private void record(Restorable<?> target) {
+        if (!changesByTarget.containsKey(target)) {
+            addChange(Change.of(target));
+        }
+    }
+
+    private void addChange(Change<?> change) {
+        changes.add(change);
+        changesByTarget.put(change.target, change);
+    }
+
+    /**
+     * Returns true if no object was changed in this transaction.
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Ends this transaction and keeps its changes.
+     * A nested transaction passes its changes on to the transaction it was begun in.
+     */
+    public void commit() {
+        endIfCurrent();
+        if (parent != null) {
+            for (Change<?> change : changes) {
+                if (!parent.changesByTarget.containsKey(change.target)) {
+                    parent.addChange(change);
+                }
+            }
+            return;
+        }
+        for (Change<?> change : changes) {
+            change.captureAfter();
+        }
+        isCommitted = true;
+    }
+
+    /**
+     * Ends this transaction and puts every object changed in it back to its state before the transaction.
+     */
+    public void rollback() {
+        endIfCurrent();
+        restoreBefore();
+    }
+
+    /**
+     * Puts every object changed in this committed transaction back to its state before the transaction.
+     */
+    public void undo() {
+        if (!isCommitted) {
+            throw new IllegalStateException(MESSAGE_NOT_COMMITTED);
+        }
+        restoreBefore();
+    }
+
+    /**
+     * Puts every object changed in this committed transaction back to its state when it was committed.
+     */
+    public void redo() {
+        if (!isCommitted) {
+            throw new IllegalStateException(MESSAGE_NOT_COMMITTED);
+        }
+        for (Change<?> change : changes) {
+            change.restoreAfter();
+        }
+    }
+
+    private void restoreBefore() {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).restoreBefore();
+        }
+    }
+
+    private void endIfCurrent() {
+        if (current.get() != this) {
+            throw new IllegalStateException(MESSAGE_NOT_CURRENT);
+        }
+        if (parent == null) {
+            current.remove();
+        } else {
+            current.set(parent);
+        }
+    }
+
+    /**
+     * States of an object before and after a transaction.
+     */
+    private static class Change<S> {
+        private final Restorable<S> target;
+        private final S before;
+        private S after;
+
+        private Change(Restorable<S> target, S before) {
+            this.target = target;
+            this.before = before;
+        }
+
+        static <S> Change<S> of(Restorable<S> target) {
+            return new Change<>(target, target.captureState());
+        }
+
+        void captureAfter() {
+            after = target.captureState();
+        }
+
+        void restoreBefore() {
+            target.restoreState(before);
+        }
+
+        void restoreAfter() {
+            target.restoreState(after);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.profbook.Root;
+
+/**
+ * Saves snapshots of ProfBook to a {@code ProfBookStorage} on a background thread.
+ * Snapshots requested while an earlier save is still waiting to run replace it, so a burst of changes
+ * results in a single write of the latest snapshot.
+ * A failed save is kept until it is collected with {@link #pollError()}.
+ */
+public class AsyncProfBookSaver {
+    private static final Logger logger = LogsCenter.getLogger(AsyncProfBookSaver.class);
+
+    private final ProfBookStorage storage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ProfBook saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Latest snapshot that has not been picked up by the background thread
+     */
+    private final AtomicReference<Root> pendingSnapshot = new AtomicReference<>();
+
+    /**
+     * Error of the last failed save that has not been reported
+     */
+    private final AtomicReference<IOException> lastError = new AtomicReference<>();
+
+    /**
+     * Constructs a saver that writes to {@code storage}.
+     */
+    public AsyncProfBookSaver(ProfBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Schedules {@code snapshot} to be saved. The snapshot must not be modified afterwards.
+     */
+    public void requestSave(Root snapshot) {
+        requireNonNull(snapshot);
+        // Only schedule a save if there is none waiting, otherwise the waiting one picks up this snapshot
+        if (this.pendingSnapshot.getAndSet(snapshot) == null) {
+            this.executor.execute(this::savePendingSnapshot);
+        }
+    }
+
+    /**
+     * Returns and clears the error of the last failed save, if any.
+     */
+    public Optional<IOException> pollError() {
+        return Optional.ofNullable(this.lastError.getAndSet(null));
+    }
+
+    /**
+     * Blocks until every snapshot requested so far has been saved.
+     */
+    public void flush() {
+        try {
+            this.executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to flush ProfBook saves " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Saves every pending snapshot and stops the background thread.
+     */
+    public void shutdown() {
+        flush();
+        this.executor.shutdown();
+    }
+
+    private void savePendingSnapshot() {
+        Root snapshot = this.pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            this.storage.saveProfBook(snapshot);
+        } catch (IOException e) {
+            logger.warning("Failed to save ProfBook " + StringUtil.getDetails(e));
+            this.lastError.set(e);
+        }
+    }
+}
@@ -0,0 +1,525 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.id.GroupId;
+import seedu.address.model.id.StudentId;
+import seedu.address.model.profbook.Address;
+import seedu.address.model.profbook.Email;
+import seedu.address.model.profbook.Group;
+import seedu.address.model.profbook.GroupContentLoader;
+import seedu.address.model.profbook.Name;
+import seedu.address.model.profbook.Phone;
+import seedu.address.model.profbook.Root;
+import seedu.address.model.profbook.Student;
+import seedu.address.model.task.Deadline;
+import seedu.address.model.task.ITaskListManager;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.ToDo;
+
+/**
+ * A class for handling storage of ProfBook in a compact binary format.
+ * <p>
+ * The file starts with a header of {@link #MAGIC}, {@link #FORMAT_VERSION}, the number of strings and the
+ * position of the group records. A table with the position of every distinct string in the ProfBook and the
+ * strings themselves follow, and then one length-prefixed record per group.
+ * A group record holds its name, id, student ids, tasks and length-prefixed student records, with all strings
+ * stored as indices into the string table. As the file is only written by ProfBook from valid data, values
+ * are not validated again when it is read.
+ * <p>
+ * With lazy loading, the file is memory-mapped and only the names and ids of groups are read. The students
+ * and tasks of a group are decoded from the mapped file when the group is first accessed, so the time taken to
+ * read the ProfBook depends on the number of groups only.
+ * Where a mapped file cannot be replaced, as on Windows, a copy of the file that saves never replace is mapped
+ * instead. If even the copy cannot be made, the whole file is read into memory, and groups are still decoded on
+ * first access.
+ */
+public class BinaryProfBookStorage implements ProfBookStorage {
+    public static final int MAGIC = 0x50524F46; // "PROF"
+    public static final short FORMAT_VERSION = 1;
+    public static final String MAPPED_COPY_SUFFIX = ".mapped";
+
+    public static final String MESSAGE_NOT_BINARY_PROFBOOK = "File is not a binary ProfBook file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary ProfBook format version %d.";
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary ProfBook file is corrupted.";
+    public static final String MESSAGE_CORRUPTED_GROUP = "Group %s in binary ProfBook file %s is corrupted.";
+
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Integer.BYTES + Integer.BYTES;
+    private static final int STRING_TABLE_POSITION = HEADER_SIZE;
+
+    private static final byte TODO_TYPE = 0;
+    private static final byte DEADLINE_TYPE = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryProfBookStorage.class);
+
+    private final Path filePath;
+    private final boolean isLazyLoading;
+    private final boolean isMappingCopy;
+
+    public BinaryProfBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a {@code BinaryProfBookStorage} for the file at {@code filePath}.
+     *
+     * @param isLazyLoading If true, the students and tasks of a group are only read when the group is accessed.
+     */
+    public BinaryProfBookStorage(Path filePath, boolean isLazyLoading) {
+        this(filePath, isLazyLoading, filePath != null && !canReplaceMappedFile(filePath));
+    }
+
+    /**
+     * Constructs a {@code BinaryProfBookStorage} for the file at {@code filePath} that maps a copy of the file
+     * for lazy loading if {@code isMappingCopy} is true.
+     */
+    BinaryProfBookStorage(Path filePath, boolean isLazyLoading, boolean isMappingCopy) {
+        this.filePath = filePath;
+        this.isLazyLoading = isLazyLoading;
+        this.isMappingCopy = isMappingCopy;
+    }
+
+    /**
+     * Returns the path of the copy of the file at {@code filePath} that is mapped where the file itself cannot be.
+     */
+    public static Path getMappedCopyPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + MAPPED_COPY_SUFFIX);
+    }
+
+    /**
+     * Returns true if the file system of {@code filePath} lets a file be replaced while it is mapped.
+     * POSIX file systems do, as the mapping keeps the replaced file alive; Windows refuses to replace the file.
+     */
+    private static boolean canReplaceMappedFile(Path filePath) {
+        return filePath.getFileSystem().supportedFileAttributeViews().contains("posix");
+    }
+
+    @Override
+    public Path getProfBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<Root> readProfBook() throws DataLoadingException {
+        return readProfBook(filePath);
+    }
+
+    /**
+     * Reads the ProfBook from a specified file path.
+     * With lazy loading, a group that turns out to be corrupted when it is accessed throws an
+     * {@code IllegalStateException}.
+     *
+     * @param filePath The path to the file.
+     * @return An Optional containing the Root if it exists, else an empty Optional.
+     * @throws DataLoadingException If there was a problem loading data from file.
+     */
+    @Override
+    public Optional<Root> readProfBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer data = isLazyLoading ? mapFile(filePath) : null;
+            if (data == null) {
+                data = ByteBuffer.wrap(Files.readAllBytes(filePath));
+            }
+            return Optional.of(new Reader(filePath, data).readRoot(isLazyLoading));
+        } catch (IOException | IllegalValueException | RuntimeException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Maps the file at {@code filePath}, or a copy of it, into memory.
+     * Returns null if the copy cannot be made, such as when an earlier copy is still mapped.
+     */
+    private ByteBuffer mapFile(Path filePath) throws IOException {
+        Path mappedFilePath = filePath;
+        if (isMappingCopy) {
+            mappedFilePath = getMappedCopyPath(filePath);
+            try {
+                Files.copy(filePath, mappedFilePath, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                logger.warning("Could not copy " + filePath + " for mapping, reading it into memory instead: " + e);
+                return null;
+            }
+        }
+        // The mapping stays valid after the channel is closed, and after the file is replaced by a later save
+        try (FileChannel channel = FileChannel.open(mappedFilePath, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    @Override
+    public void saveProfBook(Root profBook) throws IOException {
+        saveProfBook(profBook, filePath);
+    }
+
+    /**
+     * Saves the ProfBook to a specified file path.
+     * The ProfBook is first written to a temporary file which then replaces the file, so that the file
+     * is never left half written.
+     *
+     * @param profBook The Root to save.
+     * @param filePath The path to the file.
+     * @throws IOException If there was a problem writing to the file.
+     */
+    @Override
+    public void saveProfBook(Root profBook, Path filePath) throws IOException {
+        requireNonNull(profBook);
+        requireNonNull(filePath);
+
+        // Records are written first, as the string table in front of them is only complete afterwards
+        Writer writer = new Writer();
+        writer.writeRoot(profBook);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = FileUtil.getTempFilePath(filePath);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFilePath))) {
+            writer.writeTo(out);
+        }
+        FileUtil.replaceAtomically(tempFilePath, filePath);
+    }
+
+    /**
+     * Converts a ProfBook into records, collecting its strings into a string table.
+     * Records are written into a single buffer and their lengths are filled in once they are complete,
+     * so that nested records are never copied.
+     */
+    private static class Writer {
+        private static final int INITIAL_CAPACITY = 1 << 16;
+
+        private final Map<String, Integer> stringTable = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+
+        void writeRoot(Root root) {
+            List<Group> groups = root.getAllChildren();
+            putInt(groups.size());
+            for (Group group : groups) {
+                int lengthPosition = startRecord();
+                writeGroup(group);
+                endRecord(lengthPosition);
+            }
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            List<byte[]> encodedStrings = new ArrayList<>(strings.size());
+            for (String string : strings) {
+                encodedStrings.add(string.getBytes(StandardCharsets.UTF_8));
+            }
+
+            DataOutputStream dataOut = new DataOutputStream(out);
+            int position = STRING_TABLE_POSITION + Integer.BYTES * encodedStrings.size();
+            int[] stringPositions = new int[encodedStrings.size()];
+            for (int i = 0; i < stringPositions.length; i++) {
+                stringPositions[i] = position;
+                position += Integer.BYTES + encodedStrings.get(i).length;
+            }
+
+            dataOut.writeInt(MAGIC);
+            dataOut.writeShort(FORMAT_VERSION);
+            dataOut.writeInt(encodedStrings.size());
+            dataOut.writeInt(position);
+            for (int stringPosition : stringPositions) {
+                dataOut.writeInt(stringPosition);
+            }
+            for (byte[] bytes : encodedStrings) {
+                dataOut.writeInt(bytes.length);
+                dataOut.write(bytes);
+            }
+            dataOut.write(buffer.array(), 0, buffer.position());
+            dataOut.flush();
+        }
+
+        private void writeGroup(Group group) {
+            writeString(group.getName().fullName);
+            writeString(group.getId().toString());
+            List<Student> students = group.getAllChildren();
+            putInt(students.size());
+            for (Student student : students) {
+                writeString(student.getId().toString());
+            }
+            writeTasks(group);
+            for (Student student : students) {
+                int lengthPosition = startRecord();
+                writeStudent(student);
+                endRecord(lengthPosition);
+            }
+        }
+
+        private void writeStudent(Student student) {
+            writeString(student.getName().fullName);
+            writeString(student.getEmail().value);
+            writeString(student.getPhone().value);
+            writeString(student.getAddress().value);
+            writeTasks(student);
+        }
+
+        private void writeTasks(ITaskListManager taskList) {
+            List<Task> tasks = taskList.getAllTasks();
+            putInt(tasks.size());
+            for (Task task : tasks) {
+                ensureRemaining(Byte.BYTES + Integer.BYTES + Byte.BYTES + Long.BYTES + Integer.BYTES);
+                boolean isDeadline = task instanceof Deadline;
+                buffer.put(isDeadline ? DEADLINE_TYPE : TODO_TYPE);
+                writeString(task.getDesc());
+                buffer.put((byte) (task.getStatus() ? 1 : 0));
+                if (isDeadline) {
+                    LocalDateTime dueBy = ((Deadline) task).getDueBy();
+                    buffer.putLong(dueBy.toEpochSecond(ZoneOffset.UTC));
+                    buffer.putInt(dueBy.getNano());
+                }
+            }
+        }
+
+        private void writeString(String string) {
+            Integer index = stringTable.get(string);
+            if (index == null) {
+                index = strings.size();
+                stringTable.put(string, index);
+                strings.add(string);
+            }
+            putInt(index);
+        }
+
+        private int startRecord() {
+            int lengthPosition = buffer.position();
+            putInt(0);
+            return lengthPosition;
+        }
+
+        private void endRecord(int lengthPosition) {
+            buffer.putInt(lengthPosition, buffer.position() - lengthPosition - Integer.BYTES);
+        }
+
+        private void putInt(int value) {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        private void ensureRemaining(int numOfBytes) {
+            if (buffer.remaining() >= numOfBytes) {
+                return;
+            }
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + numOfBytes));
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+    }
+
+    /**
+     * Converts the records of a binary ProfBook file back into a ProfBook.
+     * The data is only read through views of its own, so that groups can be loaded from several threads.
+     */
+    private static class Reader {
+        private final Path filePath;
+        private final ByteBuffer data;
+        private final int recordsPosition;
+
+        /**
+         * Strings decoded so far. Strings are immutable, so threads racing to decode a string at most
+         * decode it twice.
+         */
+        private final String[] strings;
+
+        Reader(Path filePath, ByteBuffer data) throws IllegalValueException {
+            this.filePath = filePath;
+            this.data = data;
+
+            ByteBuffer in = viewAt(0);
+            if (in.remaining() < HEADER_SIZE || in.getInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_PROFBOOK);
+            }
+            short version = in.getShort();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            strings = new String[readCount(in)];
+            recordsPosition = readCount(in);
+        }
+
+        Root readRoot(boolean isLazy) throws IllegalValueException {
+            Root root = new Root();
+            ByteBuffer in = viewAt(recordsPosition);
+            int numOfGroups = readCount(in);
+            for (int i = 0; i < numOfGroups; i++) {
+                int recordPosition = skipRecord(in);
+                Group group = isLazy ? readGroupStub(recordPosition) : readGroup(recordPosition);
+                if (root.hasChild(group.getId())) {
+                    throw new IllegalValueException(JsonSerializableProfBookRoot.MESSAGE_DUPLICATE_GROUP);
+                }
+                root.addChild(group.getId(), group);
+            }
+            return root;
+        }
+
+        private Group readGroupStub(int recordPosition) throws IllegalValueException {
+            ByteBuffer in = viewAt(recordPosition);
+            Name name = Name.ofTrusted(readString(in));
+            GroupId id = GroupId.ofTrusted(readString(in));
+            return new Group(name, id, new RecordContentLoader(id, recordPosition));
+        }
+
+        private Group readGroup(int recordPosition) throws IllegalValueException {
+            ByteBuffer in = viewAt(recordPosition);
+            Name name = Name.ofTrusted(readString(in));
+            GroupId id = GroupId.ofTrusted(readString(in));
+            List<StudentId> studentIds = readStudentIds(in);
+            Group group = new Group(name, id);
+            readTasks(in, group);
+            for (StudentId studentId : studentIds) {
+                Student student = readStudent(viewAt(skipRecord(in)), studentId);
+                group.addChild(student.getId(), student);
+            }
+            return group;
+        }
+
+        private List<StudentId> readStudentIds(ByteBuffer in) throws IllegalValueException {
+            int numOfStudents = readCount(in);
+            List<StudentId> studentIds = new ArrayList<>(numOfStudents);
+            for (int i = 0; i < numOfStudents; i++) {
+                studentIds.add(StudentId.ofTrusted(readString(in)));
+            }
+            return studentIds;
+        }
+
+        private Student readStudent(ByteBuffer in, StudentId id) throws IllegalValueException {
+            Name name = Name.ofTrusted(readString(in));
+            Email email = new Email(readString(in));
+            Phone phone = new Phone(readString(in));
+            Address address = new Address(readString(in));
+            Student student = new Student(name, email, phone, address, id);
+            readTasks(in, student);
+            return student;
+        }
+
+        private void readTasks(ByteBuffer in, ITaskListManager taskList) throws IllegalValueException {
+            int numOfTasks = readCount(in);
+            for (int i = 0; i < numOfTasks; i++) {
+                byte type = in.get();
+                String description = readString(in);
+                boolean isDone = in.get() != 0;
+                if (type == DEADLINE_TYPE) {
+                    LocalDateTime dueBy = LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC);
+                    taskList.addTask(new Deadline(description, dueBy, isDone));
+                } else if (type == TODO_TYPE) {
+                    taskList.addTask(new ToDo(description, isDone));
+                } else {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+                }
+            }
+        }
+
+        private String readString(ByteBuffer in) throws IllegalValueException {
+            int index = in.getInt();
+            if (index < 0 || index >= strings.length) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            String string = strings[index];
+            if (string == null) {
+                ByteBuffer stringIn = viewAt(data.getInt(STRING_TABLE_POSITION + Integer.BYTES * index));
+                byte[] bytes = new byte[readCount(stringIn)];
+                stringIn.get(bytes);
+                string = new String(bytes, StandardCharsets.UTF_8);
+                strings[index] = string;
+            }
+            return string;
+        }
+
+        /**
+         * Returns the position of the length-prefixed record at the position of {@code in}, and moves {@code in}
+         * past the record.
+         */
+        private int skipRecord(ByteBuffer in) throws IllegalValueException {
+            int length = readCount(in);
+            int recordPosition = in.position();
+            if (length > in.remaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            in.position(recordPosition + length);
+            return recordPosition;
+        }
+
+        private int readCount(ByteBuffer in) throws IllegalValueException {
+            int count = in.getInt();
+            if (count < 0) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            return count;
+        }
+
+        private ByteBuffer viewAt(int position) {
+            ByteBuffer view = data.duplicate();
+            view.position(position);
+            return view;
+        }
+
+        /**
+         * Loads a group from its record when the group is first accessed.
+         */
+        private class RecordContentLoader implements GroupContentLoader {
+            private final GroupId id;
+            private final int recordPosition;
+
+            RecordContentLoader(GroupId id, int recordPosition) {
+                this.id = id;
+                this.recordPosition = recordPosition;
+            }
+
+            @Override
+            public List<StudentId> loadStudentIds() {
+                try {
+                    // Skips the name and id of the group
+                    return readStudentIds(viewAt(recordPosition + Integer.BYTES + Integer.BYTES));
+                } catch (IllegalValueException | RuntimeException e) {
+                    throw corrupted(e);
+                }
+            }
+
+            @Override
+            public Group loadGroup() {
+                logger.fine(() -> "Loading group " + id + " from " + filePath);
+                try {
+                    return readGroup(recordPosition);
+                } catch (IllegalValueException | RuntimeException e) {
+                    throw corrupted(e);
+                }
+            }
+
+            private IllegalStateException corrupted(Exception e) {
+                logger.warning("Error loading group " + id + " from binary file " + filePath + ": " + e);
+                return new IllegalStateException(String.format(MESSAGE_CORRUPTED_GROUP, id, filePath), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.id.GroupId;
+import seedu.address.model.id.Id;
+import seedu.address.model.id.StudentId;
+import seedu.address.model.profbook.Group;
+import seedu.address.model.profbook.Root;
+import seedu.address.model.profbook.Student;
+
+/**
+ * A {@code ProfBookStorage} that saves changes by appending them to a journal next to the data file.
+ * Only the changes since the last save are written, one JSON record per line: the students that were added, edited or
+ * deleted, and the name and tasks of a group whose own details changed, so a change to one student does not write
+ * the rest of its group.
+ * A group is written whole when it is new, or when its students were not loaded yet the last time it was persisted,
+ * as which of them changed is then not known.
+ * Every {@value #CHECKPOINT_INTERVAL} records, the whole ProfBook is saved to the data file by the
+ * snapshot storage and the journal is cleared.
+ * Reading the ProfBook replays the journal on top of the data file.
+ * <p>
+ * The journal always holds every change before a checkpoint replaces the data file, so replaying it over either
+ * the old or the new data file gives the same ProfBook, whenever the checkpoint is interrupted.
+ */
+public class JournaledProfBookStorage implements ProfBookStorage {
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int CHECKPOINT_INTERVAL = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledProfBookStorage.class);
+
+    private final ProfBookStorage snapshotStorage;
+
+    /**
+     * Data file whose journal is being appended to, and its groups as persisted
+     */
+    private Path persistedFilePath = null;
+    private final Map<Id, PersistedGroup> persistedGroups = new HashMap<>();
+    private int numOfJournalRecords = 0;
+
+    /**
+     * Length in bytes of the complete records at the start of the journal
+     */
+    private long journalLength = 0;
+    private boolean isCheckpointDue = false;
+
+    /**
+     * Constructs a journaled storage that keeps full snapshots in {@code snapshotStorage}.
+     */
+    public JournaledProfBookStorage(ProfBookStorage snapshotStorage) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+    }
+
+    /**
+     * Returns the path of the journal of the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getProfBookFilePath() {
+        return snapshotStorage.getProfBookFilePath();
+    }
+
+    @Override
+    public Optional<Root> readProfBook() throws DataLoadingException {
+        return readProfBook(getProfBookFilePath());
+    }
+
+    /**
+     * Reads the ProfBook from the data file at {@code filePath} and replays its journal.
+     * A record that cannot be read ends the replay, as it is the last record of a save that did not complete.
+     */
+    @Override
+    public Optional<Root> readProfBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<Root> snapshot = snapshotStorage.readProfBook(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            snapshot.ifPresent(root -> recordPersisted(root, filePath, 0, 0));
+            return snapshot;
+        }
+
+        byte[] journal;
+        try {
+            journal = Files.readAllBytes(journalFilePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        Root profBook = snapshot.orElseGet(Root::new);
+        int numOfRecords = 0;
+        int start = 0;
+        boolean isJournalComplete = true;
+        while (start < journal.length) {
+            int end = start;
+            while (end < journal.length && journal[end] != '\n') {
+                end++;
+            }
+            try {
+                // A record is only complete with its line break, as the two are written together
+                if (end == journal.length) {
+                    throw new IOException("Record has no line break");
+                }
+                String line = new String(journal, start, end - start, StandardCharsets.UTF_8);
+                JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class).applyTo(profBook);
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Stopped replaying " + journalFilePath + " at unreadable record: " + e);
+                isJournalComplete = false;
+                break;
+            }
+            numOfRecords++;
+            start = end + 1;
+        }
+
+        logger.info("Replayed " + numOfRecords + " records from " + journalFilePath);
+        recordPersisted(profBook, filePath, numOfRecords, start);
+        // The next save drops the unreadable record and replaces the journal with a checkpoint
+        isCheckpointDue = !isJournalComplete;
+        return Optional.of(profBook);
+    }
+
+    @Override
+    public void saveProfBook(Root profBook) throws IOException {
+        saveProfBook(profBook, getProfBookFilePath());
+    }
+
+    /**
+     * Appends the changes to {@code profBook} since the last save to the journal of the data file
+     * at {@code filePath}, then saves the whole ProfBook to the data file if it is time for a checkpoint.
+     */
+    @Override
+    public void saveProfBook(Root profBook, Path filePath) throws IOException {
+        requireNonNull(profBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(persistedFilePath)) {
+            // A journal already there was not read into this ProfBook, so it must not be replayed over it
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            snapshotStorage.saveProfBook(profBook, filePath);
+            recordPersisted(profBook, filePath, 0, 0);
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = getChangeRecords(profBook);
+        if (!records.isEmpty()) {
+            StringBuilder lines = new StringBuilder();
+            for (JsonAdaptedJournalRecord record : records) {
+                lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+            }
+            long newJournalLength = appendToJournal(getJournalFilePath(filePath), lines.toString());
+            recordChangesPersisted(profBook, numOfJournalRecords + records.size(), newJournalLength);
+        }
+        if (isCheckpointDue || numOfJournalRecords > CHECKPOINT_INTERVAL) {
+            checkpoint(profBook, filePath);
+        }
+    }
+
+    /**
+     * Returns records that turn the persisted ProfBook into {@code profBook}.
+     * Deletions come first, so that a student moved to another group is put there after it is deleted here.
+     */
+    private List<JsonAdaptedJournalRecord> getChangeRecords(Root profBook) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        List<JsonAdaptedJournalRecord> additions = new ArrayList<>();
+        Map<Id, Group> groups = profBook.getChildren();
+        for (Id id : persistedGroups.keySet()) {
+            if (!groups.containsKey(id)) {
+                records.add(JsonAdaptedJournalRecord.delete((GroupId) id));
+            }
+        }
+        for (Group group : groups.values()) {
+            PersistedGroup persisted = persistedGroups.get(group.getId());
+            if (persisted != null && persisted.generation == group.getGeneration()) {
+                continue;
+            }
+            if (persisted == null || persisted.studentGenerations == null) {
+                additions.add(JsonAdaptedJournalRecord.put(group));
+            } else {
+                addGroupChangeRecords(group, persisted, records, additions);
+            }
+        }
+        records.addAll(additions);
+        return records;
+    }
+
+    /**
+     * Adds records of the changes to {@code group} since it was {@code persisted}, with its students as persisted
+     * known, to {@code deletions} and {@code additions}.
+     */
+    private static void addGroupChangeRecords(Group group, PersistedGroup persisted,
+                                              List<JsonAdaptedJournalRecord> deletions,
+                                              List<JsonAdaptedJournalRecord> additions) {
+        if (!group.getName().fullName.equals(persisted.name)
+                || group.getTaskListManager().getGeneration() != persisted.taskListGeneration) {
+            additions.add(JsonAdaptedJournalRecord.update(group));
+        }
+
+        GroupId groupId = group.getId();
+        Map<Id, Student> students = group.getChildren();
+        for (Id id : persisted.studentGenerations.keySet()) {
+            if (!students.containsKey(id)) {
+                deletions.add(JsonAdaptedJournalRecord.deleteStudent(groupId, (StudentId) id));
+            }
+        }
+        for (Student student : students.values()) {
+            Long persistedGeneration = persisted.studentGenerations.get(student.getId());
+            if (persistedGeneration == null || persistedGeneration != student.getGeneration()) {
+                additions.add(JsonAdaptedJournalRecord.putStudent(groupId, student));
+            }
+        }
+    }
+
+    /**
+     * Saves {@code profBook}, whose changes are all in the journal, to the data file and clears the journal.
+     */
+    private void checkpoint(Root profBook, Path filePath) throws IOException {
+        logger.fine(() -> "Writing checkpoint of ProfBook to " + filePath);
+        snapshotStorage.saveProfBook(profBook, filePath);
+        // Replaying the journal over the new data file gives the same ProfBook, so a crash before this is harmless
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        recordPersisted(profBook, filePath, 0, 0);
+        isCheckpointDue = false;
+    }
+
+    /**
+     * Appends {@code lines} to the journal after its complete records, dropping any incomplete record left by a save
+     * that failed, and returns the new length of the journal.
+     */
+    private long appendToJournal(Path journalFilePath, String lines) throws IOException {
+        try (FileChannel channel = FileChannel.open(journalFilePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.truncate(journalLength);
+            channel.position(journalLength);
+            ByteBuffer buffer = ByteBuffer.wrap(lines.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            if (journalLength == 0) {
+                // The journal may have just been created, so its directory entry must be on disk too
+                FileUtil.forceDirectory(journalFilePath.toAbsolutePath().getParent());
+            }
+            return channel.position();
+        }
+    }
+
+    private void recordPersisted(Root profBook, Path filePath, int numOfRecords, long length) {
+        persistedFilePath = filePath;
+        persistedGroups.clear();
+        for (Group group : profBook.getChildren().values()) {
+            persistedGroups.put(group.getId(), PersistedGroup.of(group));
+        }
+        numOfJournalRecords = numOfRecords;
+        journalLength = length;
+    }
+
+    /**
+     * Records that the changes to {@code profBook} were appended to the journal, only visiting the students of the
+     * groups that changed.
+     */
+    private void recordChangesPersisted(Root profBook, int numOfRecords, long length) {
+        Map<Id, Group> groups = profBook.getChildren();
+        persistedGroups.keySet().retainAll(groups.keySet());
+        for (Group group : groups.values()) {
+            PersistedGroup persisted = persistedGroups.get(group.getId());
+            if (persisted == null || persisted.generation != group.getGeneration()) {
+                persistedGroups.put(group.getId(), PersistedGroup.of(group));
+            }
+        }
+        numOfJournalRecords = numOfRecords;
+        journalLength = length;
+    }
+
+    /**
+     * A group as persisted, with the generations of its name and tasks and of each of its students.
+     */
+    private static final class PersistedGroup {
+        private final long generation;
+        private final String name;
+        private final long taskListGeneration;
+
+        /**
+         * Generations of the students by id, null if the students were not loaded, so that persisting a group
+         * does not load it
+         */
+        private final Map<Id, Long> studentGenerations;
+
+        private PersistedGroup(long generation, String name, long taskListGeneration,
+                               Map<Id, Long> studentGenerations) {
+            this.generation = generation;
+            this.name = name;
+            this.taskListGeneration = taskListGeneration;
+            this.studentGenerations = studentGenerations;
+        }
+
+        private static PersistedGroup of(Group group) {
+            if (!group.isLoaded()) {
+                return new PersistedGroup(group.getGeneration(), group.getName().fullName, 0, null);
+            }
+            Map<Id, Long> studentGenerations = new HashMap<>();
+            for (Student student : group.getChildren().values()) {
+                studentGenerations.put(student.getId(), student.getGeneration());
+            }
+            return new PersistedGroup(group.getGeneration(), group.getName().fullName,
+                    group.getTaskListManager().getGeneration(), studentGenerations);
+        }
+    }
+}
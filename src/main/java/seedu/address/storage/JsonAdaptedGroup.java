@@ -1,9 +1,7 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -11,7 +9,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.id.GroupId;
-import seedu.address.model.id.Id;
+import seedu.address.model.id.IdMap;
 import seedu.address.model.profbook.Group;
 import seedu.address.model.profbook.Name;
 import seedu.address.model.profbook.Student;
@@ -62,9 +60,16 @@ public class JsonAdaptedGroup {
      * Converts a given {@code Group} into this class for Jackson use.
      */
     public JsonAdaptedGroup(Group source) {
+        this(source, true);
+    }
+
+    private JsonAdaptedGroup(Group source, boolean isWithStudents) {
         name = source.getName().fullName;
         id = source.getId().toString();
-        students.addAll(source.getAllChildren().stream().map(JsonAdaptedStudent::new).collect(Collectors.toList()));
+        if (isWithStudents) {
+            students.addAll(source.getAllChildren().stream()
+                    .map(JsonAdaptedStudent::new).collect(Collectors.toList()));
+        }
         tasks.addAll(source.getAllTasks().stream()
                 .map(task -> (task instanceof ToDo)
                         ? new JsonAdaptedToDo((ToDo) task)
@@ -72,6 +77,14 @@ public class JsonAdaptedGroup {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Converts the name, id and tasks of a given {@code Group} into this class for Jackson use, leaving out its
+     * students.
+     */
+    public static JsonAdaptedGroup withoutStudents(Group source) {
+        return new JsonAdaptedGroup(source, false);
+    }
+
     /**
      * Converts this Jackson-friendly adapted group object into the model's Group object.
      *
@@ -81,10 +94,10 @@ public class JsonAdaptedGroup {
     public Group toModelType() throws IllegalValueException {
         final List<Task> taskList = new ArrayList<>();
 
-        Map<Id, Student> studentMap = new HashMap<>();
-        for (JsonAdaptedStudent studJson : students) {
-            Student student = studJson.toModelType();
-            studentMap.put(student.getId(), student);
+        // Students read from storage are only used by this group, so the group takes them over without copying
+        IdMap<Student> studentMap = IdMap.empty();
+        for (Student student : JsonAdaptedStudent.toModelTypes(students)) {
+            studentMap = studentMap.plus(student.getId(), student);
         }
         for (JsonAdaptedTasks task : tasks) {
 
@@ -97,7 +110,7 @@ public class JsonAdaptedGroup {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.ofTrusted(name);
 
         if (id == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -106,7 +119,7 @@ public class JsonAdaptedGroup {
         if (!GroupId.isValidGroupId(id)) {
             throw new IllegalValueException(GroupId.MESSAGE_CONSTRAINTS);
         }
-        final GroupId grpId = new GroupId(id);
+        final GroupId grpId = GroupId.ofTrusted(id);
 
         final ReadOnlyTaskList modelTList = new TaskListManager(taskList);
 
@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.id.GroupId;
+import seedu.address.model.id.IdMap;
+import seedu.address.model.id.StudentId;
+import seedu.address.model.profbook.Group;
+import seedu.address.model.profbook.Root;
+import seedu.address.model.profbook.Student;
+
+/**
+ * A change to ProfBook, in a format suitable for the JSON journal.
+ * A record either puts a whole group, replacing any group with the same id, deletes a group, updates the name and
+ * tasks of a group while keeping its students, or puts or deletes one student of a group.
+ * Applying a record more than once has the same effect as applying it once.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD =
+            "Journal record must make exactly one change, to a group or to a student of a group.";
+    public static final String MESSAGE_NO_SUCH_GROUP = "Journal record changes group %s, which does not exist.";
+
+    private final JsonAdaptedGroup put;
+    private final String delete;
+    private final JsonAdaptedGroup update;
+
+    /**
+     * Id of the group whose student is put or deleted
+     */
+    private final String group;
+    private final JsonAdaptedStudent putStudent;
+    private final String deleteStudent;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("put") JsonAdaptedGroup put,
+                                    @JsonProperty("delete") String delete,
+                                    @JsonProperty("update") JsonAdaptedGroup update,
+                                    @JsonProperty("group") String group,
+                                    @JsonProperty("putStudent") JsonAdaptedStudent putStudent,
+                                    @JsonProperty("deleteStudent") String deleteStudent) {
+        this.put = put;
+        this.delete = delete;
+        this.update = update;
+        this.group = group;
+        this.putStudent = putStudent;
+        this.deleteStudent = deleteStudent;
+    }
+
+    /**
+     * Returns a record that puts {@code group}.
+     */
+    public static JsonAdaptedJournalRecord put(Group group) {
+        return new JsonAdaptedJournalRecord(new JsonAdaptedGroup(group), null, null, null, null, null);
+    }
+
+    /**
+     * Returns a record that deletes the group with {@code id}.
+     */
+    public static JsonAdaptedJournalRecord delete(GroupId id) {
+        return new JsonAdaptedJournalRecord(null, id.toString(), null, null, null, null);
+    }
+
+    /**
+     * Returns a record that sets the name and tasks of the group with the id of {@code group} to those of
+     * {@code group}, without writing its students.
+     */
+    public static JsonAdaptedJournalRecord update(Group group) {
+        return new JsonAdaptedJournalRecord(null, null, JsonAdaptedGroup.withoutStudents(group), null, null, null);
+    }
+
+    /**
+     * Returns a record that puts {@code student} into the group with {@code groupId}.
+     */
+    public static JsonAdaptedJournalRecord putStudent(GroupId groupId, Student student) {
+        return new JsonAdaptedJournalRecord(null, null, null, groupId.toString(), new JsonAdaptedStudent(student),
+                null);
+    }
+
+    /**
+     * Returns a record that deletes the student with {@code id} from the group with {@code groupId}.
+     */
+    public static JsonAdaptedJournalRecord deleteStudent(GroupId groupId, StudentId id) {
+        return new JsonAdaptedJournalRecord(null, null, null, groupId.toString(), null, id.toString());
+    }
+
+    /**
+     * Applies this record to {@code root}.
+     *
+     * @throws IllegalValueException If there were any data constraints violated in the record.
+     */
+    public void applyTo(Root root) throws IllegalValueException {
+        int numOfChanges = countNonNull(put, delete, update, putStudent, deleteStudent);
+        boolean isStudentChange = putStudent != null || deleteStudent != null;
+        if (numOfChanges != 1 || isStudentChange == (group == null)) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+
+        if (delete != null) {
+            GroupId id = toGroupId(delete);
+            if (root.hasChild(id)) {
+                root.deleteChild(id);
+            }
+        } else if (put != null) {
+            Group group = put.toModelType();
+            if (root.hasChild(group.getId())) {
+                root.deleteChild(group.getId());
+            }
+            root.addChild(group.getId(), group);
+        } else if (update != null) {
+            Group details = update.toModelType();
+            Group oldGroup = getGroup(root, details.getId());
+            Group group = new Group(details.getTaskListManager(), IdMap.copyOf(oldGroup.getChildren()),
+                    details.getName(), details.getId());
+            root.replaceChild(oldGroup.getId(), group);
+        } else if (putStudent != null) {
+            Group group = getGroup(root, toGroupId(this.group));
+            Student student = putStudent.toModelType();
+            if (group.hasChild(student.getId())) {
+                group.replaceChild(student.getId(), student);
+            } else {
+                group.addChild(student.getId(), student);
+            }
+        } else {
+            Group group = getGroup(root, toGroupId(this.group));
+            if (!StudentId.isValidStudentId(deleteStudent)) {
+                throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
+            }
+            StudentId id = new StudentId(deleteStudent);
+            if (group.hasChild(id)) {
+                group.deleteChild(id);
+            }
+        }
+    }
+
+    private static int countNonNull(Object... fields) {
+        int count = 0;
+        for (Object field : fields) {
+            if (field != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static GroupId toGroupId(String id) throws IllegalValueException {
+        if (!GroupId.isValidGroupId(id)) {
+            throw new IllegalValueException(GroupId.MESSAGE_CONSTRAINTS);
+        }
+        return new GroupId(id);
+    }
+
+    private static Group getGroup(Root root, GroupId id) throws IllegalValueException {
+        if (!root.hasChild(id)) {
+            throw new IllegalValueException(String.format(MESSAGE_NO_SUCH_GROUP, id));
+        }
+        return root.getChild(id);
+    }
+}
@@ -1,9 +1,7 @@
 package seedu.address.storage;
 
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -11,7 +9,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.model.id.Id;
+import seedu.address.model.id.IdMap;
 import seedu.address.model.profbook.Group;
 import seedu.address.model.profbook.Root;
 
@@ -51,10 +49,10 @@ public class JsonAdaptedRoot {
      * @throws IllegalValueException If there were any data constraints violated in the adapted root.
      */
     public Root toModelType() throws IllegalValueException {
-        Map<Id, Group> groupMap = new HashMap<>();
+        IdMap<Group> groupMap = IdMap.empty();
         for (JsonAdaptedGroup groupJson : groups) {
             Group grp = groupJson.toModelType();
-            groupMap.put(grp.getId(), grp);
+            groupMap = groupMap.plus(grp.getId(), grp);
         }
 
         return new Root(groupMap);
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -79,6 +80,32 @@ public class JsonAdaptedStudent {
      * @throws IllegalValueException If there were any data constraints violated in the adapted student.
      */
     public Student toModelType() throws IllegalValueException {
+        return toModelType(Email::isValidEmail, Address::isValidAddress);
+    }
+
+    /**
+     * Converts the adapted students {@code students} into the model's Student objects, in the same order.
+     * Used to load many students at once, as the matchers that validate emails and addresses are shared by all
+     * the students instead of being created for each of them.
+     *
+     * @throws IllegalValueException If there were any data constraints violated in any of the adapted students.
+     */
+    public static List<Student> toModelTypes(List<JsonAdaptedStudent> students) throws IllegalValueException {
+        Predicate<String> isValidEmail = Email.newBulkValidator();
+        Predicate<String> isValidAddress = Address.newBulkValidator();
+        List<Student> modelStudents = new ArrayList<>(students.size());
+        for (JsonAdaptedStudent student : students) {
+            modelStudents.add(student.toModelType(isValidEmail, isValidAddress));
+        }
+        return modelStudents;
+    }
+
+    /**
+     * Converts this adapted student, validating emails and addresses with {@code isValidEmail} and
+     * {@code isValidAddress}. Every field is validated only once.
+     */
+    private Student toModelType(Predicate<String> isValidEmail, Predicate<String> isValidAddress)
+            throws IllegalValueException {
         final List<Task> taskList = new ArrayList<>();
 
         for (JsonAdaptedTasks task : tasks) {
@@ -92,7 +119,7 @@ public class JsonAdaptedStudent {
         if (!seedu.address.model.profbook.Name.isValidName(name)) {
             throw new IllegalValueException(seedu.address.model.profbook.Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.ofTrusted(name);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -112,7 +139,7 @@ public class JsonAdaptedStudent {
 
         final Email modelEmail = email.toLowerCase().equals("n/a") ? Email.PLACEHOLDER : new Email(email);
 
-        if (!modelEmail.equals(Email.PLACEHOLDER) && !seedu.address.model.profbook.Email.isValidEmail(email)) {
+        if (!modelEmail.equals(Email.PLACEHOLDER) && !isValidEmail.test(email)) {
             throw new IllegalValueException(seedu.address.model.profbook.Email.MESSAGE_CONSTRAINTS);
         }
 
@@ -124,7 +151,7 @@ public class JsonAdaptedStudent {
         final Address modelAddress = address.toLowerCase().equals("n/a") ? Address.PLACEHOLDER : new Address(address);
 
         if (!modelAddress.equals(Address.PLACEHOLDER)
-                && !seedu.address.model.profbook.Address.isValidAddress(address)) {
+                && !isValidAddress.test(address)) {
             throw new IllegalValueException(seedu.address.model.profbook.Address.MESSAGE_CONSTRAINTS);
         }
 
@@ -136,7 +163,7 @@ public class JsonAdaptedStudent {
             throw new IllegalValueException(seedu.address.model.id.StudentId.MESSAGE_CONSTRAINTS);
         }
 
-        final StudentId studId = new StudentId(id);
+        final StudentId studId = StudentId.ofTrusted(id);
 
         final ReadOnlyTaskList modelTList = new TaskListManager(taskList);
 
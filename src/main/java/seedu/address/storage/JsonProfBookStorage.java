@@ -25,8 +25,28 @@ public class JsonProfBookStorage implements Storage {
 
     private Path filePath;
 
+    /**
+     * Whether the data file is written with indentation and line breaks
+     */
+    private final boolean isPrettyPrinted;
+
+    /**
+     * File last read or written, and the generation of the ProfBook it holds
+     */
+    private Path persistedFilePath = null;
+    private long persistedGeneration = -1;
+
     public JsonProfBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Constructs a storage for the data file at {@code filePath}, written as compact JSON
+     * if {@code isPrettyPrinted} is false.
+     */
+    public JsonProfBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     /**
@@ -81,7 +101,9 @@ public class JsonProfBookStorage implements Storage {
         }
 
         try {
-            return Optional.of(jsonProfBook.get().toModelType());
+            Root profBook = jsonProfBook.get().toModelType();
+            recordPersisted(profBook, filePath);
+            return Optional.of(profBook);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -95,6 +117,9 @@ public class JsonProfBookStorage implements Storage {
 
     /**
      * Saves the ProfBook to a specified file path.
+     * Nothing is written if the file already holds this generation of the ProfBook.
+     * The ProfBook is first written to a temporary file which then replaces the file, so that the file
+     * is never left half written.
      *
      * @param profBook The Root to save.
      * @param filePath The path to the file.
@@ -104,8 +129,21 @@ public class JsonProfBookStorage implements Storage {
         requireNonNull(profBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableProfBookRoot(profBook), filePath);
+        if (filePath.equals(persistedFilePath) && profBook.getGeneration() == persistedGeneration) {
+            logger.fine(() -> "ProfBook unchanged since last save, skipping write to " + filePath);
+            return;
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = FileUtil.getTempFilePath(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableProfBookRoot(profBook), tempFilePath, isPrettyPrinted);
+        FileUtil.replaceAtomically(tempFilePath, filePath);
+        recordPersisted(profBook, filePath);
+    }
+
+    private void recordPersisted(Root profBook, Path filePath) {
+        this.persistedFilePath = filePath;
+        this.persistedGeneration = profBook.getGeneration();
     }
 
 }
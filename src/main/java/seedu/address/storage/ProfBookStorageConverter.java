@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.profbook.Root;
+
+/**
+ * Converts ProfBook data files between storage formats, so that JSON stays the format used to exchange data.
+ */
+public class ProfBookStorageConverter {
+    public static final String JSON_FILE_EXTENSION = ".json";
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(ProfBookStorageConverter.class);
+
+    private ProfBookStorageConverter() {} // prevents instantiation
+
+    /**
+     * Reads the ProfBook from {@code source} and saves it to {@code target}.
+     *
+     * @return true if {@code source} had a ProfBook to convert.
+     * @throws DataLoadingException If there was a problem loading data from {@code source}.
+     * @throws IOException If there was a problem writing to {@code target}.
+     */
+    public static boolean convert(ProfBookStorage source, ProfBookStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<Root> profBook = source.readProfBook();
+        if (profBook.isEmpty()) {
+            return false;
+        }
+
+        logger.info("Converting " + source.getProfBookFilePath() + " to " + target.getProfBookFilePath());
+        target.saveProfBook(profBook.get());
+        return true;
+    }
+
+    /**
+     * Imports the JSON data file at {@code jsonFilePath}, with the changes in its journal, into the binary data file
+     * at {@code binaryFilePath}. Used when ProfBook first starts with a binary data file.
+     *
+     * @see #convert(ProfBookStorage, ProfBookStorage)
+     */
+    public static boolean importFromJson(Path jsonFilePath, Path binaryFilePath)
+            throws DataLoadingException, IOException {
+        return convert(new JournaledProfBookStorage(new JsonProfBookStorage(jsonFilePath)),
+                new JournaledProfBookStorage(new BinaryProfBookStorage(binaryFilePath)));
+    }
+
+    /**
+     * Exports the binary data file at {@code binaryFilePath}, with the changes in its journal, to the JSON data file
+     * at {@code jsonFilePath}.
+     * This is for developers only, such as for inspecting a binary data file; no command or option exposes it.
+     *
+     * @see #convert(ProfBookStorage, ProfBookStorage)
+     */
+    public static boolean exportToJson(Path binaryFilePath, Path jsonFilePath)
+            throws DataLoadingException, IOException {
+        return convert(new JournaledProfBookStorage(new BinaryProfBookStorage(binaryFilePath)),
+                new JournaledProfBookStorage(new JsonProfBookStorage(jsonFilePath)));
+    }
+
+    /**
+     * Returns the path of the binary data file kept next to the JSON data file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + BINARY_FILE_EXTENSION);
+    }
+}
@@ -60,7 +60,7 @@ public class ProfBookStorageManager implements Storage {
     // ================ ProfBook methods ==============================
     @Override
     public Optional<Root> readProfBook(Path filePath) throws DataLoadingException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return profBookStorage.readProfBook(filePath);
     }
 
@@ -71,7 +71,7 @@ public class ProfBookStorageManager implements Storage {
 
     @Override
     public void saveProfBook(Root profBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
         profBookStorage.saveProfBook(profBook, filePath);
     }
 }
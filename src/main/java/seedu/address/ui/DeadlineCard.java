@@ -10,8 +10,6 @@ import seedu.address.model.task.Deadline;
 public class DeadlineCard extends TaskCard {
     private static final String FXML = "DeadlineCard.fxml";
 
-    public final Deadline deadline;
-
     @FXML
     private Label by;
 
@@ -20,8 +18,15 @@ public class DeadlineCard extends TaskCard {
      */
     public DeadlineCard(Deadline deadline, int displayedIndex) {
         super(deadline.getDesc(), deadline.getStatus(), FXML, displayedIndex);
-        this.deadline = deadline;
         type.setText("Deadline");
         by.setText(deadline.getDeadline());
     }
+
+    /**
+     * Updates the card to display {@code deadline} at {@code displayedIndex}.
+     */
+    public void setDeadline(Deadline deadline, int displayedIndex) {
+        setTask(deadline.getDesc(), deadline.getStatus(), displayedIndex);
+        by.setText(deadline.getDeadline());
+    }
 }
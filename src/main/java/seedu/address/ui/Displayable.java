@@ -8,4 +8,10 @@ public interface Displayable {
      * Get card that can display on panel
      */
     public ItemCard getDisplayCard(int displayedIndex);
+
+    /**
+     * Updates {@code card}, which was returned by {@code getDisplayCard} of an item of the same class, to display
+     * this item instead, and returns it
+     */
+    public ItemCard updateDisplayCard(ItemCard card, int displayedIndex);
 }
@@ -12,8 +12,6 @@ public class GroupCard extends ItemCard {
     public static final String DISPLAY_ID = "ID: %1$s";
     private static final String FXML = "GroupCard.fxml";
 
-    public final Group group;
-
     @FXML
     private Label name;
     @FXML
@@ -24,9 +22,16 @@ public class GroupCard extends ItemCard {
      */
     public GroupCard(Group group, int displayedIndex) {
         super(FXML, displayedIndex);
-        this.group = group;
+        name.setWrapText(true);
+        setGroup(group, displayedIndex);
+    }
+
+    /**
+     * Updates the card to display {@code group} at {@code displayedIndex}.
+     */
+    public void setGroup(Group group, int displayedIndex) {
+        setDisplayedIndex(displayedIndex);
         id.setText(String.format(DISPLAY_ID, group.getId().toString().toUpperCase()));
         name.setText(String.format(DISPLAY_NAME, group.getName().fullName.toUpperCase()));
-        name.setWrapText(true);
     }
 }
@@ -19,6 +19,13 @@ public abstract class ItemCard extends UiPart<Region> {
      */
     public ItemCard(String fxml, int displayedIndex) {
         super(fxml);
+        setDisplayedIndex(displayedIndex);
+    }
+
+    /**
+     * Shows {@code displayedIndex} as the index of the item on the card.
+     */
+    protected void setDisplayedIndex(int displayedIndex) {
         index.setText(displayedIndex + ". ");
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -27,7 +29,7 @@ public class ItemListPanel extends UiPart<Region> {
      */
     public ItemListPanel(ObservableList<Displayable> itemList, String displayPath, boolean isShowTaskList) {
         super(FXML);
-        logger.info(itemList.toString());
+        logger.fine(() -> "Showing " + itemList.size() + " items at " + displayPath);
         itemListView.setItems(itemList);
         itemListView.setCellFactory(listView -> new ItemListViewCell());
         setDisplayPath(displayPath, isShowTaskList);
@@ -43,8 +45,12 @@ public class ItemListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of an item using its Displayable methods.
+     * The cell keeps the card it created for each class of item and updates it for the next item of that class,
+     * so that scrolling does not load a card from its FXML file for every item shown.
      */
     class ItemListViewCell extends ListCell<Displayable> {
+        private final Map<Class<?>, ItemCard> cardsByItemClass = new HashMap<>();
+
         @Override
         protected void updateItem(Displayable item, boolean empty) {
             super.updateItem(item, empty);
@@ -52,9 +58,18 @@ public class ItemListPanel extends UiPart<Region> {
             if (empty || item == null) {
                 setGraphic(null);
                 setText(null);
+                return;
+            }
+
+            int displayedIndex = getIndex() + 1;
+            ItemCard card = cardsByItemClass.get(item.getClass());
+            if (card == null) {
+                card = item.getDisplayCard(displayedIndex);
+                cardsByItemClass.put(item.getClass(), card);
             } else {
-                setGraphic(item.getDisplayCard(getIndex() + 1).getRoot());
+                item.updateDisplayCard(card, displayedIndex);
             }
+            setGraphic(card.getRoot());
         }
     }
 }
@@ -15,8 +15,6 @@ public class StudentCard extends ItemCard {
     public static final String DISPLAY_EMAIL = "Email: %1$s";
     private static final String FXML = "StudentCard.fxml";
 
-    public final Student student;
-
     @FXML
     private Label name;
     @FXML
@@ -33,15 +31,22 @@ public class StudentCard extends ItemCard {
      */
     public StudentCard(Student student, int displayedIndex) {
         super(FXML, displayedIndex);
-        this.student = student;
+        name.setWrapText(true);
+        address.setWrapText(true);
+        email.setWrapText(true);
+        phone.setWrapText(true);
+        setStudent(student, displayedIndex);
+    }
+
+    /**
+     * Updates the card to display {@code student} at {@code displayedIndex}.
+     */
+    public void setStudent(Student student, int displayedIndex) {
+        setDisplayedIndex(displayedIndex);
         id.setText(String.format(DISPLAY_ID, student.getId().toString().toUpperCase()));
         name.setText(String.format(DISPLAY_NAME, student.getName().fullName));
         phone.setText(String.format(DISPLAY_PHONE, student.getPhone().value));
         address.setText(String.format(DISPLAY_ADDRESS, student.getAddress().value));
         email.setText(String.format(DISPLAY_EMAIL, student.getEmail().value));
-        name.setWrapText(true);
-        address.setWrapText(true);
-        email.setWrapText(true);
-        phone.setWrapText(true);
     }
 }
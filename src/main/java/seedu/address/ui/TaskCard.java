@@ -22,14 +22,22 @@ public class TaskCard extends ItemCard {
      */
     public TaskCard(String descStr, boolean status, String fxml, int displayedIndex) {
         super(fxml, displayedIndex);
+        checkBox.setDisable(true);
+        desc.setWrapText(true);
+        setTask(descStr, status, displayedIndex);
+    }
+
+    /**
+     * Shows the task with {@code descStr} and {@code status} at {@code displayedIndex} on the card.
+     */
+    protected void setTask(String descStr, boolean status, int displayedIndex) {
+        setDisplayedIndex(displayedIndex);
         desc.setText(descStr);
         checkBox.setSelected(status);
-        checkBox.setDisable(true);
         if (displayedIndex % 2 == 0) {
             cardPane.setStyle("-fx-background-color: #534531;");
         } else {
             cardPane.setStyle("-fx-background-color: #866937;");
         }
-        desc.setWrapText(true);
     }
 }
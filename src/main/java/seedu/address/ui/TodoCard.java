@@ -8,14 +8,18 @@ import seedu.address.model.task.ToDo;
 public class TodoCard extends TaskCard {
     private static final String FXML = "TodoCard.fxml";
 
-    public final ToDo todo;
-
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public TodoCard(ToDo todo, int displayedIndex) {
         super(todo.getDesc(), todo.getStatus(), FXML, displayedIndex);
-        this.todo = todo;
         type.setText("Todo");
     }
+
+    /**
+     * Updates the card to display {@code todo} at {@code displayedIndex}.
+     */
+    public void setTodo(ToDo todo, int displayedIndex) {
+        setTask(todo.getDesc(), todo.getStatus(), displayedIndex);
+    }
 }
@@ -0,0 +1,187 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncHandlerTest {
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new AsyncHandler(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncHandler(new RecordingHandler(), 0));
+    }
+
+    @Test
+    public void publish_thenFlush_recordsPassedOnInOrder() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncHandler handler = new AsyncHandler(target, 100);
+        for (int i = 0; i < 50; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        List<String> messages = target.getMessages();
+        assertEquals(50, messages.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals("message " + i, messages.get(i));
+        }
+        assertTrue(target.numOfFlushes > 0);
+        handler.close();
+    }
+
+    @Test
+    public void publish_belowLevel_recordIgnored() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncHandler handler = new AsyncHandler(target, 100);
+        handler.setLevel(Level.INFO);
+        handler.publish(new LogRecord(Level.FINE, "fine"));
+        handler.publish(new LogRecord(Level.INFO, "info"));
+        handler.flush();
+
+        assertEquals(List.of("info"), target.getMessages());
+        handler.close();
+    }
+
+    @Test
+    public void publish_throughLogger_sourceFoundOnLoggingThread() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncHandler handler = new AsyncHandler(target, 100);
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+        logger.info("message");
+        handler.flush();
+
+        assertEquals(AsyncHandlerTest.class.getName(), target.records.get(0).getSourceClassName());
+        handler.close();
+    }
+
+    @Test
+    public void publish_queueFull_recordsDroppedAndReported() throws InterruptedException {
+        RecordingHandler target = new RecordingHandler();
+        target.block();
+        AsyncHandler handler = new AsyncHandler(target, 2);
+
+        // The first record is taken by the background thread, which then waits for the target
+        handler.publish(new LogRecord(Level.INFO, "taken"));
+        target.awaitPublishing();
+        handler.publish(new LogRecord(Level.INFO, "queued 1"));
+        handler.publish(new LogRecord(Level.INFO, "queued 2"));
+        handler.publish(new LogRecord(Level.INFO, "dropped 1"));
+        handler.publish(new LogRecord(Level.INFO, "dropped 2"));
+        assertEquals(2, handler.getNumOfDroppedRecords());
+
+        target.unblock();
+        handler.flush();
+        assertEquals(List.of("taken", "queued 1", "queued 2", String.format(AsyncHandler.MESSAGE_DROPPED_RECORDS, 2)),
+                target.getMessages());
+        assertEquals(0, handler.getNumOfDroppedRecords());
+        handler.close();
+    }
+
+    @Test
+    public void close_recordsPassedOnAndTargetClosed() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncHandler handler = new AsyncHandler(target, 100);
+        handler.publish(new LogRecord(Level.INFO, "before"));
+        handler.close();
+
+        assertEquals(List.of("before"), target.getMessages());
+        assertTrue(target.isClosed);
+
+        // Records published after closing are ignored, and closing again does nothing
+        handler.publish(new LogRecord(Level.INFO, "after"));
+        handler.flush();
+        handler.close();
+        assertEquals(List.of("before"), target.getMessages());
+    }
+
+    @Test
+    public void publish_targetThrows_laterRecordsPassedOn() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncHandler handler = new AsyncHandler(target, 100);
+        handler.setErrorManager(new ErrorManager() {
+            @Override
+            public synchronized void error(String msg, Exception ex, int code) {
+                // errors are expected in this test
+            }
+        });
+        handler.publish(new LogRecord(Level.INFO, RecordingHandler.FAILING_MESSAGE));
+        handler.publish(new LogRecord(Level.INFO, "after"));
+        handler.flush();
+
+        assertEquals(List.of("after"), target.getMessages());
+        handler.close();
+    }
+
+    /**
+     * A handler keeping the records published to it, which can be made to wait before keeping them.
+     */
+    private static class RecordingHandler extends Handler {
+        static final String FAILING_MESSAGE = "fail";
+
+        private final List<LogRecord> records = new ArrayList<>();
+        private final CountDownLatch publishing = new CountDownLatch(1);
+        private CountDownLatch gate = new CountDownLatch(0);
+        private volatile int numOfFlushes = 0;
+        private volatile boolean isClosed = false;
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        void unblock() {
+            gate.countDown();
+        }
+
+        void awaitPublishing() throws InterruptedException {
+            publishing.await();
+        }
+
+        synchronized List<String> getMessages() {
+            List<String> messages = new ArrayList<>();
+            for (LogRecord record : records) {
+                messages.add(record.getMessage());
+            }
+            return messages;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            publishing.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (FAILING_MESSAGE.equals(record.getMessage())) {
+                throw new IllegalStateException(FAILING_MESSAGE);
+            }
+            synchronized (this) {
+                records.add(record);
+            }
+        }
+
+        @Override
+        public void flush() {
+            numOfFlushes++;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -12,7 +12,11 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", compactDataFile=" + config.isCompactDataFile()
+                + ", binaryDataFile=" + config.isBinaryDataFile()
+                + ", lazyLoadingDataFile=" + config.isLazyLoadingDataFile()
+                + ", parallelTaskThreshold=" + config.getParallelTaskThreshold() + "}";
         assertEquals(expected, config.toString());
     }
 
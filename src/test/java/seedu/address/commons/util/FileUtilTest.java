@@ -1,12 +1,20 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
+    @TempDir
+    public Path testFolder;
 
     @Test
     public void isValidPath() {
@@ -20,4 +28,24 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void replaceAtomically_existingTarget_replaced() throws Exception {
+        Path target = testFolder.resolve("data.json");
+        Path source = FileUtil.getTempFilePath(target);
+        FileUtil.writeToFile(target, "old");
+        FileUtil.writeToFile(source, "new");
+
+        FileUtil.replaceAtomically(source, target);
+        assertFalse(Files.exists(source));
+        assertEquals("new", FileUtil.readFromFile(target));
+    }
+
+    @Test
+    public void replaceAtomically_missingSource_throwsIoException() {
+        Path target = testFolder.resolve("data.json");
+        assertThrows(IOException.class, () -> FileUtil.replaceAtomically(
+                FileUtil.getTempFilePath(target), target));
+        assertFalse(Files.exists(target));
+    }
+
 }
@@ -0,0 +1,95 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+    private static final long SEED = 2103L;
+
+    @Test
+    public void plus_elements_earlierVersionsUnchanged() {
+        PersistentList<String> empty = PersistentList.empty();
+        PersistentList<String> one = empty.plus("a");
+        PersistentList<String> two = one.plus("b");
+        PersistentList<String> replaced = two.with(0, "c");
+        PersistentList<String> removed = replaced.minus(1);
+
+        assertTrue(empty.isEmpty());
+        assertEquals(List.of("a"), one);
+        assertEquals(List.of("a", "b"), two);
+        assertEquals(List.of("c", "b"), replaced);
+        assertEquals(List.of("c"), removed);
+    }
+
+    @Test
+    public void plusAndMinus_manyElements_behavesAsArrayList() {
+        // Enough elements for a trie of three levels
+        PersistentList<Integer> list = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        for (int i = 0; i < 40000; i++) {
+            versions.add(list);
+            list = list.plus(i);
+        }
+        for (int i = 0; i < list.size(); i += 997) {
+            assertEquals(Integer.valueOf(i), list.get(i));
+            assertEquals(i, versions.get(i).size());
+        }
+
+        // Removing from the end goes back through the same sizes
+        for (int i = list.size() - 1; i >= 0; i--) {
+            list = list.minus(i);
+            assertEquals(i, list.size());
+            if (i % 997 == 0 && i > 0) {
+                assertEquals(Integer.valueOf(i - 1), list.get(i - 1));
+                assertEquals(versions.get(i), list);
+            }
+        }
+        assertSame(PersistentList.empty(), list);
+    }
+
+    @Test
+    public void randomOperations_behavesAsArrayList() {
+        Random random = new Random(SEED);
+        PersistentList<Integer> list = PersistentList.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(10);
+            if (operation == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                list = list.minus(index);
+                expected.remove(index);
+            } else if (operation < 3 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                list = list.with(index, i);
+                expected.set(index, i);
+            } else {
+                list = list.plus(i);
+                expected.add(i);
+            }
+        }
+        assertEquals(expected, list);
+        assertEquals(expected.hashCode(), list.hashCode());
+        assertEquals(list, PersistentList.copyOf(expected));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.<String>empty().plus("a");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(-1, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(1));
+    }
+
+    @Test
+    public void plus_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.empty().plus(null));
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentMapTest {
+    private static final long SEED = 2103L;
+
+    @Test
+    public void plus_newKeys_earlierVersionsUnchanged() {
+        PersistentMap<String, Integer> empty = PersistentMap.empty();
+        PersistentMap<String, Integer> one = empty.plus("a", 1);
+        PersistentMap<String, Integer> two = one.plus("b", 2);
+        PersistentMap<String, Integer> replaced = two.plus("a", 3);
+
+        assertTrue(empty.isEmpty());
+        assertEquals(Map.of("a", 1), one);
+        assertEquals(Map.of("a", 1, "b", 2), two);
+        assertEquals(Map.of("a", 3, "b", 2), replaced);
+    }
+
+    @Test
+    public void plus_sameValue_returnsSameMap() {
+        Integer value = 1000;
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().plus("a", value);
+        assertSame(map, map.plus("a", value));
+    }
+
+    @Test
+    public void plus_nullKeyOrValue_throwsNullPointerException() {
+        PersistentMap<String, Integer> map = PersistentMap.empty();
+        assertThrows(NullPointerException.class, () -> map.plus(null, 1));
+        assertThrows(NullPointerException.class, () -> map.plus("a", null));
+    }
+
+    @Test
+    public void minus_missingKey_returnsSameMap() {
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().plus("a", 1);
+        assertSame(map, map.minus("b"));
+        assertSame(map, map.minus(null));
+    }
+
+    @Test
+    public void plusAndMinus_collidingHashes_behavesAsHashMap() {
+        // "Aa" and "BB" have the same hash code, as do "AaAa", "AaBB", "BBAa" and "BBBB"
+        String[] keys = {"Aa", "BB", "AaAa", "AaBB", "BBAa", "BBBB"};
+        PersistentMap<String, Integer> map = PersistentMap.empty();
+        Map<String, Integer> expected = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            map = map.plus(keys[i], i);
+            expected.put(keys[i], i);
+            assertEquals(expected, map);
+        }
+        for (String key : keys) {
+            map = map.minus(key);
+            expected.remove(key);
+            assertEquals(expected, map);
+            assertFalse(map.containsKey(key));
+        }
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void plusAndMinus_randomOperations_behavesAsHashMap() {
+        Random random = new Random(SEED);
+        PersistentMap<Integer, Integer> map = PersistentMap.empty();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            // Keys from a small range so that keys are often replaced and removed
+            Integer key = random.nextInt(2000) * (random.nextBoolean() ? 1 : 1 << 20);
+            if (random.nextInt(3) == 0) {
+                map = map.minus(key);
+                expected.remove(key);
+            } else {
+                map = map.plus(key, i);
+                expected.put(key, i);
+            }
+            assertEquals(expected.size(), map.size());
+            assertEquals(expected.get(key), map.get(key));
+        }
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(map, PersistentMap.copyOf(expected));
+    }
+
+    @Test
+    public void get_emptyMap_returnsNull() {
+        assertNull(PersistentMap.empty().get("a"));
+        assertNull(PersistentMap.empty().get(null));
+    }
+
+    @Test
+    public void copyOf_persistentMap_returnsSameMap() {
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().plus("a", 1);
+        assertSame(map, PersistentMap.copyOf(map));
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.id.GroupId;
+import seedu.address.model.id.StudentId;
+import seedu.address.model.profbook.Address;
+import seedu.address.model.profbook.Email;
+import seedu.address.model.profbook.Name;
+import seedu.address.model.profbook.Phone;
+
+public class ValidationUtilTest {
+    private static final long SEED = 2103L;
+
+    /**
+     * Characters of the random strings, including non-ASCII digits and letters and a line terminator
+     */
+    private static final String CHARACTERS = "09aAzZgGrRpP-@._+ \n\u0661\u00e9\u0130";
+
+    @Test
+    public void isDigitAndIsLetter() {
+        assertTrue(ValidationUtil.isDigit('0'));
+        assertTrue(ValidationUtil.isDigit('9'));
+        assertFalse(ValidationUtil.isDigit('a'));
+        assertFalse(ValidationUtil.isDigit('\u0661')); // Arabic-Indic digit one
+
+        assertTrue(ValidationUtil.isLetter('a'));
+        assertTrue(ValidationUtil.isLetter('Z'));
+        assertFalse(ValidationUtil.isLetter('0'));
+        assertFalse(ValidationUtil.isLetter('\u00e9'));
+
+        assertTrue(ValidationUtil.isAlphanumeric('5'));
+        assertTrue(ValidationUtil.isAlphanumeric('q'));
+        assertFalse(ValidationUtil.isAlphanumeric(' '));
+    }
+
+    @Test
+    public void toLowerCase() {
+        assertEquals('a', ValidationUtil.toLowerCase('A'));
+        assertEquals('z', ValidationUtil.toLowerCase('z'));
+        assertEquals('-', ValidationUtil.toLowerCase('-'));
+        assertEquals('\u0130', ValidationUtil.toLowerCase('\u0130'));
+    }
+
+    @Test
+    public void isDigits() {
+        assertTrue(ValidationUtil.isDigits("a123b", 1, 4));
+        assertTrue(ValidationUtil.isDigits("abc", 1, 1));
+        assertFalse(ValidationUtil.isDigits("a123b", 0, 4));
+        assertFalse(ValidationUtil.isDigits("a123b", 1, 5));
+    }
+
+    @Test
+    public void newBulkMatcher_manyStrings_matchesAsStringMatches() {
+        Predicate<String> isValid = ValidationUtil.newBulkMatcher(Pattern.compile("a+b"));
+        assertTrue(isValid.test("aab"));
+        assertFalse(isValid.test("aabb"));
+        assertFalse(isValid.test(""));
+        assertTrue(isValid.test("ab"));
+    }
+
+    @Test
+    public void validators_randomStrings_sameAsValidationRegex() {
+        Random random = new Random(SEED);
+        Predicate<String> isValidEmail = Email.newBulkValidator();
+        Predicate<String> isValidAddress = Address.newBulkValidator();
+        for (int i = 0; i < 20000; i++) {
+            String test = randomString(random);
+            assertEquals(test.matches(Name.VALIDATION_REGEX), Name.isValidName(test), test);
+            assertEquals(test.matches(Phone.VALIDATION_REGEX), Phone.isValidPhone(test), test);
+            assertEquals(test.matches(Email.VALIDATION_REGEX), Email.isValidEmail(test), test);
+            assertEquals(test.matches(Email.VALIDATION_REGEX), isValidEmail.test(test), test);
+            assertEquals(test.matches(Address.VALIDATION_REGEX), Address.isValidAddress(test), test);
+            assertEquals(test.matches(Address.VALIDATION_REGEX), isValidAddress.test(test), test);
+            assertEquals(test.matches(StudentId.VALIDATION_REGEX), StudentId.isValidStudentId(test), test);
+            assertEquals(test.matches(GroupId.VALIDATION_REGEX), GroupId.isValidGroupId(test), test);
+        }
+    }
+
+    @Test
+    public void validators_validValues_returnTrue() {
+        assertTrue(Name.isValidName("Peter Jack 2nd"));
+        assertTrue(Phone.isValidPhone("911"));
+        assertTrue(Email.isValidEmail("peter_jack@very-very-very-long-example.com"));
+        assertTrue(Address.isValidAddress("Leng Inc; 1234 Market St; San Francisco CA 2349879; USA"));
+        assertTrue(StudentId.isValidStudentId("1234z"));
+        assertTrue(GroupId.isValidGroupId("gRp-123"));
+        assertTrue(StudentId.isValidStudentId("~/0001A/", 2, 7));
+        assertTrue(GroupId.isValidGroupId("~/GRP-001/", 2, 9));
+    }
+
+    /**
+     * Returns a short random string, often shaped like one of the fields.
+     */
+    private static String randomString(Random random) {
+        StringBuilder builder = new StringBuilder();
+        switch (random.nextInt(4)) {
+        case 0:
+            builder.append(String.format("%04d", random.nextInt(10000)));
+            break;
+        case 1:
+            builder.append(random.nextBoolean() ? "grp-" : "GrP-");
+            break;
+        case 2:
+            builder.append("a@b.");
+            break;
+        default:
+            break;
+        }
+        int length = random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            char c = CHARACTERS.charAt(random.nextInt(CHARACTERS.length()));
+            builder.insert(random.nextInt(builder.length() + 1), c);
+        }
+        return builder.toString();
+    }
+}
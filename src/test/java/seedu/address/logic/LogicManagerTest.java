@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.LogicManager.FILE_OPS_ERROR_FORMAT;
 import static seedu.address.logic.LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_TASK_LIST_NOT_SHOWN;
@@ -11,25 +13,39 @@ import static seedu.address.testutil.TypicalRoots.PROFBOOK_WITH_TWO_GROUPS;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.ShowChildrenListCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.id.GroupId;
+import seedu.address.model.id.StudentId;
 import seedu.address.model.profbook.Root;
+import seedu.address.storage.AsyncProfBookSaver;
 import seedu.address.storage.JsonProfBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.ProfBookStorageManager;
 
 public class LogicManagerTest {
+    private static final String CREATE_GROUP_COMMAND = "mkdir grp-009 -n Group Nine";
+    private static final String BATCH_COMMANDS = CREATE_GROUP_COMMAND + "\n"
+            + "# Comments and blank lines are skipped\n"
+            + "\n"
+            + "cd grp-009\n"
+            + "touch 0099Y -n Student Nine -e nine@gmail.com -p 98765432 -a 9 Nine Road";
+
     @TempDir
     public Path temporaryFolder;
 
@@ -69,17 +85,138 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_accessDeniedExceptionError_throwsCommandException() {
+    public void execute_accessDeniedExceptionError_throwsCommandException() throws Exception {
         AccessDeniedException e = new AccessDeniedException("Access Denied Exception");
         assertThrowsForStorageException(e, FILE_OPS_PERMISSION_ERROR_FORMAT);
     }
 
     @Test
-    public void execute_iOException_throwsCommandException() {
+    public void execute_iOException_throwsCommandException() throws Exception {
         IOException e = new IOException("IO exception");
         assertThrowsForStorageException(e, FILE_OPS_ERROR_FORMAT);
     }
 
+    @Test
+    public void execute_readOnlyCommandWithFailingStorage_noSaveAttempted() throws Exception {
+        AsyncProfBookSaver saver = new AsyncProfBookSaver(storageThrowing(new IOException("IO exception")));
+        logic = new LogicManager(model, saver);
+
+        logic.execute(ShowChildrenListCommand.COMMAND_WORD);
+        saver.flush();
+        logic.execute(ShowChildrenListCommand.COMMAND_WORD);
+    }
+
+    @Test
+    public void execute_modifyingCommand_savesProfBook() throws Exception {
+        Path profBookPath = temporaryFolder.resolve("savedProfBook.json");
+        JsonProfBookStorage profBookStorage = new JsonProfBookStorage(profBookPath);
+        AsyncProfBookSaver saver = new AsyncProfBookSaver(profBookStorage);
+        logic = new LogicManager(model, saver);
+
+        logic.execute(CREATE_GROUP_COMMAND);
+        saver.flush();
+
+        assertEquals(model.getRoot(), profBookStorage.readProfBook().get());
+    }
+
+    @Test
+    public void executeBatch_validCommands_allExecutedAndSavedOnce() throws Exception {
+        Path profBookPath = temporaryFolder.resolve("savedProfBook.json");
+        JsonProfBookStorage profBookStorage = new JsonProfBookStorage(profBookPath);
+        AsyncProfBookSaver saver = new AsyncProfBookSaver(profBookStorage);
+        logic = new LogicManager(model, saver);
+
+        BatchResult result = logic.executeBatch(BATCH_COMMANDS, false);
+        saver.flush();
+
+        assertEquals(3, result.getNumOfCommands());
+        assertEquals(3, result.getNumOfExecutedCommands());
+        assertFalse(result.hasErrors());
+        assertFalse(result.isRolledBack());
+        assertEquals("~/grp-009", logic.getCurrPath());
+        assertTrue(model.hasStudentWithId(new StudentId("0099Y")));
+        assertEquals(1, logic.getDisplayList().size());
+        assertEquals(model.getRoot(), profBookStorage.readProfBook().get());
+    }
+
+    @Test
+    public void executeBatch_failingLine_otherLinesExecuted() throws Exception {
+        BatchResult result = logic.executeBatch("rmt 1\n" + BATCH_COMMANDS, false);
+
+        assertEquals(4, result.getNumOfCommands());
+        assertEquals(3, result.getNumOfExecutedCommands());
+        assertEquals(List.of(new BatchResult.LineError(1, "rmt 1", MESSAGE_TASK_LIST_NOT_SHOWN)),
+                result.getErrors());
+        assertFalse(result.isRolledBack());
+        assertTrue(model.hasStudentWithId(new StudentId("0099Y")));
+    }
+
+    @Test
+    public void executeBatch_failingLineAllOrNothing_noChanges() throws Exception {
+        Path profBookPath = temporaryFolder.resolve("savedProfBook.json");
+        AsyncProfBookSaver saver = new AsyncProfBookSaver(new JsonProfBookStorage(profBookPath));
+        logic = new LogicManager(model, saver);
+        Model expectedModel = new ModelManager(ROOT_PATH, PROFBOOK_WITH_TWO_GROUPS, new UserPrefs());
+
+        BatchResult result = logic.executeBatch(BATCH_COMMANDS + "\nrmt 1\n" + CREATE_GROUP_COMMAND, true);
+        saver.flush();
+
+        assertEquals(3, result.getNumOfExecutedCommands());
+        assertEquals(6, result.getErrors().get(0).getLineNumber());
+        assertTrue(result.isRolledBack());
+        assertEquals(expectedModel, model);
+        assertFalse(Files.exists(profBookPath));
+    }
+
+    @Test
+    public void execute_undoAndRedo_changesSaved() throws Exception {
+        Path profBookPath = temporaryFolder.resolve("savedProfBook.json");
+        JsonProfBookStorage profBookStorage = new JsonProfBookStorage(profBookPath);
+        AsyncProfBookSaver saver = new AsyncProfBookSaver(profBookStorage);
+        logic = new LogicManager(model, saver);
+        Model expectedModel = new ModelManager(ROOT_PATH, PROFBOOK_WITH_TWO_GROUPS, new UserPrefs());
+
+        logic.execute(CREATE_GROUP_COMMAND);
+        logic.execute(UndoCommand.COMMAND_WORD);
+        saver.flush();
+        assertEquals(expectedModel, model);
+        assertEquals(model.getRoot(), profBookStorage.readProfBook().get());
+
+        logic.execute(RedoCommand.COMMAND_WORD);
+        saver.flush();
+        assertTrue(model.hasGroupWithId(new GroupId("grp-009")));
+        assertEquals(model.getRoot(), profBookStorage.readProfBook().get());
+    }
+
+    @Test
+    public void executeBatch_validCommands_undoneAsOneChange() throws Exception {
+        logic.executeBatch(BATCH_COMMANDS, false);
+        logic.execute(UndoCommand.COMMAND_WORD);
+
+        assertFalse(model.hasGroupWithId(new GroupId("grp-009")));
+        assertFalse(model.hasStudentWithId(new StudentId("0099Y")));
+        assertEquals(ROOT_PATH.toString(), logic.getCurrPath());
+        assertThrows(CommandException.class, UndoCommand.MESSAGE_NOTHING_TO_UNDO, (
+                ) -> logic.execute(UndoCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void executeScript_scriptFile_success() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.writeString(scriptPath, BATCH_COMMANDS);
+
+        BatchResult result = logic.executeScript(scriptPath, true);
+
+        assertEquals(3, result.getNumOfExecutedCommands());
+        assertTrue(model.hasStudentWithId(new StudentId("0099Y")));
+    }
+
+    @Test
+    public void executeScript_missingFile_throwsIoException() {
+        Path scriptPath = temporaryFolder.resolve("missing.txt");
+        assertThrows(IOException.class, () -> logic.executeScript(scriptPath, false));
+    }
+
     @Test
     public void getDisplayList() {
         assertEquals(model.getDisplayList(), logic.getDisplayList());
@@ -105,9 +242,24 @@ public class LogicManagerTest {
         assertEquals(model.getGuiSettings(), logic.getGuiSettings());
     }
 
-    private void assertThrowsForStorageException(IOException e, String errorMsg) {
+    private void assertThrowsForStorageException(IOException e, String errorMsg) throws Exception {
+        AsyncProfBookSaver saver = new AsyncProfBookSaver(storageThrowing(e));
+        logic = new LogicManager(model, saver);
+
+        // The failed save is awaited so that its error is reported by the next command, rather than racing
+        // with the command that requested the save
+        saver.requestSave(model.getRoot());
+        saver.flush();
+        assertThrows(CommandException.class,
+                String.format(errorMsg, e.getMessage()), (
+                ) -> logic.execute(ShowChildrenListCommand.COMMAND_WORD));;
+    }
+
+    /**
+     * Returns a storage with a {@code ProfBookStorage} that throws {@code e} when saving.
+     */
+    private ProfBookStorageManager storageThrowing(IOException e) {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
-        // Inject LogicManager with an ProfBookStorage that throws the IOException e when saving
         JsonProfBookStorage profBookStorage = new JsonProfBookStorage(prefPath) {
             @Override
             public void saveProfBook(Root profBook, Path filePath) throws IOException {
@@ -117,11 +269,6 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        ProfBookStorageManager storage = new ProfBookStorageManager(profBookStorage, userPrefsStorage);
-
-        logic = new LogicManager(model, storage);
-        assertThrows(CommandException.class,
-                String.format(errorMsg, e.getMessage()), (
-                ) -> logic.execute(ShowChildrenListCommand.COMMAND_WORD));;
+        return new ProfBookStorageManager(profBookStorage, userPrefsStorage);
     }
 }
@@ -2,17 +2,24 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.MoveStudentToGroupCommand.MESSAGE_GROUP_NOT_FOUND;
 import static seedu.address.logic.commands.MoveStudentToGroupCommand.MESSAGE_INVALID_MOVE_COMMAND;
+import static seedu.address.logic.commands.MoveStudentToGroupCommand.MESSAGE_MOVE_STUDENTS_SUCCESS;
 import static seedu.address.logic.commands.MoveStudentToGroupCommand.MESSAGE_MOVE_STUDENT_SUCCESS;
+import static seedu.address.logic.commands.MoveStudentToGroupCommand.MESSAGE_STUDENT_ALREADY_IN_GROUP;
 import static seedu.address.logic.commands.MoveStudentToGroupCommand.MESSAGE_STUDENT_NOT_FOUND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalGroups.GROUP_ONE;
 import static seedu.address.testutil.TypicalGroups.GROUP_TWO;
 import static seedu.address.testutil.TypicalRoots.PROFBOOK_WITH_TWO_GROUPS;
 import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.FIONA;
+
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,12 +28,14 @@ import seedu.address.model.ChildOperation;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.id.GroupId;
 import seedu.address.model.path.AbsolutePath;
 import seedu.address.model.path.RelativePath;
 import seedu.address.model.path.exceptions.InvalidPathException;
 import seedu.address.model.profbook.Group;
 import seedu.address.model.profbook.Root;
 import seedu.address.model.profbook.Student;
+import seedu.address.testutil.GroupBuilder;
 
 public class MoveStudentToGroupCommandTest {
 
@@ -90,6 +99,65 @@ public class MoveStudentToGroupCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_moveStudentsFromDifferentGroups_success() throws InvalidPathException {
+        AbsolutePath destinationGroupAbsolutePath = new AbsolutePath("~/grp-000");
+        expectedModel.rootChildOperation().addChild(new GroupId("grp-000"), new GroupBuilder()
+                .withId("grp-000").build());
+        model.rootChildOperation().addChild(new GroupId("grp-000"), new GroupBuilder()
+                .withId("grp-000").build());
+
+        ChildOperation<Student> targetOperation = expectedModel.groupChildOperation(destinationGroupAbsolutePath);
+        ChildOperation<Student> sourceOperationOne = expectedModel.groupChildOperation(
+                new AbsolutePath("~/grp-001/0001Y"));
+        ChildOperation<Student> sourceOperationTwo = expectedModel.groupChildOperation(
+                new AbsolutePath("~/grp-002/0006Y"));
+        targetOperation.addChild(ALICE.getId(), sourceOperationOne.deleteChild(ALICE.getId()));
+        targetOperation.addChild(BENSON.getId(), sourceOperationOne.deleteChild(BENSON.getId()));
+        targetOperation.addChild(FIONA.getId(), sourceOperationTwo.deleteChild(FIONA.getId()));
+        expectedModel.updateList();
+
+        // A student given twice is only moved once
+        List<AbsolutePath> sources = List.of(new AbsolutePath("~/grp-001/" + ALICE.getId()),
+                new AbsolutePath("~/grp-002/" + FIONA.getId()), new AbsolutePath("~/grp-001/" + BENSON.getId()),
+                new AbsolutePath("~/grp-001/" + ALICE.getId()));
+        MoveStudentToGroupCommand command = MoveStudentToGroupCommand.of(sources, destinationGroupAbsolutePath);
+
+        String expectedMessage = String.format(MESSAGE_MOVE_STUDENTS_SUCCESS, 3, new GroupId("grp-000"));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_moveStudent_keepsStudentAndTaskList() throws Exception {
+        AbsolutePath source = new AbsolutePath("~/grp-001/" + ALICE.getId());
+        Student student = model.groupChildOperation(source).getChild(ALICE.getId());
+
+        new MoveStudentToGroupCommand(source, new AbsolutePath("~/grp-002")).execute(model);
+
+        Student movedStudent = model.groupChildOperation(new AbsolutePath("~/grp-002")).getChild(ALICE.getId());
+        assertSame(student, movedStudent);
+        assertSame(student.getAllTasks(), movedStudent.getAllTasks());
+    }
+
+    @Test
+    public void execute_studentAlreadyInDestinationGroup_throwCommandException() throws InvalidPathException {
+        List<AbsolutePath> sources = List.of(new AbsolutePath("~/grp-002/" + FIONA.getId()),
+                new AbsolutePath("~/grp-001/" + ALICE.getId()));
+        MoveStudentToGroupCommand command = MoveStudentToGroupCommand.of(sources, new AbsolutePath("~/grp-001"));
+
+        assertCommandFailure(command, model, String.format(MESSAGE_STUDENT_ALREADY_IN_GROUP, ALICE.getId(),
+                new GroupId("grp-001")));
+    }
+
+    @Test
+    public void execute_oneOfStudentsNotFound_throwCommandException() throws InvalidPathException {
+        List<AbsolutePath> sources = List.of(new AbsolutePath("~/grp-001/" + ALICE.getId()),
+                new AbsolutePath("~/grp-001/0011Y"));
+        MoveStudentToGroupCommand command = MoveStudentToGroupCommand.of(sources, new AbsolutePath("~/grp-002"));
+
+        assertCommandFailure(command, model, MESSAGE_STUDENT_NOT_FOUND);
+    }
+
     @Test
     public void execute_nullModel_throwCommandException() throws InvalidPathException {
         RelativePath sourceGroupPath = new RelativePath(sourceGroup.getId().toString());
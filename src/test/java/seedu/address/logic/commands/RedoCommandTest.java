@@ -0,0 +1,34 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalRoots.PROFBOOK_WITH_TWO_GROUPS;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.path.AbsolutePath;
+import seedu.address.model.profbook.Root;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_nothingUndone_throwsCommandException() {
+        Model model = new ModelManager(AbsolutePath.ROOT_PATH, PROFBOOK_WITH_TWO_GROUPS, new UserPrefs());
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_afterUndoneClear_clearsProfBook() {
+        Model model = new ModelManager(AbsolutePath.ROOT_PATH, PROFBOOK_WITH_TWO_GROUPS, new UserPrefs());
+        model.beginTransaction();
+        model.setRoot(new Root());
+        model.commitTransaction();
+        model.undo();
+        Model expectedModel = new ModelManager();
+
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PATH_NOT_FOUND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.model.path.AbsolutePath.ROOT_PATH;
+import static seedu.address.testutil.TypicalPaths.PATH_TO_ALICE;
+import static seedu.address.testutil.TypicalPaths.PATH_TO_GROUP_ONE;
+import static seedu.address.testutil.TypicalPaths.PATH_TO_GROUP_TWO;
+import static seedu.address.testutil.TypicalRoots.PROFBOOK_WITH_GROUP_ONE;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.profbook.Root;
+import seedu.address.model.task.ToDo;
+
+public class SearchCommandTest {
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setup() {
+        model = new ModelManager(ROOT_PATH, new Root(PROFBOOK_WITH_GROUP_ONE), new UserPrefs());
+        expectedModel = new ModelManager(ROOT_PATH, new Root(PROFBOOK_WITH_GROUP_ONE), new UserPrefs());
+    }
+
+    @Test
+    public void constructor_nullArgs_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SearchCommand(null, "lab"));
+        assertThrows(NullPointerException.class, () -> new SearchCommand(ROOT_PATH, null));
+    }
+
+    @Test
+    public void execute_isHelp_returnsHelpMenu() {
+        assertCommandSuccess(SearchCommand.HELP_MESSAGE, model, SearchCommand.MESSAGE_USAGE, expectedModel);
+    }
+
+    @Test
+    public void execute_rootPath_listsMatchingTasksWithPaths() throws CommandException {
+        model.getStudentWithId(ALICE.getId()).addTask(new ToDo("Lab 3 report"));
+        model.getGroupWithId(PATH_TO_GROUP_ONE.getGroupId().get()).addTask(new ToDo("Lab 3 briefing"));
+
+        CommandResult result = new SearchCommand(ROOT_PATH, "lab 3").execute(model);
+        String[] lines = result.getFeedbackToUser().split("\n");
+        assertEquals(String.format(SearchCommand.MESSAGE_SUCCESS, 2, "lab 3"), lines[0]);
+        assertTrue(lines[1].startsWith(PATH_TO_GROUP_ONE + ": "));
+        assertTrue(lines[2].startsWith(PATH_TO_ALICE + ": "));
+    }
+
+    @Test
+    public void execute_studentPath_searchesOnlyStudent() throws CommandException {
+        model.getStudentWithId(ALICE.getId()).addTask(new ToDo("Lab 3 report"));
+        model.getGroupWithId(PATH_TO_GROUP_ONE.getGroupId().get()).addTask(new ToDo("Lab 3 briefing"));
+
+        CommandResult result = new SearchCommand(PATH_TO_ALICE, "lab").execute(model);
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(SearchCommand.MESSAGE_SUCCESS, 1, "lab")));
+    }
+
+    @Test
+    public void execute_pathNotFound_throwsCommandException() {
+        assertCommandFailure(new SearchCommand(PATH_TO_GROUP_TWO, "lab"), model,
+                String.format(MESSAGE_PATH_NOT_FOUND, PATH_TO_GROUP_TWO));
+    }
+
+    @Test
+    public void equals() {
+        SearchCommand command = new SearchCommand(ROOT_PATH, "lab");
+
+        assertEquals(command, command);
+        assertEquals(command, new SearchCommand(ROOT_PATH, "lab"));
+        assertNotEquals(command, new SearchCommand(PATH_TO_GROUP_ONE, "lab"));
+        assertNotEquals(command, new SearchCommand(ROOT_PATH, "lab 3"));
+        assertNotEquals(command, null);
+    }
+}
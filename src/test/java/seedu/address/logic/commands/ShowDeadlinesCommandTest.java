@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PATH_NOT_FOUND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.model.path.AbsolutePath.ROOT_PATH;
+import static seedu.address.testutil.TypicalPaths.PATH_TO_ALICE;
+import static seedu.address.testutil.TypicalPaths.PATH_TO_GROUP_ONE;
+import static seedu.address.testutil.TypicalPaths.PATH_TO_GROUP_TWO;
+import static seedu.address.testutil.TypicalRoots.PROFBOOK_WITH_GROUP_ONE;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.profbook.Root;
+import seedu.address.model.task.Deadline;
+import seedu.address.testutil.StudentBuilder;
+
+public class ShowDeadlinesCommandTest {
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setup() {
+        model = new ModelManager(ROOT_PATH, new Root(PROFBOOK_WITH_GROUP_ONE), new UserPrefs());
+        expectedModel = new ModelManager(ROOT_PATH, new Root(PROFBOOK_WITH_GROUP_ONE), new UserPrefs());
+    }
+
+    @Test
+    public void constructor_invalidArgs_throwsException() {
+        assertThrows(NullPointerException.class, () -> new ShowDeadlinesCommand(null, 7, false));
+        assertThrows(IllegalArgumentException.class, () -> new ShowDeadlinesCommand(ROOT_PATH, 0, false));
+    }
+
+    @Test
+    public void execute_isHelp_returnsHelpMenu() {
+        assertCommandSuccess(ShowDeadlinesCommand.HELP_MESSAGE, model, ShowDeadlinesCommand.MESSAGE_USAGE,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_rootPath_listsUpcomingDeadlinesWithPaths() throws CommandException {
+        LocalDateTime now = LocalDateTime.now();
+        model.getStudentWithId(ALICE.getId()).addTask(new Deadline("Lab 3 report", now.plusDays(2)));
+        model.getGroupWithId(PATH_TO_GROUP_ONE.getGroupId().get()).addTask(new Deadline("Quiz", now.plusDays(1)));
+        model.getStudentWithId(ALICE.getId()).addTask(new Deadline("Project", now.plusDays(10)));
+
+        CommandResult result = new ShowDeadlinesCommand(ROOT_PATH, 3, false).execute(model);
+        String[] lines = result.getFeedbackToUser().split("\n");
+        assertEquals(String.format(ShowDeadlinesCommand.MESSAGE_UPCOMING, 2, 3), lines[0]);
+        assertTrue(lines[1].startsWith(PATH_TO_GROUP_ONE + ": "));
+        assertTrue(lines[2].startsWith(PATH_TO_ALICE + ": "));
+    }
+
+    @Test
+    public void execute_overdue_listsOnlyOverdueDeadlinesUnderPath() throws CommandException {
+        LocalDateTime now = LocalDateTime.now();
+        model.getStudentWithId(ALICE.getId()).addTask(new Deadline("Lab 1 report", now.minusDays(2)));
+        model.getStudentWithId(ALICE.getId()).addTask(new Deadline("Lab 3 report", now.plusDays(2)));
+        model.getGroupWithId(PATH_TO_GROUP_ONE.getGroupId().get()).addTask(new Deadline("Quiz", now.minusDays(1)));
+
+        // Alice also has the default deadline of the student builder, which is long overdue
+        CommandResult result = new ShowDeadlinesCommand(PATH_TO_ALICE, 7, true).execute(model);
+        String[] lines = result.getFeedbackToUser().split("\n");
+        assertEquals(String.format(ShowDeadlinesCommand.MESSAGE_OVERDUE, 2), lines[0]);
+        assertTrue(lines[1].contains(StudentBuilder.DEFAULT_TASK.getDesc()));
+        assertTrue(lines[2].contains("Lab 1 report"));
+    }
+
+    @Test
+    public void execute_pathNotFound_throwsCommandException() {
+        assertCommandFailure(new ShowDeadlinesCommand(PATH_TO_GROUP_TWO, 7, false), model,
+                String.format(MESSAGE_PATH_NOT_FOUND, PATH_TO_GROUP_TWO));
+    }
+
+    @Test
+    public void equals() {
+        ShowDeadlinesCommand command = new ShowDeadlinesCommand(ROOT_PATH, 7, false);
+
+        assertEquals(command, command);
+        assertEquals(command, new ShowDeadlinesCommand(ROOT_PATH, 7, false));
+        assertNotEquals(command, new ShowDeadlinesCommand(PATH_TO_GROUP_ONE, 7, false));
+        assertNotEquals(command, new ShowDeadlinesCommand(ROOT_PATH, 3, false));
+        assertNotEquals(command, new ShowDeadlinesCommand(ROOT_PATH, 7, true));
+        assertNotEquals(command, null);
+    }
+}
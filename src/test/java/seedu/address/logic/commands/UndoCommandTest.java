@@ -0,0 +1,33 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalRoots.PROFBOOK_WITH_TWO_GROUPS;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.path.AbsolutePath;
+import seedu.address.model.profbook.Root;
+
+public class UndoCommandTest {
+
+    @Test
+    public void execute_noChange_throwsCommandException() {
+        Model model = new ModelManager(AbsolutePath.ROOT_PATH, PROFBOOK_WITH_TWO_GROUPS, new UserPrefs());
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_afterClear_restoresProfBook() {
+        Model model = new ModelManager(AbsolutePath.ROOT_PATH, PROFBOOK_WITH_TWO_GROUPS, new UserPrefs());
+        model.beginTransaction();
+        model.setRoot(new Root());
+        model.commitTransaction();
+        Model expectedModel = new ModelManager(AbsolutePath.ROOT_PATH, PROFBOOK_WITH_TWO_GROUPS, new UserPrefs());
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+}
@@ -161,6 +161,49 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, address);
     }
 
+    @Test
+    public void tokenize_escapedCharacters_unescaped() {
+        String argsString = " ~/grp\\-001 --name a\\-b \\\\ \\--name c\\ -i \\";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, name, id);
+        assertPreamblePresent(argMultimap, "~/grp-001");
+        assertArgumentPresent(argMultimap, name, "a-b \\ --name c\\");
+        assertArgumentPresent(argMultimap, id, "\\");
+    }
+
+    @Test
+    public void tokenize_optionsNotSeparatedBySpaces_takenAsValues() {
+        String argsString = "preamble\t--name tab-separated -i\tid --address";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, name, id, address);
+        assertPreamblePresent(argMultimap, "preamble\t--name tab-separated -i\tid");
+        assertArgumentAbsent(argMultimap, name);
+        assertArgumentAbsent(argMultimap, id);
+        assertArgumentPresent(argMultimap, address, "");
+    }
+
+    @Test
+    public void tokenizeArgs_reusedTokenizer_noStaleValues() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(name, id, address);
+
+        ArgumentMultimap argMultimap = tokenizer.tokenizeArgs("SomePreambleString -i id-Value --name name-Value");
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, name, "name-Value");
+        assertArgumentPresent(argMultimap, id, "id-Value");
+
+        argMultimap = tokenizer.tokenizeArgs(" -a address-Value");
+        assertPreambleEmpty(argMultimap);
+        assertArgumentAbsent(argMultimap, name);
+        assertArgumentAbsent(argMultimap, id);
+        assertArgumentPresent(argMultimap, address, "address-Value");
+    }
+
+    @Test
+    public void extractPreamble() {
+        assertEquals("", ArgumentTokenizer.extractPreamble("  "));
+        assertEquals("~/grp-001", ArgumentTokenizer.extractPreamble(" ~/grp-001 "));
+        assertEquals("~/grp-001", ArgumentTokenizer.extractPreamble(" ~/grp-001 --unknown value"));
+        assertEquals("a-b -c", ArgumentTokenizer.extractPreamble(" a\\-b \\-c -n value"));
+    }
+
     @Test
     public void equalsMethod() {
         Option aaa = new Option("--aaa", "-a");
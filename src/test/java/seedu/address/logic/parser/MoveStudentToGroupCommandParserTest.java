@@ -10,10 +10,14 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.model.path.AbsolutePath.ROOT_PATH;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.CommandTestUtil;
 import seedu.address.logic.commands.MoveStudentToGroupCommand;
+import seedu.address.model.path.AbsolutePath;
+import seedu.address.model.path.exceptions.InvalidPathException;
 
 public class MoveStudentToGroupCommandParserTest {
     private MoveStudentToGroupCommandParser parser = new MoveStudentToGroupCommandParser();
@@ -28,6 +32,17 @@ public class MoveStudentToGroupCommandParserTest {
                         CommandTestUtil.getValidGroupAbsolutePath()));
     }
 
+    @Test
+    public void parse_multipleSources_success() throws InvalidPathException {
+        AbsolutePath currPath = new AbsolutePath("~/grp-001");
+        assertParseSuccess(parser,
+                "0001Y  ../grp-003/0002Y ../grp-002",
+                currPath,
+                MoveStudentToGroupCommand.of(
+                        List.of(new AbsolutePath("~/grp-001/0001Y"), new AbsolutePath("~/grp-003/0002Y")),
+                        new AbsolutePath("~/grp-002")));
+    }
+
     @Test
     public void parse_help_returnsHelpMessage() {
         // help option only
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_DAYS;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.model.path.AbsolutePath.ROOT_PATH;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -61,6 +62,21 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseDays_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_DAYS, () -> ParserUtil.parseDays("0"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_DAYS, () -> ParserUtil.parseDays("3 a"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_DAYS, ()
+            -> ParserUtil.parseDays(Integer.toString(ParserUtil.MAX_DAYS + 1)));
+    }
+
+    @Test
+    public void parseDays_validInput_success() throws Exception {
+        assertEquals(Integer.valueOf(3), Integer.valueOf(ParserUtil.parseDays("  3  ")));
+        assertEquals(Integer.valueOf(ParserUtil.MAX_DAYS),
+                Integer.valueOf(ParserUtil.parseDays(Integer.toString(ParserUtil.MAX_DAYS))));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -32,7 +32,9 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.MarkCommand;
 import seedu.address.logic.commands.MoveStudentToGroupCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.ShowChildrenListCommand;
+import seedu.address.logic.commands.ShowDeadlinesCommand;
 import seedu.address.logic.commands.ShowTaskListCommand;
 import seedu.address.logic.commands.UnmarkCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -163,6 +165,22 @@ public class ProfBookParserTest {
         assertEquals(new UnmarkCommand(FIRST_INDEX), command);
     }
 
+    @Test
+    public void parseCommand_search() throws ParseException {
+        SearchCommand command = (SearchCommand) parser.parseCommand(
+            SearchCommand.COMMAND_WORD + " lab 3",
+            PATH_TO_GROUP_ONE);
+        assertEquals(new SearchCommand(PATH_TO_GROUP_ONE, "lab 3"), command);
+    }
+
+    @Test
+    public void parseCommand_due() throws ParseException {
+        ShowDeadlinesCommand command = (ShowDeadlinesCommand) parser.parseCommand(
+            ShowDeadlinesCommand.COMMAND_WORD + " -dy 3",
+            PATH_TO_GROUP_ONE);
+        assertEquals(new ShowDeadlinesCommand(PATH_TO_GROUP_ONE, 3, false), command);
+    }
+
 
     @Test
     public void parseCommand_exit() throws ParseException {
@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_MISSING_ARGUMENT;
+import static seedu.address.logic.commands.CommandTestUtil.EMPTY_PREAMBLE;
+import static seedu.address.logic.commands.CommandTestUtil.HELP_OPTION;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.SearchCommand.COMMAND_WORD;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.model.path.AbsolutePath.ROOT_PATH;
+import static seedu.address.testutil.TypicalPaths.PATH_TO_GROUP_ONE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.SearchCommand;
+
+public class SearchCommandParserTest {
+    private SearchCommandParser parser = new SearchCommandParser();
+
+    @Test
+    public void parse_help_returnsHelpMessage() {
+        assertParseSuccess(parser, HELP_OPTION, ROOT_PATH, SearchCommand.HELP_MESSAGE);
+        assertParseSuccess(parser, "lab 3" + HELP_OPTION, ROOT_PATH, SearchCommand.HELP_MESSAGE);
+    }
+
+    @Test
+    public void parse_invalidOption_throwsParseException() {
+        assertParseFailure(parser, "lab" + NAME_DESC_AMY, ROOT_PATH,
+                String.format(Messages.MESSAGE_NO_OPTIONS, COMMAND_WORD));
+    }
+
+    @Test
+    public void parse_missingKeywords_throwsParseException() {
+        assertParseFailure(parser, EMPTY_PREAMBLE, ROOT_PATH, MESSAGE_MISSING_ARGUMENT.apply(COMMAND_WORD));
+    }
+
+    @Test
+    public void parse_validKeywords_returnsSearchCommandForCurrentPath() {
+        assertParseSuccess(parser, " lab 3 ", PATH_TO_GROUP_ONE, new SearchCommand(PATH_TO_GROUP_ONE, "lab 3"));
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.commands.CommandTestUtil.EMPTY_PREAMBLE;
+import static seedu.address.logic.commands.CommandTestUtil.HELP_OPTION;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.ShowDeadlinesCommand.DEFAULT_DAYS;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.model.path.AbsolutePath.ROOT_PATH;
+import static seedu.address.testutil.TypicalPaths.PATH_TO_ALICE;
+import static seedu.address.testutil.TypicalPaths.PATH_TO_GROUP_ONE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ShowDeadlinesCommand;
+
+public class ShowDeadlinesCommandParserTest {
+    private ShowDeadlinesCommandParser parser = new ShowDeadlinesCommandParser();
+
+    @Test
+    public void parse_help_returnsHelpMessage() {
+        assertParseSuccess(parser, HELP_OPTION, ROOT_PATH, ShowDeadlinesCommand.HELP_MESSAGE);
+        assertParseSuccess(parser, " -o" + HELP_OPTION, ROOT_PATH, ShowDeadlinesCommand.HELP_MESSAGE);
+    }
+
+    @Test
+    public void parse_noArguments_returnsCommandForCurrentPath() {
+        assertParseSuccess(parser, EMPTY_PREAMBLE, PATH_TO_GROUP_ONE,
+                new ShowDeadlinesCommand(PATH_TO_GROUP_ONE, DEFAULT_DAYS, false));
+    }
+
+    @Test
+    public void parse_pathAndOptions_returnsCommand() {
+        assertParseSuccess(parser, " 0001Y -dy 3", PATH_TO_GROUP_ONE,
+                new ShowDeadlinesCommand(PATH_TO_ALICE, 3, false));
+        assertParseSuccess(parser, " ~/grp-001 --overdue", ROOT_PATH,
+                new ShowDeadlinesCommand(PATH_TO_GROUP_ONE, DEFAULT_DAYS, true));
+    }
+
+    @Test
+    public void parse_invalidDays_throwsParseException() {
+        assertParseFailure(parser, " -dy 0", ROOT_PATH, ParserUtil.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, " -dy soon", ROOT_PATH, ParserUtil.MESSAGE_INVALID_DAYS);
+    }
+
+    @Test
+    public void parse_daysWithOverdue_throwsParseException() {
+        assertParseFailure(parser, " -dy 3 -o", ROOT_PATH, ShowDeadlinesCommandParser.MESSAGE_DAYS_WITH_OVERDUE);
+    }
+
+    @Test
+    public void parse_invalidOption_throwsParseException() {
+        assertParseFailure(parser, NAME_DESC_AMY, ROOT_PATH,
+                String.format(ParserUtil.MESSAGE_INVALID_OPTION, "--name"));
+    }
+}
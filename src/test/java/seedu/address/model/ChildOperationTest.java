@@ -4,14 +4,17 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -26,7 +29,11 @@ import seedu.address.model.profbook.Root;
 import seedu.address.model.profbook.Student;
 import seedu.address.model.profbook.exceptions.DuplicateChildException;
 import seedu.address.model.task.TaskListManager;
+import seedu.address.model.task.ToDo;
+import seedu.address.model.util.Transaction;
+import seedu.address.testutil.GroupBuilder;
 import seedu.address.testutil.StudentBuilder;
+import seedu.address.testutil.TypicalRoots;
 
 public class ChildOperationTest {
     private Root root;
@@ -64,6 +71,11 @@ public class ChildOperationTest {
         model = new ModelManager(rootPath, root, new UserPrefs());
     }
 
+    @AfterEach
+    public void tearDown() {
+        ChildOperation.setParallelThreshold(ChildOperation.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
     @Test
     public void getChildOperation_noErrorReturn() {
         assertEquals(new ChildOperation<>(this.root), model.rootChildOperation());
@@ -108,6 +120,25 @@ public class ChildOperationTest {
         }
     }
 
+    @Test
+    public void moveChildrenTo_studentAlreadyInDestination_nothingMoved() throws InvalidPathException {
+        Group otherGroup = new GroupBuilder().withId("grp-002").withStudent(this.student).build();
+        model.rootChildOperation().addChild(otherGroup.getId(), otherGroup);
+        Student karen = new StudentBuilder().withId("0011Y").build();
+        ChildOperation<Student> opr = model.groupChildOperation(grpPath);
+        opr.addChild(karen.getId(), karen);
+
+        ChildOperation<Student> otherOpr = model.groupChildOperation(new AbsolutePath("~/grp-002"));
+        assertThrows(DuplicateChildException.class, () -> opr.moveChildrenTo(
+                List.of(karen.getId(), this.student.getId()), otherOpr));
+        assertEquals(2, opr.numOfChildren());
+        assertEquals(1, otherOpr.numOfChildren());
+
+        assertEquals(List.of(karen), opr.moveChildrenTo(List.of(karen.getId()), otherOpr));
+        assertFalse(opr.hasChild(karen.getId()));
+        assertSame(karen, otherOpr.getChild(karen.getId()));
+    }
+
     @Test
     public void childOperationVerifyGetAll_noError() {
         ChildOperation<Student> opr = model.groupChildOperation(grpPath);
@@ -131,6 +162,64 @@ public class ChildOperationTest {
         assertEquals(newStu, opr.getChild(stu));
     }
 
+    @Test
+    public void addTaskToAllChildren_someChildrenHaveTask_countsChildrenWithTask() {
+        Root typicalRoot = new Root(TypicalRoots.PROFBOOK_WITH_TWO_GROUPS);
+        ChildOperation<Group> opr = new ChildOperation<>(typicalRoot);
+        Student firstStudent = typicalRoot.getAllChildren().get(0).getAllChildren().get(0);
+        firstStudent.addTask(new ToDo("Lab 1"));
+        int numOfStudents = opr.getAllChildren().stream().mapToInt(Group::numOfChildren).sum();
+
+        AddTaskToChildrenResult result = opr.addTaskToAllChildren(new ToDo("Lab 1"), 2);
+        assertEquals(new AddTaskToChildrenResult(numOfStudents, 1), result);
+        assertTrue(result.isAddedToAny());
+        assertTrue(result.hasChildrenWithTask());
+        assertTrue(opr.doAllChildrenHaveTasks(new ToDo("Lab 1"), 2));
+        assertEquals(1, firstStudent.getAllTasks().stream().filter(new ToDo("Lab 1")::equals).count());
+
+        assertFalse(opr.addTaskToAllChildren(new ToDo("Lab 1"), 2).isAddedToAny());
+        assertEquals(new AddTaskToChildrenResult(2, 0), opr.addTaskToAllChildren(new ToDo("Lab 1"), 1));
+        assertThrows(IllegalArgumentException.class, () -> opr.addTaskToAllChildren(new ToDo("Lab 1"), 3));
+    }
+
+    @Test
+    public void addTaskToAllChildren_parallel_sameAsSequential() {
+        Root sequentialRoot = createRootWithManyStudents();
+        Root parallelRoot = new Root(sequentialRoot);
+        sequentialRoot.getAllChildren().get(3).getAllChildren().get(5).addTask(new ToDo("Lab 1"));
+        parallelRoot.getAllChildren().get(3).getAllChildren().get(5).addTask(new ToDo("Lab 1"));
+
+        ChildOperation.setParallelThreshold(Integer.MAX_VALUE);
+        AddTaskToChildrenResult sequentialResult =
+                new ChildOperation<>(sequentialRoot).addTaskToAllChildren(new ToDo("Lab 1"), 2);
+        ChildOperation.setParallelThreshold(1);
+        AddTaskToChildrenResult parallelResult =
+                new ChildOperation<>(parallelRoot).addTaskToAllChildren(new ToDo("Lab 1"), 2);
+
+        assertEquals(sequentialResult, parallelResult);
+        assertEquals(new AddTaskToChildrenResult(400, 1), parallelResult);
+        assertEquals(sequentialRoot, parallelRoot);
+    }
+
+    @Test
+    public void addTaskToAllChildren_parallelRolledBack_restoresAllChildren() {
+        Root manyStudentsRoot = createRootWithManyStudents();
+        Root original = new Root(manyStudentsRoot);
+        ChildOperation.setParallelThreshold(1);
+
+        Transaction transaction = Transaction.begin();
+        new ChildOperation<>(manyStudentsRoot).addTaskToAllChildren(new ToDo("Lab 1"), 2);
+        assertFalse(manyStudentsRoot.equals(original));
+        transaction.rollback();
+
+        assertEquals(original, manyStudentsRoot);
+    }
+
+    @Test
+    public void setParallelThreshold_nonPositive_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ChildOperation.setParallelThreshold(0));
+    }
+
     @Test
     public void numOfChildren_nonEmptyBaseDir_returnsCorrectCount() {
         ChildOperation<Student> opr = model.groupChildOperation(grpPath);
@@ -157,4 +246,17 @@ public class ChildOperationTest {
         ChildOperation<Student> opr = model.groupChildOperation(grpPath);
         assertNotNull(opr);
     }
+
+    private static Root createRootWithManyStudents() {
+        Root manyStudentsRoot = new Root();
+        for (int i = 0; i < 10; i++) {
+            GroupBuilder groupBuilder = new GroupBuilder().withId(String.format("grp-%03d", i + 1));
+            for (int j = 0; j < 40; j++) {
+                groupBuilder.withStudent(new StudentBuilder().withId(String.format("%04dY", i * 40 + j)).build());
+            }
+            Group builtGroup = groupBuilder.build();
+            manyStudentsRoot.addChild(builtGroup.getId(), builtGroup);
+        }
+        return manyStudentsRoot;
+    }
 }
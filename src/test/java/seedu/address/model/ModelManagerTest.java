@@ -4,6 +4,7 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.path.AbsolutePath.ROOT_PATH;
@@ -30,8 +31,11 @@ import seedu.address.model.id.StudentId;
 import seedu.address.model.path.AbsolutePath;
 import seedu.address.model.path.exceptions.InvalidPathException;
 import seedu.address.model.profbook.Root;
+import seedu.address.model.profbook.Student;
 import seedu.address.testutil.PathBuilder;
+import seedu.address.testutil.StudentBuilder;
 import seedu.address.testutil.TypicalRoots;
+import seedu.address.ui.Displayable;
 
 public class ModelManagerTest {
 
@@ -79,6 +83,14 @@ public class ModelManagerTest {
         assertTrue(model.isShowTaskList());
     }
 
+    @Test
+    public void withOwnedRoot_validParameters_rootNotCopied() {
+        Root root = new Root(PROFBOOK_WITH_GROUP_ONE);
+        ModelManager ownedModel = ModelManager.withOwnedRoot(ROOT_PATH, root, new UserPrefs());
+        assertSame(root, ownedModel.getRoot());
+        assertEquals(model, ownedModel);
+    }
+
     @Test
     public void constructor_withEmptyData() {
         // Create a new model manager with empty data
@@ -348,6 +360,149 @@ public class ModelManagerTest {
         model.setDisplayPath(PATH_TO_ALICE);
     }
 
+    @Test
+    public void updateList_childrenChanged_keepsUnchangedItems() {
+        model.setDisplayPath(PATH_TO_GROUP_ONE);
+        model.showChildrenList();
+        Displayable benson = model.getDisplayList().get(1);
+
+        ChildOperation<Student> operation = model.groupChildOperation(PATH_TO_GROUP_ONE);
+        operation.deleteChild(ALICE.getId());
+        Student leo = new StudentBuilder(LEO).build();
+        operation.addChild(leo.getId(), leo);
+        model.updateList();
+
+        assertEquals(operation.getAllChildren(), model.getDisplayList());
+        assertSame(benson, model.getDisplayList().get(0));
+    }
+
+    @Test
+    public void setListUpdateDeferred_deferredUpdates_appliedWhenResumed() {
+        model.setListUpdateDeferred(true);
+        model.changeDirectory(PATH_TO_GROUP_ONE);
+        assertEquals(model.rootChildOperation().getAllChildren(), model.getDisplayList());
+
+        model.setListUpdateDeferred(false);
+        assertEquals(model.groupChildOperation(PATH_TO_GROUP_ONE).getAllChildren(), model.getDisplayList());
+    }
+
+    @Test
+    public void rollbackTransaction_changesMade_restoresModel() {
+        ModelManager expectedModel = new ModelManager(ROOT_PATH, PROFBOOK_WITH_GROUP_ONE, new UserPrefs());
+        model.beginTransaction();
+        model.rootChildOperation().addChild(GROUP_TWO.getId(), GROUP_TWO);
+        model.groupChildOperation(PATH_TO_GROUP_ONE).deleteChild(ALICE.getId());
+        model.changeDirectory(PATH_TO_GROUP_ONE);
+        model.rollbackTransaction();
+
+        assertEquals(expectedModel, model);
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void commitTransaction_nestedTransactionRolledBack_keepsOuterChanges() {
+        model.beginTransaction();
+        model.rootChildOperation().addChild(GROUP_TWO.getId(), GROUP_TWO);
+        model.beginTransaction();
+        model.groupChildOperation(PATH_TO_GROUP_ONE).deleteChild(ALICE.getId());
+        model.rollbackTransaction();
+        model.commitTransaction();
+
+        assertTrue(model.hasGroup(PATH_TO_GROUP_TWO));
+        assertTrue(model.hasStudent(PATH_TO_ALICE));
+        assertTrue(model.canUndo());
+    }
+
+    @Test
+    public void commitTransaction_noChanges_notUndoable() {
+        model.beginTransaction();
+        model.changeDirectory(PATH_TO_GROUP_ONE);
+        model.commitTransaction();
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void undoAndRedo_multipleChanges_restoresEachVersion() {
+        ModelManager initialModel = new ModelManager(ROOT_PATH, PROFBOOK_WITH_GROUP_ONE, new UserPrefs());
+        model.beginTransaction();
+        model.rootChildOperation().addChild(GROUP_TWO.getId(), GROUP_TWO);
+        model.commitTransaction();
+        ModelManager modelWithTwoGroups = new ModelManager(ROOT_PATH, model.getRoot(), new UserPrefs());
+        model.beginTransaction();
+        model.setRoot(new Root());
+        model.commitTransaction();
+
+        model.undo();
+        assertEquals(modelWithTwoGroups, model);
+        model.undo();
+        assertEquals(initialModel, model);
+        assertFalse(model.canUndo());
+
+        model.redo();
+        assertEquals(modelWithTwoGroups, model);
+        model.redo();
+        assertEquals(new Root(), model.getRoot());
+        assertFalse(model.canRedo());
+    }
+
+    @Test
+    public void undo_currentPathDeleted_changesToRoot() {
+        model.beginTransaction();
+        model.rootChildOperation().addChild(GROUP_TWO.getId(), GROUP_TWO);
+        model.commitTransaction();
+        model.changeDirectory(PATH_TO_GROUP_TWO);
+        model.setDisplayPath(PATH_TO_GROUP_TWO);
+        model.showTaskList();
+
+        model.undo();
+        assertEquals(ROOT_PATH, model.getCurrPath());
+        assertEquals(ROOT_PATH, model.getDisplayPath());
+        assertFalse(model.isShowTaskList());
+        assertEquals(model.rootChildOperation().getAllChildren(), model.getDisplayList());
+    }
+
+    @Test
+    public void commitTransaction_afterUndo_clearsRedo() {
+        model.beginTransaction();
+        model.rootChildOperation().addChild(GROUP_TWO.getId(), GROUP_TWO);
+        model.commitTransaction();
+        model.undo();
+        assertTrue(model.canRedo());
+
+        model.beginTransaction();
+        model.setRoot(new Root());
+        model.commitTransaction();
+        assertFalse(model.canRedo());
+    }
+
+    @Test
+    public void undo_transactionInProgress_throwsIllegalArgumentException() {
+        model.beginTransaction();
+        model.setRoot(new Root());
+        model.commitTransaction();
+        model.beginTransaction();
+        assertFalse(model.canUndo());
+        assertThrows(IllegalArgumentException.class, () -> model.undo());
+        model.rollbackTransaction();
+    }
+
+    @Test
+    public void commitTransaction_noTransaction_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> model.commitTransaction());
+        assertThrows(IllegalArgumentException.class, () -> model.rollbackTransaction());
+    }
+
+    @Test
+    public void updateList_displayPathChanged_rebuildsList() {
+        model.setDisplayPath(PATH_TO_GROUP_ONE);
+        model.showChildrenList();
+        assertEquals(model.groupChildOperation(PATH_TO_GROUP_ONE).getAllChildren(), model.getDisplayList());
+
+        model.setDisplayPath(ROOT_PATH);
+        model.updateList();
+        assertEquals(model.rootChildOperation().getAllChildren(), model.getDisplayList());
+    }
+
     @Test
     public void hasTaskListInDisplayPath_rootPath_returnsFalse() {
         model.setDisplayPath(ROOT_PATH);
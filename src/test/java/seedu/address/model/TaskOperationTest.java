@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -25,9 +26,11 @@ import seedu.address.model.profbook.Group;
 import seedu.address.model.profbook.Name;
 import seedu.address.model.profbook.Root;
 import seedu.address.model.profbook.Student;
+import seedu.address.model.profbook.TaskIndex;
 import seedu.address.model.task.Deadline;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.TaskListManager;
+import seedu.address.model.task.ToDo;
 import seedu.address.model.task.exceptions.NoSuchTaskException;
 import seedu.address.testutil.StudentBuilder;
 
@@ -76,6 +79,23 @@ public class TaskOperationTest {
         assertEquals(new TaskOperation(this.student), model.taskOperation(stuPath));
     }
 
+    @Test
+    public void searchTasks_groupAndStudentPaths_searchesTasksUnderPath() {
+        model.taskOperation(grpPath).addTask(new ToDo("Lab 3 briefing"));
+        model.taskOperation(stuPath).addTask(new ToDo("Lab 3 report"));
+
+        assertEquals(2, model.taskOperation(grpPath).searchTasks("lab 3").size());
+        List<TaskIndex.Match> matches = model.taskOperation(stuPath).searchTasks("lab 3");
+        assertEquals(1, matches.size());
+        assertEquals(stuPath, matches.get(0).getPath());
+    }
+
+    @Test
+    public void searchTasks_withoutRoot_throwsIllegalArgumentException() {
+        TaskOperation taskOperation = new TaskOperation(this.group);
+        assertThrows(IllegalArgumentException.class, () -> taskOperation.searchTasks("lab"));
+    }
+
     @Test
     public void taskOperationVerifyDeleteMethod_noErrorReturn() {
         TaskOperation opr;
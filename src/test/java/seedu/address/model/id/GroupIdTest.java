@@ -55,6 +55,13 @@ public class GroupIdTest {
         assertNotEquals(groupId1, groupId2);
     }
 
+    @Test
+    public void getCode_validIds_distinctAndInOrderOfIds() {
+        assertEquals(Integer.valueOf(0), Integer.valueOf(new GroupId("grp-000").getCode()));
+        assertEquals(Integer.valueOf(GroupId.NUM_OF_CODES - 1), Integer.valueOf(new GroupId("GRP-999").getCode()));
+        assertEquals(Integer.valueOf(12), Integer.valueOf(new GroupId("Grp-012").getCode()));
+    }
+
     @Test
     public void hashCodeMethod() throws InvalidPathException {
         GroupId groupId1 = new GroupId("grp-001");
@@ -0,0 +1,120 @@
+package seedu.address.model.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class IdMapTest {
+    private static final long SEED = 2103L;
+
+    @Test
+    public void plus_newKeys_earlierVersionsUnchanged() {
+        StudentId a = new StudentId("0001A");
+        StudentId b = new StudentId("9999Z");
+        IdMap<Integer> empty = IdMap.empty();
+        IdMap<Integer> one = empty.plus(a, 1);
+        IdMap<Integer> two = one.plus(b, 2);
+        IdMap<Integer> replaced = two.plus(new StudentId("0001a"), 3);
+
+        assertTrue(empty.isEmpty());
+        assertEquals(Map.of(a, 1), one);
+        assertEquals(Map.of(a, 1, b, 2), two);
+        assertEquals(Map.of(a, 3, b, 2), replaced);
+    }
+
+    @Test
+    public void plus_sameValue_returnsSameMap() {
+        Integer value = 1000;
+        IdMap<Integer> map = IdMap.<Integer>empty().plus(new GroupId("grp-001"), value);
+        assertSame(map, map.plus(new GroupId("grp-001"), value));
+    }
+
+    @Test
+    public void plus_invalidArguments_throwsException() {
+        IdMap<Integer> map = IdMap.<Integer>empty().plus(new GroupId("grp-001"), 1);
+        assertThrows(NullPointerException.class, () -> map.plus(null, 1));
+        assertThrows(NullPointerException.class, () -> map.plus(new GroupId("grp-002"), null));
+
+        // "0000B" has the same code as "grp-001"
+        assertThrows(IllegalArgumentException.class, IdMap.MESSAGE_MIXED_ID_TYPES, ()
+            -> map.plus(new StudentId("0000B"), 2));
+        assertNull(map.get(new StudentId("0000B")));
+    }
+
+    @Test
+    public void minus_missingKey_returnsSameMap() {
+        IdMap<Integer> map = IdMap.<Integer>empty().plus(new GroupId("grp-001"), 1);
+        assertSame(map, map.minus(new GroupId("grp-002")));
+        assertSame(map, map.minus(new GroupId("grp-999")));
+        assertSame(map, map.minus("grp-001"));
+        assertSame(map, map.minus(null));
+    }
+
+    @Test
+    public void plusAndMinus_randomOperations_behavesAsHashMap() {
+        Random random = new Random(SEED);
+        IdMap<Integer> map = IdMap.empty();
+        Map<Id, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            // Numbers from a small range so that keys are often replaced and removed
+            StudentId key = new StudentId(String.format("%04d%c",
+                    random.nextInt(100) * (random.nextBoolean() ? 1 : 99), (char) ('A' + random.nextInt(26))));
+            if (random.nextInt(3) == 0) {
+                map = map.minus(key);
+                expected.remove(key);
+            } else {
+                map = map.plus(key, i);
+                expected.put(key, i);
+            }
+            assertEquals(expected.size(), map.size());
+            assertEquals(expected.get(key), map.get(key));
+        }
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(map, IdMap.copyOf(expected));
+    }
+
+    @Test
+    public void iteration_unorderedInsertion_inOrderOfIds() {
+        Random random = new Random(SEED);
+        IdMap<Integer> map = IdMap.empty();
+        TreeMap<String, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 500; i++) {
+            GroupId key = new GroupId(String.format("grp-%03d", random.nextInt(1000)));
+            map = map.plus(key, i);
+            expected.put(key.toString(), i);
+        }
+
+        List<String> keys = new ArrayList<>();
+        map.keySet().forEach(key -> keys.add(key.toString()));
+        assertEquals(new ArrayList<>(expected.keySet()), keys);
+        assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(map.values()));
+    }
+
+    @Test
+    public void get_emptyMapOrOtherKeys_returnsNull() {
+        assertNull(IdMap.empty().get(new GroupId("grp-001")));
+        assertNull(IdMap.empty().get(null));
+        IdMap<Integer> map = IdMap.<Integer>empty().plus(new GroupId("grp-001"), 1);
+        assertNull(map.get("grp-001"));
+        assertFalse(map.containsKey(new StudentId("9999Z")));
+    }
+
+    @Test
+    public void copyOf_idMap_returnsSameMap() {
+        IdMap<Integer> map = IdMap.<Integer>empty().plus(new GroupId("grp-001"), 1);
+        assertSame(map, IdMap.copyOf(map));
+    }
+}
@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.path.exceptions.InvalidPathException;
@@ -55,6 +57,32 @@ public class StudentIdTest {
         assertNotEquals(studentId1, studentId2);
     }
 
+    @Test
+    public void getCode_validIds_distinctAndInOrderOfIds() {
+        assertEquals(Integer.valueOf(0), Integer.valueOf(new StudentId("0000A").getCode()));
+        assertEquals(Integer.valueOf(StudentId.NUM_OF_CODES - 1), Integer.valueOf(new StudentId("9999Z").getCode()));
+        assertEquals(Integer.valueOf(new StudentId("0001Y").getCode()),
+                Integer.valueOf(new StudentId("0001y").getCode()));
+        assertTrue(new StudentId("0001Z").getCode() < new StudentId("0002A").getCode());
+        assertTrue(new StudentId("0001A").getCode() < new StudentId("0001B").getCode());
+    }
+
+    @Test
+    public void getCode_turkishDefaultLocale_lettersStayAscii() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // "i" upper cases to a dotted capital I in Turkish, which must not be taken as another letter
+            Locale.setDefault(new Locale("tr", "TR"));
+            StudentId studentId = new StudentId("0000i");
+            assertEquals("0000I", studentId.toString());
+            assertEquals(new StudentId("0000I"), studentId);
+            assertNotEquals(new StudentId("0009F"), studentId);
+            assertNotEquals(new StudentId("0009F").getCode(), studentId.getCode());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void hashCodeMethod() throws InvalidPathException {
         StudentId studentId1 = new StudentId("0001Y");
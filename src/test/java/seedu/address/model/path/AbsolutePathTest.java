@@ -3,6 +3,7 @@ package seedu.address.model.path;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -203,6 +204,24 @@ public class AbsolutePathTest {
         assertThrows(InvalidPathException.class, () -> absolutePath.resolve(relativePath));
     }
 
+    @Test
+    public void resolve_samePathTwice_returnsSameInstance() throws InvalidPathException {
+        AbsolutePath absolutePath = new AbsolutePath("~/grp-001/0001Y");
+
+        AbsolutePath resolvedPath = absolutePath.resolve(new RelativePath("../0002Y"));
+
+        assertSame(resolvedPath, absolutePath.resolve(new RelativePath("../0002Y")));
+        assertSame(resolvedPath, new AbsolutePath("~/grp-001").resolve(new RelativePath("0002Y")));
+        assertSame(resolvedPath, absolutePath.resolve(new RelativePath("~/grp-001/0002Y")));
+    }
+
+    @Test
+    public void resolve_currentDirectory_returnsSameInstance() throws InvalidPathException {
+        AbsolutePath absolutePath = new AbsolutePath("~/grp-001/0001Y");
+
+        assertSame(absolutePath, absolutePath.resolve(RelativePath.CURRENT));
+    }
+
     //=========== Check Directory Method =============================================================
     @BeforeEach
     public void setUp() {
@@ -296,4 +315,10 @@ public class AbsolutePathTest {
     public void getGroupId_rootPath_returnEmptyOptional() {
         assertFalse(rootPath.getGroupId().isPresent());
     }
+
+    @Test
+    public void getGroupIdAndStudentId_calledTwice_returnSameInstance() {
+        assertSame(studentPath.getGroupId().get(), studentPath.getGroupId().get());
+        assertSame(studentPath.getStudentId().get(), studentPath.getStudentId().get());
+    }
 }
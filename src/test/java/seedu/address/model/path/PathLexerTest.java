@@ -0,0 +1,135 @@
+package seedu.address.model.path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.path.element.PathElement;
+import seedu.address.model.path.exceptions.InvalidPathException;
+
+/**
+ * Checks {@code PathLexer} against a reference implementation of the regex-based parsing it replaced,
+ * using both hand-picked edge cases and randomly generated paths.
+ */
+public class PathLexerTest {
+    private static final long SEED = 2103L;
+    private static final int NUM_OF_RANDOM_PATHS = 20000;
+
+    private static final String[] TOKENS = {
+        "~", ".", "..", "...", "grp-001", "GRP-999", "gRp-123", "grp-01", "grp-0001", "grp_001", "grp-00a",
+        "0001Y", "1234z", "0001", "00001Y", "0001YY", "000aY", "0001-", " ", "\t", "", "/", "//", "abc",
+        "\u0661\u0662\u0663\u0664Y", "grp-\u0661\u0662\u0663", "0001\u00e9", "~~", ". ", " .."
+    };
+    private static final String CHARACTERS = "/~.-grpGRP0123456789aYz \t\u0661\u00e9";
+
+    @Test
+    public void tokenize_edgeCases_sameAsReference() {
+        String[] paths = {
+            "", " ", "/", "//", "///", "/ /", "~", "~/", "/~", "~//", "~//grp-001", "~/grp-001//", "~/grp-001///",
+            "//~", "grp-001/0001Y", "./..", "../../grp-001", "~/GRP-001/0001Y", " ~/grp-001", "~/grp-001 ",
+            "\t/", "/\t", "a/", "/a", "~/grp-001/0001Y/", "~/./grp-001/../grp-002"
+        };
+        for (String path : paths) {
+            assertEquals(tokenizeWithReference(path), tokenize(path), "Path: \"" + path + "\"");
+        }
+    }
+
+    @Test
+    public void tokenize_randomTokenPaths_sameAsReference() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < NUM_OF_RANDOM_PATHS; i++) {
+            StringBuilder path = new StringBuilder();
+            int numOfTokens = random.nextInt(5);
+            for (int j = 0; j < numOfTokens; j++) {
+                if (j > 0 || random.nextBoolean()) {
+                    path.append('/');
+                }
+                path.append(TOKENS[random.nextInt(TOKENS.length)]);
+            }
+            if (random.nextInt(4) == 0) {
+                path.append('/');
+            }
+            String pathString = path.toString();
+            assertEquals(tokenizeWithReference(pathString), tokenize(pathString), "Path: \"" + pathString + "\"");
+        }
+    }
+
+    @Test
+    public void tokenize_randomCharacterPaths_sameAsReference() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < NUM_OF_RANDOM_PATHS; i++) {
+            char[] path = new char[random.nextInt(12)];
+            for (int j = 0; j < path.length; j++) {
+                path[j] = CHARACTERS.charAt(random.nextInt(CHARACTERS.length()));
+            }
+            String pathString = new String(path);
+            assertEquals(tokenizeWithReference(pathString), tokenize(pathString), "Path: \"" + pathString + "\"");
+        }
+    }
+
+    /**
+     * Returns the elements of {@code path} as "TYPE:element" strings, or the error message if it is invalid.
+     */
+    private static List<String> tokenize(String path) {
+        List<String> result = new ArrayList<>();
+        try {
+            for (PathElement element : PathLexer.tokenize(path)) {
+                result.add(element.getType() + ":" + element);
+            }
+        } catch (InvalidPathException e) {
+            result.add("error:" + e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * Tokenizes {@code path} the way paths were parsed with {@code String#split} and regular expressions.
+     */
+    private static List<String> tokenizeWithReference(String path) {
+        List<String> result = new ArrayList<>();
+        if (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        if (path.trim().isEmpty()) {
+            result.add("error:" + Path.MESSAGE_EMPTY_PATH_STRING);
+            return result;
+        }
+        String[] elementStrs = path.split("/");
+        if (elementStrs.length == 0) {
+            result.add("error:" + Path.MESSAGE_EMPTY_PATH_ELEMENT);
+            return result;
+        }
+        for (String elementStr : elementStrs) {
+            String element = parseElementWithReference(elementStr);
+            if (element == null) {
+                result.clear();
+                result.add("error:" + String.format(Path.MESSAGE_INVALID_PATH_ELEMENT, elementStr));
+                return result;
+            }
+            result.add(element);
+        }
+        return result;
+    }
+
+    private static String parseElementWithReference(String element) {
+        if (element.equals("~")) {
+            return "ROOT:~";
+        } else if (element.equals("..")) {
+            return "PARENT:..";
+        } else if (element.equals(".")) {
+            return "CURRENT:.";
+        } else if (element.matches("\\d{4}[a-zA-Z]")) {
+            return "STUDENTID:" + element.toLowerCase();
+        } else if (element.matches("[Gg][Rr][Pp]-\\d{3}")) {
+            return "GROUPID:" + element.toLowerCase();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.model.profbook;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.id.StudentId;
+import seedu.address.model.profbook.exceptions.DuplicateChildException;
+import seedu.address.model.profbook.exceptions.NoSuchChildException;
+import seedu.address.model.task.ToDo;
+import seedu.address.testutil.StudentBuilder;
+
+public class ChildManagerTest {
+    private ChildManager<Student> childManager;
+
+    @BeforeEach
+    public void setUp() {
+        childManager = new ChildManager<>();
+        childManager.addChild(CARL.getId(), CARL);
+        childManager.addChild(ALICE.getId(), ALICE);
+    }
+
+    @Test
+    public void getAllChildren_returnsSortedChildren() {
+        assertEquals(Arrays.asList(ALICE, CARL), childManager.getAllChildren());
+    }
+
+    @Test
+    public void getAllChildren_unmodified_returnsCachedList() {
+        assertSame(childManager.getAllChildren(), childManager.getAllChildren());
+    }
+
+    @Test
+    public void getAllChildren_afterAddAndDelete_reflectsChanges() {
+        List<Student> before = childManager.getAllChildren();
+
+        childManager.addChild(BENSON.getId(), BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), childManager.getAllChildren());
+
+        childManager.deleteChild(ALICE.getId());
+        assertEquals(Arrays.asList(BENSON, CARL), childManager.getAllChildren());
+
+        // Earlier snapshots are not affected
+        assertEquals(Arrays.asList(ALICE, CARL), before);
+    }
+
+    @Test
+    public void getAllChildren_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> childManager.getAllChildren().remove(0));
+    }
+
+    @Test
+    public void getGeneration_afterChanges_increases() {
+        long generation = childManager.getGeneration();
+
+        childManager.addChild(BENSON.getId(), new StudentBuilder(BENSON).build());
+        assertTrue(childManager.getGeneration() > generation);
+        generation = childManager.getGeneration();
+
+        childManager.getChild(BENSON.getId()).addTask(new ToDo("Homework"));
+        assertTrue(childManager.getGeneration() > generation);
+        generation = childManager.getGeneration();
+
+        childManager.deleteChild(BENSON.getId());
+        assertTrue(childManager.getGeneration() > generation);
+    }
+
+    @Test
+    public void getGeneration_copy_keepsGeneration() {
+        assertEquals(childManager.getGeneration(), new ChildManager<>(childManager).getGeneration());
+    }
+
+    @Test
+    public void replaceChild_sameId_updatesSortedChildrenInPlace() {
+        childManager.addChild(BENSON.getId(), BENSON);
+        childManager.getAllChildren();
+        long generation = childManager.getGeneration();
+        Student editedBenson = new StudentBuilder(BENSON).withName("Benson Edited").build();
+
+        assertSame(BENSON, childManager.replaceChild(BENSON.getId(), editedBenson));
+        assertEquals(Arrays.asList(ALICE, editedBenson, CARL), childManager.getAllChildren());
+        assertSame(editedBenson, childManager.getChild(BENSON.getId()));
+        assertTrue(childManager.getGeneration() > generation);
+    }
+
+    @Test
+    public void replaceChild_newId_rekeysChild() {
+        Student rekeyedAlice = new StudentBuilder(ALICE).withId("9999Z").build();
+
+        childManager.replaceChild(ALICE.getId(), rekeyedAlice);
+        assertFalse(childManager.hasChild(ALICE.getId()));
+        assertSame(rekeyedAlice, childManager.getChild(new StudentId("9999Z")));
+        assertEquals(Arrays.asList(CARL, rekeyedAlice), childManager.getAllChildren());
+    }
+
+    @Test
+    public void replaceChild_invalidIds_throwsExceptionWithoutChanges() {
+        Student aliceAsCarl = new StudentBuilder(ALICE).withId(CARL.getId().toString()).build();
+        assertThrows(DuplicateChildException.class, () -> childManager.replaceChild(ALICE.getId(), aliceAsCarl));
+        assertThrows(NoSuchChildException.class, () -> childManager.replaceChild(BENSON.getId(), BENSON));
+        assertEquals(Arrays.asList(ALICE, CARL), childManager.getAllChildren());
+    }
+
+    @Test
+    public void addChildrenAndDeleteChildren_validChildren_success() {
+        Student karen = new StudentBuilder().withId("0011Y").build();
+        childManager.addChildren(List.of(BENSON, karen));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, karen), childManager.getAllChildren());
+
+        assertEquals(List.of(CARL, ALICE), childManager.deleteChildren(List.of(CARL.getId(), ALICE.getId())));
+        assertEquals(Arrays.asList(BENSON, karen), childManager.getAllChildren());
+    }
+
+    @Test
+    public void addChildren_duplicateChild_throwsExceptionWithoutChanges() {
+        assertThrows(DuplicateChildException.class, () -> childManager.addChildren(List.of(BENSON, ALICE)));
+        assertThrows(DuplicateChildException.class, () -> childManager.addChildren(List.of(BENSON, BENSON)));
+        assertEquals(Arrays.asList(ALICE, CARL), childManager.getAllChildren());
+    }
+
+    @Test
+    public void deleteChildren_missingChild_throwsExceptionWithoutChanges() {
+        assertThrows(NoSuchChildException.class, () -> childManager.deleteChildren(
+                List.of(ALICE.getId(), BENSON.getId())));
+        assertThrows(NoSuchChildException.class, () -> childManager.deleteChildren(
+                List.of(ALICE.getId(), ALICE.getId())));
+        assertEquals(Arrays.asList(ALICE, CARL), childManager.getAllChildren());
+    }
+}
@@ -0,0 +1,580 @@
+package seedu.address.model.profbook;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.FIONA;
+import static seedu.address.testutil.TypicalStudents.KAREN;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.field.EditGroupDescriptor;
+import seedu.address.model.id.GroupId;
+import seedu.address.model.id.IdMap;
+import seedu.address.model.id.StudentId;
+import seedu.address.model.profbook.exceptions.DuplicateChildException;
+import seedu.address.model.task.Deadline;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.ToDo;
+import seedu.address.model.util.Transaction;
+import seedu.address.testutil.GroupBuilder;
+import seedu.address.testutil.StudentBuilder;
+import seedu.address.testutil.TypicalRoots;
+
+public class RootTest {
+    private Root root;
+    private Group groupOne;
+    private Group groupTwo;
+
+    @BeforeEach
+    public void setUp() {
+        Root.setStudentIndexCheckEnabled(true);
+        root = new Root(TypicalRoots.PROFBOOK_WITH_TWO_GROUPS);
+        groupOne = root.getChild(new GroupId("grp-001"));
+        groupTwo = root.getChild(new GroupId("grp-002"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Root.setStudentIndexCheckEnabled(false);
+    }
+
+    @Test
+    public void copyConstructor_indexesAllStudents() {
+        assertTrue(root.isStudentIndexConsistent());
+        assertTrue(root.hasStudentWithId(ALICE.getId()));
+        assertEquals(Optional.of(new GroupId("grp-002")), root.getGroupIdOfStudent(FIONA.getId()));
+        assertFalse(root.hasStudentWithId(KAREN.getId()));
+    }
+
+    @Test
+    public void addStudentToGroup_updatesIndex() {
+        Student karen = new StudentBuilder(KAREN).build();
+        groupOne.addChild(karen.getId(), karen);
+
+        assertSame(karen, root.getStudentWithId(KAREN.getId()).get());
+        assertEquals(Optional.of(groupOne.getId()), root.getGroupIdOfStudent(KAREN.getId()));
+    }
+
+    @Test
+    public void deleteStudentFromGroup_updatesIndex() {
+        groupOne.deleteChild(ALICE.getId());
+
+        assertFalse(root.hasStudentWithId(ALICE.getId()));
+        assertEquals(Optional.empty(), root.getStudentWithId(ALICE.getId()));
+    }
+
+    @Test
+    public void moveStudent_addBeforeDelete_updatesIndex() {
+        Student alice = groupOne.getChild(ALICE.getId());
+        groupTwo.addChild(alice.getId(), alice);
+        groupOne.deleteChild(alice.getId());
+
+        assertEquals(Optional.of(groupTwo.getId()), root.getGroupIdOfStudent(ALICE.getId()));
+    }
+
+    @Test
+    public void deleteGroup_removesItsStudents() {
+        Group deleted = root.deleteChild(groupOne.getId());
+
+        assertFalse(root.hasStudentWithId(ALICE.getId()));
+        assertTrue(root.hasStudentWithId(FIONA.getId()));
+
+        // Changes to a group no longer in root must not reach the index
+        Student karen = new StudentBuilder(KAREN).build();
+        deleted.addChild(karen.getId(), karen);
+        assertFalse(root.hasStudentWithId(KAREN.getId()));
+    }
+
+    @Test
+    public void replaceGroupWithNewId_reindexesStudents() {
+        EditGroupDescriptor descriptor = new EditGroupDescriptor();
+        descriptor.setId(new GroupId("grp-003"));
+        Group edited = descriptor.applyEditsToOld(groupOne);
+        root.deleteChild(groupOne.getId());
+        root.addChild(edited.getId(), edited);
+
+        assertEquals(Optional.of(new GroupId("grp-003")), root.getGroupIdOfStudent(ALICE.getId()));
+    }
+
+    @Test
+    public void replaceGroupInPlace_newId_reindexesStudents() {
+        EditGroupDescriptor descriptor = new EditGroupDescriptor();
+        descriptor.setId(new GroupId("grp-003"));
+        Group edited = descriptor.applyEditsToOld(groupOne);
+        assertSame(groupOne, root.replaceChild(groupOne.getId(), edited));
+
+        assertFalse(root.hasChild(new GroupId("grp-001")));
+        assertEquals(Optional.of(new GroupId("grp-003")), root.getGroupIdOfStudent(ALICE.getId()));
+
+        // Changes to the replaced group must not reach the index
+        Student karen = new StudentBuilder(KAREN).build();
+        groupOne.addChild(karen.getId(), karen);
+        assertFalse(root.hasStudentWithId(KAREN.getId()));
+
+        // Students of the replaced group now report to the group replacing it
+        Student alice = edited.getChild(ALICE.getId());
+        alice.addTask(new ToDo("Homework"));
+        assertEquals(alice.getGeneration(), edited.getGeneration());
+        assertEquals(alice.getGeneration(), root.getGeneration());
+        assertEquals(1, root.searchTasks(edited.getId(), "homework").size());
+    }
+
+    @Test
+    public void editGroup_rejected_studentChangesStillReported() {
+        assertEquals(0, root.searchTasks(groupOne.getId(), "homework").size());
+        EditGroupDescriptor descriptor = new EditGroupDescriptor();
+        descriptor.setId(groupTwo.getId());
+        Group edited = descriptor.applyEditsToOld(groupOne);
+        assertThrows(DuplicateChildException.class, () -> root.replaceChild(groupOne.getId(), edited));
+
+        long generation = root.getGeneration();
+        Student alice = groupOne.getChild(ALICE.getId());
+        alice.addTask(new ToDo("Homework"));
+        assertTrue(groupOne.getGeneration() > generation);
+        assertEquals(alice.getGeneration(), root.getGeneration());
+        assertEquals(1, root.searchTasks(groupOne.getId(), "homework").size());
+    }
+
+    @Test
+    public void replaceStudentWithNewId_updatesIndex() {
+        Student alice = groupOne.getChild(ALICE.getId());
+        Student rekeyed = new StudentBuilder(alice).withId("0011Y").build();
+        groupOne.replaceChild(alice.getId(), rekeyed);
+
+        assertFalse(root.hasStudentWithId(ALICE.getId()));
+        assertSame(rekeyed, root.getStudentWithId(new StudentId("0011Y")).get());
+    }
+
+    @Test
+    public void moveStudents_addChildrenThenDeleteChildren_updatesIndex() {
+        List<StudentId> ids = new ArrayList<>();
+        for (Student student : groupOne.getAllChildren()) {
+            ids.add(student.getId());
+        }
+        groupTwo.addChildren(new ArrayList<>(groupOne.getAllChildren()));
+        groupOne.deleteChildren(ids);
+
+        assertEquals(0, groupOne.numOfChildren());
+        for (StudentId id : ids) {
+            assertEquals(Optional.of(groupTwo.getId()), root.getGroupIdOfStudent(id));
+        }
+    }
+
+    @Test
+    public void addGroup_indexesExistingStudents() {
+        Group group = new GroupBuilder().withId("grp-004").withStudent(KAREN).build();
+        root.addChild(group.getId(), group);
+
+        assertEquals(Optional.of(new GroupId("grp-004")), root.getGroupIdOfStudent(new StudentId("0011Y")));
+    }
+
+    @Test
+    public void addLazyGroup_studentLookup_loadsOnlyWhenStudentNeeded() {
+        Root.setStudentIndexCheckEnabled(false); // Checking the index loads every group
+        Group lazyGroup = createLazyGroup();
+        root.addChild(lazyGroup.getId(), lazyGroup);
+
+        assertTrue(root.hasStudentWithId(KAREN.getId()));
+        assertEquals(Optional.of(lazyGroup.getId()), root.getGroupIdOfStudent(KAREN.getId()));
+        assertFalse(lazyGroup.isLoaded());
+
+        assertSame(lazyGroup.getChild(KAREN.getId()), root.getStudentWithId(KAREN.getId()).get());
+        assertTrue(lazyGroup.isLoaded());
+        assertTrue(root.isStudentIndexConsistent());
+    }
+
+    @Test
+    public void deleteLazyGroup_removesItsStudents() {
+        Root.setStudentIndexCheckEnabled(false);
+        Group lazyGroup = createLazyGroup();
+        root.addChild(lazyGroup.getId(), lazyGroup);
+        root.hasStudentWithId(KAREN.getId());
+        root.deleteChild(lazyGroup.getId());
+
+        assertFalse(root.hasStudentWithId(KAREN.getId()));
+        assertFalse(lazyGroup.isLoaded());
+    }
+
+    @Test
+    public void lazyGroup_loadingAndCopying_keepsGeneration() {
+        Group lazyGroup = createLazyGroup();
+        long generation = lazyGroup.getGeneration();
+
+        Group copy = lazyGroup.deepCopy();
+        assertFalse(copy.isLoaded());
+        assertEquals(generation, copy.getGeneration());
+
+        assertEquals(1, lazyGroup.numOfChildren());
+        assertEquals(generation, lazyGroup.getGeneration());
+        assertEquals(generation, lazyGroup.deepCopy().getGeneration());
+
+        lazyGroup.deleteChild(KAREN.getId());
+        assertTrue(lazyGroup.getGeneration() > generation);
+        assertEquals(1, copy.numOfChildren());
+    }
+
+    @Test
+    public void lazyGroup_loadedByManyThreads_loadedOnce() throws InterruptedException {
+        Group content = new GroupBuilder().withId("grp-003").withStudent(KAREN).build();
+        AtomicInteger numOfLoads = new AtomicInteger();
+        Group lazyGroup = new Group(content.getName(), content.getId(), new GroupContentLoader() {
+            @Override
+            public List<StudentId> loadStudentIds() {
+                return content.getStudentIds();
+            }
+
+            @Override
+            public Group loadGroup() {
+                numOfLoads.incrementAndGet();
+                return content.deepCopy();
+            }
+        });
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        List<List<Student>> studentsByThread = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                studentsByThread.add(lazyGroup.getAllChildren());
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1, numOfLoads.get());
+        assertEquals(8, studentsByThread.size());
+        for (List<Student> students : studentsByThread) {
+            assertEquals(List.of(KAREN), students);
+        }
+    }
+
+    @Test
+    public void copyConstructorWithPreviousCopy_sharesOnlyUnchangedGroups() {
+        Root previousCopy = new Root(root, null);
+        assertEquals(root, previousCopy);
+        assertTrue(previousCopy.isStudentIndexConsistent());
+
+        Student karen = new StudentBuilder(KAREN).build();
+        groupOne.addChild(karen.getId(), karen);
+        Root copy = new Root(root, previousCopy);
+
+        assertEquals(root, copy);
+        assertEquals(root.getGeneration(), copy.getGeneration());
+        assertTrue(copy.isStudentIndexConsistent());
+        assertSame(previousCopy.getChild(groupTwo.getId()), copy.getChild(groupTwo.getId()));
+        assertFalse(copy.getChild(groupOne.getId()) == previousCopy.getChild(groupOne.getId()));
+        assertFalse(copy.getChild(groupOne.getId()) == groupOne);
+        assertFalse(previousCopy.hasStudentWithId(KAREN.getId()));
+    }
+
+    @Test
+    public void copyConstructorWithPreviousCopy_lazyGroup_copied() {
+        Group lazyGroup = createLazyGroup();
+        root.addChild(lazyGroup.getId(), lazyGroup);
+        Root previousCopy = new Root(root, null);
+        Root copy = new Root(root, previousCopy);
+
+        assertFalse(copy.getChild(lazyGroup.getId()) == previousCopy.getChild(lazyGroup.getId()));
+        assertFalse(copy.getChild(lazyGroup.getId()).isLoaded());
+    }
+
+    @Test
+    public void getGeneration_studentModified_reportedToGroupAndRoot() {
+        Student student = groupOne.getAllChildren().get(0);
+        long groupGeneration = groupOne.getGeneration();
+        long rootGeneration = root.getGeneration();
+        long otherGroupGeneration = groupTwo.getGeneration();
+
+        Transaction transaction = Transaction.begin();
+        student.addTask(new ToDo("Homework"));
+        transaction.commit();
+        assertEquals(student.getGeneration(), groupOne.getGeneration());
+        assertEquals(student.getGeneration(), root.getGeneration());
+        assertTrue(root.getGeneration() > rootGeneration);
+        assertEquals(otherGroupGeneration, groupTwo.getGeneration());
+
+        transaction.undo();
+        assertEquals(groupGeneration, groupOne.getGeneration());
+        assertEquals(rootGeneration, root.getGeneration());
+    }
+
+    @Test
+    public void getGeneration_movedStudentUndone_reportedToOriginalGroup() {
+        Student student = groupOne.getAllChildren().get(0);
+        Transaction transaction = Transaction.begin();
+        groupOne.deleteChild(student.getId());
+        groupTwo.addChild(student.getId(), student);
+        transaction.commit();
+        transaction.undo();
+
+        long otherGroupGeneration = groupTwo.getGeneration();
+        student.addTask(new ToDo("Homework"));
+        assertEquals(student.getGeneration(), groupOne.getGeneration());
+        assertEquals(student.getGeneration(), root.getGeneration());
+        assertEquals(otherGroupGeneration, groupTwo.getGeneration());
+    }
+
+    @Test
+    public void getGeneration_lazyGroupLoadedInRolledBackTransaction_reportedToRoot() {
+        Group lazyGroup = createLazyGroup();
+        root.addChild(lazyGroup.getId(), lazyGroup);
+        Transaction transaction = Transaction.begin();
+        lazyGroup.getChild(KAREN.getId()).addTask(new ToDo("Homework"));
+        transaction.rollback();
+        assertTrue(lazyGroup.isLoaded());
+
+        long generation = root.getGeneration();
+        lazyGroup.getChild(KAREN.getId()).addTask(new ToDo("Homework"));
+        assertTrue(lazyGroup.getGeneration() > generation);
+        assertEquals(lazyGroup.getGeneration(), root.getGeneration());
+    }
+
+    @Test
+    public void ownershipTransferConstructor_sharesGroups() {
+        Root owner = new Root(IdMap.<Group>empty().plus(groupOne.getId(), groupOne));
+        assertSame(groupOne, owner.getChild(groupOne.getId()));
+        assertTrue(owner.isStudentIndexConsistent());
+    }
+
+    @Test
+    public void getChildren_modified_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> root.getChildren().remove(groupOne.getId()));
+    }
+
+    @Test
+    public void searchTasks_prefixAndMultipleWords_findsTasksOfGroupsAndStudents() {
+        Student alice = groupOne.getChild(ALICE.getId());
+        groupOne.addTask(new ToDo("Lab 3 briefing"));
+        alice.addTask(new ToDo("Submit lab 3 report"));
+        groupTwo.addTask(new ToDo("Lab 4 report"));
+
+        List<TaskIndex.Match> matches = root.searchTasks("LAB 3");
+        assertEquals(2, matches.size());
+        assertEquals("~/grp-001", matches.get(0).getPath().toString());
+        assertEquals(Optional.empty(), matches.get(0).getStudentId());
+        assertEquals(Optional.of(ALICE.getId()), matches.get(1).getStudentId());
+        assertEquals(new ToDo("Submit lab 3 report"), matches.get(1).getTask());
+
+        assertEquals(2, root.searchTasks("rep").size());
+        assertEquals(3, root.searchTasks("la").size());
+        assertEquals(0, root.searchTasks("lab 5").size());
+        assertEquals(0, root.searchTasks(" - ").size());
+    }
+
+    @Test
+    public void searchTasks_afterChanges_findsCurrentTasks() {
+        Student alice = groupOne.getChild(ALICE.getId());
+        alice.addTask(new ToDo("Lab 3 report"));
+        assertEquals(1, root.searchTasks("lab").size());
+
+        // Marking replaces the task, which is found with its new status
+        alice.markTask(alice.size());
+        assertTrue(root.searchTasks("lab").get(0).getTask().getStatus());
+
+        // Moving the student moves its tasks
+        groupTwo.addChild(alice.getId(), alice);
+        groupOne.deleteChild(alice.getId());
+        assertEquals(groupTwo.getId(), root.searchTasks("lab").get(0).getGroupId());
+
+        alice.deleteTask(alice.size());
+        assertEquals(0, root.searchTasks("lab").size());
+
+        groupOne.addTask(new ToDo("Lab 4"));
+        root.deleteChild(groupOne.getId());
+        assertEquals(0, root.searchTasks("lab").size());
+    }
+
+    @Test
+    public void searchTasks_rolledBackTransaction_findsRestoredTasks() {
+        groupOne.addTask(new ToDo("Lab 3 report"));
+        Transaction transaction = Transaction.begin();
+        groupOne.deleteTask(groupOne.size());
+        groupTwo.addTask(new ToDo("Lab 4 report"));
+        assertEquals(groupTwo.getId(), root.searchTasks("lab").get(0).getGroupId());
+        transaction.rollback();
+
+        List<TaskIndex.Match> matches = root.searchTasks("lab");
+        assertEquals(1, matches.size());
+        assertEquals(groupOne.getId(), matches.get(0).getGroupId());
+    }
+
+    @Test
+    public void searchTasksInGroup_findsOnlyTasksOfGroup() {
+        groupOne.addTask(new ToDo("Lab 3 report"));
+        groupOne.getChild(ALICE.getId()).addTask(new ToDo("Lab 3 slides"));
+        groupTwo.addTask(new ToDo("Lab 3 report"));
+
+        List<TaskIndex.Match> matches = root.searchTasks(groupOne.getId(), "lab 3");
+        assertEquals(2, matches.size());
+        assertTrue(matches.stream().allMatch(match -> match.getGroupId().equals(groupOne.getId())));
+        assertEquals(1, root.searchTasks(groupTwo.getId(), "lab rep").size());
+        assertEquals(0, root.searchTasks(new GroupId("grp-009"), "lab").size());
+
+        root.deleteChild(groupOne.getId());
+        assertEquals(0, root.searchTasks(groupOne.getId(), "lab").size());
+    }
+
+    @Test
+    public void searchTasks_lazyGroup_loadedAndSearched() {
+        Group lazyGroup = createLazyGroup();
+        root.addChild(lazyGroup.getId(), lazyGroup);
+        assertFalse(lazyGroup.isLoaded());
+
+        List<TaskIndex.Match> matches = root.searchTasks("assignment");
+        assertTrue(lazyGroup.isLoaded());
+        assertTrue(matches.stream().anyMatch(match -> match.getStudentId().equals(Optional.of(KAREN.getId()))));
+    }
+
+    @Test
+    public void searchTasks_randomChanges_matchesFullScan() {
+        Random random = new Random(2103L);
+        List<Student> students = new ArrayList<>();
+        students.addAll(groupOne.getAllChildren());
+        students.addAll(groupTwo.getAllChildren());
+        for (int i = 0; i < 300; i++) {
+            Student student = students.get(random.nextInt(students.size()));
+            if (random.nextInt(3) == 0 && !student.isEmpty()) {
+                student.deleteTask(random.nextInt(student.size()) + 1);
+            } else {
+                student.addTask(new ToDo("Lab " + random.nextInt(10) + " part " + random.nextInt(10)));
+            }
+            if (i % 10 == 0) {
+                String query = "lab " + random.nextInt(10);
+                assertEquals(scanTasks(query), root.searchTasks(query).size());
+            }
+        }
+    }
+
+    @Test
+    public void findDeadlines_range_findsUnmarkedDeadlinesByDueTime() {
+        LocalDateTime start = LocalDateTime.of(2100, 1, 1, 0, 0);
+        Student alice = groupOne.getChild(ALICE.getId());
+        alice.addTask(new Deadline("Lab 3 report", start.plusDays(2)));
+        alice.addTask(new Deadline("Lab 2 report", start.plusDays(1), true));
+        alice.addTask(new ToDo("Lab 4 report"));
+        groupTwo.addTask(new Deadline("Quiz 1", start.plusDays(1)));
+        groupOne.addTask(new Deadline("Project", start.plusDays(5)));
+
+        List<TaskIndex.Match> matches = root.findDeadlines(start, start.plusDays(3));
+        assertEquals(2, matches.size());
+        assertEquals(new Deadline("Quiz 1", start.plusDays(1)), matches.get(0).getTask());
+        assertEquals(Optional.of(ALICE.getId()), matches.get(1).getStudentId());
+
+        // The end of the range is excluded
+        assertEquals(1, root.findDeadlines(start, start.plusDays(2)).size());
+        assertEquals(2, root.findDeadlines(groupOne.getId(), start, start.plusDays(6)).size());
+        assertEquals(0, root.findDeadlines(new GroupId("grp-009"), start, start.plusDays(6)).size());
+    }
+
+    @Test
+    public void findDeadlines_afterChanges_findsCurrentDeadlines() {
+        LocalDateTime start = LocalDateTime.of(2100, 1, 1, 0, 0);
+        Student alice = groupOne.getChild(ALICE.getId());
+        alice.addTask(new Deadline("Lab 3 report", start.plusDays(1)));
+        assertEquals(1, root.findDeadlines(start, start.plusDays(3)).size());
+
+        // Marked deadlines are done, so they are no longer due
+        alice.markTask(alice.size());
+        assertEquals(0, root.findDeadlines(start, start.plusDays(3)).size());
+        alice.unmarkTask(alice.size());
+        assertEquals(1, root.findDeadlines(groupOne.getId(), start, start.plusDays(3)).size());
+
+        groupTwo.addChild(alice.getId(), alice);
+        groupOne.deleteChild(alice.getId());
+        assertEquals(0, root.findDeadlines(groupOne.getId(), start, start.plusDays(3)).size());
+        assertEquals(1, root.findDeadlines(groupTwo.getId(), start, start.plusDays(3)).size());
+
+        root.deleteChild(groupTwo.getId());
+        assertEquals(0, root.findDeadlines(start, start.plusDays(3)).size());
+    }
+
+    @Test
+    public void findDeadlines_undoneAndRedone_findsRestoredDeadlines() {
+        LocalDateTime start = LocalDateTime.of(2100, 1, 1, 0, 0);
+        Student alice = groupOne.getChild(ALICE.getId());
+        assertEquals(0, root.findDeadlines(start, start.plusDays(3)).size());
+
+        Transaction transaction = Transaction.begin();
+        alice.addTask(new Deadline("Lab 3 report", start.plusDays(1)));
+        groupTwo.addTask(new Deadline("Quiz 1", start.plusDays(2)));
+        transaction.commit();
+        assertEquals(2, root.findDeadlines(start, start.plusDays(3)).size());
+
+        transaction.undo();
+        assertEquals(0, root.findDeadlines(start, start.plusDays(3)).size());
+        transaction.redo();
+        assertEquals(1, root.findDeadlines(groupTwo.getId(), start, start.plusDays(3)).size());
+        assertEquals(2, root.findDeadlines(start, start.plusDays(3)).size());
+    }
+
+    @Test
+    public void findDeadlines_groupReplacedWithNewId_foundUnderNewId() {
+        LocalDateTime start = LocalDateTime.of(2100, 1, 1, 0, 0);
+        groupOne.addTask(new Deadline("Project", start.plusDays(1)));
+        assertEquals(1, root.findDeadlines(groupOne.getId(), start, start.plusDays(3)).size());
+
+        Group renamedGroup = new GroupBuilder(groupOne).withId("grp-009").build();
+        root.replaceChild(groupOne.getId(), renamedGroup);
+        assertEquals(0, root.findDeadlines(groupOne.getId(), start, start.plusDays(3)).size());
+        assertEquals(1, root.findDeadlines(renamedGroup.getId(), start, start.plusDays(3)).size());
+
+        renamedGroup.getChild(ALICE.getId()).addTask(new Deadline("Lab 3 report", start.plusDays(2)));
+        assertEquals(2, root.findDeadlines(start, start.plusDays(3)).size());
+    }
+
+    private int scanTasks(String query) {
+        int count = 0;
+        for (Group group : root.getAllChildren()) {
+            for (Student student : group.getAllChildren()) {
+                for (Task task : student.getAllTasks()) {
+                    List<String> words = List.of(task.getDesc().toLowerCase().split(" "));
+                    boolean isMatch = true;
+                    for (String term : query.split(" ")) {
+                        isMatch &= words.stream().anyMatch(word -> word.startsWith(term));
+                    }
+                    count += isMatch ? 1 : 0;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static Group createLazyGroup() {
+        Group content = new GroupBuilder().withId("grp-003").withStudent(KAREN).build();
+        return new Group(content.getName(), content.getId(), new GroupContentLoader() {
+            @Override
+            public List<StudentId> loadStudentIds() {
+                return content.getStudentIds();
+            }
+
+            @Override
+            public Group loadGroup() {
+                return content.deepCopy();
+            }
+        });
+    }
+}
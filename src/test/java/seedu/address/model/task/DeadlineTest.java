@@ -1,5 +1,6 @@
 package seedu.address.model.task;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -24,6 +25,15 @@ public class DeadlineTest {
         assertFalse(task.equals(otherObject));
     }
 
+    @Test
+    public void hashCode_equalDeadlines_sameHashCode() {
+        LocalDateTime deadline = LocalDateTime.of(2023, 11, 1, 23, 59);
+        Deadline task = new Deadline(VALID_DESCRIPTION, deadline);
+        Deadline marked = new Deadline(VALID_DESCRIPTION, deadline, true);
+        assertTrue(task.equals(marked));
+        assertEquals(task.hashCode(), marked.hashCode());
+    }
+
     @Test
     public void markTask_taskIsMarked_returnsMarkedTask() {
         LocalDateTime deadline = LocalDateTime.now();
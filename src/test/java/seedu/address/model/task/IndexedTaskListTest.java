@@ -0,0 +1,92 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexedTaskListTest {
+    private static final long SEED = 2103L;
+    private static final LocalDateTime DUE_BY = LocalDateTime.of(2023, 11, 1, 23, 59);
+
+    @Test
+    public void contains_sameDescriptionDifferentTask_returnsFalse() {
+        IndexedTaskList list = IndexedTaskList.empty().plus(new ToDo("Assignment"));
+
+        assertTrue(list.contains(new ToDo("Assignment")));
+        assertFalse(list.contains(new Deadline("Assignment", DUE_BY)));
+        assertFalse(list.contains(new ToDo("Quiz")));
+        assertFalse(list.contains("Assignment"));
+    }
+
+    @Test
+    public void minus_duplicateTasks_otherDuplicateStillFound() {
+        ToDo first = new ToDo("Assignment");
+        ToDo second = new ToDo("Assignment");
+        IndexedTaskList list = IndexedTaskList.empty().plus(first).plus(second);
+
+        IndexedTaskList removed = list.minus(0);
+        assertEquals(List.of(second), removed);
+        assertSame(second, removed.get(0));
+        assertTrue(removed.contains(first));
+        assertFalse(removed.minus(0).contains(first));
+    }
+
+    @Test
+    public void with_replacedTask_oldTaskNotFound() {
+        IndexedTaskList list = IndexedTaskList.empty().plus(new ToDo("Assignment"));
+        IndexedTaskList replaced = list.with(0, new ToDo("Quiz"));
+
+        assertFalse(replaced.contains(new ToDo("Assignment")));
+        assertTrue(replaced.contains(new ToDo("Quiz")));
+        assertTrue(list.contains(new ToDo("Assignment")));
+    }
+
+    @Test
+    public void copyOf_indexedTaskList_returnsSameList() {
+        IndexedTaskList list = IndexedTaskList.empty().plus(new ToDo("Assignment"));
+        assertSame(list, IndexedTaskList.copyOf(list));
+        assertEquals(list, IndexedTaskList.copyOf(new ArrayList<>(list)));
+    }
+
+    @Test
+    public void randomOperations_behavesAsArrayList() {
+        Random random = new Random(SEED);
+        IndexedTaskList list = IndexedTaskList.empty();
+        List<Task> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Task task = randomTask(random);
+            int operation = random.nextInt(4);
+            if (operation == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                list = list.minus(index);
+                expected.remove(index);
+            } else if (operation == 1 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                list = list.with(index, task);
+                expected.set(index, task);
+            } else {
+                list = list.plus(task);
+                expected.add(task);
+            }
+
+            Task probe = randomTask(random);
+            assertEquals(expected.contains(probe), list.contains(probe));
+        }
+        assertEquals(expected, list);
+    }
+
+    private static Task randomTask(Random random) {
+        String description = "Task " + random.nextInt(20);
+        return random.nextBoolean()
+                ? new ToDo(description)
+                : new Deadline(description, DUE_BY.plusDays(random.nextInt(3)));
+    }
+}
@@ -41,6 +41,17 @@ public class TaskListManagerTest {
         assertThrows(NoSuchTaskException.class, () -> taskListManager1.findTask("Buy groceries"));
     }
 
+    @Test
+    public void getAllTasks_copiedManager_sharesReadOnlyList() {
+        taskListManager1.addTask(new ToDo("Complete homework"));
+        TaskListManager copy = new TaskListManager((ReadOnlyTaskList) taskListManager1);
+        assertTrue(copy.getAllTasks() == taskListManager1.getAllTasks());
+        assertThrows(UnsupportedOperationException.class, () -> copy.getAllTasks().add(new ToDo("Read")));
+
+        copy.addTask(new ToDo("Read"));
+        assertEquals(1, taskListManager1.size());
+    }
+
     @Test
     public void equals_sameObject_returnsTrue() {
         assertTrue(taskListManager1.equals(taskListManager1));
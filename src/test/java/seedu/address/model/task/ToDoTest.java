@@ -1,5 +1,6 @@
 package seedu.address.model.task;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -31,6 +32,13 @@ public class ToDoTest {
         assertTrue(toDo2.equals(toDo2));
     }
 
+    @Test
+    public void hashCode_equalToDos_sameHashCode() {
+        ToDo markedTask = todo1.mark();
+        assertTrue(todo1.equals(markedTask));
+        assertEquals(todo1.hashCode(), markedTask.hashCode());
+    }
+
     @Test
     public void markTask_taskIsMarked_returnsMarkedTask() {
         ToDo markedTask = todo1.mark();
@@ -0,0 +1,117 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class TransactionTest {
+
+    private final Counter counter = new Counter();
+    private final Counter otherCounter = new Counter();
+
+    @Test
+    public void recordChange_noTransaction_doesNothing() {
+        assertFalse(Transaction.isInProgress());
+        counter.increment();
+        assertEquals(Integer.valueOf(1), Integer.valueOf(counter.value));
+    }
+
+    @Test
+    public void rollback_changesMade_restoresStateBeforeFirstChange() {
+        Transaction transaction = Transaction.begin();
+        counter.increment();
+        counter.increment();
+        otherCounter.increment();
+        assertFalse(transaction.isEmpty());
+
+        transaction.rollback();
+        assertEquals(Integer.valueOf(0), Integer.valueOf(counter.value));
+        assertEquals(Integer.valueOf(0), Integer.valueOf(otherCounter.value));
+        assertFalse(Transaction.isInProgress());
+    }
+
+    @Test
+    public void undoAndRedo_committedTransaction_restoresStates() {
+        Transaction transaction = Transaction.begin();
+        counter.increment();
+        counter.increment();
+        transaction.commit();
+        counter.increment();
+
+        transaction.undo();
+        assertEquals(Integer.valueOf(0), Integer.valueOf(counter.value));
+        transaction.redo();
+        assertEquals(Integer.valueOf(2), Integer.valueOf(counter.value));
+    }
+
+    @Test
+    public void commit_nestedTransaction_mergedIntoParent() {
+        Transaction outer = Transaction.begin();
+        counter.increment();
+        Transaction inner = Transaction.begin();
+        counter.increment();
+        otherCounter.increment();
+        inner.commit();
+        assertTrue(Transaction.isInProgress());
+
+        outer.rollback();
+        assertEquals(Integer.valueOf(0), Integer.valueOf(counter.value));
+        assertEquals(Integer.valueOf(0), Integer.valueOf(otherCounter.value));
+    }
+
+    @Test
+    public void rollback_nestedTransaction_keepsParentChanges() {
+        Transaction outer = Transaction.begin();
+        counter.increment();
+        Transaction inner = Transaction.begin();
+        counter.increment();
+        inner.rollback();
+        assertEquals(Integer.valueOf(1), Integer.valueOf(counter.value));
+
+        outer.commit();
+        outer.undo();
+        assertEquals(Integer.valueOf(0), Integer.valueOf(counter.value));
+    }
+
+    @Test
+    public void commit_notCurrentTransaction_throwsIllegalStateException() {
+        Transaction outer = Transaction.begin();
+        Transaction inner = Transaction.begin();
+        assertThrows(IllegalStateException.class, outer::commit);
+        inner.commit();
+        outer.commit();
+    }
+
+    @Test
+    public void undo_uncommittedTransaction_throwsIllegalStateException() {
+        Transaction transaction = Transaction.begin();
+        assertThrows(IllegalStateException.class, transaction::undo);
+        assertThrows(IllegalStateException.class, transaction::redo);
+        transaction.rollback();
+    }
+
+    /**
+     * A counter that records its changes in the current transaction.
+     */
+    private static class Counter implements Restorable<Integer> {
+        private int value = 0;
+
+        void increment() {
+            Transaction.recordChange(this);
+            value++;
+        }
+
+        @Override
+        public Integer captureState() {
+            return value;
+        }
+
+        @Override
+        public void restoreState(Integer state) {
+            value = state;
+        }
+    }
+}
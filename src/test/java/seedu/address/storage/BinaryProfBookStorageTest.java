@@ -0,0 +1,187 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.id.GroupId;
+import seedu.address.model.profbook.Group;
+import seedu.address.model.profbook.Root;
+import seedu.address.testutil.GroupBuilder;
+import seedu.address.testutil.TypicalRoots;
+import seedu.address.testutil.TypicalTasks;
+
+public class BinaryProfBookStorageTest {
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readProfBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryProfBookStorage(null).readProfBook(null));
+    }
+
+    @Test
+    public void readProfBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryProfBookStorage(filePath).readProfBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveProfBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("profBook.bin");
+        BinaryProfBookStorage storage = new BinaryProfBookStorage(filePath);
+        Root original = new Root(TypicalRoots.PROFBOOK_WITH_TWO_GROUPS);
+        Group groupWithTasks = new GroupBuilder().withId("grp-003").withTaskList(TypicalTasks.TASK_LIST_1).build();
+        original.addChild(groupWithTasks.getId(), groupWithTasks);
+        groupWithTasks.markTask(1);
+
+        storage.saveProfBook(original);
+        assertEquals(original, storage.readProfBook().get());
+
+        // Modify data, overwrite existing file, and read back
+        original.deleteChild(groupWithTasks.getId());
+        storage.saveProfBook(original);
+        assertEquals(original, storage.readProfBook().get());
+    }
+
+    @Test
+    public void readProfBook_lazyLoading_loadsGroupsOnAccess() throws Exception {
+        Path filePath = testFolder.resolve("profBook.bin");
+        Root original = new Root(TypicalRoots.PROFBOOK_WITH_TWO_GROUPS);
+        new BinaryProfBookStorage(filePath).saveProfBook(original);
+
+        Root root = new BinaryProfBookStorage(filePath, true).readProfBook().get();
+        Group groupOne = root.getChild(new GroupId("grp-001"));
+        Group groupTwo = root.getChild(new GroupId("grp-002"));
+        long generation = root.getGeneration();
+        assertFalse(groupOne.isLoaded());
+        assertFalse(groupTwo.isLoaded());
+
+        assertEquals(original.getChild(groupOne.getId()).getAllChildren(), groupOne.getAllChildren());
+        assertTrue(groupOne.isLoaded());
+        assertFalse(groupTwo.isLoaded());
+        assertEquals(generation, root.getGeneration());
+
+        assertEquals(original, root);
+    }
+
+    @Test
+    public void saveProfBook_lazilyLoadedGroups_savesAllData() throws Exception {
+        Path filePath = testFolder.resolve("profBook.bin");
+        Root original = new Root(TypicalRoots.PROFBOOK_WITH_TWO_GROUPS);
+        BinaryProfBookStorage storage = new BinaryProfBookStorage(filePath, true);
+        storage.saveProfBook(original);
+
+        // Groups not loaded are read from the mapping of the file being replaced
+        Root root = storage.readProfBook().get();
+        storage.saveProfBook(new Root(root));
+        assertEquals(original, storage.readProfBook().get());
+        assertEquals(original, root);
+    }
+
+    @Test
+    public void saveProfBook_lazilyLoadedFromMappedCopy_replacesFile() throws Exception {
+        Path filePath = testFolder.resolve("profBook.bin");
+        Root original = new Root(TypicalRoots.PROFBOOK_WITH_TWO_GROUPS);
+        BinaryProfBookStorage storage = new BinaryProfBookStorage(filePath, true, true);
+        storage.saveProfBook(original);
+
+        // The copy is mapped instead of the file, so the file can be replaced even where mapped files cannot be
+        Root root = storage.readProfBook().get();
+        assertTrue(Files.exists(BinaryProfBookStorage.getMappedCopyPath(filePath)));
+        assertFalse(root.getChild(new GroupId("grp-001")).isLoaded());
+        original.deleteChild(new GroupId("grp-002"));
+        storage.saveProfBook(original);
+
+        assertEquals(original, new BinaryProfBookStorage(filePath).readProfBook().get());
+        assertEquals(new Root(TypicalRoots.PROFBOOK_WITH_TWO_GROUPS), root);
+    }
+
+    @Test
+    public void readProfBook_mappedCopyCannotBeMade_readsFileIntoMemory() throws Exception {
+        Path filePath = testFolder.resolve("profBook.bin");
+        Root original = new Root(TypicalRoots.PROFBOOK_WITH_TWO_GROUPS);
+        BinaryProfBookStorage storage = new BinaryProfBookStorage(filePath, true, true);
+        storage.saveProfBook(original);
+        // A directory in the way of the copy stands in for a copy still mapped by another read
+        Files.createDirectories(BinaryProfBookStorage.getMappedCopyPath(filePath).resolve("child"));
+
+        Root root = storage.readProfBook().get();
+        assertFalse(root.getChild(new GroupId("grp-001")).isLoaded());
+        assertEquals(original, root);
+    }
+
+    @Test
+    public void readProfBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("profBook.json");
+        new JsonProfBookStorage(filePath).saveProfBook(new Root(TypicalRoots.PROFBOOK_WITH_TWO_GROUPS));
+        assertThrows(DataLoadingException.class, () -> new BinaryProfBookStorage(filePath).readProfBook());
+    }
+
+    @Test
+    public void readProfBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("profBook.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryProfBookStorage.MAGIC);
+            out.writeShort(BinaryProfBookStorage.FORMAT_VERSION + 1);
+        }
+        assertThrows(DataLoadingException.class, () -> new BinaryProfBookStorage(filePath).readProfBook());
+    }
+
+    @Test
+    public void readProfBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("profBook.bin");
+        new BinaryProfBookStorage(filePath).saveProfBook(new Root(TypicalRoots.PROFBOOK_WITH_TWO_GROUPS));
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, () -> new BinaryProfBookStorage(filePath).readProfBook());
+    }
+
+    @Test
+    public void importAndExportJson_roundTrip_sameProfBook() throws Exception {
+        Path jsonFilePath = testFolder.resolve("profBook.json");
+        Path binaryFilePath = ProfBookStorageConverter.getBinaryFilePath(jsonFilePath);
+        Path exportedFilePath = testFolder.resolve("exported.json");
+        Root original = new Root(TypicalRoots.PROFBOOK_WITH_TWO_GROUPS);
+        new JsonProfBookStorage(jsonFilePath).saveProfBook(original);
+
+        ProfBookStorageConverter.importFromJson(jsonFilePath, binaryFilePath);
+        ProfBookStorageConverter.exportToJson(binaryFilePath, exportedFilePath);
+
+        assertEquals(testFolder.resolve("profBook.bin"), binaryFilePath);
+        assertEquals(original, new BinaryProfBookStorage(binaryFilePath).readProfBook().get());
+        assertEquals(FileUtil.readFromFile(jsonFilePath), FileUtil.readFromFile(exportedFilePath));
+    }
+
+    @Test
+    public void importFromJson_withJournal_journaledChangesImported() throws Exception {
+        Path jsonFilePath = testFolder.resolve("profBook.json");
+        Path binaryFilePath = ProfBookStorageConverter.getBinaryFilePath(jsonFilePath);
+        JournaledProfBookStorage jsonStorage = new JournaledProfBookStorage(new JsonProfBookStorage(jsonFilePath));
+        Root root = new Root(TypicalRoots.PROFBOOK_WITH_TWO_GROUPS);
+        jsonStorage.saveProfBook(root);
+        root.deleteChild(new GroupId("grp-002"));
+        jsonStorage.saveProfBook(root);
+
+        assertTrue(ProfBookStorageConverter.importFromJson(jsonFilePath, binaryFilePath));
+        assertEquals(root, new BinaryProfBookStorage(binaryFilePath).readProfBook().get());
+    }
+
+    @Test
+    public void importFromJson_missingFile_returnsFalse() throws IOException, DataLoadingException {
+        Path jsonFilePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(ProfBookStorageConverter.importFromJson(jsonFilePath, testFolder.resolve("profBook.bin")));
+    }
+}
@@ -0,0 +1,226 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.KAREN;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.id.GroupId;
+import seedu.address.model.profbook.Group;
+import seedu.address.model.profbook.Root;
+import seedu.address.model.profbook.Student;
+import seedu.address.model.task.ToDo;
+import seedu.address.testutil.GroupBuilder;
+import seedu.address.testutil.StudentBuilder;
+import seedu.address.testutil.TypicalRoots;
+
+public class JournaledProfBookStorageTest {
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+    private JournaledProfBookStorage storage;
+    private Root root;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("profBook.json");
+        journalFilePath = JournaledProfBookStorage.getJournalFilePath(filePath);
+        storage = new JournaledProfBookStorage(new JsonProfBookStorage(filePath));
+        root = new Root(TypicalRoots.PROFBOOK_WITH_TWO_GROUPS);
+        storage.saveProfBook(root);
+    }
+
+    @Test
+    public void saveProfBook_firstSave_writesDataFile() throws Exception {
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(root, new JsonProfBookStorage(filePath).readProfBook().get());
+    }
+
+    @Test
+    public void saveProfBook_changedGroup_appendsToJournalOnly() throws Exception {
+        String dataFile = FileUtil.readFromFile(filePath);
+        root.getChild(new GroupId("grp-001")).addChild(KAREN.getId(), new StudentBuilder(KAREN).build());
+        root.deleteChild(new GroupId("grp-002"));
+        storage.saveProfBook(root);
+
+        assertEquals(dataFile, FileUtil.readFromFile(filePath));
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(root, readWithNewStorage());
+    }
+
+    @Test
+    public void saveProfBook_editedStudent_journalsOnlyThatStudent() throws Exception {
+        Group group = root.getChild(new GroupId("grp-001"));
+        Student edited = group.getAllChildren().get(0);
+        Student untouched = group.getAllChildren().get(1);
+        group.replaceChild(edited.getId(), new StudentBuilder(edited).withName("Edited Name").build());
+        storage.saveProfBook(root);
+
+        List<String> records = Files.readAllLines(journalFilePath);
+        assertEquals(1, records.size());
+        assertTrue(records.get(0).contains("putStudent"));
+        assertFalse(records.get(0).contains(untouched.getId().toString()));
+        assertEquals(root, readWithNewStorage());
+    }
+
+    @Test
+    public void saveProfBook_groupTaskAdded_journalsGroupWithoutStudents() throws Exception {
+        Group group = root.getChild(new GroupId("grp-001"));
+        group.addTask(new ToDo("Mark assignment"));
+        storage.saveProfBook(root);
+
+        List<String> records = Files.readAllLines(journalFilePath);
+        assertEquals(1, records.size());
+        assertTrue(records.get(0).contains("update"));
+        for (Student student : group.getAllChildren()) {
+            assertFalse(records.get(0).contains(student.getId().toString()));
+        }
+        assertEquals(root, readWithNewStorage());
+    }
+
+    @Test
+    public void saveProfBook_studentMovedBetweenGroups_replaysMove() throws Exception {
+        Group from = root.getChild(new GroupId("grp-001"));
+        Group to = root.getChild(new GroupId("grp-002"));
+        Student moved = from.deleteChild(from.getAllChildren().get(0).getId());
+        to.addChild(moved.getId(), moved);
+        storage.saveProfBook(root);
+
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(root, readWithNewStorage());
+    }
+
+    @Test
+    public void saveProfBook_studentDeletedFromLazyGroup_groupJournaledWholeOnce() throws Exception {
+        Path binaryFilePath = testFolder.resolve("profBook.bin");
+        new JournaledProfBookStorage(new BinaryProfBookStorage(binaryFilePath)).saveProfBook(root);
+        JournaledProfBookStorage lazyStorage =
+                new JournaledProfBookStorage(new BinaryProfBookStorage(binaryFilePath, true));
+        Root lazyRoot = lazyStorage.readProfBook().get();
+        Group group = lazyRoot.getChild(new GroupId("grp-001"));
+        group.deleteChild(group.getAllChildren().get(0).getId());
+        lazyStorage.saveProfBook(lazyRoot);
+        group.deleteChild(group.getAllChildren().get(0).getId());
+        lazyStorage.saveProfBook(lazyRoot);
+
+        // Which students changed is not known until the group is loaded, so the first change writes it whole
+        List<String> records = Files.readAllLines(JournaledProfBookStorage.getJournalFilePath(binaryFilePath));
+        assertEquals(2, records.size());
+        assertTrue(records.get(0).contains("\"put\""));
+        assertTrue(records.get(1).contains("deleteStudent"));
+        assertEquals(lazyRoot,
+                new JournaledProfBookStorage(new BinaryProfBookStorage(binaryFilePath)).readProfBook().get());
+    }
+
+    @Test
+    public void saveProfBook_unchanged_writesNothing() throws Exception {
+        storage.saveProfBook(new Root(root));
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void saveProfBook_checkpointIntervalReached_clearsJournal() throws Exception {
+        for (int i = 0; i <= JournaledProfBookStorage.CHECKPOINT_INTERVAL; i++) {
+            Group group = new GroupBuilder().withId(String.format("grp-%03d", 100 + i)).build();
+            root.addChild(group.getId(), group);
+            storage.saveProfBook(root);
+        }
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(root, new JsonProfBookStorage(filePath).readProfBook().get());
+    }
+
+    @Test
+    public void saveProfBook_interruptedCheckpoint_journalReplaysLatestChanges() throws Exception {
+        // The journal is full, so the next save is a checkpoint that fails after the data file is replaced
+        JournaledProfBookStorage crashingStorage = new JournaledProfBookStorage(new JsonProfBookStorage(filePath) {
+            @Override
+            public void saveProfBook(Root profBook, Path path) throws IOException {
+                super.saveProfBook(profBook, path);
+                throw new IOException("Crashed before the journal was cleared");
+            }
+        });
+        root = crashingStorage.readProfBook().get();
+        for (int i = 0; i < JournaledProfBookStorage.CHECKPOINT_INTERVAL; i++) {
+            Group group = new GroupBuilder().withId(String.format("grp-%03d", 100 + i)).build();
+            root.addChild(group.getId(), group);
+            crashingStorage.saveProfBook(root);
+        }
+        root.getChild(new GroupId("grp-100")).addChild(KAREN.getId(), new StudentBuilder(KAREN).build());
+        assertThrows(IOException.class, () -> crashingStorage.saveProfBook(root));
+
+        assertTrue(Files.exists(journalFilePath));
+        assertEquals(root, readWithNewStorage());
+    }
+
+    @Test
+    public void saveProfBook_newFileWithStaleJournal_journalDeleted() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        Path otherJournalFilePath = JournaledProfBookStorage.getJournalFilePath(otherFilePath);
+        FileUtil.writeToFile(otherJournalFilePath, FileUtil.readFromFile(filePath));
+
+        storage.saveProfBook(root, otherFilePath);
+        assertFalse(Files.exists(otherJournalFilePath));
+        assertEquals(root, new JournaledProfBookStorage(new JsonProfBookStorage(otherFilePath)).readProfBook().get());
+    }
+
+    @Test
+    public void saveProfBook_afterFailedAppend_incompleteRecordDropped() throws Exception {
+        root.deleteChild(new GroupId("grp-002"));
+        storage.saveProfBook(root);
+        // A save that failed midway leaves an incomplete record, which the next append writes over
+        Files.write(journalFilePath, "{\"put\":{\"name\":\"Gro".getBytes(), StandardOpenOption.APPEND);
+        Group group = new GroupBuilder().withId("grp-009").build();
+        root.addChild(group.getId(), group);
+        storage.saveProfBook(root);
+
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(root, readWithNewStorage());
+    }
+
+    @Test
+    public void readProfBook_incompleteLastRecord_replaysEarlierRecords() throws Exception {
+        root.deleteChild(new GroupId("grp-002"));
+        storage.saveProfBook(root);
+        Files.write(journalFilePath, "{\"put\":{\"name\":\"Gro".getBytes(), StandardOpenOption.APPEND);
+
+        JournaledProfBookStorage newStorage = new JournaledProfBookStorage(new JsonProfBookStorage(filePath));
+        assertEquals(root, newStorage.readProfBook().get());
+
+        // The next save rewrites the data file instead of appending after the incomplete record
+        Group group = new GroupBuilder().withId("grp-009").build();
+        root.addChild(group.getId(), group);
+        newStorage.saveProfBook(root);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(root, readWithNewStorage());
+    }
+
+    @Test
+    public void readProfBook_journalReplayedTwice_sameResult() throws Exception {
+        root.deleteChild(new GroupId("grp-001"));
+        storage.saveProfBook(root);
+        String journal = FileUtil.readFromFile(journalFilePath);
+        FileUtil.writeToFile(journalFilePath, journal + journal);
+
+        assertEquals(root, readWithNewStorage());
+        assertTrue(Files.exists(journalFilePath));
+    }
+
+    private Root readWithNewStorage() throws Exception {
+        return new JournaledProfBookStorage(new JsonProfBookStorage(filePath)).readProfBook().get();
+    }
+}
@@ -9,6 +9,7 @@ import static seedu.address.testutil.StudentBuilder.DEFAULT_NAME;
 import static seedu.address.testutil.StudentBuilder.DEFAULT_PHONE;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 import org.junit.jupiter.api.Test;
@@ -145,4 +146,20 @@ public class JsonAdaptedStudentTest {
                 new ArrayList<JsonAdaptedTasks>());
         assertThrows(IllegalValueException.class, () -> student.toModelType());
     }
+
+    @Test
+    public void toModelTypes_validStudents_returnsStudentsInOrder() throws Exception {
+        List<JsonAdaptedStudent> students = List.of(new JsonAdaptedStudent(TypicalStudents.ALICE),
+                new JsonAdaptedStudent(TypicalStudents.BENSON), new JsonAdaptedStudent(TypicalStudents.CARL));
+        assertEquals(List.of(TypicalStudents.ALICE, TypicalStudents.BENSON, TypicalStudents.CARL),
+                JsonAdaptedStudent.toModelTypes(students));
+    }
+
+    @Test
+    public void toModelTypes_invalidEmailAfterValidStudents_throwsIllegalValueException() {
+        List<JsonAdaptedStudent> students = List.of(new JsonAdaptedStudent(TypicalStudents.ALICE),
+                new JsonAdaptedStudent(DEFAULT_NAME, DEFAULT_PHONE, "invalid@", DEFAULT_ADDRESS, DEFAULT_ID,
+                        new ArrayList<JsonAdaptedTasks>()));
+        assertThrows(IllegalValueException.class, () -> JsonAdaptedStudent.toModelTypes(students));
+    }
 }
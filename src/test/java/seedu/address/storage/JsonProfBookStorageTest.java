@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -11,7 +12,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.id.GroupId;
 import seedu.address.model.profbook.Root;
+import seedu.address.testutil.TypicalRoots;
 
 public class JsonProfBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonProfBookStorageTest");
@@ -70,4 +74,20 @@ public class JsonProfBookStorageTest {
     public void saveProfBook_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveProfBook(new Root(), null));
     }
+
+    @Test
+    public void saveProfBook_unchangedSinceLastSave_skipsWrite() throws Exception {
+        Path filePath = testFolder.resolve("profBook.json");
+        JsonProfBookStorage storage = new JsonProfBookStorage(filePath);
+        Root profBook = new Root(TypicalRoots.PROFBOOK_WITH_TWO_GROUPS);
+
+        storage.saveProfBook(profBook);
+        FileUtil.writeToFile(filePath, "not written by ProfBook");
+        storage.saveProfBook(new Root(profBook));
+        assertEquals("not written by ProfBook", FileUtil.readFromFile(filePath));
+
+        profBook.deleteChild(new GroupId("grp-001"));
+        storage.saveProfBook(profBook);
+        assertEquals(profBook, storage.readProfBook().get());
+    }
 }
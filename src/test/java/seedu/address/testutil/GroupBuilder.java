@@ -41,7 +41,7 @@ public class GroupBuilder {
     public GroupBuilder(Group toBeCopied) {
         id = toBeCopied.getId();
         name = toBeCopied.getName();
-        students = toBeCopied.getChildren();
+        students = new HashMap<>(toBeCopied.getChildren());
         tasks = toBeCopied.getTaskListManager();
     }
 